@@ -0,0 +1,26 @@
+package com.smarttask.analytics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Rollups de vazão de tarefas.
+ *
+ * @param backfillOnStartup reconstrói o histórico ao subir a aplicação; no PostgreSQL só um nó por vez
+ *                          reconstrói, os demais desistem
+ * @param backfillWindow    quanto do histórico a reconstrução cobre, em baldes diários; o que for mais
+ *                          antigo fica como está
+ * @param hourlyWindow      quanto do histórico a reconstrução cobre também em baldes horários
+ * @param backfillChunkSize tarefas lidas por transação na reconstrução
+ * @param maxSeriesPoints   limite de baldes por consulta de série
+ */
+@ConfigurationProperties(prefix = "smarttask.analytics")
+public record AnalyticsProperties(
+    @DefaultValue("false") boolean backfillOnStartup,
+    @DefaultValue("365d") Duration backfillWindow,
+    @DefaultValue("30d") Duration hourlyWindow,
+    @DefaultValue("5000") int backfillChunkSize,
+    @DefaultValue("1000") int maxSeriesPoints
+) {}
@@ -0,0 +1,167 @@
+package com.smarttask.analytics;
+
+import com.smarttask.repository.ArchivedTaskRepository;
+import com.smarttask.repository.TaskRepository;
+import com.smarttask.repository.TaskRollupRepository;
+import com.smarttask.repository.TaskRollupRepository.RollupSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+
+/**
+ * Reconstrói os rollups anteriores ao dia corrente a partir de {@code tasks} e {@code tasks_archive}.
+ * As tarefas são lidas em blocos por chave ({@code id > último lido}), cada bloco na própria
+ * transação, e somadas aos baldes ao fim de cada bloco: a memória usada não depende do tamanho
+ * da tabela.
+ *
+ * <p>O dia corrente fica de fora: é ele que o {@link TaskRollupRecorder} está alimentando, e os
+ * eventos registrados em tempo real levam sempre o horário de agora. Do histórico só se sabe
+ * quando a tarefa foi criada e, se está fechada, a última atualização, tomada como a hora do
+ * fechamento. Durante a reconstrução as séries dos dias anteriores ficam incompletas. Baldes
+ * anteriores à janela ({@code backfill-window}) não são tocados.</p>
+ *
+ * <p>Apagar e somar de novo só é seguro com uma reconstrução por vez no cluster: no PostgreSQL, ela
+ * segura um lock consultivo de sessão numa conexão própria enquanto dura, e quem não o obtém
+ * desiste. Nos demais bancos (o H2 dos testes e do desenvolvimento) vale só a guarda da instância.</p>
+ */
+@Component
+public class RollupBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(RollupBackfill.class);
+    private static final long LOCK_KEY = "smarttask.rollup-backfill".hashCode();
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskRollupRepository rollupRepository;
+    private final AnalyticsProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final DataSource dataSource;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public RollupBackfill(TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository,
+                          TaskRollupRepository rollupRepository, AnalyticsProperties properties,
+                          PlatformTransactionManager transactionManager, DataSource dataSource) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.rollupRepository = rollupRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dataSource = dataSource;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (properties.backfillOnStartup()) {
+            Thread thread = new Thread(this::run, "rollup-backfill");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /** @return tarefas lidas, ou -1 se já havia uma reconstrução em andamento, nesta instância ou em outra */
+    public long run() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Reconstrução dos rollups já em andamento; ignorando nova chamada");
+            return -1;
+        }
+        // Fora de transação: a conexão vai ao primário e o lock vale até ser liberado, atravessando os blocos
+        try (Connection lockConnection = dataSource.getConnection()) {
+            boolean postgres = "PostgreSQL".equals(lockConnection.getMetaData().getDatabaseProductName());
+            if (postgres && !advisoryLock(lockConnection, "pg_try_advisory_lock")) {
+                log.warn("Reconstrução dos rollups em andamento em outro nó; ignorando nova chamada");
+                return -1;
+            }
+            try {
+                return rebuild();
+            } finally {
+                if (postgres) {
+                    advisoryLock(lockConnection, "pg_advisory_unlock");
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Falha no lock da reconstrução dos rollups", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private long rebuild() {
+        LocalDateTime cutoff = LocalDate.now().atStartOfDay();
+        LocalDateTime since = cutoff.minus(properties.backfillWindow());
+        LocalDateTime hourlyFrom = cutoff.minus(properties.hourlyWindow());
+        transactionTemplate.executeWithoutResult(status -> rollupRepository.deleteByBucketStartBetween(since, cutoff));
+        long tasks = stream(taskRepository::findRollupSources, taskRepository::findRollupSourcesAfter,
+            since, hourlyFrom, cutoff);
+        long archived = stream(archivedTaskRepository::findRollupSources, archivedTaskRepository::findRollupSourcesAfter,
+            since, hourlyFrom, cutoff);
+        log.info("Rollups reconstruídos de {} até {}: {} tarefas e {} arquivadas lidas", since, cutoff, tasks, archived);
+        return tasks + archived;
+    }
+
+    private static boolean advisoryLock(Connection connection, String function) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT " + function + "(?)")) {
+            statement.setLong(1, LOCK_KEY);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() && result.getBoolean(1);
+            }
+        }
+    }
+
+    private long stream(BiFunction<LocalDateTime, Pageable, List<RollupSource>> first,
+                        TriFunction<UUID, LocalDateTime, Pageable, List<RollupSource>> after,
+                        LocalDateTime since, LocalDateTime hourlyFrom, LocalDateTime cutoff) {
+        Pageable chunk = PageRequest.ofSize(properties.backfillChunkSize());
+        long read = 0;
+        UUID last = null;
+        while (true) {
+            UUID lastSeen = last;
+            List<RollupSource> rows = transactionTemplate.execute(status -> {
+                List<RollupSource> sources = lastSeen == null ? first.apply(since, chunk) : after.apply(lastSeen, since, chunk);
+                RollupDeltas deltas = new RollupDeltas();
+                for (RollupSource source : sources) {
+                    if (inWindow(source.getCreatedAt(), since, cutoff)) {
+                        deltas.created(source.getUserId(), source.getProjectId(), source.getCreatedAt(), 1);
+                    }
+                    if (inWindow(source.getUpdatedAt(), since, cutoff)) {
+                        deltas.closed(source.getUserId(), source.getProjectId(), source.getStatus(), source.getUpdatedAt(), 1);
+                    }
+                }
+                rollupRepository.increment(deltas.toRows(hourlyFrom));
+                return sources;
+            });
+            if (rows == null || rows.isEmpty()) {
+                return read;
+            }
+            read += rows.size();
+            last = rows.get(rows.size() - 1).getId();
+        }
+    }
+
+    private static boolean inWindow(LocalDateTime time, LocalDateTime since, LocalDateTime cutoff) {
+        return !time.isBefore(since) && time.isBefore(cutoff);
+    }
+
+    @FunctionalInterface
+    private interface TriFunction<A, B, C, R> {
+        R apply(A a, B b, C c);
+    }
+}
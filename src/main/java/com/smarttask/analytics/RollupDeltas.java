@@ -0,0 +1,73 @@
+package com.smarttask.analytics;
+
+import com.smarttask.domain.entity.TaskRollup;
+import com.smarttask.domain.enums.RollupGranularity;
+import com.smarttask.domain.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/** Eventos acumulados em memória por hora, usuário e projeto, antes de virarem UPSERTs. */
+final class RollupDeltas {
+
+    private static final int CREATED = 0;
+    private static final int COMPLETED = 1;
+    private static final int CANCELLED = 2;
+
+    private final Map<Bucket, long[]> counts = new HashMap<>();
+
+    void created(UUID userId, UUID projectId, LocalDateTime at, long count) {
+        add(userId, projectId, at, CREATED, count);
+    }
+
+    /** Conta a chegada a COMPLETED ou CANCELLED; os demais status não entram nos rollups. */
+    void closed(UUID userId, UUID projectId, TaskStatus status, LocalDateTime at, long count) {
+        if (status == TaskStatus.COMPLETED) {
+            add(userId, projectId, at, COMPLETED, count);
+        } else if (status == TaskStatus.CANCELLED) {
+            add(userId, projectId, at, CANCELLED, count);
+        }
+    }
+
+    boolean isEmpty() {
+        return counts.isEmpty();
+    }
+
+    /**
+     * Linhas horárias e diárias com os totais acumulados. Horas anteriores a {@code hourlyFrom}
+     * entram só no balde diário; nulo gera as horárias de todas.
+     */
+    List<TaskRollup> toRows(LocalDateTime hourlyFrom) {
+        Map<Bucket, long[]> days = new HashMap<>();
+        List<TaskRollup> rows = new ArrayList<>();
+        counts.forEach((hour, values) -> {
+            if (hourlyFrom == null || !hour.start().isBefore(hourlyFrom)) {
+                rows.add(row(RollupGranularity.HOUR, hour, values));
+            }
+            long[] day = days.computeIfAbsent(
+                new Bucket(RollupGranularity.DAY.bucketOf(hour.start()), hour.userId(), hour.projectId()),
+                key -> new long[3]);
+            for (int i = 0; i < values.length; i++) {
+                day[i] += values[i];
+            }
+        });
+        days.forEach((day, values) -> rows.add(row(RollupGranularity.DAY, day, values)));
+        return rows;
+    }
+
+    private void add(UUID userId, UUID projectId, LocalDateTime at, int metric, long count) {
+        Bucket hour = new Bucket(RollupGranularity.HOUR.bucketOf(at), userId, projectId);
+        counts.computeIfAbsent(hour, key -> new long[3])[metric] += count;
+    }
+
+    private static TaskRollup row(RollupGranularity granularity, Bucket bucket, long[] values) {
+        return new TaskRollup(granularity, bucket.start(), bucket.userId(), bucket.projectId(),
+            values[CREATED], values[COMPLETED], values[CANCELLED]);
+    }
+
+    private record Bucket(LocalDateTime start, UUID userId, UUID projectId) {}
+}
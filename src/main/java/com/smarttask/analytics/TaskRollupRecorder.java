@@ -0,0 +1,86 @@
+package com.smarttask.analytics;
+
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.repository.TaskRollupRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Registra criações e fechamentos de tarefas nos rollups horários e diários. Os eventos de uma
+ * transação são somados em memória e gravados num único lote de UPSERTs logo antes do commit: o
+ * balde de uma hora é disputado por todas as escritas daquele usuário e projeto, e assim a linha
+ * fica travada só durante o commit, não durante a transação inteira. Se a transação é desfeita,
+ * os eventos somem com ela.
+ */
+@Component
+public class TaskRollupRecorder {
+
+    private final TaskRollupRepository rollupRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public TaskRollupRecorder(TaskRollupRepository rollupRepository, PlatformTransactionManager transactionManager) {
+        this.rollupRepository = rollupRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public void created(UUID userId, UUID projectId, LocalDateTime at) {
+        record(deltas -> deltas.created(userId, projectId, at, 1));
+    }
+
+    /** Conta a transição se a tarefa acabou de chegar a COMPLETED ou CANCELLED. */
+    public void statusChanged(UUID userId, UUID projectId, TaskStatus from, TaskStatus to) {
+        if (from != to) {
+            closed(userId, projectId, to, 1);
+        }
+    }
+
+    /** {@code count} tarefas do usuário e projeto acabaram de chegar a {@code status}. */
+    public void closed(UUID userId, UUID projectId, TaskStatus status, long count) {
+        closed(userId, projectId, status, LocalDateTime.now(), count);
+    }
+
+    /** Como {@link #closed(UUID, UUID, TaskStatus, long)}, com a hora do fechamento já conhecida (cargas e restaurações). */
+    public void closed(UUID userId, UUID projectId, TaskStatus status, LocalDateTime at, long count) {
+        if (status == TaskStatus.COMPLETED || status == TaskStatus.CANCELLED) {
+            record(deltas -> deltas.closed(userId, projectId, status, at, count));
+        }
+    }
+
+    private void record(Consumer<RollupDeltas> event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            RollupDeltas deltas = new RollupDeltas();
+            event.accept(deltas);
+            transactionTemplate.executeWithoutResult(status -> rollupRepository.increment(deltas.toRows(null)));
+            return;
+        }
+        PendingRollups pending = (PendingRollups) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingRollups();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        event.accept(pending.deltas);
+    }
+
+    private final class PendingRollups implements TransactionSynchronization {
+
+        private final RollupDeltas deltas = new RollupDeltas();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            rollupRepository.increment(deltas.toRows(null));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(TaskRollupRecorder.this);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.smarttask.board;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Cópias colunares das tarefas por projeto usadas pela visão de quadro.
+ *
+ * @param maxMemory soma máxima dos vetores em memória; acima dela os projetos menos usados
+ *                  recentemente saem primeiro (o último carregado sempre fica)
+ * @param maxResults quantas tarefas uma consulta pode devolver
+ */
+@ConfigurationProperties(prefix = "smarttask.board")
+public record BoardSnapshotProperties(
+    @DefaultValue("64MB") DataSize maxMemory,
+    @DefaultValue("500") int maxResults
+) {}
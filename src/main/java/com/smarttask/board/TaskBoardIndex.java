@@ -0,0 +1,139 @@
+package com.smarttask.board;
+
+import com.smarttask.cluster.Invalidation;
+import com.smarttask.cluster.NearCache;
+import com.smarttask.cluster.ProjectNearCache;
+import com.smarttask.repository.TaskRepository;
+import com.smarttask.repository.TaskRepository.BoardRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Cópias colunares ({@link TaskColumns}) das tarefas de cada projeto, carregadas do banco no
+ * primeiro uso com uma única consulta de projeção e mantidas por atualizações incrementais
+ * aplicadas depois do commit de cada escrita do {@link com.smarttask.service.TaskService}.
+ *
+ * <p>Locks, carga a partir do primário e descarte ficam no {@link ProjectNearCache}. O total em
+ * memória é limitado por {@code smarttask.board.max-memory}: ao carregar ou crescer um projeto,
+ * os menos usados recentemente são descartados até o total caber.</p>
+ *
+ * <p>Como no grafo de dependências, a cópia reflete as escritas feitas por esta instância;
+ * operações em massa descartam os projetos afetados, recarregados na próxima consulta. Escritas
+ * de outras instâncias chegam como {@link Invalidation}: a cópia não tem os dados novos, então o
+ * projeto é descartado, a menos que já esteja na versão anunciada.</p>
+ */
+@Component
+public class TaskBoardIndex implements NearCache {
+
+    private final TaskRepository taskRepository;
+    private final ProjectNearCache<TaskColumns> projects;
+
+    public TaskBoardIndex(TaskRepository taskRepository, PlatformTransactionManager transactionManager,
+                          BoardSnapshotProperties properties, MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        Timer loadTimer = Timer.builder("smarttask.board.load")
+            .description("Carga da cópia colunar das tarefas de um projeto a partir do banco")
+            .register(meterRegistry);
+        Counter evictions = Counter.builder("smarttask.board.evictions")
+            .description("Projetos descartados da memória para respeitar o limite")
+            .register(meterRegistry);
+        this.projects = new ProjectNearCache<>(this::load, TaskColumns::footprintBytes,
+            properties.maxMemory().toBytes(), Integer.MAX_VALUE, transactionManager, loadTimer, evictions);
+        Gauge.builder("smarttask.board.cached_projects", projects, ProjectNearCache::size)
+            .description("Projetos com cópia colunar em memória")
+            .register(meterRegistry);
+        Gauge.builder("smarttask.board.memory", this, TaskBoardIndex::footprintBytes)
+            .description("Memória ocupada pelas cópias colunares")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    public boolean isCached(UUID projectId) {
+        return projects.contains(projectId);
+    }
+
+    /** Executa uma consulta sobre as tarefas do projeto, carregando-as se preciso. */
+    public <T> T read(UUID projectId, Function<TaskColumns, T> query) {
+        return projects.read(projectId, query);
+    }
+
+    /**
+     * Aplica {@code change} às tarefas do projeto depois do commit da transação corrente (ou
+     * imediatamente, fora de transação). Projetos fora da memória são ignorados: quando forem
+     * carregados, o banco já terá a alteração.
+     */
+    public void updateAfterCommit(UUID projectId, Consumer<TaskColumns> change) {
+        projects.updateAfterCommit(projectId, change);
+    }
+
+    public void evictAfterCommit(UUID projectId) {
+        projects.evictAfterCommit(projectId);
+    }
+
+    public void evictAllAfterCommit() {
+        projects.evictAllAfterCommit();
+    }
+
+    @Override
+    public void invalidate(Invalidation invalidation) {
+        switch (invalidation.kind()) {
+            case TASK -> {
+                if (invalidation.removed()) {
+                    updateAfterCommit(invalidation.projectId(), columns -> columns.remove(invalidation.id()));
+                } else if (!isCurrent(invalidation.projectId(), invalidation.id(), invalidation.version())) {
+                    projects.evict(invalidation.projectId());
+                }
+            }
+            case PROJECT -> {
+                if (invalidation.removed()) {
+                    projects.evict(invalidation.id());
+                }
+            }
+            // O usuário removido leva as tarefas junto, em projetos quaisquer
+            case USER -> {
+                if (invalidation.removed()) {
+                    projects.evictAll();
+                }
+            }
+            case DEPENDENCIES -> {
+            }
+            case ALL -> projects.evictAll();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        projects.evictAll();
+    }
+
+    // A própria escrita pode já ter sido lida do banco por uma carga posterior ao commit
+    private boolean isCurrent(UUID projectId, UUID taskId, long version) {
+        if (!projects.contains(projectId)) {
+            return true;
+        }
+        return projects.peek(projectId, columns -> columns.versionOf(taskId) >= version, false);
+    }
+
+    long footprintBytes() {
+        return projects.footprintBytes();
+    }
+
+    private TaskColumns load(UUID projectId) {
+        List<BoardRow> rows = taskRepository.findBoardRows(projectId);
+        TaskColumns columns = new TaskColumns(rows.size());
+        for (BoardRow row : rows) {
+            columns.put(row.getId(), row.getTitle(), row.getStatus(), row.getPriority(), row.getDueDate(),
+                row.getCreatedAt(), row.getUpdatedAt(), row.getUserId(), row.getVersion());
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,413 @@
+package com.smarttask.board;
+
+import com.smarttask.domain.entity.Task;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Tarefas de um projeto em colunas primitivas: status e prioridade em {@code byte} (ordinal),
+ * datas em microssegundos desde a época (hora local tratada como UTC), IDs em pares de
+ * {@code long} e títulos concatenados num único {@code char[]}. Um índice de endereçamento
+ * aberto leva do ID à linha; remover uma tarefa move a última linha para o lugar dela.
+ *
+ * <p>Filtro, ordenação e contagem por status trabalham sobre vetores fornecidos pelo chamador
+ * e não alocam: só a leitura do resultado ({@link #id}, {@link #title}...) cria objetos.
+ * A classe não é thread-safe: o {@link TaskBoardIndex} serializa o acesso.</p>
+ */
+public final class TaskColumns {
+
+    /** Sem data de entrega: fica depois de todas na ordem crescente. */
+    public static final long NO_DUE_DATE = Long.MAX_VALUE;
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+
+    private long[] idHigh;
+    private long[] idLow;
+    private long[] userHigh;
+    private long[] userLow;
+    private byte[] status;
+    private byte[] priority;
+    private long[] dueAt;
+    private long[] createdAt;
+    private long[] updatedAt;
+    private long[] version;
+    private int[] titleStart;
+    private int[] titleLength;
+    private char[] titles;
+    private int titlesUsed;
+    private int titlesGarbage;
+    // Linha + 1 de cada ID; 0 é posição vazia. Capacidade potência de 2, no máximo metade ocupada
+    private int[] slots;
+    private int size;
+
+    public TaskColumns(int expectedTasks) {
+        int capacity = Math.max(16, expectedTasks);
+        this.idHigh = new long[capacity];
+        this.idLow = new long[capacity];
+        this.userHigh = new long[capacity];
+        this.userLow = new long[capacity];
+        this.status = new byte[capacity];
+        this.priority = new byte[capacity];
+        this.dueAt = new long[capacity];
+        this.createdAt = new long[capacity];
+        this.updatedAt = new long[capacity];
+        this.version = new long[capacity];
+        this.titleStart = new int[capacity];
+        this.titleLength = new int[capacity];
+        this.titles = new char[capacity * 32];
+        this.slots = new int[Integer.highestOneBit(capacity * 2 - 1) << 1];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** Bytes ocupados pelos vetores, incluindo a capacidade ainda não usada. */
+    public long footprintBytes() {
+        long perRow = 8L * 8 + 2 + 4L * 2;
+        return perRow * idHigh.length + 2L * titles.length + 4L * slots.length;
+    }
+
+    public static long toEpochMicros(LocalDateTime time) {
+        if (time == null) {
+            return NO_DUE_DATE;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    public static LocalDateTime fromEpochMicros(long micros) {
+        if (micros == NO_DUE_DATE) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+            (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+
+    /** Inclui ou atualiza a tarefa a partir da entidade (lida no momento da chamada). */
+    public void put(Task task) {
+        put(task.getId(), task.getTitle(), task.getStatus(), task.getPriority(), task.getDueDate(),
+            task.getCreatedAt(), task.getUpdatedAt(), task.getUser().getId(),
+            task.getVersion() != null ? task.getVersion() : 0);
+    }
+
+    /**
+     * Inclui ou atualiza a tarefa. Uma versão mais antiga que a já guardada é ignorada: duas
+     * atualizações da mesma tarefa podem chegar fora de ordem depois do commit.
+     *
+     * @return {@code false} se a alteração foi ignorada por ser antiga
+     */
+    public boolean put(UUID id, String title, TaskStatus taskStatus, TaskPriority taskPriority, LocalDateTime due,
+                       LocalDateTime created, LocalDateTime updated, UUID userId, long taskVersion) {
+        long high = id.getMostSignificantBits();
+        long low = id.getLeastSignificantBits();
+        int row = find(high, low);
+        if (row < 0) {
+            if (size == idHigh.length) {
+                grow();
+            }
+            row = size++;
+            idHigh[row] = high;
+            idLow[row] = low;
+            titleLength[row] = 0;
+            insertSlot(high, low, row);
+        } else if (taskVersion < version[row]) {
+            return false;
+        }
+        userHigh[row] = userId.getMostSignificantBits();
+        userLow[row] = userId.getLeastSignificantBits();
+        status[row] = (byte) taskStatus.ordinal();
+        priority[row] = (byte) taskPriority.ordinal();
+        dueAt[row] = toEpochMicros(due);
+        createdAt[row] = toEpochMicros(created);
+        updatedAt[row] = toEpochMicros(updated);
+        version[row] = taskVersion;
+        storeTitle(row, title);
+        return true;
+    }
+
+    public boolean remove(UUID id) {
+        long high = id.getMostSignificantBits();
+        long low = id.getLeastSignificantBits();
+        int slot = slotOf(high, low);
+        if (slots[slot] == 0) {
+            return false;
+        }
+        int row = slots[slot] - 1;
+        deleteSlot(slot);
+        titlesGarbage += titleLength[row];
+        int last = --size;
+        if (row != last) {
+            copyRow(last, row);
+            slots[slotOf(idHigh[row], idLow[row])] = row + 1;
+        }
+        return true;
+    }
+
+    public boolean contains(UUID id) {
+        return find(id.getMostSignificantBits(), id.getLeastSignificantBits()) >= 0;
+    }
+
+    /** Versão da tarefa na cópia, ou -1 se ela não está aqui. */
+    public long versionOf(UUID id) {
+        int row = find(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        return row < 0 ? -1 : version[row];
+    }
+
+    /**
+     * Seleciona as linhas que passam no filtro. Status e prioridade são máscaras de bits por
+     * ordinal; a data de entrega deve estar em {@code [dueFrom, dueTo]} (microssegundos; use
+     * {@link Long#MIN_VALUE}/{@link #NO_DUE_DATE} para não limitar). Tarefas sem data só passam
+     * quando {@code dueTo} é {@link #NO_DUE_DATE}.
+     *
+     * @param rows recebe as linhas selecionadas; precisa ter ao menos {@link #size()} posições
+     * @param countsByStatus recebe, por ordinal de status, quantas tarefas passam nos demais filtros
+     *                       (prioridade e data), independentemente do filtro de status
+     * @return quantas linhas foram gravadas em {@code rows}
+     */
+    public int filter(int statusMask, int priorityMask, long dueFrom, long dueTo, int[] rows, long[] countsByStatus) {
+        Arrays.fill(countsByStatus, 0, STATUSES.length, 0);
+        int matched = 0;
+        for (int row = 0; row < size; row++) {
+            long due = dueAt[row];
+            if ((priorityMask & (1 << priority[row])) == 0 || due < dueFrom || due > dueTo) {
+                continue;
+            }
+            int rowStatus = status[row];
+            countsByStatus[rowStatus]++;
+            if ((statusMask & (1 << rowStatus)) != 0) {
+                rows[matched++] = row;
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Deixa nas primeiras {@code min(limit, count)} posições de {@code rows} as melhores linhas na
+     * ordem pedida, em O(n log limit) e sem vetor auxiliar: um heap com a pior das escolhidas no
+     * topo é mantido no início do próprio vetor.
+     *
+     * @return quantas posições de {@code rows} estão ordenadas
+     */
+    public int top(int[] rows, int count, TaskViewSort sort, int limit) {
+        int k = Math.min(limit, count);
+        if (k <= 0) {
+            return 0;
+        }
+        for (int i = k / 2 - 1; i >= 0; i--) {
+            siftDown(rows, i, k, sort);
+        }
+        for (int i = k; i < count; i++) {
+            if (compare(rows[i], rows[0], sort) < 0) {
+                rows[0] = rows[i];
+                siftDown(rows, 0, k, sort);
+            }
+        }
+        // Heapsort: a pior vai para o fim a cada passo
+        for (int end = k - 1; end > 0; end--) {
+            int worst = rows[0];
+            rows[0] = rows[end];
+            rows[end] = worst;
+            siftDown(rows, 0, end, sort);
+        }
+        return k;
+    }
+
+    /** Negativo quando a linha {@code a} vem antes de {@code b}; o ID desempata. */
+    public int compare(int a, int b, TaskViewSort sort) {
+        int result = switch (sort) {
+            case PRIORITY -> {
+                int byPriority = Byte.compare(priority[b], priority[a]);
+                yield byPriority != 0 ? byPriority : Long.compare(dueAt[a], dueAt[b]);
+            }
+            case DUE_DATE -> {
+                int byDue = Long.compare(dueAt[a], dueAt[b]);
+                yield byDue != 0 ? byDue : Byte.compare(priority[b], priority[a]);
+            }
+            case CREATED_AT -> Long.compare(createdAt[b], createdAt[a]);
+            case UPDATED_AT -> Long.compare(updatedAt[b], updatedAt[a]);
+        };
+        if (result != 0) {
+            return result;
+        }
+        int byHigh = Long.compare(idHigh[a], idHigh[b]);
+        return byHigh != 0 ? byHigh : Long.compare(idLow[a], idLow[b]);
+    }
+
+    public UUID id(int row) {
+        return new UUID(idHigh[row], idLow[row]);
+    }
+
+    public UUID userId(int row) {
+        return new UUID(userHigh[row], userLow[row]);
+    }
+
+    public String title(int row) {
+        return new String(titles, titleStart[row], titleLength[row]);
+    }
+
+    public TaskStatus status(int row) {
+        return STATUSES[status[row]];
+    }
+
+    public TaskPriority priority(int row) {
+        return PRIORITIES[priority[row]];
+    }
+
+    public LocalDateTime dueDate(int row) {
+        return fromEpochMicros(dueAt[row]);
+    }
+
+    public LocalDateTime createdAt(int row) {
+        return fromEpochMicros(createdAt[row]);
+    }
+
+    public LocalDateTime updatedAt(int row) {
+        return fromEpochMicros(updatedAt[row]);
+    }
+
+    public long version(int row) {
+        return version[row];
+    }
+
+    private void siftDown(int[] heap, int index, int heapSize, TaskViewSort sort) {
+        int row = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && compare(heap[child + 1], heap[child], sort) > 0) {
+                child++;
+            }
+            if (compare(heap[child], row, sort) <= 0) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = row;
+    }
+
+    private void storeTitle(int row, String title) {
+        int length = title.length();
+        if (length <= titleLength[row]) {
+            // Cabe no espaço atual: reescreve no lugar
+            title.getChars(0, length, titles, titleStart[row]);
+            titlesGarbage += titleLength[row] - length;
+            titleLength[row] = length;
+            return;
+        }
+        titlesGarbage += titleLength[row];
+        titleLength[row] = 0;
+        if (titlesGarbage > titlesUsed / 2 && titlesGarbage > 4096) {
+            compactTitles();
+        }
+        if (titlesUsed + length > titles.length) {
+            titles = Arrays.copyOf(titles, Math.max(titles.length * 2, titlesUsed + length));
+        }
+        title.getChars(0, length, titles, titlesUsed);
+        titleStart[row] = titlesUsed;
+        titleLength[row] = length;
+        titlesUsed += length;
+    }
+
+    // Copia os títulos vivos para um vetor novo, na ordem das linhas
+    private void compactTitles() {
+        int live = titlesUsed - titlesGarbage;
+        char[] compacted = new char[Math.max(titles.length / 2, live * 2)];
+        int used = 0;
+        for (int row = 0; row < size; row++) {
+            System.arraycopy(titles, titleStart[row], compacted, used, titleLength[row]);
+            titleStart[row] = used;
+            used += titleLength[row];
+        }
+        titles = compacted;
+        titlesUsed = used;
+        titlesGarbage = 0;
+    }
+
+    private void copyRow(int from, int to) {
+        idHigh[to] = idHigh[from];
+        idLow[to] = idLow[from];
+        userHigh[to] = userHigh[from];
+        userLow[to] = userLow[from];
+        status[to] = status[from];
+        priority[to] = priority[from];
+        dueAt[to] = dueAt[from];
+        createdAt[to] = createdAt[from];
+        updatedAt[to] = updatedAt[from];
+        version[to] = version[from];
+        titleStart[to] = titleStart[from];
+        titleLength[to] = titleLength[from];
+    }
+
+    private int find(long high, long low) {
+        return slots[slotOf(high, low)] - 1;
+    }
+
+    // Posição do ID, ou a posição vazia onde ele entraria (sondagem linear)
+    private int slotOf(long high, long low) {
+        int mask = slots.length - 1;
+        int slot = hash(high, low) & mask;
+        while (slots[slot] != 0) {
+            int row = slots[slot] - 1;
+            if (idHigh[row] == high && idLow[row] == low) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void insertSlot(long high, long low, int row) {
+        slots[slotOf(high, low)] = row + 1;
+    }
+
+    // Remoção com deslocamento para trás: mantém as cadeias de sondagem sem marcadores
+    private void deleteSlot(int slot) {
+        int mask = slots.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (slots[next] != 0) {
+            int row = slots[next] - 1;
+            int home = hash(idHigh[row], idLow[row]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                slots[hole] = slots[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        slots[hole] = 0;
+    }
+
+    private void grow() {
+        int capacity = idHigh.length * 2;
+        idHigh = Arrays.copyOf(idHigh, capacity);
+        idLow = Arrays.copyOf(idLow, capacity);
+        userHigh = Arrays.copyOf(userHigh, capacity);
+        userLow = Arrays.copyOf(userLow, capacity);
+        status = Arrays.copyOf(status, capacity);
+        priority = Arrays.copyOf(priority, capacity);
+        dueAt = Arrays.copyOf(dueAt, capacity);
+        createdAt = Arrays.copyOf(createdAt, capacity);
+        updatedAt = Arrays.copyOf(updatedAt, capacity);
+        version = Arrays.copyOf(version, capacity);
+        titleStart = Arrays.copyOf(titleStart, capacity);
+        titleLength = Arrays.copyOf(titleLength, capacity);
+        slots = new int[slots.length * 2];
+        for (int row = 0; row < size; row++) {
+            insertSlot(idHigh[row], idLow[row], row);
+        }
+    }
+
+    private static int hash(long high, long low) {
+        long mixed = (high ^ low) * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+}
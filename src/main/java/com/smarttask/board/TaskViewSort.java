@@ -0,0 +1,15 @@
+package com.smarttask.board;
+
+/**
+ * Ordens aceitas pela visão de quadro. Empates são resolvidos pelo ID da tarefa.
+ */
+public enum TaskViewSort {
+    /** Prioridade decrescente, depois data de entrega crescente (sem data por último). */
+    PRIORITY,
+    /** Data de entrega crescente (sem data por último), depois prioridade decrescente. */
+    DUE_DATE,
+    /** Mais recentes primeiro. */
+    CREATED_AT,
+    /** Alteradas mais recentemente primeiro. */
+    UPDATED_AT
+}
@@ -0,0 +1,202 @@
+package com.smarttask.cluster;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Escuta o canal de invalidação numa conexão própria com o primário (fora do pool, que não
+ * perde uma conexão para sempre) e aplica as mensagens das outras instâncias a todos os
+ * {@link NearCache}.
+ *
+ * <p>O {@code NOTIFY} não é guardado para quem não estava escutando. Por isso, a cada conexão
+ * (inclusive a primeira, já que os caches podem ter sido carregados antes do {@code LISTEN}), os
+ * caches são descartados por inteiro depois que o {@code LISTEN} está ativo: o que foi gravado
+ * enquanto a instância estava surda é relido do banco.</p>
+ */
+@Component
+public class ClusterInvalidationListener implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterInvalidationListener.class);
+
+    static final String APPLICATION_NAME = "smarttask-invalidation";
+
+    private final ClusterInvalidationProperties properties;
+    private final DataSourceProperties dataSourceProperties;
+    private final ClusterInvalidationPublisher publisher;
+    private final List<NearCache> caches;
+    private final Counter applied;
+    private final Counter flushes;
+    private volatile boolean running;
+    private volatile boolean listening;
+    private volatile Connection connection;
+    private Thread thread;
+
+    public ClusterInvalidationListener(ClusterInvalidationProperties properties, DataSourceProperties dataSourceProperties,
+                                       ClusterInvalidationPublisher publisher, List<NearCache> caches,
+                                       MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.dataSourceProperties = dataSourceProperties;
+        this.publisher = publisher;
+        this.caches = caches;
+        this.applied = Counter.builder("smarttask.cluster.invalidation.received")
+            .description("Invalidações recebidas de outras instâncias e aplicadas")
+            .register(meterRegistry);
+        this.flushes = Counter.builder("smarttask.cluster.invalidation.flushes")
+            .description("Descartes completos dos caches locais (conexão, reconexão ou alteração em massa)")
+            .register(meterRegistry);
+        Gauge.builder("smarttask.cluster.invalidation.listening", this, listener -> listener.listening ? 1 : 0)
+            .description("1 enquanto o LISTEN está ativo")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return properties.enabled();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::listen, "cluster-invalidation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            closeQuietly(connection);
+            try {
+                thread.join(properties.pollTimeout().multipliedBy(2).toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            thread = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    public boolean isListening() {
+        return listening;
+    }
+
+    /** Aplica uma notificação recebida; as publicadas por esta instância são ignoradas. */
+    void onNotification(String payload) {
+        InvalidationMessage message = InvalidationMessage.decode(payload);
+        if (message.origin().equals(publisher.nodeId())) {
+            return;
+        }
+        for (Invalidation invalidation : message.invalidations()) {
+            if (invalidation.kind() == Invalidation.Kind.ALL) {
+                invalidateAll();
+                continue;
+            }
+            for (NearCache cache : caches) {
+                cache.invalidate(invalidation);
+            }
+            applied.increment();
+        }
+    }
+
+    private void listen() {
+        Duration delay = properties.reconnectDelay();
+        while (running) {
+            try (Connection listener = connect()) {
+                connection = listener;
+                try (Statement statement = listener.createStatement()) {
+                    statement.execute("LISTEN " + properties.channel());
+                }
+                listening = true;
+                delay = properties.reconnectDelay();
+                log.info("Escutando invalidações no canal {}", properties.channel());
+                invalidateAll();
+                PGConnection notifications = listener.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] received = notifications.getNotifications((int) properties.pollTimeout().toMillis());
+                    if (received != null) {
+                        for (PGNotification notification : received) {
+                            onNotification(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (running) {
+                    log.warn("Conexão de invalidação perdida ({}); nova tentativa em {}", e.getMessage(), delay);
+                }
+            } finally {
+                listening = false;
+                connection = null;
+            }
+            if (!sleep(delay)) {
+                return;
+            }
+            delay = min(delay.multipliedBy(2), properties.maxReconnectDelay());
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        Properties connectionProperties = new Properties();
+        connectionProperties.setProperty("user", dataSourceProperties.determineUsername());
+        connectionProperties.setProperty("password", dataSourceProperties.determinePassword());
+        connectionProperties.setProperty("ApplicationName", APPLICATION_NAME);
+        // Sem isso, uma conexão morta do lado do servidor só seria notada no próximo envio
+        connectionProperties.setProperty("tcpKeepAlive", "true");
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(), connectionProperties);
+    }
+
+    private void invalidateAll() {
+        for (NearCache cache : caches) {
+            cache.invalidateAll();
+        }
+        flushes.increment();
+    }
+
+    private boolean sleep(Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+            return running;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (SQLException ignored) {
+                // A thread de escuta já está saindo
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.smarttask.cluster;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Invalidação dos caches locais entre instâncias via {@code LISTEN/NOTIFY} do PostgreSQL.
+ *
+ * @param enabled publica as alterações de cada transação e escuta as das outras instâncias;
+ *                ignorado (com aviso) fora do PostgreSQL
+ * @param channel canal do {@code NOTIFY}; identificador simples em minúsculas
+ * @param pollTimeout quanto a conexão de escuta espera por notificações a cada volta
+ * @param reconnectDelay primeira espera após perder a conexão de escuta; dobra a cada falha
+ * @param maxReconnectDelay teto da espera entre tentativas de reconexão
+ */
+@ConfigurationProperties(prefix = "smarttask.cluster.invalidation")
+public record ClusterInvalidationProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("smarttask_invalidation") String channel,
+    @DefaultValue("500ms") Duration pollTimeout,
+    @DefaultValue("1s") Duration reconnectDelay,
+    @DefaultValue("30s") Duration maxReconnectDelay
+) {
+
+    public ClusterInvalidationProperties {
+        if (!channel.matches("[a-z_][a-z0-9_]{0,62}")) {
+            throw new IllegalArgumentException("smarttask.cluster.invalidation.channel inválido: " + channel);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.smarttask.cluster;
+
+import com.smarttask.domain.entity.Project;
+import com.smarttask.domain.entity.Task;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Publica as entidades alteradas por uma transação no canal de invalidação. As mensagens são
+ * acumuladas durante a transação e enviadas com {@code pg_notify} logo antes do commit, na própria
+ * conexão: o PostgreSQL só as entrega se o commit acontecer, e na ordem dos commits.
+ *
+ * <p>As versões são lidas depois de um flush no fim da transação, para serem as gravadas.
+ * Uma transação com invalidações demais para {@value #MAX_NOTIFICATIONS} notificações manda um
+ * único "descarte tudo". Desligado (ou fora do PostgreSQL), nada é acumulado.</p>
+ */
+@Component
+public class ClusterInvalidationPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterInvalidationPublisher.class);
+
+    // O limite do PostgreSQL é 8000 bytes por notificação; o conteúdo é ASCII
+    static final int MAX_PAYLOAD_BYTES = 7800;
+    static final int MAX_NOTIFICATIONS = 8;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final String channel;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter published;
+    private volatile boolean enabled;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ClusterInvalidationPublisher(ClusterInvalidationProperties properties,
+                                        PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.channel = properties.channel();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.published = Counter.builder("smarttask.cluster.invalidation.published")
+            .description("Notificações de invalidação enviadas")
+            .register(meterRegistry);
+    }
+
+    /** Identifica esta instância nas mensagens, para que ela ignore as próprias. */
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** A tarefa é lida no fim da transação: versão e projeto são os gravados. */
+    public void taskChanged(Task task) {
+        record(() -> new Invalidation(Invalidation.Kind.TASK, task.getId(), task.getVersion(), task.getProject().getId()));
+    }
+
+    public void tasksChanged(List<Task> tasks) {
+        tasks.forEach(this::taskChanged);
+    }
+
+    public void taskRemoved(UUID taskId, UUID projectId) {
+        Invalidation removed = new Invalidation(Invalidation.Kind.TASK, taskId, Invalidation.REMOVED, projectId);
+        record(() -> removed);
+    }
+
+    public void projectChanged(Project project) {
+        record(() -> new Invalidation(Invalidation.Kind.PROJECT, project.getId(), project.getVersion(), null));
+    }
+
+    public void projectRemoved(UUID projectId) {
+        Invalidation removed = new Invalidation(Invalidation.Kind.PROJECT, projectId, Invalidation.REMOVED, null);
+        record(() -> removed);
+    }
+
+    public void userChanged(UUID userId) {
+        Invalidation changed = new Invalidation(Invalidation.Kind.USER, userId, Invalidation.UNVERSIONED, null);
+        record(() -> changed);
+    }
+
+    public void userRemoved(UUID userId) {
+        Invalidation removed = new Invalidation(Invalidation.Kind.USER, userId, Invalidation.REMOVED, null);
+        record(() -> removed);
+    }
+
+    public void dependenciesChanged(UUID projectId) {
+        Invalidation changed = new Invalidation(Invalidation.Kind.DEPENDENCIES, projectId, Invalidation.UNVERSIONED, null);
+        record(() -> changed);
+    }
+
+    /** Operações em massa: as outras instâncias descartam todos os caches. */
+    public void invalidateAll() {
+        Invalidation all = Invalidation.all();
+        record(() -> all);
+    }
+
+    private void record(Supplier<Invalidation> invalidation) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionTemplate.executeWithoutResult(status -> record(invalidation));
+            return;
+        }
+        PendingInvalidations pending = (PendingInvalidations) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingInvalidations();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.invalidations.add(invalidation);
+    }
+
+    List<String> payloads(Set<Invalidation> invalidations) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(nodeId);
+        for (Invalidation invalidation : invalidations) {
+            if (invalidation.kind() == Invalidation.Kind.ALL) {
+                return List.of(new InvalidationMessage(nodeId, List.of(invalidation)).encode());
+            }
+            StringBuilder line = new StringBuilder("\n");
+            InvalidationMessage.append(line, invalidation);
+            if (payload.length() + line.length() > MAX_PAYLOAD_BYTES) {
+                payloads.add(payload.toString());
+                if (payloads.size() == MAX_NOTIFICATIONS) {
+                    return List.of(new InvalidationMessage(nodeId, List.of(Invalidation.all())).encode());
+                }
+                payload = new StringBuilder(nodeId);
+            }
+            payload.append(line);
+        }
+        payloads.add(payload.toString());
+        return payloads;
+    }
+
+    private void send(Connection connection, List<String> payloads) throws SQLException {
+        if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+            log.warn("smarttask.cluster.invalidation.enabled ignorado: {} não tem LISTEN/NOTIFY",
+                connection.getMetaData().getDatabaseProductName());
+            enabled = false;
+            return;
+        }
+        try (PreparedStatement notify = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+            for (String payload : payloads) {
+                notify.setString(1, channel);
+                notify.setString(2, payload);
+                notify.executeQuery().close();
+                published.increment();
+            }
+        }
+    }
+
+    private final class PendingInvalidations implements TransactionSynchronization {
+
+        private final List<Supplier<Invalidation>> invalidations = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // As versões só mudam no flush; sem ele, as mensagens levariam a versão anterior
+            entityManager.flush();
+            Set<Invalidation> distinct = new LinkedHashSet<>();
+            invalidations.forEach(invalidation -> distinct.add(invalidation.get()));
+            List<String> payloads = payloads(distinct);
+            entityManager.unwrap(Session.class).doWork(connection -> send(connection, payloads));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ClusterInvalidationPublisher.this);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.smarttask.cluster;
+
+import java.util.UUID;
+
+/**
+ * Uma entidade alterada ou removida em outra instância.
+ *
+ * @param id ID da entidade; nulo em {@link Kind#ALL}
+ * @param version versão gravada no commit, {@link #REMOVED} para remoções ou {@link #UNVERSIONED}
+ *                para entidades sem {@code @Version}
+ * @param projectId projeto da tarefa, quando conhecido; só em {@link Kind#TASK}
+ */
+public record Invalidation(Kind kind, UUID id, long version, UUID projectId) {
+
+    public static final long REMOVED = -1;
+    public static final long UNVERSIONED = -2;
+
+    public enum Kind {
+        TASK('t'),
+        PROJECT('p'),
+        USER('u'),
+        /** As dependências entre tarefas do projeto {@code id} mudaram. */
+        DEPENDENCIES('d'),
+        /** Alteração em massa: tudo deve ser descartado. */
+        ALL('*');
+
+        private final char code;
+
+        Kind(char code) {
+            this.code = code;
+        }
+
+        char code() {
+            return code;
+        }
+
+        static Kind of(char code) {
+            for (Kind kind : values()) {
+                if (kind.code == code) {
+                    return kind;
+                }
+            }
+            throw new IllegalArgumentException("Tipo de invalidação desconhecido: " + code);
+        }
+    }
+
+    public static Invalidation all() {
+        return new Invalidation(Kind.ALL, null, UNVERSIONED, null);
+    }
+
+    public boolean removed() {
+        return version == REMOVED;
+    }
+}
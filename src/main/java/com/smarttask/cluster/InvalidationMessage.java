@@ -0,0 +1,48 @@
+package com.smarttask.cluster;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Conteúdo de um {@code NOTIFY}: a instância de origem na primeira linha e uma invalidação por
+ * linha ({@code t <id> <versão> <projeto>}, {@code p <id> <versão>}, {@code *}...). Texto puro,
+ * para caber com folga no limite de 8000 bytes do PostgreSQL e ser legível num {@code LISTEN} manual.
+ */
+record InvalidationMessage(String origin, List<Invalidation> invalidations) {
+
+    String encode() {
+        StringBuilder payload = new StringBuilder(origin);
+        for (Invalidation invalidation : invalidations) {
+            payload.append('\n');
+            append(payload, invalidation);
+        }
+        return payload.toString();
+    }
+
+    static void append(StringBuilder payload, Invalidation invalidation) {
+        payload.append(invalidation.kind().code());
+        if (invalidation.id() != null) {
+            payload.append(' ').append(invalidation.id()).append(' ').append(invalidation.version());
+            if (invalidation.projectId() != null) {
+                payload.append(' ').append(invalidation.projectId());
+            }
+        }
+    }
+
+    static InvalidationMessage decode(String payload) {
+        String[] lines = payload.split("\n");
+        List<Invalidation> invalidations = new ArrayList<>(lines.length - 1);
+        for (int i = 1; i < lines.length; i++) {
+            String[] fields = lines[i].split(" ");
+            Invalidation.Kind kind = Invalidation.Kind.of(fields[0].charAt(0));
+            if (kind == Invalidation.Kind.ALL) {
+                invalidations.add(Invalidation.all());
+            } else {
+                invalidations.add(new Invalidation(kind, UUID.fromString(fields[1]), Long.parseLong(fields[2]),
+                    fields.length > 3 ? UUID.fromString(fields[3]) : null));
+            }
+        }
+        return new InvalidationMessage(lines[0], invalidations);
+    }
+}
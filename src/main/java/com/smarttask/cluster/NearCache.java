@@ -0,0 +1,13 @@
+package com.smarttask.cluster;
+
+/**
+ * Cache local que precisa saber das escritas feitas pelas outras instâncias. As mensagens chegam
+ * na thread de escuta, depois do commit da transação de origem, e nunca as desta instância.
+ */
+public interface NearCache {
+
+    void invalidate(Invalidation invalidation);
+
+    /** Descarta tudo: alteração em massa ou mensagens possivelmente perdidas durante uma reconexão. */
+    void invalidateAll();
+}
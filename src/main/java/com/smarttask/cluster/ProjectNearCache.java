@@ -0,0 +1,245 @@
+package com.smarttask.cluster;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Uma cópia em memória por projeto, carregada do banco no primeiro uso e mantida por alterações
+ * aplicadas depois do commit de cada escrita. É a base do grafo de dependências e do quadro.
+ *
+ * <p>Cada projeto tem o seu lock de leitura/escrita. A carga sempre lê do primário: uma cópia
+ * montada a partir de uma réplica atrasada ficaria sem as escritas que ainda não chegaram lá, e
+ * as alterações posteriores ao commit delas nunca seriam reaplicadas. Dentro de uma transação de
+ * escrita a carga usa a própria transação; nas demais, abre uma nova, de escrita.</p>
+ *
+ * <p>Projetos saem do menos usado recentemente para o mais usado quando passam de
+ * {@code maxEntries} ou quando a soma das pegadas passa de {@code maxFootprint}; o projeto que
+ * acabou de carregar ou crescer fica, mesmo sozinho acima do limite.</p>
+ *
+ * @param <V> a cópia de um projeto; só é lida ou alterada com o lock do projeto
+ */
+public class ProjectNearCache<V> {
+
+    private final Map<UUID, Entry<V>> entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true));
+    private final Function<UUID, V> loader;
+    private final ToLongFunction<V> footprint;
+    private final long maxFootprint;
+    private final int maxEntries;
+    private final TransactionTemplate primaryTransaction;
+    private final Timer loadTimer;
+    private final Counter evictions;
+
+    /**
+     * @param footprint    bytes ocupados por uma cópia, ou {@code null} se o limite é só de projetos
+     * @param maxFootprint soma máxima das pegadas; {@code Long.MAX_VALUE} para não limitar
+     * @param maxEntries   projetos em memória; {@code Integer.MAX_VALUE} para não limitar
+     * @param evictions    contador dos projetos descartados pelos limites, ou {@code null}
+     */
+    public ProjectNearCache(Function<UUID, V> loader, ToLongFunction<V> footprint, long maxFootprint, int maxEntries,
+                            PlatformTransactionManager transactionManager, Timer loadTimer, Counter evictions) {
+        this.loader = loader;
+        this.footprint = footprint != null ? footprint : value -> 0L;
+        this.maxFootprint = maxFootprint;
+        this.maxEntries = maxEntries;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.primaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTimer = loadTimer;
+        this.evictions = evictions;
+    }
+
+    /** Executa uma consulta sobre a cópia do projeto, carregando-a se preciso. */
+    public <T> T read(UUID projectId, Function<V, T> query) {
+        Entry<V> entry = entry(projectId);
+        entry.lock.readLock().lock();
+        try {
+            if (entry.value != null) {
+                return query.apply(entry.value);
+            }
+        } finally {
+            entry.lock.readLock().unlock();
+        }
+        T result;
+        entry.lock.writeLock().lock();
+        try {
+            result = query.apply(loaded(entry));
+        } finally {
+            entry.lock.writeLock().unlock();
+        }
+        enforceLimits(entry);
+        return result;
+    }
+
+    /**
+     * Consulta a cópia só se ela já estiver em memória, sem carregar.
+     *
+     * @return o resultado de {@code query}, ou {@code absent} se o projeto não está carregado
+     */
+    public <T> T peek(UUID projectId, Function<V, T> query, T absent) {
+        Entry<V> entry = entries.get(projectId);
+        if (entry == null) {
+            return absent;
+        }
+        entry.lock.readLock().lock();
+        try {
+            return entry.value != null ? query.apply(entry.value) : absent;
+        } finally {
+            entry.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Aplica {@code change} à cópia do projeto depois do commit da transação corrente (ou
+     * imediatamente, fora de transação). Projetos fora da memória são ignorados: quando forem
+     * carregados, o banco já terá a alteração.
+     */
+    public void updateAfterCommit(UUID projectId, Consumer<V> change) {
+        afterCommit(() -> update(projectId, change));
+    }
+
+    /** Aplica {@code change} agora, se o projeto estiver em memória. */
+    public void update(UUID projectId, Consumer<V> change) {
+        Entry<V> entry = entries.get(projectId);
+        if (entry == null) {
+            return;
+        }
+        entry.lock.writeLock().lock();
+        try {
+            if (entry.value == null) {
+                return;
+            }
+            change.accept(entry.value);
+            entry.footprint = footprint.applyAsLong(entry.value);
+        } finally {
+            entry.lock.writeLock().unlock();
+        }
+        enforceLimits(entry);
+    }
+
+    /**
+     * Entrada do projeto, criada vazia se preciso. Para quem precisa segurar o lock do projeto
+     * além de uma consulta; a cópia é obtida com {@link #loaded} ou {@link #reload}.
+     */
+    public Entry<V> entry(UUID projectId) {
+        return entries.computeIfAbsent(projectId, Entry::new);
+    }
+
+    /** A cópia do projeto, carregada se preciso. Exige o lock de escrita da entrada. */
+    public V loaded(Entry<V> entry) {
+        if (entry.value == null) {
+            reload(entry);
+        }
+        return entry.value;
+    }
+
+    /** Descarta a cópia e carrega de novo do primário. Exige o lock de escrita da entrada. */
+    public V reload(Entry<V> entry) {
+        entry.value = loadTimer.record(() -> loadFromPrimary(entry.projectId));
+        entry.footprint = footprint.applyAsLong(entry.value);
+        return entry.value;
+    }
+
+    public boolean contains(UUID projectId) {
+        return entries.containsKey(projectId);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long footprintBytes() {
+        synchronized (entries) {
+            long total = 0;
+            for (Entry<V> entry : entries.values()) {
+                total += entry.footprint;
+            }
+            return total;
+        }
+    }
+
+    public void evict(UUID projectId) {
+        entries.remove(projectId);
+    }
+
+    public void evictAll() {
+        entries.clear();
+    }
+
+    public void evictAfterCommit(UUID projectId) {
+        afterCommit(() -> entries.remove(projectId));
+    }
+
+    public void evictAllAfterCommit() {
+        afterCommit(entries::clear);
+    }
+
+    /** Executa {@code action} depois do commit da transação corrente, ou já, fora de transação. */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private V loadFromPrimary(UUID projectId) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            // A transação de escrita corrente já está no primário e enxerga as próprias alterações
+            return loader.apply(projectId);
+        }
+        return primaryTransaction.execute(status -> loader.apply(projectId));
+    }
+
+    private void enforceLimits(Entry<V> keep) {
+        synchronized (entries) {
+            long total = footprintBytes();
+            Iterator<Entry<V>> eldestFirst = entries.values().iterator();
+            while ((total > maxFootprint || entries.size() > maxEntries) && eldestFirst.hasNext()) {
+                Entry<V> entry = eldestFirst.next();
+                if (entry != keep) {
+                    total -= entry.footprint;
+                    eldestFirst.remove();
+                    if (evictions != null) {
+                        evictions.increment();
+                    }
+                }
+            }
+        }
+    }
+
+    public static final class Entry<V> {
+
+        private final UUID projectId;
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private V value;
+        private volatile long footprint;
+
+        private Entry(UUID projectId) {
+            this.projectId = projectId;
+        }
+
+        public ReentrantReadWriteLock lock() {
+            return lock;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.smarttask.coalescing;
+
+import com.smarttask.datasource.ConsistencyKey;
+import com.smarttask.datasource.ReplicaLagGuard;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight para leituras: chamadas concorrentes com a mesma operação e chave compartilham
+ * uma única ida ao banco e o seu resultado (ou exceção).
+ *
+ * <p>Nada é guardado depois que a chamada termina: quem chega depois dispara uma nova leitura.
+ * Escritas chamam {@link #forgetAfterCommit} para que leitores que chegam após o commit não
+ * peguem carona numa leitura iniciada antes dele. Clientes fixados no primário pelo
+ * {@link ReplicaLagGuard} formam voos separados, preservando o read-your-writes.</p>
+ */
+@Component
+public class RequestCoalescer {
+
+    private final Map<Flight, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final ObjectProvider<ReplicaLagGuard> lagGuard;
+    private final MeterRegistry meterRegistry;
+
+    public RequestCoalescer(ObjectProvider<ReplicaLagGuard> lagGuard, MeterRegistry meterRegistry) {
+        this.lagGuard = lagGuard;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("smarttask.coalescing.in_flight", inFlight, Map::size)
+            .description("Leituras coalescidas em andamento")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Executa {@code loader} ou aguarda a execução idêntica já em andamento.
+     * O loader deve abrir a própria transação: quem espera não segura conexão do pool.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Object key, Supplier<T> loader) {
+        Flight flight = new Flight(operation, key, pinnedToPrimary());
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flight, mine);
+        if (existing != null) {
+            counter(operation, "follower").increment();
+            return (T) await(existing);
+        }
+        counter(operation, "leader").increment();
+        try {
+            T result = loader.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(flight, mine);
+        }
+    }
+
+    /**
+     * Descarta os voos em andamento cujas chaves casam com {@code keys}, depois do commit da
+     * transação corrente (ou imediatamente, fora de transação).
+     */
+    public void forgetAfterCommit(String operation, Predicate<Object> keys) {
+        Runnable forget = () -> inFlight.forEach((flight, future) -> {
+            if (flight.operation().equals(operation) && keys.test(flight.key())) {
+                inFlight.remove(flight, future);
+            }
+        });
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    forget.run();
+                }
+            });
+        } else {
+            forget.run();
+        }
+    }
+
+    private boolean pinnedToPrimary() {
+        ReplicaLagGuard guard = lagGuard.getIfAvailable();
+        String client = ConsistencyKey.current();
+        return guard != null && client != null && guard.isPinned(client);
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw ex;
+        }
+    }
+
+    private Counter counter(String operation, String role) {
+        return Counter.builder("smarttask.coalescing.requests")
+            .description("Leituras por papel no single-flight; follower/total é a taxa de coalescência")
+            .tag("operation", operation)
+            .tag("role", role)
+            .register(meterRegistry);
+    }
+
+    private record Flight(String operation, Object key, boolean primary) {}
+}
@@ -0,0 +1,17 @@
+package com.smarttask.config;
+
+import com.smarttask.identity.ClientIdentityProperties;
+import com.smarttask.identity.ClientIdentityResolver;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ClientIdentityProperties.class)
+public class ClientIdentityConfig {
+
+    @Bean
+    public ClientIdentityResolver clientIdentityResolver(ClientIdentityProperties properties) {
+        return new ClientIdentityResolver(properties);
+    }
+}
@@ -0,0 +1,25 @@
+package com.smarttask.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Suporte a CBOR ({@code application/cbor}) em requisições e respostas de todos os controllers.
+ * JSON continua sendo o formato padrão; o CBOR só é usado quando pedido via {@code Accept}
+ * ou enviado via {@code Content-Type}. O schema do formato está em {@code schema/smarttask-api.cddl}.
+ */
+@Configuration
+public class ContentNegotiationConfig {
+
+    /**
+     * Substitui o conversor CBOR padrão do Spring MVC por um construído com o builder do Boot,
+     * para herdar a configuração de datas e os serializers dedicados dos DTOs.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
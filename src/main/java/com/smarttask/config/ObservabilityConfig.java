@@ -0,0 +1,90 @@
+package com.smarttask.config;
+
+import com.smarttask.observability.ExecutionPlanSampler;
+import com.smarttask.observability.RequestQueryStatsListener;
+import com.smarttask.observability.SlowQueryEndpoint;
+import com.smarttask.observability.SlowQueryListener;
+import com.smarttask.observability.SlowQueryLog;
+import com.smarttask.observability.SlowQueryProperties;
+import com.smarttask.observability.SqlBudgetFilter;
+import com.smarttask.observability.SqlBudgetProperties;
+import com.smarttask.observability.jdbc.InstrumentedDataSource;
+import com.smarttask.observability.jdbc.JdbcExecutionListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties({SqlBudgetProperties.class, SlowQueryProperties.class})
+public class ObservabilityConfig {
+
+    /**
+     * Envolve o DataSource da aplicação com os proxies de instrumentação JDBC.
+     * Os listeners são resolvidos só na primeira conexão, depois que o contexto já os criou.
+     */
+    @Bean
+    public static BeanPostProcessor instrumentedDataSourcePostProcessor(ObjectProvider<JdbcExecutionListener> listeners) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof InstrumentedDataSource)) {
+                    return new InstrumentedDataSource(dataSource,
+                        SingletonSupplier.of(() -> List.copyOf(listeners.orderedStream().toList())));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public RequestQueryStatsListener requestQueryStatsListener() {
+        return new RequestQueryStatsListener();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "smarttask.sql-budget", name = "enabled", matchIfMissing = true)
+    public FilterRegistrationBean<SqlBudgetFilter> sqlBudgetFilter(SqlBudgetProperties properties, MeterRegistry meterRegistry) {
+        FilterRegistrationBean<SqlBudgetFilter> registration =
+            new FilterRegistrationBean<>(new SqlBudgetFilter(properties, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "smarttask.slow-query", name = "enabled", matchIfMissing = true)
+    static class SlowQueryConfig {
+
+        @Bean
+        public SlowQueryLog slowQueryLog(SlowQueryProperties properties) {
+            return new SlowQueryLog(properties.capacity());
+        }
+
+        @Bean
+        public ExecutionPlanSampler executionPlanSampler(ObjectProvider<DataSource> dataSource, SlowQueryLog slowQueryLog,
+                                                         SlowQueryProperties properties, MeterRegistry meterRegistry) {
+            return new ExecutionPlanSampler(dataSource, slowQueryLog, properties, meterRegistry);
+        }
+
+        @Bean
+        public SlowQueryListener slowQueryListener(SlowQueryProperties properties, SlowQueryLog slowQueryLog,
+                                                   ExecutionPlanSampler planSampler, MeterRegistry meterRegistry) {
+            return new SlowQueryListener(properties, slowQueryLog, planSampler, meterRegistry);
+        }
+
+        @Bean
+        public SlowQueryEndpoint slowQueryEndpoint(SlowQueryLog slowQueryLog) {
+            return new SlowQueryEndpoint(slowQueryLog);
+        }
+    }
+}
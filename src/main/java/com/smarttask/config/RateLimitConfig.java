@@ -0,0 +1,60 @@
+package com.smarttask.config;
+
+import com.smarttask.identity.ClientIdentityResolver;
+import com.smarttask.ratelimit.ConnectionPoolLoadShedder;
+import com.smarttask.ratelimit.RateLimitInterceptor;
+import com.smarttask.ratelimit.RateLimitProperties;
+import com.smarttask.ratelimit.RateLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+@ConditionalOnProperty(prefix = "smarttask.rate-limit", name = "enabled", matchIfMissing = true)
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final RateLimiter rateLimiter;
+    private final ConnectionPoolLoadShedder loadShedder;
+    private final ClientIdentityResolver clientIdentity;
+
+    public RateLimitConfig(RateLimitProperties properties, MeterRegistry meterRegistry, DataSource dataSource,
+                           ClientIdentityResolver clientIdentity) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clientIdentity = clientIdentity;
+        this.rateLimiter = new RateLimiter(properties);
+        this.loadShedder = new ConnectionPoolLoadShedder(dataSource, properties.shedding());
+        Gauge.builder("smarttask.ratelimit.buckets", rateLimiter, RateLimiter::trackedBuckets)
+            .description("Buckets de rate limit em memória")
+            .register(meterRegistry);
+        Gauge.builder("smarttask.db.pool.pending", loadShedder, ConnectionPoolLoadShedder::pendingConnections)
+            .description("Threads aguardando conexão no pool do primário")
+            .register(meterRegistry);
+    }
+
+    @Bean
+    public RateLimiter rateLimiter() {
+        return rateLimiter;
+    }
+
+    @Bean
+    public ConnectionPoolLoadShedder connectionPoolLoadShedder() {
+        return loadShedder;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new RateLimitInterceptor(properties, rateLimiter, loadShedder, clientIdentity, meterRegistry))
+            .addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,76 @@
+package com.smarttask.config;
+
+import com.smarttask.datasource.ConsistencyKeyFilter;
+import com.smarttask.datasource.ReadWriteRoutingDataSource;
+import com.smarttask.datasource.ReplicaDataSourceRouter;
+import com.smarttask.datasource.ReplicaLagGuard;
+import com.smarttask.datasource.ReplicaRoutingProperties;
+import com.smarttask.identity.ClientIdentityResolver;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ativado com {@code smarttask.datasource.routing.enabled=true}. Para testar localmente com duas
+ * instâncias, aponte {@code spring.datasource.url} para o primário e
+ * {@code smarttask.datasource.routing.replicas[0].url} para a segunda instância (ex.: porta 5433).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "smarttask.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+public class ReadReplicaConfig {
+
+    @Bean
+    public ReplicaLagGuard replicaLagGuard(ReplicaRoutingProperties routing) {
+        return new ReplicaLagGuard(routing.lagWindow());
+    }
+
+    @Bean
+    public ReadWriteRoutingDataSource dataSource(DataSourceProperties properties, ReplicaRoutingProperties routing,
+                                                 ReplicaLagGuard lagGuard, Environment environment) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        List<ReplicaRoutingProperties.Replica> configured = routing.replicas() != null ? routing.replicas() : List.of();
+        for (int i = 0; i < configured.size(); i++) {
+            ReplicaRoutingProperties.Replica replica = configured.get(i);
+            HikariDataSource pool = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(replica.url())
+                .username(replica.username() != null ? replica.username() : properties.determineUsername())
+                .password(replica.password() != null ? replica.password() : properties.determinePassword())
+                .build();
+            Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+            pool.setPoolName("replica-" + i);
+            pool.setConnectionTimeout(routing.replicaConnectionTimeout().toMillis());
+            replicas.add(pool);
+        }
+
+        ReplicaDataSourceRouter router = new ReplicaDataSourceRouter(primary, replicas, lagGuard, routing.healthCheckInterval());
+        return new ReadWriteRoutingDataSource(primary, replicas, router);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConsistencyKeyFilter> consistencyKeyFilter(ReplicaLagGuard lagGuard,
+                                                                             ClientIdentityResolver clientIdentity) {
+        FilterRegistrationBean<ConsistencyKeyFilter> registration =
+            new FilterRegistrationBean<>(new ConsistencyKeyFilter(lagGuard, clientIdentity));
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+}
@@ -0,0 +1,13 @@
+package com.smarttask.config;
+
+import com.smarttask.service.RecurrenceProperties;
+import com.smarttask.service.TaskArchiveProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({TaskArchiveProperties.class, RecurrenceProperties.class})
+public class SchedulingConfig {
+}
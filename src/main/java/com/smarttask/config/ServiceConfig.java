@@ -0,0 +1,21 @@
+package com.smarttask.config;
+
+import com.smarttask.analytics.AnalyticsProperties;
+import com.smarttask.board.BoardSnapshotProperties;
+import com.smarttask.cluster.ClusterInvalidationProperties;
+import com.smarttask.dependency.DependencyGraphProperties;
+import com.smarttask.service.BulkUpdateProperties;
+import com.smarttask.service.DashboardProperties;
+import com.smarttask.service.MultiGetProperties;
+import com.smarttask.service.WriteCoalescingProperties;
+import com.smarttask.snapshot.SnapshotProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({MultiGetProperties.class, BulkUpdateProperties.class, DependencyGraphProperties.class,
+    AnalyticsProperties.class, DashboardProperties.class, BoardSnapshotProperties.class,
+    ClusterInvalidationProperties.class, WriteCoalescingProperties.class,
+    SnapshotProperties.class})
+public class ServiceConfig {
+}
@@ -0,0 +1,49 @@
+package com.smarttask.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+@Configuration
+public class StartupConfig {
+
+    private static final String SPRINGDOC_PACKAGE = "org.springdoc.";
+
+    /**
+     * Adia a criação do {@link OpenApiConfig} e dos beans do springdoc para o primeiro acesso à
+     * documentação: nenhum deles é necessário para atender a API, e o scan dos controllers que o
+     * springdoc faz fica fora do caminho de subida do pod.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "smarttask.startup", name = "lazy-non-critical", havingValue = "true")
+    public static BeanFactoryPostProcessor lazyNonCriticalBeans() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(name);
+                if (isNonCritical(beanFactory, definition)) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    private static boolean isNonCritical(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String className = definition.getBeanClassName();
+        // Beans de métodos @Bean não têm classe própria: vale a classe de configuração que os declara
+        if (className == null && definition.getFactoryBeanName() != null
+                && beanFactory.containsBeanDefinition(definition.getFactoryBeanName())) {
+            className = beanFactory.getBeanDefinition(definition.getFactoryBeanName()).getBeanClassName();
+        }
+        if (className == null) {
+            return false;
+        }
+        // Classes @Configuration já chegam aqui trocadas pela subclasse gerada pelo CGLIB
+        int enhanced = className.indexOf(ClassUtils.CGLIB_CLASS_SEPARATOR);
+        String userClassName = enhanced > 0 ? className.substring(0, enhanced) : className;
+        return userClassName.startsWith(SPRINGDOC_PACKAGE) || userClassName.equals(OpenApiConfig.class.getName());
+    }
+}
@@ -0,0 +1,67 @@
+package com.smarttask.config;
+
+import com.smarttask.cluster.ClusterInvalidationProperties;
+import com.smarttask.identity.ClientIdentityResolver;
+import com.smarttask.observability.RequestQueryStats;
+import com.smarttask.service.TaskUpdateCoalescer;
+import com.smarttask.service.WriteCoalescingProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Read-your-writes da coalescência de escritas: identifica o cliente de cada requisição e, se ele
+ * tem alterações de tarefa pendentes, grava-as antes de atender qualquer coisa além de outro
+ * {@code PUT} de tarefa (que o próprio controller encaminha para a fila ou grava em ordem).
+ *
+ * <p>A garantia vale só dentro de uma instância: a fila é local. Com várias instâncias, a subida
+ * exige {@code smarttask.write-coalescing.sticky-sessions}, isto é, um balanceador que mande cada
+ * cliente sempre ao mesmo nó.</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "smarttask.write-coalescing", name = "enabled", havingValue = "true")
+public class WriteCoalescingConfig implements WebMvcConfigurer {
+
+    private static final String TASK_UPDATE = "PUT /api/v1/tasks/{id}";
+
+    private final TaskUpdateCoalescer coalescer;
+    private final ClientIdentityResolver clientIdentity;
+
+    public WriteCoalescingConfig(TaskUpdateCoalescer coalescer, ClientIdentityResolver clientIdentity,
+                                 WriteCoalescingProperties properties, ClusterInvalidationProperties cluster) {
+        if (cluster.enabled() && !properties.stickySessions()) {
+            throw new IllegalStateException("smarttask.write-coalescing exige smarttask.write-coalescing.sticky-sessions"
+                + " com mais de uma instância: as alterações pendentes ficam na memória do nó que as recebeu");
+        }
+        this.coalescer = coalescer;
+        this.clientIdentity = clientIdentity;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                String client = clientIdentity.resolve(request);
+                request.setAttribute(TaskUpdateCoalescer.CLIENT_ATTRIBUTE, client);
+                String endpoint = request.getMethod() + " " + request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                if (!TASK_UPDATE.equals(endpoint) && coalescer.hasPending(client)) {
+                    // A gravação adiada é custo do PUT que a pediu, não do orçamento de SQL desta requisição
+                    RequestQueryStats stats = RequestQueryStats.current();
+                    RequestQueryStats.bind(null);
+                    try {
+                        coalescer.flushClient(client);
+                    } finally {
+                        RequestQueryStats.bind(stats);
+                    }
+                }
+                return true;
+            }
+        }).addPathPatterns("/api/**");
+    }
+}
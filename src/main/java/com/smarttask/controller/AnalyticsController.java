@@ -0,0 +1,55 @@
+package com.smarttask.controller;
+
+import com.smarttask.domain.enums.RollupGranularity;
+import com.smarttask.dto.ThroughputSeriesDTO;
+import com.smarttask.service.TaskAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Tag(name = "Analytics", description = "Séries temporais pré-agregadas de tarefas")
+@RestController
+@RequestMapping("/api/v1/analytics")
+public class AnalyticsController {
+
+    private final TaskAnalyticsService analyticsService;
+
+    public AnalyticsController(TaskAnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    @Operation(
+        summary = "Vazão de tarefas",
+        description = "Tarefas criadas, concluídas e canceladas por hora ou por dia, de todos ou de um usuário e/ou "
+            + "projeto. Lê apenas os rollups, atualizados a cada escrita"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Série retornada"),
+        @ApiResponse(responseCode = "400", description = "Período inválido ou com pontos demais")
+    })
+    @GetMapping("/throughput")
+    public ResponseEntity<ThroughputSeriesDTO> throughput(
+            @Parameter(description = "HOUR ou DAY (padrão)", example = "DAY")
+            @RequestParam(required = false) RollupGranularity granularity,
+            @Parameter(description = "Início do período; padrão: 30 dias ou 48 horas antes do fim", example = "2024-03-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Fim do período (exclusivo); padrão: fim do balde corrente", example = "2024-04-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Restringe ao usuário", example = "123e4567-e89b-12d3-a456-426614174000")
+            @RequestParam(required = false) UUID userId,
+            @Parameter(description = "Restringe ao projeto", example = "123e4567-e89b-12d3-a456-426614174000")
+            @RequestParam(required = false) UUID projectId) {
+        return ResponseEntity.ok(analyticsService.throughput(granularity, from, to, userId, projectId));
+    }
+}
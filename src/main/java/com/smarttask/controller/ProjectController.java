@@ -1,6 +1,9 @@
 package com.smarttask.controller;
 
 import com.smarttask.dto.CreateProjectDTO;
+import com.smarttask.dto.MultiGetRequest;
+import com.smarttask.dto.MultiGetResponse;
+import com.smarttask.dto.PageResponse;
 import com.smarttask.dto.ProjectResponseDTO;
 import com.smarttask.dto.UpdateProjectDTO;
 import com.smarttask.service.ProjectService;
@@ -18,6 +21,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Tag(name = "Projects", description = "Operações de gerenciamento de projetos")
@@ -108,11 +113,11 @@ public class ProjectController {
         @ApiResponse(responseCode = "200", description = "Lista de projetos retornada com sucesso")
     })
     @GetMapping
-    public ResponseEntity<Page<ProjectResponseDTO>> findAll(
+    public ResponseEntity<PageResponse<ProjectResponseDTO>> findAll(
             @Parameter(description = "Parâmetros de paginação (page, size, sort)")
             Pageable pageable) {
         Page<ProjectResponseDTO> response = projectService.findAll(pageable);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(PageResponse.from(response));
     }
 
     @Operation(
@@ -123,12 +128,79 @@ public class ProjectController {
         @ApiResponse(responseCode = "200", description = "Lista de projetos retornada com sucesso")
     })
     @GetMapping("/user/{userId}")
-    public ResponseEntity<Page<ProjectResponseDTO>> findByUserId(
+    public ResponseEntity<PageResponse<ProjectResponseDTO>> findByUserId(
             @Parameter(description = "ID do usuário", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
             @PathVariable UUID userId,
             @Parameter(description = "Parâmetros de paginação (page, size, sort)")
             Pageable pageable) {
         Page<ProjectResponseDTO> response = projectService.findByUserId(userId, pageable);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(PageResponse.from(response));
+    }
+
+    @Operation(
+        summary = "Buscar projetos por lista de IDs",
+        description = "Retorna, na ordem pedida, os projetos encontrados e a lista de IDs inexistentes. "
+            + "Para listas longas, use POST /batch"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Busca em lote concluída"),
+        @ApiResponse(responseCode = "400", description = "Quantidade de IDs acima do limite")
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponse<ProjectResponseDTO>> findAllById(
+            @Parameter(description = "IDs separados por vírgula", required = true)
+            @RequestParam List<UUID> ids) {
+        return ResponseEntity.ok(projectService.findAllById(ids));
+    }
+
+    @Operation(
+        summary = "Buscar projetos por lista de IDs (corpo da requisição)",
+        description = "Mesmo que GET com ?ids=, mas recebendo os IDs no corpo"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Busca em lote concluída"),
+        @ApiResponse(responseCode = "400", description = "Lista vazia ou acima do limite")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<MultiGetResponse<ProjectResponseDTO>> findAllById(@Valid @RequestBody MultiGetRequest request) {
+        return ResponseEntity.ok(projectService.findAllById(request.ids()));
+    }
+
+    @Operation(
+        summary = "Listar todos os projetos (campos selecionados)",
+        description = "Retorna uma lista paginada de todos os projetos. Apenas os campos pedidos em fields são lidos do banco e devolvidos"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields")
+    })
+    @GetMapping(params = {"fields", "!ids"})
+    public ResponseEntity<PageResponse<Map<String, Object>>> findAllFields(
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: id,title,status,dueDate)", required = true)
+            @RequestParam List<String> fields,
+            @Parameter(description = "Parâmetros de paginação (page, size, sort)")
+            Pageable pageable) {
+        Page<Map<String, Object>> response = projectService.findAll(fields, pageable);
+        return ResponseEntity.ok(PageResponse.from(response));
+    }
+
+    @Operation(
+        summary = "Listar projetos por usuário (campos selecionados)",
+        description = "Retorna uma lista paginada dos projetos de um usuário. Apenas os campos pedidos em fields são lidos do banco e devolvidos"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields")
+    })
+    @GetMapping(value = "/user/{userId}", params = "fields")
+    public ResponseEntity<PageResponse<Map<String, Object>>> findByUserIdFields(
+            @Parameter(description = "ID do usuário", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID userId,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: id,title,status,dueDate)", required = true)
+            @RequestParam List<String> fields,
+            @Parameter(description = "Parâmetros de paginação (page, size, sort)")
+            Pageable pageable) {
+        Page<Map<String, Object>> response = projectService.findByUserId(userId, fields, pageable);
+        return ResponseEntity.ok(PageResponse.from(response));
     }
 }
@@ -0,0 +1,94 @@
+package com.smarttask.controller;
+
+import com.smarttask.dto.ProjectResponseDTO;
+import com.smarttask.service.ProjectSnapshotService;
+import com.smarttask.snapshot.ProjectSnapshotFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.UUID;
+
+@Tag(name = "Project snapshots", description = "Cópia binária de projetos inteiros para backup e carga de ambientes")
+@RestController
+@RequestMapping("/api/v1/projects")
+public class ProjectSnapshotController {
+
+    private final ProjectSnapshotService snapshotService;
+
+    public ProjectSnapshotController(ProjectSnapshotService snapshotService) {
+        this.snapshotService = snapshotService;
+    }
+
+    @Operation(
+        summary = "Exportar snapshot do projeto",
+        description = "Gera um arquivo binário com o projeto, todas as suas tarefas (com a hierarquia) e as "
+            + "dependências entre elas, lido do banco em fluxo. Os usuários não vão no arquivo, só os IDs"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Snapshot gerado",
+            content = @Content(mediaType = ProjectSnapshotFormat.MEDIA_TYPE)),
+        @ApiResponse(responseCode = "404", description = "Projeto não encontrado")
+    })
+    @GetMapping("/{projectId}/snapshot")
+    public void export(
+            @Parameter(description = "ID do projeto", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID projectId,
+            HttpServletResponse response) throws IOException {
+        snapshotService.export(projectId, header -> {
+            response.setContentType(ProjectSnapshotFormat.MEDIA_TYPE);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("project-" + projectId + ProjectSnapshotFormat.FILE_EXTENSION)
+                .build().toString());
+            try {
+                return Channels.newChannel(response.getOutputStream());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    @Operation(
+        summary = "Importar snapshot como novo projeto",
+        description = "Cria um projeto do usuário informado com o conteúdo de um snapshot exportado, em uma única "
+            + "transação e com IDs novos. Tarefas de usuários que não existem aqui ficam com o dono do projeto"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Projeto criado a partir do snapshot",
+            content = @Content(schema = @Schema(implementation = ProjectResponseDTO.class))),
+        @ApiResponse(responseCode = "400", description = "Arquivo inválido, corrompido ou acima do limite"),
+        @ApiResponse(responseCode = "404", description = "Usuário não encontrado")
+    })
+    @PostMapping(value = "/snapshot",
+        consumes = {ProjectSnapshotFormat.MEDIA_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+    public ResponseEntity<ProjectResponseDTO> importSnapshot(
+            @Parameter(description = "ID do usuário dono do novo projeto", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @RequestParam UUID userId,
+            HttpServletRequest request) throws IOException {
+        try (ReadableByteChannel body = Channels.newChannel(request.getInputStream())) {
+            ProjectResponseDTO response = snapshotService.importSnapshot(body, userId);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.smarttask.controller;
+
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.dto.BoardColumnDTO;
+import com.smarttask.dto.TaskBoardDTO;
+import com.smarttask.service.TaskBoardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@Tag(name = "Task board", description = "Quadro kanban de um projeto, com uma coluna por status")
+@RestController
+@RequestMapping("/api/v1/projects/{projectId}/board")
+public class TaskBoardController {
+
+    private final TaskBoardService boardService;
+
+    public TaskBoardController(TaskBoardService boardService) {
+        this.boardService = boardService;
+    }
+
+    @Operation(
+        summary = "Quadro do projeto",
+        description = "Retorna as primeiras tarefas de cada status, por prioridade decrescente e data de entrega "
+            + "(sem data por último), e o total de cada coluna, numa única consulta. Use o nextCursor de cada "
+            + "coluna para carregar as seguintes"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Quadro retornado"),
+        @ApiResponse(responseCode = "400", description = "Limite por coluna inválido"),
+        @ApiResponse(responseCode = "404", description = "Projeto não encontrado")
+    })
+    @GetMapping
+    public ResponseEntity<TaskBoardDTO> board(
+            @Parameter(description = "ID do projeto", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID projectId,
+            @Parameter(description = "Tarefas por coluna (1 a 100)", example = "20")
+            @RequestParam(defaultValue = "20") int perColumn) {
+        return ResponseEntity.ok(boardService.board(projectId, perColumn));
+    }
+
+    @Operation(
+        summary = "Mais tarefas de uma coluna",
+        description = "Retorna as tarefas do status seguintes à posição do cursor, na mesma ordem do quadro"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tarefas retornadas"),
+        @ApiResponse(responseCode = "400", description = "Cursor ou limite inválido"),
+        @ApiResponse(responseCode = "404", description = "Projeto não encontrado")
+    })
+    @GetMapping("/{status}")
+    public ResponseEntity<BoardColumnDTO> column(
+            @Parameter(description = "ID do projeto", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID projectId,
+            @Parameter(description = "Status da coluna", required = true, example = "PENDING")
+            @PathVariable TaskStatus status,
+            @Parameter(description = "nextCursor recebido na página anterior da coluna", required = true)
+            @RequestParam String after,
+            @Parameter(description = "Tarefas por página (1 a 100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(boardService.column(projectId, status, after, limit));
+    }
+}
@@ -1,10 +1,18 @@
 package com.smarttask.controller;
 
 import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.dto.BulkTaskUpdateRequest;
+import com.smarttask.dto.BulkTaskUpdateResponse;
 import com.smarttask.dto.CreateTaskDTO;
+import com.smarttask.dto.MultiGetRequest;
+import com.smarttask.dto.MultiGetResponse;
+import com.smarttask.dto.PageResponse;
 import com.smarttask.dto.TaskResponseDTO;
+import com.smarttask.dto.TaskSearchRequest;
+import com.smarttask.dto.TaskSubtreeSummaryDTO;
 import com.smarttask.dto.UpdateTaskDTO;
 import com.smarttask.service.TaskService;
+import com.smarttask.service.TaskUpdateCoalescer;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -19,6 +27,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Tag(name = "Tasks", description = "Operações de gerenciamento de tarefas")
@@ -27,9 +37,11 @@ import java.util.UUID;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskUpdateCoalescer updateCoalescer;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskUpdateCoalescer updateCoalescer) {
         this.taskService = taskService;
+        this.updateCoalescer = updateCoalescer;
     }
 
     @Operation(
@@ -67,11 +79,15 @@ public class TaskController {
 
     @Operation(
         summary = "Atualizar tarefa",
-        description = "Atualiza os dados de uma tarefa existente. Utiliza optimistic locking para prevenir conflitos de concorrência."
+        description = "Atualiza os dados de uma tarefa existente. Utiliza optimistic locking para prevenir conflitos de concorrência. "
+            + "Com smarttask.write-coalescing.enabled, alterações só de status e/ou prioridade são acumuladas por tarefa "
+            + "durante uma janela curta e gravadas de uma vez (resposta 202 com o estado que será gravado)."
     )
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Tarefa atualizada com sucesso",
             content = @Content(schema = @Schema(implementation = TaskResponseDTO.class))),
+        @ApiResponse(responseCode = "202", description = "Alteração de status/prioridade aceita para gravação em instantes",
+            content = @Content(schema = @Schema(implementation = TaskResponseDTO.class))),
         @ApiResponse(responseCode = "400", description = "Dados inválidos"),
         @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
         @ApiResponse(responseCode = "409", description = "Conflito de concorrência - a tarefa foi modificada por outro usuário")
@@ -80,7 +96,13 @@ public class TaskController {
     public ResponseEntity<TaskResponseDTO> update(
             @Parameter(description = "ID da tarefa", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
             @PathVariable UUID id,
-            @Valid @RequestBody UpdateTaskDTO dto) {
+            @Valid @RequestBody UpdateTaskDTO dto,
+            @RequestAttribute(name = TaskUpdateCoalescer.CLIENT_ATTRIBUTE, required = false) String client) {
+        if (updateCoalescer.accepts(dto)) {
+            return ResponseEntity.accepted().body(updateCoalescer.submit(id, dto, client));
+        }
+        // Uma alteração acumulada antes desta não pode ser gravada depois dela
+        updateCoalescer.flush(id);
         TaskResponseDTO response = taskService.update(id, dto);
         return ResponseEntity.ok(response);
     }
@@ -97,6 +119,7 @@ public class TaskController {
     public ResponseEntity<Void> delete(
             @Parameter(description = "ID da tarefa", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
             @PathVariable UUID id) {
+        updateCoalescer.flush(List.of(id));
         taskService.delete(id);
         return ResponseEntity.noContent().build();
     }
@@ -109,11 +132,11 @@ public class TaskController {
         @ApiResponse(responseCode = "200", description = "Lista de tarefas retornada com sucesso")
     })
     @GetMapping
-    public ResponseEntity<Page<TaskResponseDTO>> findAll(
+    public ResponseEntity<PageResponse<TaskResponseDTO>> findAll(
             @Parameter(description = "Parâmetros de paginação (page, size, sort)")
             Pageable pageable) {
         Page<TaskResponseDTO> response = taskService.findAll(pageable);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(PageResponse.from(response));
     }
 
     @Operation(
@@ -124,13 +147,13 @@ public class TaskController {
         @ApiResponse(responseCode = "200", description = "Lista de tarefas retornada com sucesso")
     })
     @GetMapping("/user/{userId}")
-    public ResponseEntity<Page<TaskResponseDTO>> findByUserId(
+    public ResponseEntity<PageResponse<TaskResponseDTO>> findByUserId(
             @Parameter(description = "ID do usuário", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
             @PathVariable UUID userId,
             @Parameter(description = "Parâmetros de paginação (page, size, sort)")
             Pageable pageable) {
         Page<TaskResponseDTO> response = taskService.findByUserId(userId, pageable);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(PageResponse.from(response));
     }
 
     @Operation(
@@ -141,13 +164,13 @@ public class TaskController {
         @ApiResponse(responseCode = "200", description = "Lista de tarefas retornada com sucesso")
     })
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<Page<TaskResponseDTO>> findByProjectId(
+    public ResponseEntity<PageResponse<TaskResponseDTO>> findByProjectId(
             @Parameter(description = "ID do projeto", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
             @PathVariable UUID projectId,
             @Parameter(description = "Parâmetros de paginação (page, size, sort)")
             Pageable pageable) {
         Page<TaskResponseDTO> response = taskService.findByProjectId(projectId, pageable);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(PageResponse.from(response));
     }
 
     @Operation(
@@ -158,7 +181,7 @@ public class TaskController {
         @ApiResponse(responseCode = "200", description = "Lista de tarefas retornada com sucesso")
     })
     @GetMapping("/user/{userId}/status/{status}")
-    public ResponseEntity<Page<TaskResponseDTO>> findByUserIdAndStatus(
+    public ResponseEntity<PageResponse<TaskResponseDTO>> findByUserIdAndStatus(
             @Parameter(description = "ID do usuário", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
             @PathVariable UUID userId,
             @Parameter(description = "Status da tarefa", required = true, example = "PENDING")
@@ -166,6 +189,265 @@ public class TaskController {
             @Parameter(description = "Parâmetros de paginação (page, size, sort)")
             Pageable pageable) {
         Page<TaskResponseDTO> response = taskService.findByUserIdAndStatus(userId, status, pageable);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(PageResponse.from(response));
+    }
+
+    @Operation(
+        summary = "Alterar tarefas em lote",
+        description = "Aplica status, prioridade, responsável e/ou projeto a todas as tarefas dos ids ou do filtro, "
+            + "em UPDATEs por conjunto executados em blocos. A versão de cada tarefa é incrementada"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Alteração concluída",
+            content = @Content(schema = @Schema(implementation = BulkTaskUpdateResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Requisição sem alvo, sem alteração ou acima do limite"),
+        @ApiResponse(responseCode = "404", description = "Usuário ou projeto de destino não encontrado")
+    })
+    @PatchMapping("/bulk")
+    public ResponseEntity<BulkTaskUpdateResponse> bulkUpdate(@RequestBody BulkTaskUpdateRequest request) {
+        // Com filtro, as tarefas atingidas só são conhecidas no banco: grava tudo o que estiver pendente
+        if (request.ids() != null && !request.ids().isEmpty()) {
+            updateCoalescer.flush(request.ids());
+        } else if (request.filter() != null) {
+            updateCoalescer.flushAll();
+        }
+        return ResponseEntity.ok(taskService.bulkUpdate(request));
+    }
+
+    @Operation(
+        summary = "Buscar tarefas por filtro",
+        description = "Combina projeto ou usuário (obrigatório), status, prioridade mínima e intervalo de vencimento "
+            + "em uma única consulta. Ordenação permitida apenas por dueDate ou createdAt, que têm índice"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Busca concluída"),
+        @ApiResponse(responseCode = "400", description = "Filtro sem projeto/usuário, intervalo inválido ou ordenação não suportada")
+    })
+    @PostMapping("/search")
+    public ResponseEntity<PageResponse<TaskResponseDTO>> search(
+            @RequestBody TaskSearchRequest request,
+            @Parameter(description = "Parâmetros de paginação (page, size, sort=dueDate|createdAt)")
+            Pageable pageable) {
+        Page<TaskResponseDTO> response = taskService.search(request, pageable);
+        return ResponseEntity.ok(PageResponse.from(response));
+    }
+
+    @Operation(
+        summary = "Listar tarefas arquivadas por usuário",
+        description = "Retorna uma lista paginada das tarefas concluídas ou canceladas de um usuário que já foram movidas para o arquivo"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista de tarefas arquivadas retornada com sucesso")
+    })
+    @GetMapping("/archive/user/{userId}")
+    public ResponseEntity<PageResponse<TaskResponseDTO>> findArchivedByUserId(
+            @Parameter(description = "ID do usuário", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID userId,
+            @Parameter(description = "Parâmetros de paginação (page, size, sort)")
+            Pageable pageable) {
+        Page<TaskResponseDTO> response = taskService.findArchivedByUserId(userId, pageable);
+        return ResponseEntity.ok(PageResponse.from(response));
+    }
+
+    @Operation(
+        summary = "Listar tarefas arquivadas por projeto",
+        description = "Retorna uma lista paginada das tarefas concluídas ou canceladas de um projeto que já foram movidas para o arquivo"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista de tarefas arquivadas retornada com sucesso")
+    })
+    @GetMapping("/archive/project/{projectId}")
+    public ResponseEntity<PageResponse<TaskResponseDTO>> findArchivedByProjectId(
+            @Parameter(description = "ID do projeto", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID projectId,
+            @Parameter(description = "Parâmetros de paginação (page, size, sort)")
+            Pageable pageable) {
+        Page<TaskResponseDTO> response = taskService.findArchivedByProjectId(projectId, pageable);
+        return ResponseEntity.ok(PageResponse.from(response));
+    }
+
+    @Operation(
+        summary = "Buscar tarefas por lista de IDs",
+        description = "Retorna, na ordem pedida, as tarefas encontradas e a lista de IDs inexistentes. "
+            + "Para listas longas, use POST /batch"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Busca em lote concluída"),
+        @ApiResponse(responseCode = "400", description = "Quantidade de IDs acima do limite")
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponse<TaskResponseDTO>> findAllById(
+            @Parameter(description = "IDs separados por vírgula", required = true)
+            @RequestParam List<UUID> ids) {
+        return ResponseEntity.ok(taskService.findAllById(ids));
+    }
+
+    @Operation(
+        summary = "Buscar tarefas por lista de IDs (corpo da requisição)",
+        description = "Mesmo que GET com ?ids=, mas recebendo os IDs no corpo"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Busca em lote concluída"),
+        @ApiResponse(responseCode = "400", description = "Lista vazia ou acima do limite")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<MultiGetResponse<TaskResponseDTO>> findAllById(@Valid @RequestBody MultiGetRequest request) {
+        return ResponseEntity.ok(taskService.findAllById(request.ids()));
+    }
+
+    @Operation(
+        summary = "Listar todas as tarefas (campos selecionados)",
+        description = "Retorna uma lista paginada de todas as tarefas do sistema. Apenas os campos pedidos em fields são lidos do banco e devolvidos"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields")
+    })
+    @GetMapping(params = {"fields", "!ids"})
+    public ResponseEntity<PageResponse<Map<String, Object>>> findAllFields(
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: id,title,status,dueDate)", required = true)
+            @RequestParam List<String> fields,
+            @Parameter(description = "Parâmetros de paginação (page, size, sort)")
+            Pageable pageable) {
+        Page<Map<String, Object>> response = taskService.findAll(fields, pageable);
+        return ResponseEntity.ok(PageResponse.from(response));
+    }
+
+    @Operation(
+        summary = "Listar tarefas por usuário (campos selecionados)",
+        description = "Retorna uma lista paginada das tarefas de um usuário. Apenas os campos pedidos em fields são lidos do banco e devolvidos"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields")
+    })
+    @GetMapping(value = "/user/{userId}", params = "fields")
+    public ResponseEntity<PageResponse<Map<String, Object>>> findByUserIdFields(
+            @Parameter(description = "ID do usuário", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID userId,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: id,title,status,dueDate)", required = true)
+            @RequestParam List<String> fields,
+            @Parameter(description = "Parâmetros de paginação (page, size, sort)")
+            Pageable pageable) {
+        Page<Map<String, Object>> response = taskService.findByUserId(userId, fields, pageable);
+        return ResponseEntity.ok(PageResponse.from(response));
+    }
+
+    @Operation(
+        summary = "Listar tarefas por projeto (campos selecionados)",
+        description = "Retorna uma lista paginada das tarefas de um projeto. Apenas os campos pedidos em fields são lidos do banco e devolvidos"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields")
+    })
+    @GetMapping(value = "/project/{projectId}", params = "fields")
+    public ResponseEntity<PageResponse<Map<String, Object>>> findByProjectIdFields(
+            @Parameter(description = "ID do projeto", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID projectId,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: id,title,status,dueDate)", required = true)
+            @RequestParam List<String> fields,
+            @Parameter(description = "Parâmetros de paginação (page, size, sort)")
+            Pageable pageable) {
+        Page<Map<String, Object>> response = taskService.findByProjectId(projectId, fields, pageable);
+        return ResponseEntity.ok(PageResponse.from(response));
+    }
+
+    @Operation(
+        summary = "Listar tarefas por usuário e status (campos selecionados)",
+        description = "Retorna uma lista paginada das tarefas de um usuário com o status informado. Apenas os campos pedidos em fields são lidos do banco e devolvidos"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields")
+    })
+    @GetMapping(value = "/user/{userId}/status/{status}", params = "fields")
+    public ResponseEntity<PageResponse<Map<String, Object>>> findByUserIdAndStatusFields(
+            @Parameter(description = "ID do usuário", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID userId,
+            @Parameter(description = "Status da tarefa", required = true, example = "PENDING")
+            @PathVariable TaskStatus status,
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: id,title,status,dueDate)", required = true)
+            @RequestParam List<String> fields,
+            @Parameter(description = "Parâmetros de paginação (page, size, sort)")
+            Pageable pageable) {
+        Page<Map<String, Object>> response = taskService.findByUserIdAndStatus(userId, status, fields, pageable);
+        return ResponseEntity.ok(PageResponse.from(response));
+    }
+
+    @Operation(
+        summary = "Mover tarefa para dentro de outra",
+        description = "Torna a tarefa subtarefa de parentId, levando junto toda a subárvore dela"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tarefa movida",
+            content = @Content(schema = @Schema(implementation = TaskResponseDTO.class))),
+        @ApiResponse(responseCode = "400", description = "O novo pai está na subárvore da tarefa"),
+        @ApiResponse(responseCode = "404", description = "Tarefa ou pai não encontrado"),
+        @ApiResponse(responseCode = "409", description = "Tarefa ou pai arquivado")
+    })
+    @PutMapping("/{id}/parent/{parentId}")
+    public ResponseEntity<TaskResponseDTO> move(
+            @Parameter(description = "ID da tarefa", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID id,
+            @Parameter(description = "ID do novo pai", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID parentId) {
+        updateCoalescer.flush(List.of(id));
+        return ResponseEntity.ok(taskService.move(id, parentId));
+    }
+
+    @Operation(
+        summary = "Tornar tarefa raiz",
+        description = "Desliga a tarefa do pai atual; as subtarefas dela continuam abaixo dela"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tarefa movida",
+            content = @Content(schema = @Schema(implementation = TaskResponseDTO.class))),
+        @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
+        @ApiResponse(responseCode = "409", description = "Tarefa arquivada")
+    })
+    @DeleteMapping("/{id}/parent")
+    public ResponseEntity<TaskResponseDTO> detach(
+            @Parameter(description = "ID da tarefa", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID id) {
+        updateCoalescer.flush(List.of(id));
+        return ResponseEntity.ok(taskService.move(id, null));
+    }
+
+    @Operation(
+        summary = "Listar subtarefas",
+        description = "Retorna uma lista paginada dos descendentes da tarefa, em qualquer profundidade ou até maxDepth níveis"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "maxDepth menor que 1"),
+        @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
+    })
+    @GetMapping("/{id}/subtasks")
+    public ResponseEntity<PageResponse<TaskResponseDTO>> findSubtasks(
+            @Parameter(description = "ID da tarefa", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID id,
+            @Parameter(description = "Profundidade máxima (1 = apenas filhas diretas)", example = "1")
+            @RequestParam(required = false) Integer maxDepth,
+            @Parameter(description = "Parâmetros de paginação (page, size, sort)")
+            Pageable pageable) {
+        Page<TaskResponseDTO> response = taskService.findSubtasks(id, maxDepth, pageable);
+        return ResponseEntity.ok(PageResponse.from(response));
+    }
+
+    @Operation(
+        summary = "Resumo da subárvore",
+        description = "Retorna o total de descendentes da tarefa e a contagem por status"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Resumo retornado",
+            content = @Content(schema = @Schema(implementation = TaskSubtreeSummaryDTO.class))),
+        @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
+    })
+    @GetMapping("/{id}/subtasks/summary")
+    public ResponseEntity<TaskSubtreeSummaryDTO> summarizeSubtree(
+            @Parameter(description = "ID da tarefa", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID id) {
+        return ResponseEntity.ok(taskService.summarizeSubtree(id));
     }
 }
@@ -0,0 +1,130 @@
+package com.smarttask.controller;
+
+import com.smarttask.service.TaskDependencyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@Tag(name = "Task dependencies", description = "Dependências entre tarefas e consultas sobre o grafo do projeto")
+@RestController
+@RequestMapping("/api/v1")
+public class TaskDependencyController {
+
+    private final TaskDependencyService dependencyService;
+
+    public TaskDependencyController(TaskDependencyService dependencyService) {
+        this.dependencyService = dependencyService;
+    }
+
+    @Operation(
+        summary = "Adicionar dependência",
+        description = "Registra que a tarefa só pode ser executada depois de dependsOnId. As duas tarefas devem ser do "
+            + "mesmo projeto. Repetir a chamada não tem efeito"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Dependência registrada"),
+        @ApiResponse(responseCode = "400", description = "Tarefa dependendo de si mesma ou de outro projeto"),
+        @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
+        @ApiResponse(responseCode = "409", description = "A dependência criaria um ciclo ou envolve tarefa arquivada")
+    })
+    @PutMapping("/tasks/{id}/dependencies/{dependsOnId}")
+    public ResponseEntity<Void> addDependency(
+            @Parameter(description = "ID da tarefa bloqueada", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID id,
+            @Parameter(description = "ID do pré-requisito", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID dependsOnId) {
+        dependencyService.addDependency(id, dependsOnId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+        summary = "Remover dependência",
+        description = "Remove a dependência, se existir"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Dependência removida"),
+        @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
+    })
+    @DeleteMapping("/tasks/{id}/dependencies/{dependsOnId}")
+    public ResponseEntity<Void> removeDependency(
+            @Parameter(description = "ID da tarefa bloqueada", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID id,
+            @Parameter(description = "ID do pré-requisito", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID dependsOnId) {
+        dependencyService.removeDependency(id, dependsOnId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+        summary = "Listar pré-requisitos",
+        description = "Retorna os IDs das tarefas de que a tarefa depende diretamente"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Pré-requisitos retornados"),
+        @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
+    })
+    @GetMapping("/tasks/{id}/dependencies")
+    public ResponseEntity<List<UUID>> findPrerequisites(
+            @Parameter(description = "ID da tarefa", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID id) {
+        return ResponseEntity.ok(dependencyService.findPrerequisites(id));
+    }
+
+    @Operation(
+        summary = "Tarefas desbloqueadas pela conclusão",
+        description = "Retorna os IDs das tarefas abertas que ficam sem pré-requisitos abertos quando esta tarefa for concluída"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tarefas retornadas"),
+        @ApiResponse(responseCode = "404", description = "Tarefa não encontrada")
+    })
+    @GetMapping("/tasks/{id}/unblocks")
+    public ResponseEntity<List<UUID>> findUnblockedBy(
+            @Parameter(description = "ID da tarefa", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID id) {
+        return ResponseEntity.ok(dependencyService.findUnblockedBy(id));
+    }
+
+    @Operation(
+        summary = "Tarefas prontas para execução",
+        description = "Retorna os IDs das tarefas abertas do projeto sem nenhum pré-requisito aberto. "
+            + "Use GET /api/v1/tasks?ids= para obter os dados"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Tarefas retornadas"),
+        @ApiResponse(responseCode = "404", description = "Projeto não encontrado")
+    })
+    @GetMapping("/projects/{projectId}/actionable-tasks")
+    public ResponseEntity<List<UUID>> findActionable(
+            @Parameter(description = "ID do projeto", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID projectId) {
+        return ResponseEntity.ok(dependencyService.findActionable(projectId));
+    }
+
+    @Operation(
+        summary = "Caminho crítico do projeto",
+        description = "Retorna, na ordem de execução, a maior cadeia de tarefas abertas em que cada uma depende da anterior"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Caminho retornado"),
+        @ApiResponse(responseCode = "404", description = "Projeto não encontrado")
+    })
+    @GetMapping("/projects/{projectId}/critical-path")
+    public ResponseEntity<List<UUID>> findCriticalPath(
+            @Parameter(description = "ID do projeto", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID projectId) {
+        return ResponseEntity.ok(dependencyService.findCriticalPath(projectId));
+    }
+}
@@ -0,0 +1,84 @@
+package com.smarttask.controller;
+
+import com.smarttask.dto.TaskRecurrenceDTO;
+import com.smarttask.dto.TaskRecurrenceResponseDTO;
+import com.smarttask.service.TaskRecurrenceService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@Tag(name = "Task recurrences", description = "Regras de recorrência de tarefas modelo")
+@RestController
+@RequestMapping("/api/v1/tasks/{id}/recurrence")
+public class TaskRecurrenceController {
+
+    private final TaskRecurrenceService recurrenceService;
+
+    public TaskRecurrenceController(TaskRecurrenceService recurrenceService) {
+        this.recurrenceService = recurrenceService;
+    }
+
+    @Operation(
+        summary = "Definir recorrência",
+        description = "Cria ou substitui a regra de recorrência da tarefa, que passa a servir de modelo. As ocorrências "
+            + "são criadas com antecedência pelo job de materialização, como tarefas PENDING com título, descrição, "
+            + "prioridade, responsável e projeto do modelo"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Recorrência definida"),
+        @ApiResponse(responseCode = "400", description = "Regra inválida"),
+        @ApiResponse(responseCode = "404", description = "Tarefa não encontrada"),
+        @ApiResponse(responseCode = "409", description = "Tarefa arquivada")
+    })
+    @PutMapping
+    public ResponseEntity<TaskRecurrenceResponseDTO> define(
+            @Parameter(description = "ID da tarefa modelo", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID id,
+            @Valid @RequestBody TaskRecurrenceDTO dto) {
+        return ResponseEntity.ok(recurrenceService.define(id, dto));
+    }
+
+    @Operation(
+        summary = "Buscar recorrência",
+        description = "Retorna a regra da tarefa e a data até a qual as ocorrências já foram criadas"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Recorrência encontrada"),
+        @ApiResponse(responseCode = "404", description = "Tarefa não encontrada ou sem recorrência")
+    })
+    @GetMapping
+    public ResponseEntity<TaskRecurrenceResponseDTO> find(
+            @Parameter(description = "ID da tarefa modelo", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID id) {
+        return ResponseEntity.ok(recurrenceService.find(id));
+    }
+
+    @Operation(
+        summary = "Encerrar recorrência",
+        description = "Remove a regra; as ocorrências já criadas continuam como tarefas comuns"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "Recorrência removida"),
+        @ApiResponse(responseCode = "404", description = "Tarefa não encontrada ou sem recorrência")
+    })
+    @DeleteMapping
+    public ResponseEntity<Void> remove(
+            @Parameter(description = "ID da tarefa modelo", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID id) {
+        recurrenceService.remove(id);
+        return ResponseEntity.noContent().build();
+    }
+}
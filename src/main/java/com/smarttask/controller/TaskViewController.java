@@ -0,0 +1,65 @@
+package com.smarttask.controller;
+
+import com.smarttask.board.TaskViewSort;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.dto.TaskViewDTO;
+import com.smarttask.service.TaskViewService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Tag(name = "Task views", description = "Visões de quadro das tarefas de um projeto, servidas da memória")
+@RestController
+@RequestMapping("/api/v1")
+public class TaskViewController {
+
+    private final TaskViewService viewService;
+
+    public TaskViewController(TaskViewService viewService) {
+        this.viewService = viewService;
+    }
+
+    @Operation(
+        summary = "Visão de quadro do projeto",
+        description = "Filtra as tarefas do projeto por status, prioridade e data de entrega, devolve as primeiras na "
+            + "ordem pedida e conta as tarefas por status. Responde a partir de uma cópia em memória, atualizada a "
+            + "cada escrita; o banco só é lido na primeira consulta do projeto"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Visão retornada"),
+        @ApiResponse(responseCode = "400", description = "Limite ou período inválido"),
+        @ApiResponse(responseCode = "404", description = "Projeto não encontrado")
+    })
+    @GetMapping("/projects/{projectId}/task-view")
+    public ResponseEntity<TaskViewDTO> view(
+            @Parameter(description = "ID do projeto", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID projectId,
+            @Parameter(description = "Status aceitos; padrão: todos", example = "PENDING,IN_PROGRESS")
+            @RequestParam(required = false) List<TaskStatus> status,
+            @Parameter(description = "Prioridades aceitas; padrão: todas", example = "HIGH,URGENT")
+            @RequestParam(required = false) List<TaskPriority> priority,
+            @Parameter(description = "Entrega a partir de (inclusivo); exclui tarefas sem data", example = "2024-03-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+            @Parameter(description = "Entrega até (inclusivo); exclui tarefas sem data", example = "2024-04-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo,
+            @Parameter(description = "PRIORITY (padrão), DUE_DATE, CREATED_AT ou UPDATED_AT", example = "PRIORITY")
+            @RequestParam(required = false) TaskViewSort sort,
+            @Parameter(description = "Máximo de tarefas devolvidas", example = "50")
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(viewService.view(projectId, status, priority, dueFrom, dueTo, sort, limit));
+    }
+}
@@ -1,8 +1,13 @@
 package com.smarttask.controller;
 
 import com.smarttask.dto.CreateUserDTO;
+import com.smarttask.dto.MultiGetRequest;
+import com.smarttask.dto.MultiGetResponse;
+import com.smarttask.dto.PageResponse;
 import com.smarttask.dto.UpdateUserDTO;
+import com.smarttask.dto.UserDashboardDTO;
 import com.smarttask.dto.UserResponseDTO;
+import com.smarttask.service.DashboardService;
 import com.smarttask.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,6 +23,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Tag(name = "Users", description = "Operações de gerenciamento de usuários")
@@ -26,9 +33,11 @@ import java.util.UUID;
 public class UserController {
 
     private final UserService userService;
+    private final DashboardService dashboardService;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, DashboardService dashboardService) {
         this.userService = userService;
+        this.dashboardService = dashboardService;
     }
 
     @Operation(
@@ -64,6 +73,27 @@ public class UserController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(
+        summary = "Painel do usuário",
+        description = "Usuário, projetos, tarefas recentes e tarefas por status numa única chamada. As seções são "
+            + "consultadas em paralelo; as que não ficam prontas dentro do orçamento de latência vêm nulas e listadas "
+            + "em missingSections. O cabeçalho Server-Timing traz o tempo de cada seção"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Painel montado, completo ou parcial",
+            content = @Content(schema = @Schema(implementation = UserDashboardDTO.class))),
+        @ApiResponse(responseCode = "404", description = "Usuário não encontrado")
+    })
+    @GetMapping("/{id}/dashboard")
+    public ResponseEntity<UserDashboardDTO> dashboard(
+            @Parameter(description = "ID do usuário", required = true, example = "123e4567-e89b-12d3-a456-426614174000")
+            @PathVariable UUID id) {
+        DashboardService.Dashboard dashboard = dashboardService.build(id);
+        return ResponseEntity.ok()
+            .header("Server-Timing", dashboard.serverTiming())
+            .body(dashboard.body());
+    }
+
     @Operation(
         summary = "Atualizar usuário",
         description = "Atualiza os dados de um usuário existente. O email pode ser alterado, mas deve ser único."
@@ -108,10 +138,57 @@ public class UserController {
         @ApiResponse(responseCode = "200", description = "Lista de usuários retornada com sucesso")
     })
     @GetMapping
-    public ResponseEntity<Page<UserResponseDTO>> findAll(
+    public ResponseEntity<PageResponse<UserResponseDTO>> findAll(
             @Parameter(description = "Parâmetros de paginação (page, size, sort)")
             Pageable pageable) {
         Page<UserResponseDTO> response = userService.findAll(pageable);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(PageResponse.from(response));
+    }
+
+    @Operation(
+        summary = "Buscar usuários por lista de IDs",
+        description = "Retorna, na ordem pedida, os usuários encontrados e a lista de IDs inexistentes. "
+            + "Para listas longas, use POST /batch"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Busca em lote concluída"),
+        @ApiResponse(responseCode = "400", description = "Quantidade de IDs acima do limite")
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<MultiGetResponse<UserResponseDTO>> findAllById(
+            @Parameter(description = "IDs separados por vírgula", required = true)
+            @RequestParam List<UUID> ids) {
+        return ResponseEntity.ok(userService.findAllById(ids));
+    }
+
+    @Operation(
+        summary = "Buscar usuários por lista de IDs (corpo da requisição)",
+        description = "Mesmo que GET com ?ids=, mas recebendo os IDs no corpo"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Busca em lote concluída"),
+        @ApiResponse(responseCode = "400", description = "Lista vazia ou acima do limite")
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<MultiGetResponse<UserResponseDTO>> findAllById(@Valid @RequestBody MultiGetRequest request) {
+        return ResponseEntity.ok(userService.findAllById(request.ids()));
+    }
+
+    @Operation(
+        summary = "Listar todos os usuários (campos selecionados)",
+        description = "Retorna uma lista paginada de todos os usuários. Apenas os campos pedidos em fields são lidos do banco e devolvidos"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Lista retornada com sucesso"),
+        @ApiResponse(responseCode = "400", description = "Campo desconhecido em fields")
+    })
+    @GetMapping(params = {"fields", "!ids"})
+    public ResponseEntity<PageResponse<Map<String, Object>>> findAllFields(
+            @Parameter(description = "Campos a retornar, separados por vírgula (ex.: id,title,status,dueDate)", required = true)
+            @RequestParam List<String> fields,
+            @Parameter(description = "Parâmetros de paginação (page, size, sort)")
+            Pageable pageable) {
+        Page<Map<String, Object>> response = userService.findAll(fields, pageable);
+        return ResponseEntity.ok(PageResponse.from(response));
     }
 }
@@ -0,0 +1,24 @@
+package com.smarttask.datasource;
+
+/**
+ * Identificador do cliente da requisição corrente, usado pelo {@link ReplicaLagGuard}.
+ */
+public final class ConsistencyKey {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private ConsistencyKey() {
+    }
+
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    public static void bind(String key) {
+        if (key == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(key);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.smarttask.datasource;
+
+import com.smarttask.identity.ClientIdentityResolver;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Identifica o cliente da requisição e registra suas escritas no {@link ReplicaLagGuard}.
+ * O cliente vem do {@link ClientIdentityResolver}: um header aceito de qualquer origem deixaria
+ * forjar a chave, e o IP de um balanceador prenderia as leituras de todos ao primário.
+ * A escrita é registrada no início (leituras concorrentes já vão ao primário) e renovada no fim,
+ * para que a janela de lag conte a partir do commit.
+ */
+public class ConsistencyKeyFilter extends OncePerRequestFilter {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final ReplicaLagGuard lagGuard;
+    private final ClientIdentityResolver clientIdentity;
+
+    public ConsistencyKeyFilter(ReplicaLagGuard lagGuard, ClientIdentityResolver clientIdentity) {
+        this.lagGuard = lagGuard;
+        this.clientIdentity = clientIdentity;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = clientIdentity.resolve(request);
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+        if (write) {
+            lagGuard.recordWrite(key);
+        }
+        ConsistencyKey.bind(key);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ConsistencyKey.bind(null);
+            if (write) {
+                lagGuard.recordWrite(key);
+            }
+        }
+    }
+}
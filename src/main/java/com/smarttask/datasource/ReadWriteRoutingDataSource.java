@@ -0,0 +1,39 @@
+package com.smarttask.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.io.Closeable;
+import java.util.List;
+
+/**
+ * DataSource da aplicação quando há réplicas: escritas vão ao primário e conexões marcadas como
+ * read-only (transações {@code @Transactional(readOnly = true)}) vão ao {@link ReplicaDataSourceRouter}.
+ * A conexão física só é obtida no primeiro statement, depois que o Spring já marcou a transação
+ * como read-only, por isso o proxy lazy.
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final ReplicaDataSourceRouter router;
+
+    public ReadWriteRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas, ReplicaDataSourceRouter router) {
+        super(primary);
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.router = router;
+        setReadOnlyDataSource(router);
+    }
+
+    public ReplicaDataSourceRouter router() {
+        return router;
+    }
+
+    @Override
+    public void close() {
+        router.close();
+        replicas.forEach(HikariDataSource::close);
+        primary.close();
+    }
+}
@@ -0,0 +1,135 @@
+package com.smarttask.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * DataSource das conexões read-only: distribui entre as réplicas saudáveis em round-robin e cai
+ * para o primário quando o cliente está dentro da janela de lag ou nenhuma réplica responde.
+ * Uma réplica que falha ao entregar conexão sai de rotação até a próxima verificação de saúde bem-sucedida.
+ */
+public class ReplicaDataSourceRouter extends AbstractDataSource implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaDataSourceRouter.class);
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<? extends DataSource> replicas;
+    private final ReplicaLagGuard lagGuard;
+    private final AtomicIntegerArray healthy;
+    private final AtomicInteger next = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+
+    public ReplicaDataSourceRouter(DataSource primary, List<? extends DataSource> replicas, ReplicaLagGuard lagGuard,
+                                   Duration healthCheckInterval) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.lagGuard = lagGuard;
+        this.healthy = new AtomicIntegerArray(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            healthy.set(i, 1);
+        }
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkHealth,
+            healthCheckInterval.toMillis(), healthCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    /**
+     * Mesma escolha de destino de {@link #getConnection()}, abrindo a conexão com as credenciais
+     * informadas. Pools que não aceitam credenciais por conexão (o Hikari) recusam com
+     * {@link SQLFeatureNotSupportedException}, repassada sem tirar a réplica de rotação.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    public int healthyReplicas() {
+        int count = 0;
+        for (int i = 0; i < healthy.length(); i++) {
+            count += healthy.get(i);
+        }
+        return count;
+    }
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        String key = ConsistencyKey.current();
+        if (key != null && lagGuard.isPinned(key)) {
+            return opener.open(primary);
+        }
+        int size = replicas.size();
+        if (size == 0) {
+            return opener.open(primary);
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            int index = (start + i) % size;
+            if (healthy.get(index) == 1) {
+                try {
+                    return opener.open(replicas.get(index));
+                } catch (SQLFeatureNotSupportedException ex) {
+                    throw ex;
+                } catch (SQLException | RuntimeException ex) {
+                    markUnhealthy(index, ex);
+                }
+            }
+        }
+        return opener.open(primary);
+    }
+
+    void checkHealth() {
+        for (int i = 0; i < replicas.size(); i++) {
+            try (Connection connection = replicas.get(i).getConnection()) {
+                if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    if (healthy.getAndSet(i, 1) == 0) {
+                        log.info("Réplica {} voltou para a rotação de leitura", i);
+                    }
+                } else {
+                    markUnhealthy(i, null);
+                }
+            } catch (SQLException | RuntimeException ex) {
+                markUnhealthy(i, ex);
+            }
+        }
+    }
+
+    private void markUnhealthy(int index, Exception cause) {
+        if (healthy.getAndSet(index, 0) == 1) {
+            log.warn("Réplica {} removida da rotação de leitura; leituras seguem para as demais réplicas ou o primário", index, cause);
+        }
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+}
@@ -0,0 +1,42 @@
+package com.smarttask.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fixa as leituras de um cliente no primário durante a janela de lag logo após uma escrita dele,
+ * para que ele leia o que acabou de gravar mesmo que a réplica ainda não tenha aplicado a mudança.
+ * O estado é local ao nó.
+ */
+public class ReplicaLagGuard {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    public ReplicaLagGuard(Duration lagWindow) {
+        this.windowNanos = lagWindow.toNanos();
+    }
+
+    public void recordWrite(String key) {
+        long now = System.nanoTime();
+        pinnedUntil.put(key, now + windowNanos);
+        if (pinnedUntil.size() > PURGE_THRESHOLD) {
+            pinnedUntil.values().removeIf(until -> until - now <= 0);
+        }
+    }
+
+    public boolean isPinned(String key) {
+        Long until = pinnedUntil.get(key);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        pinnedUntil.remove(key, until);
+        return false;
+    }
+}
@@ -0,0 +1,27 @@
+package com.smarttask.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Roteamento de transações read-only para réplicas de leitura.
+ *
+ * @param replicas                 réplicas de leitura; usam o mesmo driver e a mesma configuração Hikari do primário
+ * @param lagWindow                por quanto tempo após uma escrita as leituras do mesmo cliente ficam no primário
+ * @param healthCheckInterval      intervalo entre verificações de saúde das réplicas
+ * @param replicaConnectionTimeout timeout para obter conexão de uma réplica antes de cair para o primário
+ */
+@ConfigurationProperties(prefix = "smarttask.datasource.routing")
+public record ReplicaRoutingProperties(
+    @DefaultValue("false") boolean enabled,
+    List<Replica> replicas,
+    @DefaultValue("2s") Duration lagWindow,
+    @DefaultValue("5s") Duration healthCheckInterval,
+    @DefaultValue("1s") Duration replicaConnectionTimeout
+) {
+
+    public record Replica(String url, String username, String password) {}
+}
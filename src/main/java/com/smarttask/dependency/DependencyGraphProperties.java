@@ -0,0 +1,14 @@
+package com.smarttask.dependency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Cache dos grafos de dependência por projeto.
+ *
+ * @param maxCachedProjects quantos projetos ficam em memória; o menos usado recentemente sai primeiro
+ */
+@ConfigurationProperties(prefix = "smarttask.dependencies")
+public record DependencyGraphProperties(
+    @DefaultValue("200") int maxCachedProjects
+) {}
@@ -0,0 +1,316 @@
+package com.smarttask.dependency;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Grafo de dependências de um projeto em memória: cada tarefa vira um índice inteiro e as
+ * arestas ficam em vetores {@code int[]} por tarefa, nos dois sentidos (pré-requisitos e
+ * dependentes). Todas as consultas são O(V + E).
+ *
+ * <p>Uma tarefa está "aberta" enquanto não estiver COMPLETED nem CANCELLED; só pré-requisitos
+ * abertos bloqueiam. A classe não é thread-safe: o {@link TaskDependencyIndex} serializa o acesso.</p>
+ */
+public final class TaskDependencyGraph {
+
+    private static final int[] NO_EDGES = new int[0];
+
+    private final Map<UUID, Integer> indexOf;
+    private UUID[] ids;
+    private boolean[] open;
+    private int[][] prerequisites;
+    private int[] prerequisiteCount;
+    private int[][] dependents;
+    private int[] dependentCount;
+    private int size;
+    private int edgeCount;
+
+    public TaskDependencyGraph(int expectedTasks) {
+        int capacity = Math.max(16, expectedTasks);
+        this.indexOf = new HashMap<>(capacity * 4 / 3 + 1);
+        this.ids = new UUID[capacity];
+        this.open = new boolean[capacity];
+        this.prerequisites = new int[capacity][];
+        this.prerequisiteCount = new int[capacity];
+        this.dependents = new int[capacity][];
+        this.dependentCount = new int[capacity];
+    }
+
+    public int taskCount() {
+        return indexOf.size();
+    }
+
+    public int dependencyCount() {
+        return edgeCount;
+    }
+
+    public boolean contains(UUID taskId) {
+        return indexOf.containsKey(taskId);
+    }
+
+    /** Inclui a tarefa ou atualiza se ela está aberta. */
+    public void putTask(UUID taskId, boolean isOpen) {
+        Integer existing = indexOf.get(taskId);
+        if (existing != null) {
+            open[existing] = isOpen;
+            return;
+        }
+        if (size == ids.length) {
+            grow();
+        }
+        ids[size] = taskId;
+        open[size] = isOpen;
+        prerequisites[size] = NO_EDGES;
+        dependents[size] = NO_EDGES;
+        indexOf.put(taskId, size);
+        size++;
+    }
+
+    /** Remove a tarefa e todas as arestas em que ela aparece. O índice fica vago. */
+    public void removeTask(UUID taskId) {
+        Integer node = indexOf.remove(taskId);
+        if (node == null) {
+            return;
+        }
+        for (int i = prerequisiteCount[node] - 1; i >= 0; i--) {
+            removeEdge(prerequisites[node][i], node);
+        }
+        for (int i = dependentCount[node] - 1; i >= 0; i--) {
+            removeEdge(node, dependents[node][i]);
+        }
+        ids[node] = null;
+        open[node] = false;
+    }
+
+    /**
+     * Registra que {@code taskId} depende de {@code prerequisiteId}.
+     *
+     * @return {@code false} se a dependência já existia
+     */
+    public boolean addDependency(UUID taskId, UUID prerequisiteId) {
+        int task = require(taskId);
+        int prerequisite = require(prerequisiteId);
+        if (indexOf(dependents[prerequisite], dependentCount[prerequisite], task) >= 0) {
+            return false;
+        }
+        dependents[prerequisite] = append(dependents[prerequisite], dependentCount[prerequisite]++, task);
+        prerequisites[task] = append(prerequisites[task], prerequisiteCount[task]++, prerequisite);
+        edgeCount++;
+        return true;
+    }
+
+    public boolean hasDependency(UUID taskId, UUID prerequisiteId) {
+        Integer task = indexOf.get(taskId);
+        Integer prerequisite = indexOf.get(prerequisiteId);
+        return task != null && prerequisite != null
+            && indexOf(dependents[prerequisite], dependentCount[prerequisite], task) >= 0;
+    }
+
+    public void removeDependency(UUID taskId, UUID prerequisiteId) {
+        Integer task = indexOf.get(taskId);
+        Integer prerequisite = indexOf.get(prerequisiteId);
+        if (task != null && prerequisite != null) {
+            removeEdge(prerequisite, task);
+        }
+    }
+
+    /**
+     * Caminho que fecharia um ciclo se {@code taskId} passasse a depender de {@code prerequisiteId}:
+     * a cadeia já existente em que {@code prerequisiteId} depende, direta ou indiretamente, de
+     * {@code taskId}, começando em {@code prerequisiteId}. Vazio se a nova dependência é segura.
+     */
+    public List<UUID> findCycle(UUID taskId, UUID prerequisiteId) {
+        int task = require(taskId);
+        int prerequisite = require(prerequisiteId);
+        if (task == prerequisite) {
+            return List.of(taskId);
+        }
+        // Busca em largura a partir da tarefa, seguindo quem depende dela
+        int[] reachedFrom = new int[size];
+        Arrays.fill(reachedFrom, -1);
+        reachedFrom[task] = task;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        queue.add(task);
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < dependentCount[node]; i++) {
+                int next = dependents[node][i];
+                if (reachedFrom[next] >= 0) {
+                    continue;
+                }
+                reachedFrom[next] = node;
+                if (next == prerequisite) {
+                    List<UUID> path = new ArrayList<>();
+                    for (int step = next; step != task; step = reachedFrom[step]) {
+                        path.add(ids[step]);
+                    }
+                    path.add(taskId);
+                    return path;
+                }
+                queue.add(next);
+            }
+        }
+        return List.of();
+    }
+
+    /** Pré-requisitos diretos da tarefa, abertos ou não. */
+    public List<UUID> prerequisitesOf(UUID taskId) {
+        Integer task = indexOf.get(taskId);
+        if (task == null) {
+            return List.of();
+        }
+        List<UUID> result = new ArrayList<>(prerequisiteCount[task]);
+        for (int i = 0; i < prerequisiteCount[task]; i++) {
+            result.add(ids[prerequisites[task][i]]);
+        }
+        return result;
+    }
+
+    /** Tarefas abertas sem nenhum pré-requisito aberto. */
+    public List<UUID> actionable() {
+        List<UUID> result = new ArrayList<>();
+        for (int node = 0; node < size; node++) {
+            if (open[node] && openPrerequisites(node) == 0) {
+                result.add(ids[node]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Tarefas abertas que ficam sem pré-requisitos abertos quando {@code taskId} é concluída.
+     * Se {@code taskId} já está fechada, nada depende mais dela.
+     */
+    public List<UUID> unblockedBy(UUID taskId) {
+        Integer task = indexOf.get(taskId);
+        if (task == null || !open[task]) {
+            return List.of();
+        }
+        List<UUID> result = new ArrayList<>();
+        for (int i = 0; i < dependentCount[task]; i++) {
+            int dependent = dependents[task][i];
+            if (open[dependent] && openPrerequisites(dependent) == 1) {
+                result.add(ids[dependent]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Maior cadeia de tarefas abertas em que cada uma depende da anterior, na ordem de execução:
+     * o número mínimo de etapas sequenciais até fechar o projeto. Ordenação topológica de Kahn
+     * sobre o subgrafo aberto, guardando para cada tarefa o comprimento da maior cadeia que termina nela.
+     */
+    public List<UUID> criticalPath() {
+        int[] pending = new int[size];
+        int[] length = new int[size];
+        int[] previous = new int[size];
+        ArrayDeque<Integer> ready = new ArrayDeque<>();
+        for (int node = 0; node < size; node++) {
+            if (!open[node]) {
+                continue;
+            }
+            pending[node] = openPrerequisites(node);
+            length[node] = 1;
+            previous[node] = -1;
+            if (pending[node] == 0) {
+                ready.add(node);
+            }
+        }
+        int last = -1;
+        while (!ready.isEmpty()) {
+            int node = ready.poll();
+            if (last < 0 || length[node] > length[last]) {
+                last = node;
+            }
+            for (int i = 0; i < dependentCount[node]; i++) {
+                int next = dependents[node][i];
+                if (!open[next]) {
+                    continue;
+                }
+                if (length[node] + 1 > length[next]) {
+                    length[next] = length[node] + 1;
+                    previous[next] = node;
+                }
+                if (--pending[next] == 0) {
+                    ready.add(next);
+                }
+            }
+        }
+        if (last < 0) {
+            return List.of();
+        }
+        List<UUID> path = new ArrayList<>(length[last]);
+        for (int node = last; node >= 0; node = previous[node]) {
+            path.add(ids[node]);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private int openPrerequisites(int node) {
+        int count = 0;
+        for (int i = 0; i < prerequisiteCount[node]; i++) {
+            if (open[prerequisites[node][i]]) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void removeEdge(int prerequisite, int task) {
+        if (removeFrom(dependents[prerequisite], dependentCount, prerequisite, task)) {
+            removeFrom(prerequisites[task], prerequisiteCount, task, prerequisite);
+            edgeCount--;
+        }
+    }
+
+    private static boolean removeFrom(int[] edges, int[] counts, int node, int target) {
+        int position = indexOf(edges, counts[node], target);
+        if (position < 0) {
+            return false;
+        }
+        // A ordem das arestas não importa: o último ocupa a vaga
+        edges[position] = edges[--counts[node]];
+        return true;
+    }
+
+    private static int indexOf(int[] edges, int count, int target) {
+        for (int i = 0; i < count; i++) {
+            if (edges[i] == target) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int[] append(int[] edges, int count, int node) {
+        int[] target = count == edges.length ? Arrays.copyOf(edges, Math.max(2, count * 2)) : edges;
+        target[count] = node;
+        return target;
+    }
+
+    private int require(UUID taskId) {
+        Integer node = indexOf.get(taskId);
+        if (node == null) {
+            throw new IllegalArgumentException("Tarefa fora do grafo do projeto: " + taskId);
+        }
+        return node;
+    }
+
+    private void grow() {
+        int capacity = ids.length * 2;
+        ids = Arrays.copyOf(ids, capacity);
+        open = Arrays.copyOf(open, capacity);
+        prerequisites = Arrays.copyOf(prerequisites, capacity);
+        prerequisiteCount = Arrays.copyOf(prerequisiteCount, capacity);
+        dependents = Arrays.copyOf(dependents, capacity);
+        dependentCount = Arrays.copyOf(dependentCount, capacity);
+    }
+}
@@ -0,0 +1,203 @@
+package com.smarttask.dependency;
+
+import com.smarttask.cluster.Invalidation;
+import com.smarttask.cluster.NearCache;
+import com.smarttask.cluster.ProjectNearCache;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.exception.DependencyCycleException;
+import com.smarttask.repository.TaskDependencyRepository;
+import com.smarttask.repository.TaskDependencyRepository.GraphEdge;
+import com.smarttask.repository.TaskDependencyRepository.GraphNode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Grafos de dependência por projeto, carregados do banco no primeiro uso (duas consultas: tarefas
+ * e arestas) e mantidos por atualizações incrementais aplicadas depois do commit de cada escrita.
+ *
+ * <p>Locks por projeto, carga a partir do primário e descarte ficam no {@link ProjectNearCache}.
+ * Uma nova dependência segura o lock de escrita do projeto da verificação de ciclo até o fim da
+ * transação, de modo que duas inclusões concorrentes no mesmo projeto não passem na verificação
+ * cada uma sem ver a outra. Entre instâncias, quem chama trava a linha do projeto antes, e a
+ * resposta do cache é conferida no banco dentro da transação de escrita: se o cache estiver
+ * atrasado, o grafo é recarregado ali mesmo. As atualizações são idempotentes: uma alteração que
+ * o carregamento já leu do banco pode ser reaplicada sem efeito.</p>
+ *
+ * <p>O grafo reflete as escritas feitas por esta instância; operações em massa descartam os
+ * projetos afetados, que são recarregados na próxima consulta. Tarefas e dependências alteradas
+ * por outras instâncias ({@link Invalidation}) também descartam o projeto, já que a mensagem não
+ * diz se a tarefa abriu ou fechou.</p>
+ */
+@Component
+public class TaskDependencyIndex implements NearCache {
+
+    private final TaskDependencyRepository dependencyRepository;
+    private final ProjectNearCache<TaskDependencyGraph> graphs;
+
+    public TaskDependencyIndex(TaskDependencyRepository dependencyRepository, PlatformTransactionManager transactionManager,
+                               DependencyGraphProperties properties, MeterRegistry meterRegistry) {
+        this.dependencyRepository = dependencyRepository;
+        Timer loadTimer = Timer.builder("smarttask.dependencies.load")
+            .description("Carga do grafo de dependências de um projeto a partir do banco")
+            .register(meterRegistry);
+        this.graphs = new ProjectNearCache<>(this::load, null, Long.MAX_VALUE, properties.maxCachedProjects(),
+            transactionManager, loadTimer, null);
+        Gauge.builder("smarttask.dependencies.cached_projects", graphs, ProjectNearCache::size)
+            .description("Projetos com grafo de dependências em memória")
+            .register(meterRegistry);
+    }
+
+    public static boolean isOpen(TaskStatus status) {
+        return status != TaskStatus.COMPLETED && status != TaskStatus.CANCELLED;
+    }
+
+    /** Executa uma consulta sobre o grafo do projeto, carregando-o se preciso. */
+    public <T> T read(UUID projectId, Function<TaskDependencyGraph, T> query) {
+        return graphs.read(projectId, query);
+    }
+
+    /**
+     * Verifica ciclo e grava a dependência {@code taskId -> dependsOnId} com {@code persist}, que
+     * roda na transação corrente. O grafo só recebe a aresta depois do commit. A transação deve ser
+     * de escrita e já ter travado o projeto, para que a conferência no banco enxergue as inclusões
+     * confirmadas por outras instâncias.
+     *
+     * @return {@code false} se a dependência já existia (nada é gravado)
+     * @throws DependencyCycleException se a aresta fecharia um ciclo
+     */
+    public boolean addDependency(UUID projectId, UUID taskId, UUID dependsOnId, Runnable persist) {
+        ProjectNearCache.Entry<TaskDependencyGraph> entry = graphs.entry(projectId);
+        ReentrantReadWriteLock.WriteLock lock = entry.lock().writeLock();
+        lock.lock();
+        boolean unlockAfterCompletion = false;
+        try {
+            TaskDependencyGraph graph = confirmedWith(entry, taskId, dependsOnId);
+            if (graph.hasDependency(taskId, dependsOnId)) {
+                return false;
+            }
+            List<UUID> cycle = graph.findCycle(taskId, dependsOnId);
+            if (!cycle.isEmpty()) {
+                throw new DependencyCycleException(taskId, dependsOnId, cycle);
+            }
+            persist.run();
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        addIfPresent(graph, taskId, dependsOnId);
+                    }
+
+                    @Override
+                    public void afterCompletion(int status) {
+                        lock.unlock();
+                    }
+                });
+                unlockAfterCompletion = true;
+            } else {
+                addIfPresent(graph, taskId, dependsOnId);
+            }
+            return true;
+        } finally {
+            if (!unlockAfterCompletion) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Aplica {@code change} ao grafo do projeto depois do commit da transação corrente (ou
+     * imediatamente, fora de transação). Projetos fora do cache são ignorados: quando forem
+     * carregados, o banco já terá a alteração.
+     */
+    public void updateAfterCommit(UUID projectId, Consumer<TaskDependencyGraph> change) {
+        graphs.updateAfterCommit(projectId, change);
+    }
+
+    public void evictAfterCommit(UUID projectId) {
+        graphs.evictAfterCommit(projectId);
+    }
+
+    public void evictAllAfterCommit() {
+        graphs.evictAllAfterCommit();
+    }
+
+    @Override
+    public void invalidate(Invalidation invalidation) {
+        switch (invalidation.kind()) {
+            case TASK -> {
+                if (invalidation.removed()) {
+                    updateAfterCommit(invalidation.projectId(), graph -> graph.removeTask(invalidation.id()));
+                } else {
+                    graphs.evict(invalidation.projectId());
+                }
+            }
+            case DEPENDENCIES -> graphs.evict(invalidation.id());
+            case PROJECT -> {
+                if (invalidation.removed()) {
+                    graphs.evict(invalidation.id());
+                }
+            }
+            case USER -> {
+                if (invalidation.removed()) {
+                    graphs.evictAll();
+                }
+            }
+            case ALL -> graphs.evictAll();
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        graphs.evictAll();
+    }
+
+    private TaskDependencyGraph confirmedWith(ProjectNearCache.Entry<TaskDependencyGraph> entry,
+                                              UUID taskId, UUID dependsOnId) {
+        TaskDependencyGraph graph = graphs.loaded(entry);
+        if (!graph.contains(taskId) || !graph.contains(dependsOnId)) {
+            // Tarefa criada por outra instância depois da carga: o grafo em cache está atrasado
+            graph = graphs.reload(entry);
+        }
+        if (!agreesWithDatabase(graph, taskId, dependsOnId)) {
+            // Aresta gravada por outra instância que o cache ainda não viu
+            graph = graphs.reload(entry);
+        }
+        return graph;
+    }
+
+    private boolean agreesWithDatabase(TaskDependencyGraph graph, UUID taskId, UUID dependsOnId) {
+        boolean cycle = !graph.findCycle(taskId, dependsOnId).isEmpty();
+        return graph.hasDependency(taskId, dependsOnId) == dependencyRepository.existsEdge(taskId, dependsOnId)
+            && cycle == dependencyRepository.countTransitivePath(dependsOnId, taskId) > 0;
+    }
+
+    private TaskDependencyGraph load(UUID projectId) {
+        List<GraphNode> nodes = dependencyRepository.findGraphNodes(projectId);
+        TaskDependencyGraph graph = new TaskDependencyGraph(nodes.size());
+        for (GraphNode node : nodes) {
+            graph.putTask(node.getId(), isOpen(node.getStatus()));
+        }
+        for (GraphEdge edge : dependencyRepository.findGraphEdges(projectId)) {
+            addIfPresent(graph, edge.getTaskId(), edge.getDependsOnId());
+        }
+        return graph;
+    }
+
+    // Uma tarefa removida entre a leitura das tarefas e a das arestas leva as arestas junto
+    private static void addIfPresent(TaskDependencyGraph graph, UUID taskId, UUID dependsOnId) {
+        if (graph.contains(taskId) && graph.contains(dependsOnId)) {
+            graph.addDependency(taskId, dependsOnId);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.smarttask.domain.entity;
+
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Tarefa concluída ou cancelada movida para o armazenamento frio ({@code tasks_archive}).
+ * Mantém as colunas da {@link Task}, mas sem chaves estrangeiras, para que o arquivo não pese
+ * nos índices e no vacuum da tabela quente.
+ */
+@Entity
+@Immutable
+@Table(name = "tasks_archive", schema = "public", indexes = {
+    @Index(name = "idx_tasks_archive_user_status", columnList = "user_id, status"),
+    @Index(name = "idx_tasks_archive_project", columnList = "project_id")
+})
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class ArchivedTask {
+
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(nullable = false, updatable = false)
+    private UUID id;
+
+    @Column(nullable = false, length = 200)
+    private String title;
+
+    @Column(length = 1000)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TaskStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private TaskPriority priority;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime dueDate;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(name = "project_id", nullable = false)
+    private UUID projectId;
+
+    @Column(name = "parent_id")
+    private UUID parentId;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -9,6 +9,7 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -17,12 +18,22 @@ import jakarta.persistence.Table;
 import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tasks", schema = "public")
+@Table(name = "tasks", schema = "public", indexes = {
+    @Index(name = "idx_tasks_status_updated_at", columnList = "status, updated_at"),
+    @Index(name = "idx_tasks_project_due_date", columnList = "project_id, due_date"),
+    @Index(name = "idx_tasks_project_created_at", columnList = "project_id, created_at"),
+    @Index(name = "idx_tasks_project_status", columnList = "project_id, status"),
+    @Index(name = "idx_tasks_user_due_date", columnList = "user_id, due_date"),
+    @Index(name = "idx_tasks_user_created_at", columnList = "user_id, created_at"),
+    @Index(name = "idx_tasks_parent", columnList = "parent_id")
+})
 public class Task {
 
     @Id
@@ -62,6 +73,12 @@ public class Task {
     @JoinColumn(name = "project_id", nullable = false)
     private Project project;
 
+    // A ancestralidade completa fica em task_closure; aqui só o pai direto
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id")
+    @OnDelete(action = OnDeleteAction.SET_NULL)
+    private Task parent;
+
     @Version
     @Column(name = "version", nullable = false)
     private Long version;
@@ -165,6 +182,14 @@ public class Task {
         this.project = project;
     }
 
+    public Task getParent() {
+        return parent;
+    }
+
+    public void setParent(Task parent) {
+        this.parent = parent;
+    }
+
     public Long getVersion() {
         return version;
     }
@@ -0,0 +1,81 @@
+package com.smarttask.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+/**
+ * Tabela de fechamento da hierarquia de tarefas: uma linha para cada par ancestral/descendente,
+ * com a distância entre eles ({@code depth >= 1}). A subárvore de qualquer tarefa sai de uma
+ * busca pela chave primária, sem CTE recursiva. Tarefa sem linhas é raiz sem subtarefas, o que
+ * vale também para as inseridas fora do {@code TaskService} (cargas e testes).
+ *
+ * <p>As linhas são gravadas só pelas consultas nativas do {@code TaskClosureRepository}, dentro da
+ * transação que cria ou move a tarefa; as chaves estrangeiras as apagam junto com a tarefa.</p>
+ */
+@Entity
+@Immutable
+@IdClass(TaskClosure.Key.class)
+@Table(name = "task_closure", schema = "public", indexes = {
+    @Index(name = "idx_task_closure_descendant", columnList = "descendant_id, depth")
+})
+@Getter
+@NoArgsConstructor
+@ToString(exclude = {"ancestor", "descendant"})
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class TaskClosure {
+
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(name = "ancestor_id", nullable = false)
+    private UUID ancestorId;
+
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(name = "descendant_id", nullable = false)
+    private UUID descendantId;
+
+    @Column(nullable = false)
+    private int depth;
+
+    // Mapeados só para gerar as chaves estrangeiras com ON DELETE CASCADE
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "ancestor_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Task ancestor;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "descendant_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Task descendant;
+
+    @Getter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        private UUID ancestorId;
+        private UUID descendantId;
+
+        public Key(UUID ancestorId, UUID descendantId) {
+            this.ancestorId = ancestorId;
+            this.descendantId = descendantId;
+        }
+    }
+}
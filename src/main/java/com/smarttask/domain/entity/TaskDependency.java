@@ -0,0 +1,81 @@
+package com.smarttask.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Relação "bloqueada por": {@code task} só pode ser executada depois de {@code dependsOn}.
+ * As duas tarefas são sempre do mesmo projeto, copiado em {@code project_id} para que o grafo
+ * do projeto seja lido sem join. As chaves estrangeiras apagam a aresta junto com a tarefa,
+ * inclusive nas remoções em massa do arquivamento.
+ */
+@Entity
+@Table(name = "task_dependencies", schema = "public",
+    uniqueConstraints = @UniqueConstraint(name = "uk_task_dependencies_task_depends_on",
+        columnNames = {"task_id", "depends_on_id"}),
+    indexes = {
+        @Index(name = "idx_task_dependencies_project", columnList = "project_id"),
+        @Index(name = "idx_task_dependencies_depends_on", columnList = "depends_on_id")
+    })
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString(exclude = {"task", "dependsOn"})
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class TaskDependency {
+
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(nullable = false, updatable = false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", nullable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Task task;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "depends_on_id", nullable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Task dependsOn;
+
+    @Column(name = "project_id", nullable = false, updatable = false)
+    private UUID projectId;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public TaskDependency(Task task, Task dependsOn, UUID projectId) {
+        this.task = task;
+        this.dependsOn = dependsOn;
+        this.projectId = projectId;
+    }
+
+    @PrePersist
+    public void generateId() {
+        if (this.id == null) {
+            this.id = UUID.randomUUID();
+        }
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+    }
+}
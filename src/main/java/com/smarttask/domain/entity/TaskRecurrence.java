@@ -0,0 +1,107 @@
+package com.smarttask.domain.entity;
+
+import com.smarttask.domain.enums.RecurrenceFrequency;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Regra de recorrência de uma tarefa modelo. O job de materialização cria, para cada ocorrência,
+ * uma tarefa comum com os dados do modelo; {@code materializedThrough} é o ponto de retomada: todas
+ * as ocorrências até essa data já existem em {@code tasks}, e ela avança na mesma transação que as
+ * insere. A regra sai junto com a tarefa modelo pela chave estrangeira quando o modelo é excluído;
+ * o arquivamento não move modelos, para não apagar a regra sem que ninguém tenha pedido.
+ */
+@Entity
+@Table(name = "task_recurrences", schema = "public",
+    uniqueConstraints = @UniqueConstraint(name = "uk_task_recurrences_template", columnNames = "template_id"),
+    indexes = @Index(name = "idx_task_recurrences_materialized_through", columnList = "materialized_through"))
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString(exclude = "template")
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class TaskRecurrence {
+
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(nullable = false, updatable = false)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "template_id", nullable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Task template;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RecurrenceFrequency frequency;
+
+    // "interval" é palavra reservada no PostgreSQL e no H2
+    @Column(name = "interval_count", nullable = false)
+    private int interval;
+
+    /** Dias da semana das regras semanais: bit {@code DayOfWeek.getValue() - 1}. Zero nas diárias. */
+    @Column(name = "days_of_week", nullable = false)
+    private int daysOfWeek;
+
+    @Column(nullable = false)
+    private LocalDate startsOn;
+
+    private LocalDate endsOn;
+
+    private LocalTime dueTime;
+
+    @Column(name = "materialized_through", nullable = false)
+    private LocalDate materializedThrough;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public TaskRecurrence(Task template) {
+        this.template = template;
+    }
+
+    @PrePersist
+    public void generateId() {
+        if (this.id == null) {
+            this.id = UUID.randomUUID();
+        }
+        if (this.createdAt == null) {
+            this.createdAt = LocalDateTime.now();
+        }
+        if (this.updatedAt == null) {
+            this.updatedAt = LocalDateTime.now();
+        }
+    }
+
+    @PreUpdate
+    public void updateTimestamp() {
+        this.updatedAt = LocalDateTime.now();
+    }
+}
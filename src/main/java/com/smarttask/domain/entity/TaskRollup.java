@@ -0,0 +1,99 @@
+package com.smarttask.domain.entity;
+
+import com.smarttask.domain.enums.RollupGranularity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Contagem de tarefas criadas, concluídas e canceladas por usuário e projeto numa hora ou num dia.
+ * As séries temporais leem só esta tabela. As linhas são somadas por UPSERT
+ * ({@code TaskRollupRepository.increment}), nunca regravadas pela entidade; não há chave estrangeira
+ * para usuários e projetos, para que o histórico sobreviva à remoção deles.
+ */
+@Entity
+@Immutable
+@IdClass(TaskRollup.Key.class)
+@Table(name = "task_rollups", schema = "public", indexes = {
+    @Index(name = "idx_task_rollups_user", columnList = "user_id, granularity, bucket_start"),
+    @Index(name = "idx_task_rollups_project", columnList = "project_id, granularity, bucket_start")
+})
+@Getter
+@NoArgsConstructor
+@ToString
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class TaskRollup {
+
+    @Id
+    @EqualsAndHashCode.Include
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 5)
+    private RollupGranularity granularity;
+
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(name = "project_id", nullable = false)
+    private UUID projectId;
+
+    @Column(nullable = false)
+    private long created;
+
+    @Column(nullable = false)
+    private long completed;
+
+    @Column(nullable = false)
+    private long cancelled;
+
+    public TaskRollup(RollupGranularity granularity, LocalDateTime bucketStart, UUID userId, UUID projectId,
+                      long created, long completed, long cancelled) {
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+        this.userId = userId;
+        this.projectId = projectId;
+        this.created = created;
+        this.completed = completed;
+        this.cancelled = cancelled;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+
+        private RollupGranularity granularity;
+        private LocalDateTime bucketStart;
+        private UUID userId;
+        private UUID projectId;
+
+        public Key(RollupGranularity granularity, LocalDateTime bucketStart, UUID userId, UUID projectId) {
+            this.granularity = granularity;
+            this.bucketStart = bucketStart;
+            this.userId = userId;
+            this.projectId = projectId;
+        }
+    }
+}
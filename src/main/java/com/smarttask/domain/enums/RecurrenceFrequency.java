@@ -0,0 +1,5 @@
+package com.smarttask.domain.enums;
+
+public enum RecurrenceFrequency {
+    DAILY, WEEKLY
+}
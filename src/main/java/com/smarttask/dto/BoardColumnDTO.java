@@ -0,0 +1,19 @@
+package com.smarttask.dto;
+
+import com.smarttask.domain.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "Coluna do quadro kanban: tarefas de um status, por prioridade e data de entrega")
+public record BoardColumnDTO(
+    @Schema(description = "Status da coluna", example = "IN_PROGRESS")
+    TaskStatus status,
+    @Schema(description = "Total de tarefas no status; ausente nas páginas seguintes da coluna", example = "57")
+    Long total,
+    @Schema(description = "Tarefas da coluna, na ordem de exibição")
+    List<TaskCardDTO> tasks,
+    @Schema(description = "Cursor para GET /api/v1/projects/{projectId}/board/{status}?after=; ausente quando não há mais tarefas",
+        example = "MHwyMDI0LTEyLTMxVDIzOjU5OjU5fDEyM2U0NTY3LWU4OWItMTJkMy1hNDU2LTQyNjYxNDE3NDAwMA")
+    String nextCursor
+) {}
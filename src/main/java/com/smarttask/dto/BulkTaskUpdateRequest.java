@@ -0,0 +1,29 @@
+package com.smarttask.dto;
+
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Alteração em lote de tarefas. Informe ids ou filter, e ao menos uma alteração")
+public record BulkTaskUpdateRequest(
+    @Schema(description = "IDs das tarefas a alterar")
+    List<UUID> ids,
+
+    @Schema(description = "Filtro das tarefas a alterar (mesmas regras da busca)")
+    TaskSearchRequest filter,
+
+    @Schema(description = "Novo status", example = "COMPLETED")
+    TaskStatus status,
+
+    @Schema(description = "Nova prioridade", example = "HIGH")
+    TaskPriority priority,
+
+    @Schema(description = "Novo usuário responsável", example = "123e4567-e89b-12d3-a456-426614174000")
+    UUID userId,
+
+    @Schema(description = "Novo projeto", example = "123e4567-e89b-12d3-a456-426614174000")
+    UUID projectId
+) {}
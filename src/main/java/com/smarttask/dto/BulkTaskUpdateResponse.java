@@ -0,0 +1,13 @@
+package com.smarttask.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Resultado de uma alteração em lote")
+public record BulkTaskUpdateResponse(
+    @Schema(description = "Tarefas selecionadas pelos ids ou pelo filtro", example = "340")
+    long matched,
+    @Schema(description = "Tarefas efetivamente alteradas", example = "338")
+    long updated,
+    @Schema(description = "Transações usadas (cada uma altera no máximo chunk-size tarefas)", example = "2")
+    int chunks
+) {}
@@ -38,5 +38,8 @@ public record CreateTaskDTO(
 
     @Schema(description = "ID do projeto ao qual a tarefa pertence", example = "123e4567-e89b-12d3-a456-426614174000", requiredMode = Schema.RequiredMode.REQUIRED)
     @NotNull(message = "ID do projeto não pode ser nulo")
-    UUID projectId
+    UUID projectId,
+
+    @Schema(description = "ID da tarefa pai, para criar uma subtarefa", example = "123e4567-e89b-12d3-a456-426614174000")
+    UUID parentId
 ) {}
@@ -0,0 +1,14 @@
+package com.smarttask.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Lista de IDs para busca em lote")
+public record MultiGetRequest(
+    @Schema(description = "IDs a buscar; a resposta segue esta ordem", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotEmpty(message = "A lista de IDs não pode estar vazia")
+    List<UUID> ids
+) {}
@@ -0,0 +1,14 @@
+package com.smarttask.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Resultado de uma busca em lote por IDs")
+public record MultiGetResponse<T>(
+    @Schema(description = "Itens encontrados, na ordem em que os IDs foram pedidos (sem repetições)")
+    List<T> items,
+    @Schema(description = "IDs pedidos que não existem")
+    List<UUID> missing
+) {}
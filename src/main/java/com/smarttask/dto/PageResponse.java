@@ -0,0 +1,31 @@
+package com.smarttask.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+@Schema(description = "Página de resultados")
+public record PageResponse<T>(
+    @Schema(description = "Itens da página")
+    List<T> content,
+    @Schema(description = "Número da página (começa em 0)", example = "0")
+    int page,
+    @Schema(description = "Tamanho da página solicitado", example = "20")
+    int size,
+    @Schema(description = "Total de itens em todas as páginas", example = "137")
+    long totalElements,
+    @Schema(description = "Total de páginas", example = "7")
+    int totalPages
+) {
+
+    public static <T> PageResponse<T> from(Page<T> page) {
+        return new PageResponse<>(
+            page.getContent(),
+            page.getNumber(),
+            page.getSize(),
+            page.getTotalElements(),
+            page.getTotalPages()
+        );
+    }
+}
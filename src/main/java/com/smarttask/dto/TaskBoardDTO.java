@@ -0,0 +1,14 @@
+package com.smarttask.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Quadro kanban de um projeto, com uma coluna por status")
+public record TaskBoardDTO(
+    @Schema(description = "ID do projeto", example = "123e4567-e89b-12d3-a456-426614174000")
+    UUID projectId,
+    @Schema(description = "Uma coluna por status, na ordem do fluxo; colunas vazias aparecem com total zero")
+    List<BoardColumnDTO> columns
+) {}
@@ -0,0 +1,28 @@
+package com.smarttask.dto;
+
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Tarefa resumida para exibição em quadro; use GET /api/v1/tasks/{id} para os demais campos")
+public record TaskCardDTO(
+    @Schema(description = "ID único da tarefa", example = "123e4567-e89b-12d3-a456-426614174000")
+    UUID id,
+    @Schema(description = "Título da tarefa", example = "Implementar funcionalidade de login")
+    String title,
+    @Schema(description = "Status da tarefa", example = "IN_PROGRESS")
+    TaskStatus status,
+    @Schema(description = "Prioridade da tarefa", example = "HIGH")
+    TaskPriority priority,
+    @Schema(description = "Data de vencimento da tarefa", example = "2024-12-31T23:59:59")
+    LocalDateTime dueDate,
+    @Schema(description = "Data da última atualização", example = "2024-01-02T15:30:00")
+    LocalDateTime updatedAt,
+    @Schema(description = "ID do usuário responsável", example = "123e4567-e89b-12d3-a456-426614174000")
+    UUID userId,
+    @Schema(description = "Versão para optimistic locking", example = "1")
+    Long version
+) {}
@@ -0,0 +1,35 @@
+package com.smarttask.dto;
+
+import com.smarttask.domain.enums.RecurrenceFrequency;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+@Schema(description = "Regra de recorrência de uma tarefa modelo")
+public record TaskRecurrenceDTO(
+    @Schema(description = "Frequência", example = "WEEKLY", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "Frequência não pode ser nula")
+    RecurrenceFrequency frequency,
+
+    @Schema(description = "A cada quantos dias (DAILY) ou semanas (WEEKLY); padrão 1", example = "1")
+    @Min(value = 1, message = "Intervalo deve ser no mínimo 1")
+    Integer interval,
+
+    @Schema(description = "Dias da semana, só para WEEKLY; padrão: o dia de startsOn", example = "[\"MONDAY\", \"THURSDAY\"]")
+    Set<DayOfWeek> daysOfWeek,
+
+    @Schema(description = "Primeira data possível de ocorrência", example = "2024-01-01", requiredMode = Schema.RequiredMode.REQUIRED)
+    @NotNull(message = "Data de início não pode ser nula")
+    LocalDate startsOn,
+
+    @Schema(description = "Última data possível de ocorrência; sem fim se ausente", example = "2024-12-31")
+    LocalDate endsOn,
+
+    @Schema(description = "Horário de vencimento de cada ocorrência; padrão 23:59:59", example = "09:00:00")
+    LocalTime dueTime
+) {}
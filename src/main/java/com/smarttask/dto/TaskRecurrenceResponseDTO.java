@@ -0,0 +1,32 @@
+package com.smarttask.dto;
+
+import com.smarttask.domain.enums.RecurrenceFrequency;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.UUID;
+
+@Schema(description = "Regra de recorrência e o ponto até onde as ocorrências já foram criadas")
+public record TaskRecurrenceResponseDTO(
+    @Schema(description = "ID da regra", example = "123e4567-e89b-12d3-a456-426614174000")
+    UUID id,
+    @Schema(description = "ID da tarefa modelo", example = "123e4567-e89b-12d3-a456-426614174000")
+    UUID taskId,
+    @Schema(description = "Frequência", example = "WEEKLY")
+    RecurrenceFrequency frequency,
+    @Schema(description = "A cada quantos dias ou semanas", example = "1")
+    int interval,
+    @Schema(description = "Dias da semana (WEEKLY)")
+    Set<DayOfWeek> daysOfWeek,
+    @Schema(description = "Primeira data possível de ocorrência", example = "2024-01-01")
+    LocalDate startsOn,
+    @Schema(description = "Última data possível de ocorrência", example = "2024-12-31")
+    LocalDate endsOn,
+    @Schema(description = "Horário de vencimento de cada ocorrência", example = "09:00:00")
+    LocalTime dueTime,
+    @Schema(description = "Ocorrências até esta data (inclusive) já existem como tarefas", example = "2024-01-14")
+    LocalDate materializedThrough
+) {}
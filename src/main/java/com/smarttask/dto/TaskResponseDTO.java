@@ -29,6 +29,8 @@ public record TaskResponseDTO(
     UUID userId,
     @Schema(description = "ID do projeto", example = "123e4567-e89b-12d3-a456-426614174000")
     UUID projectId,
+    @Schema(description = "ID da tarefa pai, se for subtarefa", example = "123e4567-e89b-12d3-a456-426614174000")
+    UUID parentId,
     @Schema(description = "Versão para optimistic locking", example = "1")
     Long version
 ) {}
@@ -0,0 +1,30 @@
+package com.smarttask.dto;
+
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.UUID;
+
+@Schema(description = "Filtro de busca de tarefas. É obrigatório informar projectId ou userId")
+public record TaskSearchRequest(
+    @Schema(description = "Projeto das tarefas", example = "123e4567-e89b-12d3-a456-426614174000")
+    UUID projectId,
+
+    @Schema(description = "Usuário responsável pelas tarefas", example = "123e4567-e89b-12d3-a456-426614174000")
+    UUID userId,
+
+    @Schema(description = "Status aceitos (qualquer um deles)", example = "[\"PENDING\", \"IN_PROGRESS\"]")
+    Set<TaskStatus> statuses,
+
+    @Schema(description = "Prioridade mínima, inclusive", example = "HIGH")
+    TaskPriority minPriority,
+
+    @Schema(description = "Vencimento a partir de (inclusive)", example = "2024-12-01T00:00:00")
+    LocalDateTime dueFrom,
+
+    @Schema(description = "Vencimento até (inclusive)", example = "2024-12-31T23:59:59")
+    LocalDateTime dueTo
+) {}
@@ -0,0 +1,17 @@
+package com.smarttask.dto;
+
+import com.smarttask.domain.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Schema(description = "Contagem dos descendentes de uma tarefa, em qualquer profundidade")
+public record TaskSubtreeSummaryDTO(
+    @Schema(description = "ID da tarefa raiz da subárvore", example = "123e4567-e89b-12d3-a456-426614174000")
+    UUID taskId,
+    @Schema(description = "Total de descendentes, sem contar a própria tarefa", example = "42")
+    long descendants,
+    @Schema(description = "Descendentes por status; todos os status aparecem, com zero quando não há tarefas")
+    Map<TaskStatus, Long> byStatus
+) {}
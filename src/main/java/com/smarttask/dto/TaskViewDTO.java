@@ -0,0 +1,21 @@
+package com.smarttask.dto;
+
+import com.smarttask.domain.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Schema(description = "Tarefas de um projeto filtradas e ordenadas para um quadro")
+public record TaskViewDTO(
+    @Schema(description = "ID do projeto", example = "123e4567-e89b-12d3-a456-426614174000")
+    UUID projectId,
+    @Schema(description = "Quantas tarefas passam em todos os filtros, além das devolvidas", example = "137")
+    long matched,
+    @Schema(description = "Tarefas por status que passam nos filtros de prioridade e data, ignorando o de status; "
+        + "todos os status aparecem, com zero quando não há tarefas")
+    Map<TaskStatus, Long> byStatus,
+    @Schema(description = "As primeiras tarefas na ordem pedida, até o limite")
+    List<TaskCardDTO> tasks
+) {}
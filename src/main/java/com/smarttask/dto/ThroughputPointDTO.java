@@ -0,0 +1,17 @@
+package com.smarttask.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Tarefas criadas, concluídas e canceladas num balde da série")
+public record ThroughputPointDTO(
+    @Schema(description = "Início do balde", example = "2024-03-01T00:00:00")
+    LocalDateTime bucketStart,
+    @Schema(description = "Tarefas criadas", example = "12")
+    long created,
+    @Schema(description = "Tarefas que chegaram a COMPLETED", example = "9")
+    long completed,
+    @Schema(description = "Tarefas que chegaram a CANCELLED", example = "1")
+    long cancelled
+) {}
@@ -0,0 +1,24 @@
+package com.smarttask.dto;
+
+import com.smarttask.domain.enums.RollupGranularity;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Schema(description = "Série temporal de vazão de tarefas, com um ponto por balde, inclusive os vazios")
+public record ThroughputSeriesDTO(
+    @Schema(description = "Tamanho do balde", example = "DAY")
+    RollupGranularity granularity,
+    @Schema(description = "Início do primeiro balde", example = "2024-03-01T00:00:00")
+    LocalDateTime from,
+    @Schema(description = "Fim da série (exclusivo)", example = "2024-03-31T00:00:00")
+    LocalDateTime to,
+    @Schema(description = "Usuário filtrado, se houver", example = "123e4567-e89b-12d3-a456-426614174000")
+    UUID userId,
+    @Schema(description = "Projeto filtrado, se houver", example = "123e4567-e89b-12d3-a456-426614174000")
+    UUID projectId,
+    @Schema(description = "Pontos em ordem cronológica")
+    List<ThroughputPointDTO> points
+) {}
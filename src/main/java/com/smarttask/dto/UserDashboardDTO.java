@@ -0,0 +1,22 @@
+package com.smarttask.dto;
+
+import com.smarttask.domain.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "Painel do usuário. Seções que não ficaram prontas dentro do orçamento de latência vêm nulas "
+    + "e são listadas em missingSections")
+public record UserDashboardDTO(
+    @Schema(description = "Dados do usuário")
+    UserResponseDTO user,
+    @Schema(description = "Primeira página dos projetos do usuário")
+    PageResponse<ProjectResponseDTO> projects,
+    @Schema(description = "Tarefas mais recentes do usuário")
+    PageResponse<TaskResponseDTO> recentTasks,
+    @Schema(description = "Primeira página das tarefas do usuário em cada status configurado")
+    Map<TaskStatus, PageResponse<TaskResponseDTO>> tasksByStatus,
+    @Schema(description = "Seções ausentes por tempo esgotado, sobrecarga ou erro", example = "[\"tasks.PENDING\"]")
+    List<String> missingSections
+) {}
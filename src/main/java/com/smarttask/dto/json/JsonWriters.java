@@ -0,0 +1,140 @@
+package com.smarttask.dto.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+/**
+ * Escrita direta de campos dos DTOs de resposta, sem reflexão e sem strings intermediárias.
+ * A saída é idêntica à dos serializers padrão do Jackson (UUID canônico, datas em ISO_LOCAL_DATE_TIME);
+ * em formatos binários (CBOR) o UUID vai como 16 bytes, como faz o {@code UUIDSerializer}.
+ */
+final class JsonWriters {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private JsonWriters() {
+    }
+
+    static SerializedString[] enumNames(Class<? extends Enum<?>> type) {
+        Enum<?>[] constants = type.getEnumConstants();
+        SerializedString[] names = new SerializedString[constants.length];
+        for (Enum<?> constant : constants) {
+            names[constant.ordinal()] = new SerializedString(constant.name());
+        }
+        return names;
+    }
+
+    static void writeString(JsonGenerator gen, SerializableString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    static void writeEnum(JsonGenerator gen, SerializableString name, Enum<?> value, SerializedString[] names) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(names[value.ordinal()]);
+        }
+    }
+
+    static void writeLong(JsonGenerator gen, SerializableString name, Long value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    static void writeUuid(JsonGenerator gen, SerializableString name, UUID value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        long msb = value.getMostSignificantBits();
+        long lsb = value.getLeastSignificantBits();
+        if (gen.canWriteBinaryNatively()) {
+            byte[] bytes = new byte[16];
+            for (int i = 0; i < 8; i++) {
+                bytes[i] = (byte) (msb >>> (56 - 8 * i));
+                bytes[8 + i] = (byte) (lsb >>> (56 - 8 * i));
+            }
+            gen.writeBinary(bytes);
+            return;
+        }
+        char[] buffer = new char[36];
+        hex(buffer, 0, msb >>> 32, 8);
+        buffer[8] = '-';
+        hex(buffer, 9, msb >>> 16, 4);
+        buffer[13] = '-';
+        hex(buffer, 14, msb, 4);
+        buffer[18] = '-';
+        hex(buffer, 19, lsb >>> 48, 4);
+        buffer[23] = '-';
+        hex(buffer, 24, lsb, 12);
+        gen.writeString(buffer, 0, 36);
+    }
+
+    static void writeDateTime(JsonGenerator gen, SerializableString name, LocalDateTime value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            gen.writeString(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            return;
+        }
+        char[] buffer = new char[29];
+        digits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        digits(buffer, 5, value.getMonthValue(), 2);
+        buffer[7] = '-';
+        digits(buffer, 8, value.getDayOfMonth(), 2);
+        buffer[10] = 'T';
+        digits(buffer, 11, value.getHour(), 2);
+        buffer[13] = ':';
+        digits(buffer, 14, value.getMinute(), 2);
+        buffer[16] = ':';
+        digits(buffer, 17, value.getSecond(), 2);
+        int length = 19;
+        int nanos = value.getNano();
+        if (nanos != 0) {
+            // Mesma regra do ISO_LOCAL_TIME: fração com até 9 dígitos, sem zeros à direita
+            buffer[19] = '.';
+            digits(buffer, 20, nanos, 9);
+            length = 29;
+            while (buffer[length - 1] == '0') {
+                length--;
+            }
+        }
+        gen.writeString(buffer, 0, length);
+    }
+
+    private static void hex(char[] buffer, int offset, long value, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            buffer[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    private static void digits(char[] buffer, int offset, int value, int count) {
+        for (int i = count - 1; i >= 0; i--) {
+            buffer[offset + i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
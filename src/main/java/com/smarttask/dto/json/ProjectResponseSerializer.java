@@ -0,0 +1,44 @@
+package com.smarttask.dto.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.smarttask.dto.ProjectResponseDTO;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+import static com.smarttask.dto.json.JsonWriters.writeDateTime;
+import static com.smarttask.dto.json.JsonWriters.writeLong;
+import static com.smarttask.dto.json.JsonWriters.writeString;
+import static com.smarttask.dto.json.JsonWriters.writeUuid;
+
+@JsonComponent
+public class ProjectResponseSerializer extends StdSerializer<ProjectResponseDTO> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString USER_ID = new SerializedString("userId");
+    private static final SerializedString VERSION = new SerializedString("version");
+
+    public ProjectResponseSerializer() {
+        super(ProjectResponseDTO.class);
+    }
+
+    @Override
+    public void serialize(ProjectResponseDTO project, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(project);
+        writeUuid(gen, ID, project.id());
+        writeString(gen, NAME, project.name());
+        writeString(gen, DESCRIPTION, project.description());
+        writeDateTime(gen, CREATED_AT, project.createdAt());
+        writeDateTime(gen, UPDATED_AT, project.updatedAt());
+        writeUuid(gen, USER_ID, project.userId());
+        writeLong(gen, VERSION, project.version());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,60 @@
+package com.smarttask.dto.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.dto.TaskResponseDTO;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+import static com.smarttask.dto.json.JsonWriters.writeDateTime;
+import static com.smarttask.dto.json.JsonWriters.writeEnum;
+import static com.smarttask.dto.json.JsonWriters.writeLong;
+import static com.smarttask.dto.json.JsonWriters.writeString;
+import static com.smarttask.dto.json.JsonWriters.writeUuid;
+
+@JsonComponent
+public class TaskResponseSerializer extends StdSerializer<TaskResponseDTO> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString TITLE = new SerializedString("title");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString PRIORITY = new SerializedString("priority");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString DUE_DATE = new SerializedString("dueDate");
+    private static final SerializedString USER_ID = new SerializedString("userId");
+    private static final SerializedString PROJECT_ID = new SerializedString("projectId");
+    private static final SerializedString PARENT_ID = new SerializedString("parentId");
+    private static final SerializedString VERSION = new SerializedString("version");
+
+    private static final SerializedString[] STATUSES = JsonWriters.enumNames(TaskStatus.class);
+    private static final SerializedString[] PRIORITIES = JsonWriters.enumNames(TaskPriority.class);
+
+    public TaskResponseSerializer() {
+        super(TaskResponseDTO.class);
+    }
+
+    @Override
+    public void serialize(TaskResponseDTO task, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(task);
+        writeUuid(gen, ID, task.id());
+        writeString(gen, TITLE, task.title());
+        writeString(gen, DESCRIPTION, task.description());
+        writeEnum(gen, STATUS, task.status(), STATUSES);
+        writeEnum(gen, PRIORITY, task.priority(), PRIORITIES);
+        writeDateTime(gen, CREATED_AT, task.createdAt());
+        writeDateTime(gen, UPDATED_AT, task.updatedAt());
+        writeDateTime(gen, DUE_DATE, task.dueDate());
+        writeUuid(gen, USER_ID, task.userId());
+        writeUuid(gen, PROJECT_ID, task.projectId());
+        writeUuid(gen, PARENT_ID, task.parentId());
+        writeLong(gen, VERSION, task.version());
+        gen.writeEndObject();
+    }
+}
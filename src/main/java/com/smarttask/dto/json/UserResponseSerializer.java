@@ -0,0 +1,37 @@
+package com.smarttask.dto.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.smarttask.dto.UserResponseDTO;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+import static com.smarttask.dto.json.JsonWriters.writeDateTime;
+import static com.smarttask.dto.json.JsonWriters.writeString;
+import static com.smarttask.dto.json.JsonWriters.writeUuid;
+
+@JsonComponent
+public class UserResponseSerializer extends StdSerializer<UserResponseDTO> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString EMAIL = new SerializedString("email");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+
+    public UserResponseSerializer() {
+        super(UserResponseDTO.class);
+    }
+
+    @Override
+    public void serialize(UserResponseDTO user, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(user);
+        writeUuid(gen, ID, user.id());
+        writeString(gen, NAME, user.name());
+        writeString(gen, EMAIL, user.email());
+        writeDateTime(gen, CREATED_AT, user.createdAt());
+        gen.writeEndObject();
+    }
+}
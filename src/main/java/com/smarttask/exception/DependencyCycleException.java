@@ -0,0 +1,17 @@
+package com.smarttask.exception;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public final class DependencyCycleException extends DomainException {
+
+    /**
+     * @param chain cadeia já existente, de {@code dependsOnId} até {@code taskId}, em que cada
+     *              tarefa depende da seguinte; a nova aresta fecharia o ciclo
+     */
+    public DependencyCycleException(UUID taskId, UUID dependsOnId, List<UUID> chain) {
+        super("A dependência " + taskId + " -> " + dependsOnId + " criaria um ciclo: "
+            + chain.stream().map(UUID::toString).collect(Collectors.joining(" -> ")));
+    }
+}
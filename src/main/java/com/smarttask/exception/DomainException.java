@@ -6,7 +6,8 @@ package com.smarttask.exception;
  */
 public sealed class DomainException extends RuntimeException
     permits UserNotFoundException, TaskNotFoundException, ProjectNotFoundException,
-            EmailAlreadyExistsException, ConcurrentModificationException {
+            EmailAlreadyExistsException, ConcurrentModificationException, TaskArchivedException,
+            DependencyCycleException {
 
     protected DomainException(String message) {
         super(message);
@@ -1,8 +1,11 @@
 package com.smarttask.exception;
 
 import com.smarttask.dto.ErrorResponse;
+import com.smarttask.ratelimit.RateLimitExceededException;
 import jakarta.persistence.OptimisticLockException;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -36,6 +39,12 @@ public class GlobalExceptionHandler {
         } else if (ex instanceof ConcurrentModificationException) {
             status = HttpStatus.CONFLICT;
             errorTitle = "Concurrent Modification";
+        } else if (ex instanceof TaskArchivedException) {
+            status = HttpStatus.CONFLICT;
+            errorTitle = "Conflict";
+        } else if (ex instanceof DependencyCycleException) {
+            status = HttpStatus.CONFLICT;
+            errorTitle = "Conflict";
         } else {
             status = HttpStatus.INTERNAL_SERVER_ERROR;
             errorTitle = "Internal Server Error";
@@ -51,8 +60,9 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, status);
     }
 
-    @ExceptionHandler(OptimisticLockException.class)
-    public ResponseEntity<ErrorResponse> handleOptimisticLock(OptimisticLockException ex, WebRequest request) {
+    // O conflito detectado no commit chega traduzido pelo Spring (ObjectOptimisticLockingFailureException)
+    @ExceptionHandler({OptimisticLockException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<ErrorResponse> handleOptimisticLock(RuntimeException ex, WebRequest request) {
         ErrorResponse error = new ErrorResponse(
             LocalDateTime.now(),
             HttpStatus.CONFLICT.value(),
@@ -63,6 +73,22 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimit(RateLimitExceededException ex, WebRequest request) {
+        ErrorResponse error = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            "Too Many Requests",
+            ex.getMessage(),
+            request.getDescription(false).replace("uri=", "")
+        );
+        // Retry-After em segundos inteiros, arredondado para cima
+        long retryAfterSeconds = Math.max(1L, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+            .body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex, WebRequest request) {
         String errors = ex.getBindingResult()
@@ -0,0 +1,10 @@
+package com.smarttask.exception;
+
+import java.util.UUID;
+
+public final class TaskArchivedException extends DomainException {
+
+    public TaskArchivedException(UUID id) {
+        super("Tarefa arquivada não pode ser alterada: " + id);
+    }
+}
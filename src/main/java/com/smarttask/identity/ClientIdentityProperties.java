@@ -0,0 +1,27 @@
+package com.smarttask.identity;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+
+/**
+ * De onde vem a identidade do cliente usada no rate limit e no read-your-writes da coalescência.
+ *
+ * @param userHeader     header com o usuário já autenticado pelo gateway; só é lido em conexões
+ *                       vindas de {@code trustedProxies}, senão qualquer um escolheria a própria identidade
+ * @param trustedProxies endereços ou faixas CIDR (ex.: {@code 10.0.0.0/8}) dos proxies que autenticam o
+ *                       usuário antes de repassar a requisição; vazio ignora o header e usa o IP de origem
+ */
+@ConfigurationProperties(prefix = "smarttask.client-identity")
+public record ClientIdentityProperties(
+    @DefaultValue("X-User-Id") String userHeader,
+    List<String> trustedProxies
+) {
+
+    public ClientIdentityProperties {
+        trustedProxies = trustedProxies != null
+            ? trustedProxies.stream().filter(proxy -> !proxy.isBlank()).toList()
+            : List.of();
+    }
+}
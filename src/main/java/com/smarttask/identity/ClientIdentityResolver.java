@@ -0,0 +1,99 @@
+package com.smarttask.identity;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.security.Principal;
+import java.util.List;
+
+/**
+ * Resolve quem fez a requisição a partir de fontes em que dá para confiar, em ordem:
+ * o usuário autenticado pelo container, o header de usuário quando a conexão vem de um proxy
+ * confiável e, por fim, o endereço remoto. O header enviado diretamente pelo cliente é ignorado.
+ */
+public class ClientIdentityResolver {
+
+    private final String userHeader;
+    private final List<AddressRange> trustedProxies;
+
+    public ClientIdentityResolver(ClientIdentityProperties properties) {
+        this.userHeader = properties.userHeader();
+        this.trustedProxies = properties.trustedProxies().stream().map(AddressRange::parse).toList();
+    }
+
+    public String resolve(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "user:" + principal.getName();
+        }
+        String remoteAddr = request.getRemoteAddr();
+        if (isTrustedProxy(remoteAddr)) {
+            String user = request.getHeader(userHeader);
+            if (user != null && !user.isBlank()) {
+                return "user:" + user;
+            }
+        }
+        return "ip:" + remoteAddr;
+    }
+
+    private boolean isTrustedProxy(String remoteAddr) {
+        if (trustedProxies.isEmpty() || remoteAddr == null) {
+            return false;
+        }
+        byte[] address;
+        try {
+            // getRemoteAddr é sempre um IP literal: não há resolução de nome aqui
+            address = InetAddress.getByName(remoteAddr).getAddress();
+        } catch (UnknownHostException e) {
+            return false;
+        }
+        for (AddressRange range : trustedProxies) {
+            if (range.contains(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record AddressRange(byte[] network, int prefixLength) {
+
+        static AddressRange parse(String value) {
+            String trimmed = value.trim();
+            int slash = trimmed.indexOf('/');
+            String host = slash < 0 ? trimmed : trimmed.substring(0, slash);
+            if (!host.contains(":") && !host.matches("[0-9.]+")) {
+                throw new IllegalArgumentException("Proxy confiável deve ser um IP ou faixa CIDR: " + value);
+            }
+            byte[] network;
+            try {
+                network = InetAddress.getByName(host).getAddress();
+            } catch (UnknownHostException e) {
+                throw new IllegalArgumentException("Proxy confiável inválido: " + value, e);
+            }
+            int prefixLength = slash < 0 ? network.length * 8 : Integer.parseInt(trimmed.substring(slash + 1));
+            if (prefixLength < 0 || prefixLength > network.length * 8) {
+                throw new IllegalArgumentException("Prefixo CIDR inválido: " + value);
+            }
+            return new AddressRange(network, prefixLength);
+        }
+
+        boolean contains(byte[] address) {
+            if (address.length != network.length) {
+                return false;
+            }
+            int fullBytes = prefixLength / 8;
+            for (int i = 0; i < fullBytes; i++) {
+                if (address[i] != network[i]) {
+                    return false;
+                }
+            }
+            int remainingBits = prefixLength % 8;
+            if (remainingBits == 0) {
+                return true;
+            }
+            int mask = 0xFF << (8 - remainingBits);
+            return (address[fullBytes] & mask) == (network[fullBytes] & mask);
+        }
+    }
+}
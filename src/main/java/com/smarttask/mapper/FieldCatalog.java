@@ -0,0 +1,82 @@
+package com.smarttask.mapper;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Campos de um DTO de resposta que podem ser pedidos via {@code fields=} e o atributo da entidade
+ * de onde cada um vem (ex.: {@code projectId → project.id}, lido da FK sem join).
+ */
+public final class FieldCatalog<E> {
+
+    private final Class<E> entityType;
+    private final Map<String, String> attributes;
+
+    private FieldCatalog(Class<E> entityType, Map<String, String> attributes) {
+        this.entityType = entityType;
+        this.attributes = attributes;
+    }
+
+    public static <E> Builder<E> of(Class<E> entityType) {
+        return new Builder<>(entityType);
+    }
+
+    public Class<E> entityType() {
+        return entityType;
+    }
+
+    public String attributeOf(String field) {
+        return attributes.get(field);
+    }
+
+    /**
+     * Valida os campos pedidos, mantendo a ordem e descartando repetições.
+     *
+     * @throws IllegalArgumentException se algum campo não existir no DTO
+     */
+    public Set<String> resolve(Collection<String> requested) {
+        Set<String> fields = new LinkedHashSet<>();
+        for (String field : requested) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!attributes.containsKey(name)) {
+                throw new IllegalArgumentException(
+                    "Campo desconhecido: " + name + ". Campos disponíveis: " + String.join(", ", attributes.keySet()));
+            }
+            fields.add(name);
+        }
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("Informe ao menos um campo em fields");
+        }
+        return fields;
+    }
+
+    public static final class Builder<E> {
+
+        private final Class<E> entityType;
+        private final Map<String, String> attributes = new LinkedHashMap<>();
+
+        private Builder(Class<E> entityType) {
+            this.entityType = entityType;
+        }
+
+        public Builder<E> field(String name) {
+            return field(name, name);
+        }
+
+        public Builder<E> field(String name, String attribute) {
+            attributes.put(name, attribute);
+            return this;
+        }
+
+        public FieldCatalog<E> build() {
+            return new FieldCatalog<>(entityType, Collections.unmodifiableMap(new LinkedHashMap<>(attributes)));
+        }
+    }
+}
@@ -7,6 +7,16 @@ import com.smarttask.dto.UpdateProjectDTO;
 
 public class ProjectMapper {
 
+    public static final FieldCatalog<Project> FIELDS = FieldCatalog.of(Project.class)
+        .field("id")
+        .field("name")
+        .field("description")
+        .field("createdAt")
+        .field("updatedAt")
+        .field("userId", "user.id")
+        .field("version")
+        .build();
+
     public static ProjectResponseDTO toDTO(Project project) {
         return new ProjectResponseDTO(
             project.getId(),
@@ -1,5 +1,6 @@
 package com.smarttask.mapper;
 
+import com.smarttask.domain.entity.ArchivedTask;
 import com.smarttask.domain.entity.Task;
 import com.smarttask.dto.CreateTaskDTO;
 import com.smarttask.dto.TaskResponseDTO;
@@ -7,6 +8,21 @@ import com.smarttask.dto.UpdateTaskDTO;
 
 public class TaskMapper {
 
+    public static final FieldCatalog<Task> FIELDS = FieldCatalog.of(Task.class)
+        .field("id")
+        .field("title")
+        .field("description")
+        .field("status")
+        .field("priority")
+        .field("createdAt")
+        .field("updatedAt")
+        .field("dueDate")
+        .field("userId", "user.id")
+        .field("projectId", "project.id")
+        .field("parentId", "parent.id")
+        .field("version")
+        .build();
+
     public static TaskResponseDTO toDTO(Task task) {
         return new TaskResponseDTO(
             task.getId(),
@@ -19,6 +35,24 @@ public class TaskMapper {
             task.getDueDate(),
             task.getUser() != null ? task.getUser().getId() : null,
             task.getProject() != null ? task.getProject().getId() : null,
+            task.getParent() != null ? task.getParent().getId() : null,
+            task.getVersion()
+        );
+    }
+
+    public static TaskResponseDTO toDTO(ArchivedTask task) {
+        return new TaskResponseDTO(
+            task.getId(),
+            task.getTitle(),
+            task.getDescription(),
+            task.getStatus(),
+            task.getPriority(),
+            task.getCreatedAt(),
+            task.getUpdatedAt(),
+            task.getDueDate(),
+            task.getUserId(),
+            task.getProjectId(),
+            task.getParentId(),
             task.getVersion()
         );
     }
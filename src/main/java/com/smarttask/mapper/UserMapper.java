@@ -7,6 +7,13 @@ import com.smarttask.dto.UserResponseDTO;
 
 public class UserMapper {
 
+    public static final FieldCatalog<User> FIELDS = FieldCatalog.of(User.class)
+        .field("id")
+        .field("name")
+        .field("email")
+        .field("createdAt")
+        .build();
+
     public static UserResponseDTO toDTO(User user) {
         return new UserResponseDTO(
             user.getId(),
@@ -0,0 +1,131 @@
+package com.smarttask.observability;
+
+import com.smarttask.observability.jdbc.InstrumentedDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Roda {@code EXPLAIN (ANALYZE, BUFFERS)} dos statements lentos amostrados, em segundo plano, e
+ * anexa o plano ao {@link SlowQueryLog}. Leituras com lock ({@code FOR UPDATE} e afins) ganham só o
+ * {@code EXPLAIN}, que não executa a consulta. Só no PostgreSQL; nas demais bases não faz nada.
+ *
+ * <p>O EXPLAIN ANALYZE executa a consulta de novo: uma de cada vez, numa thread própria, com fila
+ * curta (o excedente é descartado), {@code statement_timeout} e rollback ao final. A conexão vem do
+ * DataSource sem instrumentação, para que o próprio EXPLAIN não entre nas contagens nem seja
+ * capturado como lento. Com réplicas de leitura, vai ao primário.</p>
+ */
+public class ExecutionPlanSampler implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionPlanSampler.class);
+    private static final int QUEUE_CAPACITY = 4;
+
+    private final ObjectProvider<DataSource> dataSourceProvider;
+    private final SlowQueryLog slowQueryLog;
+    private final SlowQueryProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private volatile Boolean postgres;
+
+    public ExecutionPlanSampler(ObjectProvider<DataSource> dataSourceProvider, SlowQueryLog slowQueryLog,
+                                SlowQueryProperties properties, MeterRegistry meterRegistry) {
+        this.dataSourceProvider = dataSourceProvider;
+        this.slowQueryLog = slowQueryLog;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "slow-query-explain");
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    /**
+     * Agenda o EXPLAIN; {@code parameters} não pode mais mudar depois da chamada.
+     *
+     * @param analyze executa a consulta ({@code EXPLAIN ANALYZE}); desligado, só estima o plano
+     */
+    public void submit(long id, String sql, List<Object> parameters, boolean analyze) {
+        if (Boolean.FALSE.equals(postgres)) {
+            return;
+        }
+        try {
+            executor.execute(() -> explain(id, sql, parameters, analyze));
+        } catch (RejectedExecutionException e) {
+            count("dropped");
+        }
+    }
+
+    private void explain(long id, String sql, List<Object> parameters, boolean analyze) {
+        DataSource dataSource = dataSourceProvider.getObject();
+        if (dataSource instanceof InstrumentedDataSource instrumented) {
+            dataSource = instrumented.getTargetDataSource();
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            if (postgres == null) {
+                postgres = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgresql");
+            }
+            if (!postgres) {
+                return;
+            }
+            String plan = explain(connection, sql, parameters, analyze);
+            slowQueryLog.attachPlan(id, plan);
+            log.warn("Plano do statement lento #{}:\n{}", id, plan);
+            count("success");
+        } catch (SQLException | RuntimeException e) {
+            log.warn("EXPLAIN do statement lento #{} falhou: {}", id, e.getMessage());
+            count("failure");
+        }
+    }
+
+    private String explain(Connection connection, String sql, List<Object> parameters, boolean analyze)
+            throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET LOCAL statement_timeout = " + properties.explainTimeout().toMillis());
+            }
+            try (PreparedStatement explain = connection.prepareStatement(
+                    (analyze ? "EXPLAIN (ANALYZE, BUFFERS) " : "EXPLAIN ") + sql)) {
+                for (int i = 0; i < parameters.size(); i++) {
+                    explain.setObject(i + 1, parameters.get(i));
+                }
+                StringJoiner plan = new StringJoiner("\n");
+                try (ResultSet rows = explain.executeQuery()) {
+                    while (rows.next()) {
+                        plan.add(rows.getString(1));
+                    }
+                }
+                return plan.toString();
+            }
+        } finally {
+            connection.rollback();
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private void count(String outcome) {
+        meterRegistry.counter("smarttask.sql.slow_query_plans", "outcome", outcome).increment();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
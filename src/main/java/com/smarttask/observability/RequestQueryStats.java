@@ -0,0 +1,50 @@
+package com.smarttask.observability;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contadores de acesso ao banco acumulados durante uma requisição HTTP.
+ * Os contadores são thread-safe para que tarefas disparadas pela requisição em outras threads
+ * possam somar na mesma instância (basta propagar o valor de {@link #current()}).
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder dbNanos = new LongAdder();
+
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void bind(RequestQueryStats stats) {
+        if (stats == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(stats);
+        }
+    }
+
+    void recordStatement(long elapsedNanos) {
+        statements.increment();
+        dbNanos.add(elapsedNanos);
+    }
+
+    void recordRow() {
+        rows.increment();
+    }
+
+    public long statements() {
+        return statements.sum();
+    }
+
+    public long rows() {
+        return rows.sum();
+    }
+
+    public long dbNanos() {
+        return dbNanos.sum();
+    }
+}
@@ -0,0 +1,26 @@
+package com.smarttask.observability;
+
+import com.smarttask.observability.jdbc.JdbcExecutionListener;
+import com.smarttask.observability.jdbc.StatementExecution;
+
+/**
+ * Soma cada statement e linha lida nos contadores da requisição corrente, se houver uma.
+ */
+public class RequestQueryStatsListener implements JdbcExecutionListener {
+
+    @Override
+    public void afterExecute(StatementExecution execution) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.recordStatement(execution.elapsedNanos());
+        }
+    }
+
+    @Override
+    public void afterRowFetched() {
+        RequestQueryStats stats = RequestQueryStats.current();
+        if (stats != null) {
+            stats.recordRow();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.smarttask.observability;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Um statement que passou de {@link SlowQueryProperties#threshold()}.
+ *
+ * @param caller   método de repositório que disparou o statement ({@code TaskRepository.findByUserIdAndStatus}),
+ *                 ou o primeiro método da aplicação na pilha quando não há repositório (flush no commit)
+ * @param endpoint "MÉTODO padrão" da requisição HTTP, ou {@code null} fora de uma
+ * @param plan     saída do {@code EXPLAIN (ANALYZE, BUFFERS)}, quando amostrado; chega depois do registro
+ */
+public record SlowQuery(
+    long id,
+    LocalDateTime at,
+    long elapsedMillis,
+    String sql,
+    List<String> parameters,
+    boolean success,
+    String caller,
+    String endpoint,
+    String thread,
+    String plan
+) {
+
+    SlowQuery withPlan(String plan) {
+        return new SlowQuery(id, at, elapsedMillis, sql, parameters, success, caller, endpoint, thread, plan);
+    }
+}
@@ -0,0 +1,169 @@
+package com.smarttask.observability;
+
+import com.smarttask.observability.jdbc.JdbcExecutionListener;
+import com.smarttask.observability.jdbc.StatementExecution;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Proxy;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Registra no {@link SlowQueryLog} (e no log da aplicação) os statements acima do limite, com os
+ * valores ligados, o método de repositório que os disparou e o endpoint HTTP da requisição.
+ *
+ * <p>No caminho rápido o custo é só a comparação com o limite (e a cópia das referências dos valores
+ * ligados, feita pelo proxy JDBC). Pilha, requisição e formatação só são consultadas para os lentos,
+ * ainda na thread que executou o statement. Parte dos SELECTs lentos vai para o
+ * {@link ExecutionPlanSampler}.</p>
+ */
+public class SlowQueryListener implements JdbcExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryListener.class);
+    private static final StackWalker STACK = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final String APPLICATION_PACKAGE = "com.smarttask.";
+    private static final String REPOSITORY_PACKAGE = "com.smarttask.repository";
+    private static final String OBSERVABILITY_PACKAGE = "com.smarttask.observability";
+    private static final Pattern LOCKING_CLAUSE = Pattern.compile(
+        "\\bfor\\s+(update|share|no\\s+key\\s+update|key\\s+share)\\b", Pattern.CASE_INSENSITIVE);
+
+    private final SlowQueryProperties properties;
+    private final SlowQueryLog slowQueryLog;
+    private final ExecutionPlanSampler planSampler;
+    private final long thresholdNanos;
+    private final AtomicLong sequence = new AtomicLong();
+    private final Counter slowQueries;
+
+    public SlowQueryListener(SlowQueryProperties properties, SlowQueryLog slowQueryLog, ExecutionPlanSampler planSampler,
+                             MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.slowQueryLog = slowQueryLog;
+        this.planSampler = planSampler;
+        this.thresholdNanos = properties.threshold().toNanos();
+        this.slowQueries = Counter.builder("smarttask.sql.slow_queries")
+            .description("Statements acima de smarttask.slow-query.threshold")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public boolean capturesParameters() {
+        return true;
+    }
+
+    @Override
+    public void afterExecute(StatementExecution execution) {
+        if (execution.elapsedNanos() < thresholdNanos || execution.sql() == null) {
+            return;
+        }
+        slowQueries.increment();
+        List<String> parameters = new ArrayList<>(execution.parameters().size());
+        for (Object parameter : execution.parameters()) {
+            parameters.add(format(parameter));
+        }
+        SlowQuery query = new SlowQuery(sequence.incrementAndGet(), LocalDateTime.now(),
+            TimeUnit.NANOSECONDS.toMillis(execution.elapsedNanos()), truncate(execution.sql(), properties.maxSqlLength()),
+            parameters, execution.success(), caller(), endpoint(), Thread.currentThread().getName(), null);
+        slowQueryLog.add(query);
+        log.warn("Statement lento ({} ms) em {} via {}: {} {}", query.elapsedMillis(), query.endpoint(), query.caller(),
+            query.sql(), query.parameters());
+
+        if (execution.success() && !execution.batch() && isSelect(execution.sql())
+                && ThreadLocalRandom.current().nextDouble() < properties.explainSampleRate()) {
+            // Reexecutar uma leitura com lock travaria de novo as linhas, agora fora da transação original
+            planSampler.submit(query.id(), execution.sql(), new ArrayList<>(execution.parameters()),
+                !isLockingRead(execution.sql()));
+        }
+    }
+
+    /**
+     * Método de repositório mais externo acima do primeiro método da aplicação na pilha: para uma
+     * chamada a {@code taskRepository.findByUserIdAndStatus(...)}, o frame do proxy do Spring Data, que
+     * implementa {@code TaskRepository}. Sem repositório (flush no commit, JdbcTemplate), o próprio
+     * método da aplicação.
+     */
+    static String caller() {
+        return STACK.walk(frames -> {
+            String repository = null;
+            for (StackWalker.StackFrame frame : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                Class<?> type = frame.getDeclaringClass();
+                if (Proxy.isProxyClass(type)) {
+                    for (Class<?> contract : type.getInterfaces()) {
+                        if (contract.getPackageName().equals(REPOSITORY_PACKAGE)) {
+                            repository = contract.getSimpleName() + "." + frame.getMethodName();
+                        }
+                    }
+                } else if (type.getPackageName().equals(REPOSITORY_PACKAGE)) {
+                    repository = userClassName(type) + "." + frame.getMethodName();
+                } else if (type.getName().startsWith(APPLICATION_PACKAGE) && !type.getPackageName().startsWith(OBSERVABILITY_PACKAGE)) {
+                    return repository != null ? repository : userClassName(type) + "." + frame.getMethodName();
+                }
+            }
+            return repository;
+        });
+    }
+
+    private static String endpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servlet)) {
+            return null;
+        }
+        HttpServletRequest request = servlet.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI());
+    }
+
+    // TaskService$$SpringCGLIB$$0 -> TaskService
+    private static String userClassName(Class<?> type) {
+        String name = type.getSimpleName();
+        int generated = name.indexOf("$$");
+        return generated > 0 ? name.substring(0, generated) : name;
+    }
+
+    private String format(Object value) {
+        if (value == null) {
+            return "NULL";
+        }
+        if (!properties.includeParameters()) {
+            return "<" + value.getClass().getSimpleName() + ">";
+        }
+        if (value instanceof byte[] bytes) {
+            return "<" + bytes.length + " bytes>";
+        }
+        if (value instanceof InputStream || value instanceof Reader || value instanceof Blob || value instanceof Clob) {
+            return "<" + value.getClass().getSimpleName() + ">";
+        }
+        return truncate(String.valueOf(value), properties.maxParameterLength());
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() <= maxLength ? value : value.substring(0, maxLength) + "...";
+    }
+
+    // EXPLAIN ANALYZE executa o statement: só consultas, nunca escritas
+    private static boolean isSelect(String sql) {
+        String trimmed = sql.stripLeading();
+        return trimmed.length() >= 6 && trimmed.substring(0, 6).toLowerCase(Locale.ROOT).equals("select");
+    }
+
+    static boolean isLockingRead(String sql) {
+        return LOCKING_CLAUSE.matcher(sql).find();
+    }
+}
@@ -0,0 +1,51 @@
+package com.smarttask.observability;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Os últimos {@link SlowQueryProperties#capacity()} statements lentos, num buffer circular.
+ * Escritas são raras (só statements lentos), então um lock simples basta.
+ */
+public class SlowQueryLog {
+
+    private final SlowQuery[] entries;
+    private long written;
+
+    public SlowQueryLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("smarttask.slow-query.capacity deve ser positivo");
+        }
+        this.entries = new SlowQuery[capacity];
+    }
+
+    public synchronized void add(SlowQuery query) {
+        entries[(int) (written++ % entries.length)] = query;
+    }
+
+    /** Anexa o plano, se o statement ainda estiver no buffer. */
+    public synchronized void attachPlan(long id, String plan) {
+        for (int i = 0; i < entries.length; i++) {
+            if (entries[i] != null && entries[i].id() == id) {
+                entries[i] = entries[i].withPlan(plan);
+                return;
+            }
+        }
+    }
+
+    /** Do mais recente ao mais antigo. */
+    public synchronized List<SlowQuery> recent() {
+        int size = (int) Math.min(written, entries.length);
+        List<SlowQuery> recent = new ArrayList<>(size);
+        for (long i = written - 1; i >= written - size; i--) {
+            recent.add(entries[(int) (i % entries.length)]);
+        }
+        return recent;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(entries, null);
+        written = 0;
+    }
+}
@@ -0,0 +1,34 @@
+package com.smarttask.observability;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Captura de statements lentos.
+ *
+ * @param enabled            liga a captura; com ela os valores ligados aos prepared statements passam a ser
+ *                           guardados pelo proxy JDBC, para o EXPLAIN
+ * @param threshold          duração a partir da qual um statement é registrado
+ * @param capacity           statements mantidos em memória; os mais antigos saem primeiro
+ * @param explainSampleRate  fração dos SELECTs lentos que ganham {@code EXPLAIN (ANALYZE, BUFFERS)}, só no PostgreSQL;
+ *                           0 desliga. O EXPLAIN ANALYZE executa a consulta de novo, numa conexão à parte;
+ *                           leituras com {@code FOR UPDATE}/{@code FOR SHARE} ganham só o EXPLAIN, sem executar
+ * @param explainTimeout     {@code statement_timeout} do EXPLAIN
+ * @param maxSqlLength       caracteres do SQL guardados
+ * @param includeParameters  mostra os valores ligados no log e no endpoint; desligado, aparece só o tipo de cada um,
+ *                           já que os valores podem trazer dados pessoais
+ * @param maxParameterLength caracteres guardados de cada valor ligado
+ */
+@ConfigurationProperties(prefix = "smarttask.slow-query")
+public record SlowQueryProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("500ms") Duration threshold,
+    @DefaultValue("200") int capacity,
+    @DefaultValue("0.1") double explainSampleRate,
+    @DefaultValue("10s") Duration explainTimeout,
+    @DefaultValue("4000") int maxSqlLength,
+    @DefaultValue("false") boolean includeParameters,
+    @DefaultValue("200") int maxParameterLength
+) {}
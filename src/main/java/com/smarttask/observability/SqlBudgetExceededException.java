@@ -0,0 +1,12 @@
+package com.smarttask.observability;
+
+/**
+ * Lançada pelo {@link SqlBudgetFilter} quando {@code smarttask.sql-budget.fail-on-violation} está ativo
+ * e uma requisição executa mais statements que o orçamento do endpoint.
+ */
+public class SqlBudgetExceededException extends IllegalStateException {
+
+    public SqlBudgetExceededException(String endpoint, long statements, int budget) {
+        super("Endpoint " + endpoint + " executou " + statements + " statements SQL (orçamento: " + budget + ")");
+    }
+}
@@ -0,0 +1,88 @@
+package com.smarttask.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Abre um {@link RequestQueryStats} por requisição, publica histogramas de statements, linhas e
+ * tempo de banco por endpoint e confere o orçamento de statements configurado.
+ */
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetFilter.class);
+
+    private final SqlBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public SqlBudgetFilter(SqlBudgetProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestQueryStats stats = new RequestQueryStats();
+        // Com headers expostos o corpo fica em buffer, senão a resposta já estaria commitada ao final
+        ContentCachingResponseWrapper cachingResponse = properties.exposeHeaders()
+            ? new ContentCachingResponseWrapper(response) : null;
+        RequestQueryStats.bind(stats);
+        try {
+            chain.doFilter(request, cachingResponse != null ? cachingResponse : response);
+        } finally {
+            RequestQueryStats.bind(null);
+        }
+        if (cachingResponse != null) {
+            cachingResponse.setHeader("X-Sql-Statements", String.valueOf(stats.statements()));
+            cachingResponse.setHeader("X-Sql-Rows", String.valueOf(stats.rows()));
+            cachingResponse.setHeader("X-Sql-Time-Micros", String.valueOf(TimeUnit.NANOSECONDS.toMicros(stats.dbNanos())));
+            cachingResponse.copyBodyToResponse();
+        }
+        record(request, stats);
+    }
+
+    private void record(HttpServletRequest request, RequestQueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String endpoint = request.getMethod() + " " + uri;
+
+        DistributionSummary.builder("smarttask.sql.statements")
+            .description("Statements SQL executados por requisição")
+            .tags("method", request.getMethod(), "uri", uri)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(stats.statements());
+        DistributionSummary.builder("smarttask.sql.rows")
+            .description("Linhas lidas do banco por requisição")
+            .tags("method", request.getMethod(), "uri", uri)
+            .register(meterRegistry)
+            .record(stats.rows());
+        Timer.builder("smarttask.sql.time")
+            .description("Tempo gasto em execução de statements por requisição")
+            .tags("method", request.getMethod(), "uri", uri)
+            .register(meterRegistry)
+            .record(stats.dbNanos(), TimeUnit.NANOSECONDS);
+
+        int budget = properties.budgetFor(endpoint);
+        if (stats.statements() > budget) {
+            if (properties.failOnViolation()) {
+                throw new SqlBudgetExceededException(endpoint, stats.statements(), budget);
+            }
+            log.warn("Orçamento de SQL excedido em {}: {} statements (orçamento {}), {} linhas, {} ms de banco",
+                endpoint, stats.statements(), budget, stats.rows(), TimeUnit.NANOSECONDS.toMillis(stats.dbNanos()));
+        }
+    }
+}
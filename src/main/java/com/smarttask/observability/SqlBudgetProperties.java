@@ -0,0 +1,28 @@
+package com.smarttask.observability;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * Orçamento de statements SQL por requisição.
+ *
+ * @param maxStatements    limite padrão aplicado a todos os endpoints
+ * @param endpoints        limites específicos, indexados por "MÉTODO padrão", ex.: {@code "[GET /api/v1/tasks/project/{projectId}]": 2}
+ * @param failOnViolation  lança {@link SqlBudgetExceededException} em vez de apenas logar (uso em testes)
+ * @param exposeHeaders    devolve os contadores nos headers {@code X-Sql-*} da resposta
+ */
+@ConfigurationProperties(prefix = "smarttask.sql-budget")
+public record SqlBudgetProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("10") int maxStatements,
+    Map<String, Integer> endpoints,
+    @DefaultValue("false") boolean failOnViolation,
+    @DefaultValue("false") boolean exposeHeaders
+) {
+
+    public int budgetFor(String endpoint) {
+        return endpoints != null ? endpoints.getOrDefault(endpoint, maxStatements) : maxStatements;
+    }
+}
@@ -0,0 +1,193 @@
+package com.smarttask.observability.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * DataSource que devolve conexões instrumentadas: cada execução de statement e cada linha lida
+ * de um ResultSet são repassadas aos {@link JdbcExecutionListener}s. Os valores passados aos
+ * {@code set*} dos prepared statements só são guardados se algum listener pedir
+ * ({@link JdbcExecutionListener#capturesParameters()}).
+ * Estende {@link DelegatingDataSource} para que {@code unwrap} continue chegando ao pool (Hikari).
+ */
+public class InstrumentedDataSource extends DelegatingDataSource {
+
+    private final Supplier<List<JdbcExecutionListener>> listeners;
+    private final Supplier<Boolean> captureParameters;
+
+    public InstrumentedDataSource(DataSource target, Supplier<List<JdbcExecutionListener>> listeners) {
+        super(target);
+        this.listeners = listeners;
+        this.captureParameters = SingletonSupplier.of(
+            () -> listeners.get().stream().anyMatch(JdbcExecutionListener::capturesParameters));
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection(username, password)));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        // Identidade do proxy, e não do objeto real, para não confundir quem compara conexões
+        if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+            return args[0] != null && Proxy.isProxyClass(args[0].getClass())
+                && Proxy.getInvocationHandler(args[0]) instanceof TargetAware other && other.target() == target;
+        }
+        if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+            return System.identityHashCode(target);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    private interface TargetAware extends InvocationHandler {
+
+        Object target();
+    }
+
+    private final class ConnectionHandler implements TargetAware {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object target() {
+            return target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "createStatement" -> proxy(Statement.class, new StatementHandler((Statement) result, null));
+                case "prepareStatement" -> proxy(PreparedStatement.class, new StatementHandler((Statement) result, (String) args[0]));
+                case "prepareCall" -> proxy(CallableStatement.class, new StatementHandler((Statement) result, (String) args[0]));
+                default -> result;
+            };
+        }
+    }
+
+    private final class StatementHandler implements TargetAware {
+
+        private final Statement target;
+        private final String preparedSql;
+        private final List<Object> parameters;
+
+        StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.parameters = preparedSql != null && captureParameters.get() ? new ArrayList<>() : null;
+        }
+
+        @Override
+        public Object target() {
+            return target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (parameters != null) {
+                capture(method, args);
+            }
+            if (!name.startsWith("execute")) {
+                Object result = InstrumentedDataSource.invoke(target, method, args);
+                return result instanceof ResultSet resultSet && !name.equals("unwrap") ? wrap(resultSet) : result;
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            boolean batch = name.startsWith("executeBatch") || name.startsWith("executeLargeBatch");
+            long start = System.nanoTime();
+            boolean success = false;
+            try {
+                Object result = InstrumentedDataSource.invoke(target, method, args);
+                success = true;
+                return result instanceof ResultSet resultSet ? wrap(resultSet) : result;
+            } finally {
+                // Em batches os valores correntes são só os da última linha: não dizem nada sobre o lote
+                List<Object> bound = parameters == null || batch || !sql.equals(preparedSql)
+                    ? List.of() : Collections.unmodifiableList(parameters);
+                StatementExecution execution = new StatementExecution(sql, System.nanoTime() - start, success, batch, bound);
+                for (JdbcExecutionListener listener : listeners.get()) {
+                    listener.afterExecute(execution);
+                }
+            }
+        }
+
+        private ResultSet wrap(ResultSet resultSet) {
+            return proxy(ResultSet.class, new ResultSetHandler(resultSet));
+        }
+
+        // setXxx(índice, valor, ...) dos prepared statements; setNull guarda null, não o tipo SQL
+        private void capture(Method method, Object[] args) {
+            String name = method.getName();
+            if (name.equals("clearParameters")) {
+                parameters.clear();
+                return;
+            }
+            if (!name.startsWith("set") || args == null || args.length < 2 || !(args[0] instanceof Integer index)) {
+                return;
+            }
+            while (parameters.size() < index) {
+                parameters.add(null);
+            }
+            parameters.set(index - 1, name.equals("setNull") ? null : args[1]);
+        }
+    }
+
+    private final class ResultSetHandler implements TargetAware {
+
+        private final ResultSet target;
+
+        ResultSetHandler(ResultSet target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object target() {
+            return target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = InstrumentedDataSource.invoke(target, method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                for (JdbcExecutionListener listener : listeners.get()) {
+                    listener.afterRowFetched();
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.smarttask.observability.jdbc;
+
+/**
+ * Callback notificado pelos proxies JDBC. As implementações rodam na thread que executa o
+ * statement, no caminho crítico da query, e por isso devem ser baratas.
+ */
+public interface JdbcExecutionListener {
+
+    void afterExecute(StatementExecution execution);
+
+    default void afterRowFetched() {
+    }
+
+    /** Se os valores ligados aos prepared statements devem ser guardados para {@link StatementExecution#parameters()}. */
+    default boolean capturesParameters() {
+        return false;
+    }
+}
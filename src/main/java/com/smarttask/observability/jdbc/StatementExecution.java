@@ -0,0 +1,18 @@
+package com.smarttask.observability.jdbc;
+
+import java.util.List;
+
+/**
+ * Dados de uma execução de statement JDBC interceptada pelo {@link InstrumentedDataSource}.
+ * Em batches, {@code sql} é o SQL do prepared statement e a execução conta como um único round trip.
+ * {@code parameters} traz os valores ligados, por posição, quando algum listener os pede; fica
+ * vazio em batches e em statements sem parâmetros. A lista é do statement e continua mudando
+ * depois do callback: quem precisar dela mais tarde deve copiá-la.
+ */
+public record StatementExecution(
+    String sql,
+    long elapsedNanos,
+    boolean success,
+    boolean batch,
+    List<Object> parameters
+) {}
@@ -0,0 +1,69 @@
+package com.smarttask.ratelimit;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Recusa requisições enquanto há threads na fila do pool de conexões do primário, em vez de
+ * deixá-las esperar até o {@code connectionTimeout}. Operações em lote são as primeiras a sair:
+ * qualquer fila com o pool todo ocupado basta; as demais só a partir de {@code maxPendingConnections}.
+ */
+public class ConnectionPoolLoadShedder {
+
+    private final DataSource dataSource;
+    private final RateLimitProperties.Shedding shedding;
+    private volatile HikariPoolMXBean pool;
+
+    public ConnectionPoolLoadShedder(DataSource dataSource, RateLimitProperties.Shedding shedding) {
+        this.dataSource = dataSource;
+        this.shedding = shedding;
+    }
+
+    /**
+     * @return {@link Duration#ZERO} se a requisição pode seguir, ou o {@code Retry-After} sugerido
+     */
+    public Duration check(RequestCategory category) {
+        HikariPoolMXBean mxBean = pool();
+        if (!shedding.enabled() || mxBean == null) {
+            return Duration.ZERO;
+        }
+        int pending = mxBean.getThreadsAwaitingConnection();
+        if (pending == 0) {
+            return Duration.ZERO;
+        }
+        boolean saturated = mxBean.getIdleConnections() == 0;
+        boolean shed = pending >= shedding.maxPendingConnections()
+            || (category == RequestCategory.BULK && saturated);
+        if (!shed) {
+            return Duration.ZERO;
+        }
+        // Fila maior que o pool → o cliente espera proporcionalmente mais antes de tentar de novo
+        int total = Math.max(1, mxBean.getTotalConnections());
+        return shedding.retryAfter().multipliedBy(1 + pending / total);
+    }
+
+    public int pendingConnections() {
+        HikariPoolMXBean mxBean = pool();
+        return mxBean != null ? mxBean.getThreadsAwaitingConnection() : 0;
+    }
+
+    // O MXBean só existe depois que o pool foi iniciado pela primeira conexão
+    private HikariPoolMXBean pool() {
+        HikariPoolMXBean mxBean = pool;
+        if (mxBean == null) {
+            try {
+                if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                    mxBean = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+                    pool = mxBean;
+                }
+            } catch (SQLException ex) {
+                return null;
+            }
+        }
+        return mxBean;
+    }
+}
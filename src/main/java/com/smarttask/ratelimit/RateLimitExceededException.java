@@ -0,0 +1,20 @@
+package com.smarttask.ratelimit;
+
+import java.time.Duration;
+
+/**
+ * Requisição recusada pelo controle de admissão; vira 429 com {@code Retry-After}.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
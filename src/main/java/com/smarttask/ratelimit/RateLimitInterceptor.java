@@ -0,0 +1,80 @@
+package com.smarttask.ratelimit;
+
+import com.smarttask.identity.ClientIdentityResolver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Aplica o descarte de carga e o token bucket antes de a requisição chegar ao controller.
+ * A recusa é lançada como {@link RateLimitExceededException} e tratada pelo {@code GlobalExceptionHandler}.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+    private final ConnectionPoolLoadShedder loadShedder;
+    private final ClientIdentityResolver clientIdentity;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitInterceptor(RateLimitProperties properties, RateLimiter rateLimiter,
+                                ConnectionPoolLoadShedder loadShedder, ClientIdentityResolver clientIdentity,
+                                MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.rateLimiter = rateLimiter;
+        this.loadShedder = loadShedder;
+        this.clientIdentity = clientIdentity;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return true;
+        }
+        String endpoint = request.getMethod() + " " + pattern;
+        RequestCategory category = categoryOf(request.getMethod(), endpoint);
+
+        Duration shedFor = loadShedder.check(category);
+        if (!shedFor.isZero()) {
+            rejected("overload", category).increment();
+            throw new RateLimitExceededException(
+                "Servidor sobrecarregado. Tente novamente em alguns instantes.", shedFor);
+        }
+
+        long waitNanos = rateLimiter.tryAcquire(clientIdentity.resolve(request), endpoint, category);
+        if (waitNanos > 0) {
+            rejected("rate_limit", category).increment();
+            throw new RateLimitExceededException(
+                "Limite de requisições excedido para " + endpoint + ".", Duration.ofNanos(waitNanos));
+        }
+        return true;
+    }
+
+    private RequestCategory categoryOf(String method, String endpoint) {
+        if (properties.bulkEndpoints().contains(endpoint)) {
+            return RequestCategory.BULK;
+        }
+        if (properties.readEndpoints().contains(endpoint)) {
+            return RequestCategory.READ;
+        }
+        return SAFE_METHODS.contains(method) ? RequestCategory.READ : RequestCategory.WRITE;
+    }
+
+    private Counter rejected(String reason, RequestCategory category) {
+        return Counter.builder("smarttask.ratelimit.rejected")
+            .description("Requisições recusadas com 429")
+            .tag("reason", reason)
+            .tag("category", category.name().toLowerCase())
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,76 @@
+package com.smarttask.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controle de admissão por usuário e por endpoint. O cliente vem do
+ * {@link com.smarttask.identity.ClientIdentityResolver}.
+ *
+ * @param read              orçamento padrão para GET/HEAD
+ * @param write             orçamento padrão para POST/PUT/PATCH/DELETE
+ * @param bulk              orçamento das operações em lote listadas em {@code bulkEndpoints}
+ * @param bulkEndpoints     endpoints tratados como lote, no formato "MÉTODO padrão"
+ * @param readEndpoints     endpoints POST que só leem (ex.: buscas com corpo) e usam o orçamento de leitura
+ * @param endpoints         orçamentos específicos, indexados por "MÉTODO padrão"
+ * @param maxTrackedBuckets buckets individuais em memória; acima disso, clientes novos dividem um bucket por endpoint
+ * @param sweepInterval     intervalo da varredura que descarta os buckets já cheios
+ * @param shedding          descarte de carga quando o pool de conexões satura
+ */
+@ConfigurationProperties(prefix = "smarttask.rate-limit")
+public record RateLimitProperties(
+    @DefaultValue("true") boolean enabled,
+    Budget read,
+    Budget write,
+    Budget bulk,
+    List<String> bulkEndpoints,
+    List<String> readEndpoints,
+    Map<String, Budget> endpoints,
+    @DefaultValue("100000") int maxTrackedBuckets,
+    @DefaultValue("30s") Duration sweepInterval,
+    @DefaultValue Shedding shedding
+) {
+
+    public RateLimitProperties {
+        read = read != null ? read : new Budget(200, 100);
+        write = write != null ? write : new Budget(50, 20);
+        bulk = bulk != null ? bulk : new Budget(5, 1);
+        bulkEndpoints = bulkEndpoints != null ? List.copyOf(bulkEndpoints) : List.of();
+        readEndpoints = readEndpoints != null ? List.copyOf(readEndpoints) : List.of();
+        endpoints = endpoints != null ? Map.copyOf(endpoints) : Map.of();
+    }
+
+    public Budget budgetFor(String endpoint, RequestCategory category) {
+        Budget specific = endpoints.get(endpoint);
+        if (specific != null) {
+            return specific;
+        }
+        return switch (category) {
+            case READ -> read;
+            case WRITE -> write;
+            case BULK -> bulk;
+        };
+    }
+
+    /**
+     * @param capacity        rajada máxima (tokens no bucket cheio)
+     * @param refillPerSecond tokens repostos por segundo
+     */
+    public record Budget(int capacity, double refillPerSecond) {}
+
+    /**
+     * @param enabled               liga o descarte adaptativo de carga
+     * @param maxPendingConnections threads aguardando conexão a partir das quais todas as requisições são recusadas;
+     *                              operações em lote já são recusadas com qualquer fila
+     * @param retryAfter            base do {@code Retry-After}, escalada pelo tamanho da fila
+     */
+    public record Shedding(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10") int maxPendingConnections,
+        @DefaultValue("1s") Duration retryAfter
+    ) {}
+}
@@ -0,0 +1,71 @@
+package com.smarttask.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mantém um {@link TokenBucket} por cliente e endpoint. Buckets são criados sob demanda e uma thread
+ * de fundo descarta, a cada {@code sweepInterval}, os que já voltaram a ficar cheios. Com o mapa em
+ * {@code maxTrackedBuckets}, clientes novos dividem um bucket por endpoint até a próxima varredura:
+ * o mapa não cresce além do limite e inventar identidades não escapa do limite.
+ */
+public class RateLimiter implements AutoCloseable {
+
+    private static final String OVERFLOW_CLIENT = "*";
+
+    private final RateLimitProperties properties;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> overflow = new ConcurrentHashMap<>();
+    private final ScheduledThreadPoolExecutor sweeper;
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.properties = properties;
+        this.sweeper = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "rate-limit-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.sweepInterval().toNanos();
+        sweeper.scheduleWithFixedDelay(this::sweep, interval, interval, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @return 0 se a requisição foi admitida, ou os nanossegundos até o próximo token
+     */
+    public long tryAcquire(String client, String endpoint, RequestCategory category) {
+        long now = System.nanoTime();
+        String key = client + ' ' + endpoint;
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            RateLimitProperties.Budget budget = properties.budgetFor(endpoint, category);
+            if (buckets.size() >= properties.maxTrackedBuckets()) {
+                bucket = overflow.computeIfAbsent(OVERFLOW_CLIENT + ' ' + endpoint,
+                    k -> new TokenBucket(budget.capacity(), budget.refillPerSecond(), now));
+            } else {
+                bucket = buckets.computeIfAbsent(key,
+                    k -> new TokenBucket(budget.capacity(), budget.refillPerSecond(), now));
+            }
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    public int trackedBuckets() {
+        return buckets.size() + overflow.size();
+    }
+
+    /**
+     * Descarta os buckets cheios, que não guardam informação: recriá-los dá o mesmo resultado.
+     */
+    void sweep() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.isFull(now));
+        overflow.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    @Override
+    public void close() {
+        sweeper.shutdownNow();
+    }
+}
@@ -0,0 +1,10 @@
+package com.smarttask.ratelimit;
+
+/**
+ * Classe de orçamento de uma requisição: leituras, escritas e operações em lote têm buckets separados.
+ */
+public enum RequestCategory {
+    READ,
+    WRITE,
+    BULK
+}
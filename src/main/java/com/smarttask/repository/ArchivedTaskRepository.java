@@ -0,0 +1,69 @@
+package com.smarttask.repository;
+
+import com.smarttask.domain.entity.ArchivedTask;
+import com.smarttask.domain.enums.TaskStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, UUID> {
+
+    Page<ArchivedTask> findByUserId(UUID userId, Pageable pageable);
+
+    Page<ArchivedTask> findByProjectId(UUID projectId, Pageable pageable);
+
+    Page<ArchivedTask> findByUserIdAndStatus(UUID userId, TaskStatus status, Pageable pageable);
+
+    /**
+     * Copia as tarefas do lote que ainda atendem aos critérios do arquivamento ({@code statuses} são
+     * os nomes dos status). Os critérios se repetem no {@code DELETE} correspondente, de modo que só
+     * sai da tabela quente o que foi copiado.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO tasks_archive (id, title, description, status, priority, created_at, updated_at,
+                                   due_date, user_id, project_id, parent_id, version, archived_at)
+        SELECT id, title, description, status, priority, created_at, updated_at,
+               due_date, user_id, project_id, parent_id, version, :archivedAt
+        FROM tasks t
+        WHERE t.id IN (:ids) AND t.status IN (:statuses) AND t.updated_at < :cutoff
+          AND NOT EXISTS (SELECT 1 FROM tasks c WHERE c.parent_id = t.id)
+          AND NOT EXISTS (SELECT 1 FROM task_recurrences r WHERE r.template_id = t.id)
+        """, nativeQuery = true)
+    int copyFromTasks(@Param("ids") Collection<UUID> ids, @Param("statuses") Collection<String> statuses,
+                      @Param("cutoff") LocalDateTime cutoff, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query("DELETE FROM ArchivedTask a WHERE a.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") UUID projectId);
+
+    @Modifying
+    @Query("DELETE FROM ArchivedTask a WHERE a.userId = :userId")
+    int deleteByUserId(@Param("userId") UUID userId);
+
+    @Query("""
+        SELECT a.id AS id, a.userId AS userId, a.projectId AS projectId, a.status AS status,
+               a.createdAt AS createdAt, a.updatedAt AS updatedAt
+        FROM ArchivedTask a WHERE a.createdAt >= :since OR a.updatedAt >= :since ORDER BY a.id
+        """)
+    List<TaskRollupRepository.RollupSource> findRollupSources(@Param("since") LocalDateTime since, Pageable pageable);
+
+    @Query("""
+        SELECT a.id AS id, a.userId AS userId, a.projectId AS projectId, a.status AS status,
+               a.createdAt AS createdAt, a.updatedAt AS updatedAt
+        FROM ArchivedTask a WHERE a.id > :after AND (a.createdAt >= :since OR a.updatedAt >= :since) ORDER BY a.id
+        """)
+    List<TaskRollupRepository.RollupSource> findRollupSourcesAfter(@Param("after") UUID after,
+                                                                   @Param("since") LocalDateTime since,
+                                                                   Pageable pageable);
+}
@@ -3,13 +3,23 @@ package com.smarttask.repository;
 import com.smarttask.domain.entity.Project;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ProjectRepository extends JpaRepository<Project, UUID> {
+public interface ProjectRepository extends JpaRepository<Project, UUID>, ProjectSnapshotOperations {
 
     Page<Project> findByUserId(UUID userId, Pageable pageable);
+
+    /** Trava a linha do projeto até o fim da transação, serializando escritas no grafo de dependências entre instâncias. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Project p WHERE p.id = :id")
+    Optional<Project> lockById(@Param("id") UUID id);
 }
@@ -0,0 +1,40 @@
+package com.smarttask.repository;
+
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Leitura e gravação em massa das linhas de um snapshot de projeto, em JDBC puro, implementadas
+ * em {@link ProjectSnapshotOperationsImpl}. As leituras entregam uma linha por vez, sem montar a
+ * lista: o snapshot de um projeto grande sai do banco direto para o arquivo.
+ */
+public interface ProjectSnapshotOperations {
+
+    /**
+     * Tarefas do projeto, pais antes dos filhos (ordem de profundidade na hierarquia, depois id).
+     * {@code parentId} pode apontar para uma tarefa de outro projeto.
+     */
+    void forEachSnapshotTask(UUID projectId, Consumer<SnapshotTask> sink);
+
+    void forEachSnapshotDependency(UUID projectId, Consumer<SnapshotDependency> sink);
+
+    /** INSERT em lote das tarefas no projeto, com versão 0. Os pais precisam já existir. */
+    void insertSnapshotTasks(UUID projectId, List<SnapshotTask> tasks);
+
+    void insertClosureRows(List<ClosureRow> rows);
+
+    void insertSnapshotDependencies(UUID projectId, List<SnapshotDependency> dependencies);
+
+    record SnapshotTask(UUID id, UUID parentId, UUID userId, TaskStatus status, TaskPriority priority,
+                        LocalDateTime createdAt, LocalDateTime updatedAt, LocalDateTime dueDate,
+                        String title, String description) {}
+
+    record SnapshotDependency(UUID taskId, UUID dependsOnId) {}
+
+    record ClosureRow(UUID ancestorId, UUID descendantId, int depth) {}
+}
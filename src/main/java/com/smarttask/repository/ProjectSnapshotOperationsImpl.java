@@ -0,0 +1,164 @@
+package com.smarttask.repository;
+
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+class ProjectSnapshotOperationsImpl implements ProjectSnapshotOperations {
+
+    // Sem isso o driver do PostgreSQL traz o resultado inteiro para a memória antes da primeira linha
+    private static final int FETCH_SIZE = 1000;
+
+    // A profundidade sai do índice (descendant_id, depth) da tabela de fechamento
+    private static final String TASKS = """
+        SELECT t.id, t.parent_id, t.user_id, t.status, t.priority, t.created_at, t.updated_at, t.due_date,
+               t.title, t.description,
+               (SELECT COALESCE(MAX(c.depth), 0) FROM task_closure c WHERE c.descendant_id = t.id) AS depth
+        FROM tasks t
+        WHERE t.project_id = ?
+        ORDER BY depth, t.id
+        """;
+
+    private static final String DEPENDENCIES = """
+        SELECT d.task_id, d.depends_on_id
+        FROM task_dependencies d
+        WHERE d.project_id = ?
+        ORDER BY d.task_id, d.depends_on_id
+        """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void forEachSnapshotTask(UUID projectId, Consumer<SnapshotTask> sink) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement select = connection.prepareStatement(TASKS)) {
+                select.setFetchSize(FETCH_SIZE);
+                select.setObject(1, projectId);
+                try (ResultSet rows = select.executeQuery()) {
+                    while (rows.next()) {
+                        sink.accept(new SnapshotTask(
+                            rows.getObject("id", UUID.class),
+                            rows.getObject("parent_id", UUID.class),
+                            rows.getObject("user_id", UUID.class),
+                            TaskStatus.valueOf(rows.getString("status")),
+                            TaskPriority.valueOf(rows.getString("priority")),
+                            rows.getObject("created_at", LocalDateTime.class),
+                            rows.getObject("updated_at", LocalDateTime.class),
+                            rows.getObject("due_date", LocalDateTime.class),
+                            rows.getString("title"),
+                            rows.getString("description")));
+                    }
+                }
+            }
+        });
+    }
+
+    @Override
+    public void forEachSnapshotDependency(UUID projectId, Consumer<SnapshotDependency> sink) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement select = connection.prepareStatement(DEPENDENCIES)) {
+                select.setFetchSize(FETCH_SIZE);
+                select.setObject(1, projectId);
+                try (ResultSet rows = select.executeQuery()) {
+                    while (rows.next()) {
+                        sink.accept(new SnapshotDependency(rows.getObject("task_id", UUID.class),
+                            rows.getObject("depends_on_id", UUID.class)));
+                    }
+                }
+            }
+        });
+    }
+
+    @Override
+    public void insertSnapshotTasks(UUID projectId, List<SnapshotTask> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement("""
+                    INSERT INTO tasks (id, title, description, status, priority, created_at, updated_at, due_date,
+                                       user_id, project_id, parent_id, version)
+                    VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+                    """)) {
+                for (SnapshotTask task : tasks) {
+                    insert.setObject(1, task.id());
+                    insert.setString(2, task.title());
+                    insert.setString(3, task.description());
+                    insert.setString(4, task.status().name());
+                    insert.setString(5, task.priority().name());
+                    insert.setTimestamp(6, Timestamp.valueOf(task.createdAt()));
+                    insert.setTimestamp(7, Timestamp.valueOf(task.updatedAt()));
+                    if (task.dueDate() != null) {
+                        insert.setTimestamp(8, Timestamp.valueOf(task.dueDate()));
+                    } else {
+                        insert.setNull(8, Types.TIMESTAMP);
+                    }
+                    insert.setObject(9, task.userId());
+                    insert.setObject(10, projectId);
+                    if (task.parentId() != null) {
+                        insert.setObject(11, task.parentId());
+                    } else {
+                        insert.setNull(11, Types.OTHER);
+                    }
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        });
+    }
+
+    @Override
+    public void insertClosureRows(List<ClosureRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO task_closure (ancestor_id, descendant_id, depth) VALUES (?, ?, ?)")) {
+                for (ClosureRow row : rows) {
+                    insert.setObject(1, row.ancestorId());
+                    insert.setObject(2, row.descendantId());
+                    insert.setInt(3, row.depth());
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        });
+    }
+
+    @Override
+    public void insertSnapshotDependencies(UUID projectId, List<SnapshotDependency> dependencies) {
+        if (dependencies.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement("""
+                    INSERT INTO task_dependencies (id, task_id, depends_on_id, project_id, created_at)
+                    VALUES (?, ?, ?, ?, ?)
+                    """)) {
+                for (SnapshotDependency dependency : dependencies) {
+                    insert.setObject(1, UUID.randomUUID());
+                    insert.setObject(2, dependency.taskId());
+                    insert.setObject(3, dependency.dependsOnId());
+                    insert.setObject(4, projectId);
+                    insert.setTimestamp(5, now);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        });
+    }
+}
@@ -0,0 +1,47 @@
+package com.smarttask.repository;
+
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Leituras do quadro kanban de um projeto, em SQL com funções de janela, implementadas em
+ * {@link TaskBoardOperationsImpl}. A ordem de cada coluna é: prioridade decrescente, data de
+ * entrega crescente com as tarefas sem data por último, e id.
+ */
+public interface TaskBoardOperations {
+
+    /** Substitui a data ausente na ordenação e no cursor: fica depois de qualquer data real. */
+    LocalDateTime NO_DUE_DATE = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    /**
+     * As primeiras {@code perColumn} tarefas de cada status, já na ordem da coluna, com o total
+     * de cada coluna, numa única consulta. Status sem tarefas não aparecem.
+     */
+    List<BoardCard> findBoard(UUID projectId, int perColumn);
+
+    /**
+     * As próximas {@code limit} tarefas da coluna depois da posição {@code after} (paginação por
+     * chave). O total da coluna não é calculado e vem como -1.
+     */
+    List<BoardCard> findColumnAfter(UUID projectId, TaskStatus status, BoardPosition after, int limit);
+
+    /** Posição de prioridade na ordem das colunas: URGENT é 0. */
+    static int rankOf(TaskPriority priority) {
+        return TaskPriority.values().length - 1 - priority.ordinal();
+    }
+
+    record BoardCard(UUID id, String title, TaskStatus status, TaskPriority priority, LocalDateTime dueDate,
+                     LocalDateTime updatedAt, UUID userId, long version, long columnTotal) {
+
+        public BoardPosition position() {
+            return new BoardPosition(rankOf(priority), dueDate != null ? dueDate : NO_DUE_DATE, id);
+        }
+    }
+
+    /** Chave de ordenação de uma tarefa dentro da coluna. */
+    record BoardPosition(int rank, LocalDateTime dueKey, UUID id) {}
+}
@@ -0,0 +1,106 @@
+package com.smarttask.repository;
+
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+class TaskBoardOperationsImpl implements TaskBoardOperations {
+
+    // Prioridade é gravada como texto: a ordem vem de um CASE montado a partir do enum
+    private static final String RANK = rankExpression();
+    private static final String DUE_KEY = "COALESCE(t.due_date, TIMESTAMP '9999-12-31 23:59:59')";
+    private static final String CARD_COLUMNS =
+        "t.id, t.title, t.status, t.priority, t.due_date, t.updated_at, t.user_id, t.version";
+
+    // ROW_NUMBER e COUNT sobre a mesma partição: H2 e PostgreSQL resolvem as duas janelas numa
+    // única ordenação das tarefas do projeto
+    private static final String BOARD = """
+        SELECT id, title, status, priority, due_date, updated_at, user_id, version, column_total
+        FROM (SELECT %s,
+                     COUNT(*) OVER (PARTITION BY t.status) AS column_total,
+                     ROW_NUMBER() OVER (PARTITION BY t.status ORDER BY %s, %s, t.id) AS position
+              FROM tasks t
+              WHERE t.project_id = ?) ranked
+        WHERE position <= ?
+        ORDER BY status, position
+        """.formatted(CARD_COLUMNS, RANK, DUE_KEY);
+
+    private static final String COLUMN_AFTER = """
+        SELECT %s, -1 AS column_total
+        FROM tasks t
+        WHERE t.project_id = ? AND t.status = ?
+          AND (%s > ? OR (%s = ? AND (%s > ? OR (%s = ? AND t.id > ?))))
+        ORDER BY %s, %s, t.id
+        LIMIT ?
+        """.formatted(CARD_COLUMNS, RANK, RANK, DUE_KEY, DUE_KEY, RANK, DUE_KEY);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<BoardCard> findBoard(UUID projectId, int perColumn) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement select = connection.prepareStatement(BOARD)) {
+                select.setObject(1, projectId);
+                select.setInt(2, perColumn);
+                return read(select);
+            }
+        });
+    }
+
+    @Override
+    public List<BoardCard> findColumnAfter(UUID projectId, TaskStatus status, BoardPosition after, int limit) {
+        Timestamp dueKey = Timestamp.valueOf(after.dueKey());
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement select = connection.prepareStatement(COLUMN_AFTER)) {
+                select.setObject(1, projectId);
+                select.setString(2, status.name());
+                select.setInt(3, after.rank());
+                select.setInt(4, after.rank());
+                select.setTimestamp(5, dueKey);
+                select.setTimestamp(6, dueKey);
+                select.setObject(7, after.id());
+                select.setInt(8, limit);
+                return read(select);
+            }
+        });
+    }
+
+    private static List<BoardCard> read(PreparedStatement select) throws SQLException {
+        List<BoardCard> cards = new ArrayList<>();
+        try (ResultSet rows = select.executeQuery()) {
+            while (rows.next()) {
+                cards.add(new BoardCard(
+                    rows.getObject("id", UUID.class),
+                    rows.getString("title"),
+                    TaskStatus.valueOf(rows.getString("status")),
+                    TaskPriority.valueOf(rows.getString("priority")),
+                    rows.getObject("due_date", LocalDateTime.class),
+                    rows.getObject("updated_at", LocalDateTime.class),
+                    rows.getObject("user_id", UUID.class),
+                    rows.getLong("version"),
+                    rows.getLong("column_total")));
+            }
+        }
+        return cards;
+    }
+
+    private static String rankExpression() {
+        StringBuilder rank = new StringBuilder("CASE t.priority");
+        for (TaskPriority priority : TaskPriority.values()) {
+            rank.append(" WHEN '").append(priority.name()).append("' THEN ").append(TaskBoardOperations.rankOf(priority));
+        }
+        return rank.append(" END").toString();
+    }
+}
@@ -0,0 +1,42 @@
+package com.smarttask.repository;
+
+import com.smarttask.domain.entity.Task;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Operações em lote sobre tarefas, implementadas com Criteria (e JDBC em lote, nas inserções) em
+ * {@link TaskBulkOperationsImpl}.
+ */
+public interface TaskBulkOperations {
+
+    /**
+     * Próximos {@code limit} IDs que atendem ao filtro, em ordem crescente de id e depois de {@code after}
+     * (paginação por chave, estável mesmo que o lote anterior tenha mudado as linhas já lidas).
+     */
+    List<UUID> findIdsAfter(Specification<Task> filter, UUID after, int limit);
+
+    /**
+     * Aplica as alterações não nulas em um único UPDATE, incrementando {@code version} e gravando {@code updatedAt}.
+     *
+     * @return linhas alteradas
+     */
+    int applyChanges(Collection<UUID> ids, TaskStatus status, TaskPriority priority, UUID userId, UUID projectId,
+                     LocalDateTime updatedAt);
+
+    /**
+     * Insere tarefas novas com INSERTs em lote de {@code batchSize} linhas, sem passar pelo contexto de
+     * persistência: as entidades não ficam gerenciadas. Id, datas e versão são preenchidos como no
+     * {@code persist}; usuário e projeto só precisam ter o id (referências servem). Tarefas inseridas
+     * assim são raízes, sem pai nem linhas na tabela de fechamento.
+     *
+     * @return linhas inseridas
+     */
+    int insertAll(List<Task> tasks, int batchSize);
+}
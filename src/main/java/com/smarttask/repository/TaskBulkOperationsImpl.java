@@ -0,0 +1,127 @@
+package com.smarttask.repository;
+
+import com.smarttask.domain.entity.Project;
+import com.smarttask.domain.entity.Task;
+import com.smarttask.domain.entity.User;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+class TaskBulkOperationsImpl implements TaskBulkOperations {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<UUID> findIdsAfter(Specification<Task> filter, UUID after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<UUID> query = cb.createQuery(UUID.class);
+        Root<Task> root = query.from(Task.class);
+        Path<UUID> id = root.get("id");
+        Predicate predicate = filter.toPredicate(root, query, cb);
+        if (after != null) {
+            predicate = cb.and(predicate, cb.greaterThan(id, after));
+        }
+        query.select(id).where(predicate).orderBy(cb.asc(id));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public int applyChanges(Collection<UUID> ids, TaskStatus status, TaskPriority priority, UUID userId,
+                            UUID projectId, LocalDateTime updatedAt) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> root = update.from(Task.class);
+        if (status != null) {
+            update.set(root.<TaskStatus>get("status"), status);
+        }
+        if (priority != null) {
+            update.set(root.<TaskPriority>get("priority"), priority);
+        }
+        if (userId != null) {
+            update.set(root.<User>get("user"), entityManager.getReference(User.class, userId));
+        }
+        if (projectId != null) {
+            update.set(root.<Project>get("project"), entityManager.getReference(Project.class, projectId));
+        }
+        // Mesmo efeito de um UPDATE via entidade: o optimistic locking de quem já leu a tarefa continua valendo
+        Path<Long> version = root.get("version");
+        update.set(version, cb.sum(version, 1L));
+        update.set(root.<LocalDateTime>get("updatedAt"), updatedAt);
+        update.where(root.get("id").in(ids));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    @Override
+    public int insertAll(List<Task> tasks, int batchSize) {
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        // Grava antes o que estiver pendente no contexto, para a ordem das escritas ser a do código
+        entityManager.flush();
+        int[] inserted = {0};
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement insert = connection.prepareStatement("""
+                    INSERT INTO tasks (id, title, description, status, priority, created_at, updated_at, due_date,
+                                       user_id, project_id, version)
+                    VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+                    """)) {
+                int pending = 0;
+                for (Task task : tasks) {
+                    task.generateId();
+                    task.setVersion(0L);
+                    insert.setObject(1, task.getId());
+                    insert.setString(2, task.getTitle());
+                    insert.setString(3, task.getDescription());
+                    insert.setString(4, task.getStatus().name());
+                    insert.setString(5, task.getPriority().name());
+                    insert.setTimestamp(6, Timestamp.valueOf(task.getCreatedAt()));
+                    insert.setTimestamp(7, Timestamp.valueOf(task.getUpdatedAt()));
+                    if (task.getDueDate() != null) {
+                        insert.setTimestamp(8, Timestamp.valueOf(task.getDueDate()));
+                    } else {
+                        insert.setNull(8, Types.TIMESTAMP);
+                    }
+                    insert.setObject(9, task.getUser().getId());
+                    insert.setObject(10, task.getProject().getId());
+                    insert.addBatch();
+                    if (++pending == batchSize) {
+                        inserted[0] += executed(insert.executeBatch());
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    inserted[0] += executed(insert.executeBatch());
+                }
+            }
+        });
+        return inserted[0];
+    }
+
+    // Drivers com reescrita de lote (reWriteBatchedInserts) devolvem SUCCESS_NO_INFO em vez da contagem
+    private static int executed(int[] counts) {
+        int total = 0;
+        for (int count : counts) {
+            total += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+        }
+        return total;
+    }
+}
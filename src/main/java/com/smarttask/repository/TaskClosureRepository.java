@@ -0,0 +1,68 @@
+package com.smarttask.repository;
+
+import com.smarttask.domain.entity.TaskClosure;
+import com.smarttask.domain.enums.TaskStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Manutenção e leitura da tabela de fechamento. Mover uma subárvore custa dois comandos por
+ * conjunto, proporcionais a (ancestrais antigos + novos) × tamanho da subárvore.
+ */
+@Repository
+public interface TaskClosureRepository extends JpaRepository<TaskClosure, TaskClosure.Key> {
+
+    /**
+     * Liga {@code taskId} e a subárvore dela a {@code parentId} e a todos os ancestrais dele.
+     * Os dois lados incluem a própria tarefa com distância 0, que não é gravada na tabela.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO task_closure (ancestor_id, descendant_id, depth)
+        SELECT supertree.ancestor_id, subtree.descendant_id, supertree.depth + subtree.depth + 1
+        FROM (SELECT ancestor_id, depth FROM task_closure WHERE descendant_id = :parentId
+              UNION ALL SELECT :parentId, 0) supertree
+        CROSS JOIN (SELECT descendant_id, depth FROM task_closure WHERE ancestor_id = :taskId
+                    UNION ALL SELECT :taskId, 0) subtree
+        """, nativeQuery = true)
+    int attachSubtree(@Param("taskId") UUID taskId, @Param("parentId") UUID parentId);
+
+    /**
+     * Desliga {@code taskId} e a subárvore dela dos ancestrais, mantendo os caminhos internos.
+     * Numa árvore, todo ancestral externo de um descendente é ancestral de {@code taskId}: o
+     * filtro parte desse conjunto pequeno, pela chave primária.
+     */
+    @Modifying
+    @Query(value = """
+        DELETE FROM task_closure
+        WHERE ancestor_id IN (SELECT ancestor_id FROM task_closure WHERE descendant_id = :taskId)
+          AND (descendant_id = :taskId
+               OR descendant_id IN (SELECT descendant_id FROM task_closure WHERE ancestor_id = :taskId))
+        """, nativeQuery = true)
+    int detachSubtree(@Param("taskId") UUID taskId);
+
+    boolean existsByAncestorIdAndDescendantId(UUID ancestorId, UUID descendantId);
+
+    @Query("SELECT c.descendantId FROM TaskClosure c WHERE c.ancestorId = :taskId")
+    List<UUID> findDescendantIds(@Param("taskId") UUID taskId);
+
+    @Query("""
+        SELECT t.status AS status, COUNT(t) AS total
+        FROM TaskClosure c JOIN Task t ON t.id = c.descendantId
+        WHERE c.ancestorId = :taskId
+        GROUP BY t.status
+        """)
+    List<StatusCount> countDescendantsByStatus(@Param("taskId") UUID taskId);
+
+    interface StatusCount {
+        TaskStatus getStatus();
+
+        long getTotal();
+    }
+}
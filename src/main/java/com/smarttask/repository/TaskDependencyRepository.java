@@ -0,0 +1,58 @@
+package com.smarttask.repository;
+
+import com.smarttask.domain.entity.TaskDependency;
+import com.smarttask.domain.enums.TaskStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TaskDependencyRepository extends JpaRepository<TaskDependency, UUID> {
+
+    /** Tarefas do projeto com apenas o necessário para montar o grafo. */
+    @Query("SELECT t.id AS id, t.status AS status FROM Task t WHERE t.project.id = :projectId")
+    List<GraphNode> findGraphNodes(@Param("projectId") UUID projectId);
+
+    @Query("SELECT d.task.id AS taskId, d.dependsOn.id AS dependsOnId FROM TaskDependency d WHERE d.projectId = :projectId")
+    List<GraphEdge> findGraphEdges(@Param("projectId") UUID projectId);
+
+    @Query("SELECT COUNT(d) > 0 FROM TaskDependency d WHERE d.task.id = :taskId AND d.dependsOn.id = :dependsOnId")
+    boolean existsEdge(@Param("taskId") UUID taskId, @Param("dependsOnId") UUID dependsOnId);
+
+    /** Se {@code taskId} depende, direta ou indiretamente, de {@code prerequisiteId}. */
+    @Query(value = """
+        WITH RECURSIVE prerequisites(id) AS (
+            SELECT d.depends_on_id FROM task_dependencies d WHERE d.task_id = :taskId
+            UNION
+            SELECT d.depends_on_id FROM task_dependencies d JOIN prerequisites p ON d.task_id = p.id
+        )
+        SELECT COUNT(*) FROM prerequisites WHERE id = :prerequisiteId
+        """, nativeQuery = true)
+    long countTransitivePath(@Param("taskId") UUID taskId, @Param("prerequisiteId") UUID prerequisiteId);
+
+    @Modifying
+    @Query("DELETE FROM TaskDependency d WHERE d.task.id = :taskId AND d.dependsOn.id = :dependsOnId")
+    int deleteByTaskIdAndDependsOnId(@Param("taskId") UUID taskId, @Param("dependsOnId") UUID dependsOnId);
+
+    @Modifying
+    @Query("DELETE FROM TaskDependency d WHERE d.task.id IN :taskIds OR d.dependsOn.id IN :taskIds")
+    int deleteTouching(@Param("taskIds") Collection<UUID> taskIds);
+
+    interface GraphNode {
+        UUID getId();
+
+        TaskStatus getStatus();
+    }
+
+    interface GraphEdge {
+        UUID getTaskId();
+
+        UUID getDependsOnId();
+    }
+}
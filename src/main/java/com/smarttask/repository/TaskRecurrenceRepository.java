@@ -0,0 +1,58 @@
+package com.smarttask.repository;
+
+import com.smarttask.domain.entity.TaskRecurrence;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface TaskRecurrenceRepository extends JpaRepository<TaskRecurrence, UUID> {
+
+    Optional<TaskRecurrence> findByTemplateId(UUID templateId);
+
+    int deleteByTemplateId(UUID templateId);
+
+    /**
+     * Trava e devolve o próximo bloco de regras com ocorrências por materializar até {@code horizon}.
+     * Linhas já travadas por outro nó são puladas ({@code SKIP LOCKED}), de modo que nós rodando o
+     * job ao mesmo tempo dividem as regras em vez de esperar uns pelos outros.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT r FROM TaskRecurrence r
+        WHERE r.materializedThrough < :horizon
+          AND (r.endsOn IS NULL OR r.materializedThrough < r.endsOn)
+        ORDER BY r.id
+        """)
+    List<TaskRecurrence> claimDue(@Param("horizon") LocalDate horizon, Pageable pageable);
+
+    @Query("""
+        SELECT COUNT(r) FROM TaskRecurrence r
+        WHERE r.materializedThrough < :horizon
+          AND (r.endsOn IS NULL OR r.materializedThrough < r.endsOn)
+        """)
+    long countDue(@Param("horizon") LocalDate horizon);
+
+    /** Avança o ponto de retomada das regras até {@code horizon}, ou até o fim de cada regra, se vier antes. */
+    @Modifying
+    @Query("""
+        UPDATE TaskRecurrence r
+        SET r.materializedThrough = CASE WHEN r.endsOn IS NOT NULL AND r.endsOn < :horizon THEN r.endsOn ELSE :horizon END
+        WHERE r.id IN :ids
+        """)
+    int advanceCheckpoint(@Param("ids") Collection<UUID> ids, @Param("horizon") LocalDate horizon);
+}
@@ -1,20 +1,158 @@
 package com.smarttask.repository;
 
 import com.smarttask.domain.entity.Task;
+import com.smarttask.domain.enums.TaskPriority;
 import com.smarttask.domain.enums.TaskStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task>, TaskBulkOperations,
+        TaskBoardOperations {
 
     Page<Task> findByUserId(UUID userId, Pageable pageable);
 
     Page<Task> findByProjectId(UUID projectId, Pageable pageable);
 
     Page<Task> findByUserIdAndStatus(UUID userId, TaskStatus status, Pageable pageable);
+
+    // Só folhas: uma tarefa com subtarefas na tabela quente espera que elas sejam arquivadas antes.
+    // Modelos de recorrência ficam: a regra sairia junto pela chave estrangeira.
+    // Trava o lote e pula as linhas já travadas (por outro nó ou por uma escrita em andamento).
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+        SELECT t.id FROM Task t
+        WHERE t.status IN :statuses AND t.updatedAt < :cutoff
+          AND NOT EXISTS (SELECT c.id FROM Task c WHERE c.parent = t)
+          AND NOT EXISTS (SELECT r.id FROM TaskRecurrence r WHERE r.template = t)
+        ORDER BY t.updatedAt
+        """)
+    List<UUID> findIdsToArchive(@Param("statuses") Collection<TaskStatus> statuses,
+                                @Param("cutoff") LocalDateTime cutoff,
+                                Pageable pageable);
+
+    @Query(value = """
+        SELECT t FROM Task t JOIN TaskClosure c ON c.descendantId = t.id
+        WHERE c.ancestorId = :ancestorId AND c.depth <= :maxDepth
+        """, countQuery = """
+        SELECT COUNT(c) FROM TaskClosure c
+        WHERE c.ancestorId = :ancestorId AND c.depth <= :maxDepth
+        """)
+    Page<Task> findDescendants(@Param("ancestorId") UUID ancestorId, @Param("maxDepth") int maxDepth, Pageable pageable);
+
+    /** Trava a tarefa e os ancestrais do novo pai, em ordem de id, para serializar movimentos que se cruzam. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT t FROM Task t
+        WHERE t.id = :taskId OR t.id = :parentId
+           OR t.id IN (SELECT c.ancestorId FROM TaskClosure c WHERE c.descendantId = :parentId)
+        ORDER BY t.id
+        """)
+    List<Task> lockForMove(@Param("taskId") UUID taskId, @Param("parentId") UUID parentId);
+
+    /** Trava a tarefa e os seus ancestrais, em ordem de id, antes de pendurar uma subtarefa nela. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+        SELECT t FROM Task t
+        WHERE t.id = :taskId
+           OR t.id IN (SELECT c.ancestorId FROM TaskClosure c WHERE c.descendantId = :taskId)
+        ORDER BY t.id
+        """)
+    List<Task> lockWithAncestors(@Param("taskId") UUID taskId);
+
+    @Query("SELECT t.project.id FROM Task t WHERE t.id = :id")
+    Optional<UUID> findProjectIdById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /** Apaga as tarefas do lote arquivado, repetindo os critérios de {@link #findIdsToArchive}. */
+    @Modifying
+    @Query("""
+        DELETE FROM Task t
+        WHERE t.id IN :ids AND t.status IN :statuses AND t.updatedAt < :cutoff
+          AND NOT EXISTS (SELECT c.id FROM Task c WHERE c.parent = t)
+          AND NOT EXISTS (SELECT r.id FROM TaskRecurrence r WHERE r.template = t)
+        """)
+    int deleteArchived(@Param("ids") Collection<UUID> ids,
+                       @Param("statuses") Collection<TaskStatus> statuses,
+                       @Param("cutoff") LocalDateTime cutoff);
+
+    /** Usuário e projeto das tarefas que ainda não estão em {@code status}, agrupados, para os rollups. */
+    @Query("""
+        SELECT t.user.id AS userId, t.project.id AS projectId, COUNT(t) AS total FROM Task t
+        WHERE t.id IN :ids AND t.status <> :status
+        GROUP BY t.user.id, t.project.id
+        """)
+    List<OwnerCount> countNotInStatus(@Param("ids") Collection<UUID> ids, @Param("status") TaskStatus status);
+
+    @Query("""
+        SELECT t.id AS id, t.user.id AS userId, t.project.id AS projectId, t.status AS status,
+               t.createdAt AS createdAt, t.updatedAt AS updatedAt
+        FROM Task t WHERE t.createdAt >= :since OR t.updatedAt >= :since ORDER BY t.id
+        """)
+    List<TaskRollupRepository.RollupSource> findRollupSources(@Param("since") LocalDateTime since, Pageable pageable);
+
+    @Query("""
+        SELECT t.id AS id, t.user.id AS userId, t.project.id AS projectId, t.status AS status,
+               t.createdAt AS createdAt, t.updatedAt AS updatedAt
+        FROM Task t WHERE t.id > :after AND (t.createdAt >= :since OR t.updatedAt >= :since) ORDER BY t.id
+        """)
+    List<TaskRollupRepository.RollupSource> findRollupSourcesAfter(@Param("after") UUID after,
+                                                                   @Param("since") LocalDateTime since,
+                                                                   Pageable pageable);
+
+    /** Só as colunas da cópia em memória da visão de quadro, sem hidratar entidades. */
+    @Query("""
+        SELECT t.id AS id, t.title AS title, t.status AS status, t.priority AS priority, t.dueDate AS dueDate,
+               t.createdAt AS createdAt, t.updatedAt AS updatedAt, t.user.id AS userId, t.version AS version
+        FROM Task t WHERE t.project.id = :projectId
+        """)
+    List<BoardRow> findBoardRows(@Param("projectId") UUID projectId);
+
+    interface OwnerCount {
+        UUID getUserId();
+
+        UUID getProjectId();
+
+        long getTotal();
+    }
+
+    interface BoardRow {
+        UUID getId();
+
+        String getTitle();
+
+        TaskStatus getStatus();
+
+        TaskPriority getPriority();
+
+        LocalDateTime getDueDate();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+
+        UUID getUserId();
+
+        Long getVersion();
+    }
 }
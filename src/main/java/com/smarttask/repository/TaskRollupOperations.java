@@ -0,0 +1,31 @@
+package com.smarttask.repository;
+
+import com.smarttask.domain.entity.TaskRollup;
+import com.smarttask.domain.enums.RollupGranularity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Escrita e leitura agregada dos rollups, implementadas em {@link TaskRollupOperationsImpl}.
+ */
+public interface TaskRollupOperations {
+
+    /**
+     * Soma os contadores de cada linha aos do mesmo balde, criando-o se preciso, num único lote de
+     * UPSERTs ({@code INSERT ... ON CONFLICT} no PostgreSQL, {@code MERGE} nos demais bancos).
+     * As linhas são gravadas na ordem da chave, para que transações concorrentes travem os baldes
+     * na mesma ordem.
+     */
+    void increment(List<TaskRollup> deltas);
+
+    /**
+     * Totais por balde em {@code [from, to)}, somando usuários e projetos; {@code userId} e
+     * {@code projectId} restringem a série quando informados. Baldes sem eventos não aparecem.
+     */
+    List<SeriesPoint> findSeries(RollupGranularity granularity, LocalDateTime from, LocalDateTime to,
+                                 UUID userId, UUID projectId);
+
+    record SeriesPoint(LocalDateTime bucketStart, long created, long completed, long cancelled) {}
+}
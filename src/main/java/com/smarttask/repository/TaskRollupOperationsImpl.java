@@ -0,0 +1,107 @@
+package com.smarttask.repository;
+
+import com.smarttask.domain.entity.TaskRollup;
+import com.smarttask.domain.enums.RollupGranularity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.Session;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+class TaskRollupOperationsImpl implements TaskRollupOperations {
+
+    private static final String POSTGRES_UPSERT = """
+        INSERT INTO task_rollups (granularity, bucket_start, user_id, project_id, created, completed, cancelled)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+        ON CONFLICT (granularity, bucket_start, user_id, project_id) DO UPDATE SET
+            created = task_rollups.created + EXCLUDED.created,
+            completed = task_rollups.completed + EXCLUDED.completed,
+            cancelled = task_rollups.cancelled + EXCLUDED.cancelled
+        """;
+
+    private static final String MERGE_UPSERT = """
+        MERGE INTO task_rollups r
+        USING (VALUES (CAST(? AS VARCHAR(5)), CAST(? AS TIMESTAMP), CAST(? AS UUID), CAST(? AS UUID),
+                       CAST(? AS BIGINT), CAST(? AS BIGINT), CAST(? AS BIGINT)))
+            AS d (granularity, bucket_start, user_id, project_id, created, completed, cancelled)
+        ON r.granularity = d.granularity AND r.bucket_start = d.bucket_start
+           AND r.user_id = d.user_id AND r.project_id = d.project_id
+        WHEN MATCHED THEN UPDATE SET
+            created = r.created + d.created,
+            completed = r.completed + d.completed,
+            cancelled = r.cancelled + d.cancelled
+        WHEN NOT MATCHED THEN INSERT (granularity, bucket_start, user_id, project_id, created, completed, cancelled)
+            VALUES (d.granularity, d.bucket_start, d.user_id, d.project_id, d.created, d.completed, d.cancelled)
+        """;
+
+    private static final Comparator<TaskRollup> KEY_ORDER = Comparator
+        .comparing(TaskRollup::getGranularity)
+        .thenComparing(TaskRollup::getBucketStart)
+        .thenComparing(TaskRollup::getUserId)
+        .thenComparing(TaskRollup::getProjectId);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void increment(List<TaskRollup> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<TaskRollup> ordered = new ArrayList<>(deltas);
+        ordered.sort(KEY_ORDER);
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            boolean postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+            try (PreparedStatement upsert = connection.prepareStatement(postgres ? POSTGRES_UPSERT : MERGE_UPSERT)) {
+                for (TaskRollup delta : ordered) {
+                    upsert.setString(1, delta.getGranularity().name());
+                    upsert.setTimestamp(2, Timestamp.valueOf(delta.getBucketStart()));
+                    upsert.setObject(3, delta.getUserId());
+                    upsert.setObject(4, delta.getProjectId());
+                    upsert.setLong(5, delta.getCreated());
+                    upsert.setLong(6, delta.getCompleted());
+                    upsert.setLong(7, delta.getCancelled());
+                    upsert.addBatch();
+                }
+                upsert.executeBatch();
+            }
+        });
+    }
+
+    @Override
+    public List<SeriesPoint> findSeries(RollupGranularity granularity, LocalDateTime from, LocalDateTime to,
+                                        UUID userId, UUID projectId) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<SeriesPoint> query = cb.createQuery(SeriesPoint.class);
+        Root<TaskRollup> root = query.from(TaskRollup.class);
+        Path<LocalDateTime> bucketStart = root.get("bucketStart");
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(root.get("granularity"), granularity));
+        predicates.add(cb.greaterThanOrEqualTo(bucketStart, from));
+        predicates.add(cb.lessThan(bucketStart, to));
+        // Filtros só quando informados: um "(:id IS NULL OR ...)" esconderia os índices do planejador
+        if (userId != null) {
+            predicates.add(cb.equal(root.get("userId"), userId));
+        }
+        if (projectId != null) {
+            predicates.add(cb.equal(root.get("projectId"), projectId));
+        }
+        query.select(cb.construct(SeriesPoint.class, bucketStart,
+                cb.sum(root.<Long>get("created")), cb.sum(root.<Long>get("completed")), cb.sum(root.<Long>get("cancelled"))))
+            .where(predicates.toArray(Predicate[]::new))
+            .groupBy(bucketStart)
+            .orderBy(cb.asc(bucketStart));
+        return entityManager.createQuery(query).getResultList();
+    }
+}
@@ -0,0 +1,35 @@
+package com.smarttask.repository;
+
+import com.smarttask.domain.entity.TaskRollup;
+import com.smarttask.domain.enums.TaskStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface TaskRollupRepository extends JpaRepository<TaskRollup, TaskRollup.Key>, TaskRollupOperations {
+
+    @Modifying
+    @Query("DELETE FROM TaskRollup r WHERE r.bucketStart >= :from AND r.bucketStart < :before")
+    int deleteByBucketStartBetween(@Param("from") LocalDateTime from, @Param("before") LocalDateTime before);
+
+    /** O mínimo de uma tarefa para reconstruir os rollups: quem, onde, quando foi criada e como terminou. */
+    interface RollupSource {
+        UUID getId();
+
+        UUID getUserId();
+
+        UUID getProjectId();
+
+        TaskStatus getStatus();
+
+        LocalDateTime getCreatedAt();
+
+        LocalDateTime getUpdatedAt();
+    }
+}
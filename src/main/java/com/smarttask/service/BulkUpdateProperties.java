@@ -0,0 +1,16 @@
+package com.smarttask.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Limites das alterações em lote de tarefas.
+ *
+ * @param chunkSize tarefas alteradas por transação, para manter os locks curtos
+ * @param maxTasks  máximo de tarefas por requisição
+ */
+@ConfigurationProperties(prefix = "smarttask.bulk-update")
+public record BulkUpdateProperties(
+    @DefaultValue("200") int chunkSize,
+    @DefaultValue("10000") int maxTasks
+) {}
@@ -0,0 +1,26 @@
+package com.smarttask.service;
+
+import com.smarttask.domain.enums.TaskStatus;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Painel do usuário montado em uma requisição.
+ *
+ * @param threads       consultas do painel em paralelo, somando todas as requisições; cada uma ocupa uma conexão
+ * @param queueCapacity consultas aguardando thread; além disso a seção é recusada e sai da resposta
+ * @param latencyBudget quanto a requisição espera pelas seções; as que não terminarem a tempo ficam de fora
+ * @param pageSize      itens por lista do painel
+ * @param statuses      status com lista própria de tarefas
+ */
+@ConfigurationProperties(prefix = "smarttask.dashboard")
+public record DashboardProperties(
+    @DefaultValue("4") int threads,
+    @DefaultValue("64") int queueCapacity,
+    @DefaultValue("250ms") Duration latencyBudget,
+    @DefaultValue("10") int pageSize,
+    @DefaultValue({"PENDING", "IN_PROGRESS"}) List<TaskStatus> statuses
+) {}
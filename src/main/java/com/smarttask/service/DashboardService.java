@@ -0,0 +1,220 @@
+package com.smarttask.service;
+
+import com.smarttask.datasource.ConsistencyKey;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.dto.PageResponse;
+import com.smarttask.dto.ProjectResponseDTO;
+import com.smarttask.dto.TaskResponseDTO;
+import com.smarttask.dto.UserDashboardDTO;
+import com.smarttask.dto.UserResponseDTO;
+import com.smarttask.exception.DomainException;
+import com.smarttask.observability.RequestQueryStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Monta o painel do usuário disparando as consultas independentes (usuário, projetos, tarefas
+ * recentes e uma lista por status) em paralelo, num pool próprio e limitado; cada consulta roda na
+ * transação read-only do serviço que a atende, em sua própria conexão. A requisição espera no
+ * máximo {@code smarttask.dashboard.latency-budget}: o que não ficou pronto sai da resposta como
+ * seção ausente, e uma seção lenta continua até o fim no pool, sem segurar a requisição.
+ *
+ * <p>O cliente da requisição (réplicas de leitura) e os contadores de SQL são repassados às
+ * threads do pool, para que as consultas sigam as mesmas regras das feitas na própria requisição.</p>
+ */
+@Service
+public class DashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+    private static final Sort RECENT_FIRST = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    private final UserService userService;
+    private final ProjectService projectService;
+    private final TaskService taskService;
+    private final DashboardProperties properties;
+    private final ThreadPoolExecutor executor;
+    private final MeterRegistry meterRegistry;
+
+    public DashboardService(UserService userService, ProjectService projectService, TaskService taskService,
+                            DashboardProperties properties, MeterRegistry meterRegistry) {
+        this.userService = userService;
+        this.projectService = projectService;
+        this.taskService = taskService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(properties.threads(), properties.threads(), 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(properties.queueCapacity()), runnable -> {
+                Thread thread = new Thread(runnable, "dashboard-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * @throws com.smarttask.exception.UserNotFoundException se a seção do usuário terminar a tempo e o usuário não existir
+     */
+    public Dashboard build(UUID userId) {
+        long deadline = System.nanoTime() + properties.latencyBudget().toNanos();
+        Pageable page = PageRequest.of(0, properties.pageSize(), RECENT_FIRST);
+
+        Section<UserResponseDTO> user = submit("user", () -> userService.findById(userId));
+        Section<Page<ProjectResponseDTO>> projects = submit("projects", () -> projectService.findByUserId(userId, page));
+        Section<Page<TaskResponseDTO>> recentTasks = submit("tasks", () -> taskService.findByUserId(userId, page));
+        Map<TaskStatus, Section<Page<TaskResponseDTO>>> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : properties.statuses()) {
+            byStatus.put(status, submit("tasks." + status,
+                () -> taskService.findByUserIdAndStatus(userId, status, page)));
+        }
+
+        List<String> missing = new ArrayList<>();
+        UserResponseDTO userDTO = user.await(deadline, missing);
+        PageResponse<ProjectResponseDTO> projectPage = toPage(projects.await(deadline, missing));
+        PageResponse<TaskResponseDTO> recentPage = toPage(recentTasks.await(deadline, missing));
+        Map<TaskStatus, PageResponse<TaskResponseDTO>> statusPages = new EnumMap<>(TaskStatus.class);
+        byStatus.forEach((status, section) -> statusPages.put(status, toPage(section.await(deadline, missing))));
+
+        List<Section<?>> sections = new ArrayList<>(List.of(user, projects, recentTasks));
+        sections.addAll(byStatus.values());
+        return new Dashboard(new UserDashboardDTO(userDTO, projectPage, recentPage, statusPages, missing),
+            sections.stream().map(Section::timing).toList());
+    }
+
+    private <T> Section<T> submit(String name, Supplier<T> query) {
+        String consistencyKey = ConsistencyKey.current();
+        RequestQueryStats stats = RequestQueryStats.current();
+        Section<T> section = new Section<>(name);
+        try {
+            section.future = executor.submit(() -> {
+                ConsistencyKey.bind(consistencyKey);
+                RequestQueryStats.bind(stats);
+                try {
+                    return query.get();
+                } finally {
+                    section.finished(System.nanoTime());
+                    ConsistencyKey.bind(null);
+                    RequestQueryStats.bind(null);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            section.outcome = "rejected";
+        }
+        return section;
+    }
+
+    private static <T> PageResponse<T> toPage(Page<T> page) {
+        return page != null ? PageResponse.from(page) : null;
+    }
+
+    /** Painel e o tempo de cada seção, do envio ao pool até o resultado (ou até desistir dela). */
+    public record Dashboard(UserDashboardDTO body, List<SectionTiming> timings) {
+
+        /** Valor do cabeçalho {@code Server-Timing}. */
+        public String serverTiming() {
+            return timings.stream()
+                .map(timing -> String.format(Locale.ROOT, "%s;dur=%.1f%s", timing.name(), timing.millis(),
+                    timing.outcome().equals("ok") ? "" : ";desc=\"" + timing.outcome() + "\""))
+                .collect(Collectors.joining(", "));
+        }
+    }
+
+    public record SectionTiming(String name, double millis, String outcome) {}
+
+    private final class Section<T> {
+
+        private final String name;
+        private final long submittedAt = System.nanoTime();
+        private final AtomicLong finishedAt = new AtomicLong();
+        private Future<T> future;
+        private String outcome = "ok";
+        private long waitedUntil;
+
+        private Section(String name) {
+            this.name = name;
+        }
+
+        void finished(long now) {
+            finishedAt.compareAndSet(0, now);
+        }
+
+        T await(long deadline, List<String> missing) {
+            try {
+                if (future == null) {
+                    return null;
+                }
+                return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                // Ainda na fila: não chega a rodar. Já rodando: termina, mas ninguém espera por ela
+                future.cancel(false);
+                outcome = "timeout";
+                return null;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof DomainException domain) {
+                    throw domain;
+                }
+                log.warn("Seção {} do painel falhou", name, e.getCause());
+                outcome = "error";
+                return null;
+            } catch (CancellationException e) {
+                outcome = "timeout";
+                return null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                outcome = "interrupted";
+                return null;
+            } finally {
+                waitedUntil = System.nanoTime();
+                if (!outcome.equals("ok")) {
+                    missing.add(name);
+                }
+                Timer.builder("smarttask.dashboard.section")
+                    .description("Tempo de cada seção do painel até o resultado ou o fim da espera")
+                    .tag("section", name.startsWith("tasks.") ? "tasks.status" : name)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(elapsedNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+
+        SectionTiming timing() {
+            return new SectionTiming(name, elapsedNanos() / 1_000_000.0, outcome);
+        }
+
+        private long elapsedNanos() {
+            long end = outcome.equals("ok") && finishedAt.get() != 0 ? finishedAt.get() : waitedUntil;
+            return Math.max(0, end - submittedAt);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.smarttask.service;
+
+import com.smarttask.dto.MultiGetResponse;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Apoio às buscas em lote: remove repetições, aplica o limite, quebra os IDs em listas {@code IN}
+ * e devolve o resultado na ordem pedida.
+ */
+final class MultiGet {
+
+    private MultiGet() {
+    }
+
+    static List<UUID> distinct(Collection<UUID> ids, MultiGetProperties properties) {
+        List<UUID> distinct = List.copyOf(new LinkedHashSet<>(ids));
+        if (distinct.size() > properties.maxIds()) {
+            throw new IllegalArgumentException(
+                "Máximo de " + properties.maxIds() + " IDs por requisição; recebidos " + distinct.size());
+        }
+        return distinct;
+    }
+
+    /**
+     * Executa {@code query} uma vez por bloco de até {@code chunkSize} IDs e indexa o resultado por ID.
+     */
+    static <E, D> Map<UUID, D> load(List<UUID> ids, MultiGetProperties properties,
+                                    Function<List<UUID>, List<E>> query, Function<E, UUID> idOf,
+                                    Function<E, D> mapper) {
+        Map<UUID, D> found = new HashMap<>(ids.size() * 2);
+        for (int from = 0; from < ids.size(); from += properties.chunkSize()) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + properties.chunkSize(), ids.size()));
+            for (E entity : query.apply(chunk)) {
+                found.put(idOf.apply(entity), mapper.apply(entity));
+            }
+        }
+        return found;
+    }
+
+    static <D> MultiGetResponse<D> inRequestOrder(List<UUID> ids, Map<UUID, D> found) {
+        List<D> items = new ArrayList<>(found.size());
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : ids) {
+            D item = found.get(id);
+            if (item != null) {
+                items.add(item);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new MultiGetResponse<>(items, missing);
+    }
+}
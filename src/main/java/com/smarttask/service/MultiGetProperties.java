@@ -0,0 +1,16 @@
+package com.smarttask.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Limites da busca em lote por IDs.
+ *
+ * @param maxIds    máximo de IDs distintos por requisição
+ * @param chunkSize tamanho de cada lista {@code IN}, para não estourar limites de parâmetros do banco
+ */
+@ConfigurationProperties(prefix = "smarttask.multi-get")
+public record MultiGetProperties(
+    @DefaultValue("500") int maxIds,
+    @DefaultValue("100") int chunkSize
+) {}
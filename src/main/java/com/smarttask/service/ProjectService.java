@@ -1,39 +1,85 @@
 package com.smarttask.service;
 
+import com.smarttask.board.TaskBoardIndex;
+import com.smarttask.cluster.ClusterInvalidationPublisher;
+import com.smarttask.coalescing.RequestCoalescer;
+import com.smarttask.dependency.TaskDependencyIndex;
 import com.smarttask.domain.entity.Project;
 import com.smarttask.domain.entity.User;
 import com.smarttask.dto.CreateProjectDTO;
+import com.smarttask.dto.MultiGetResponse;
 import com.smarttask.dto.ProjectResponseDTO;
 import com.smarttask.dto.UpdateProjectDTO;
 import com.smarttask.exception.ProjectNotFoundException;
 import com.smarttask.exception.UserNotFoundException;
 import com.smarttask.mapper.ProjectMapper;
+import com.smarttask.repository.ArchivedTaskRepository;
 import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.SparseFieldRepository;
 import com.smarttask.repository.UserRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 @Transactional
 public class ProjectService {
 
+    static final String FIND_BY_ID = "project.findById";
+
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final RequestCoalescer coalescer;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MultiGetProperties multiGetProperties;
+    private final SparseFieldRepository sparseFieldRepository;
+    private final TaskDependencyIndex dependencyIndex;
+    private final TaskBoardIndex boardIndex;
+    private final ClusterInvalidationPublisher invalidations;
 
-    public ProjectService(ProjectRepository projectRepository, UserRepository userRepository) {
+    public ProjectService(ProjectRepository projectRepository, UserRepository userRepository,
+                          ArchivedTaskRepository archivedTaskRepository, RequestCoalescer coalescer,
+                          PlatformTransactionManager transactionManager, MultiGetProperties multiGetProperties,
+                          SparseFieldRepository sparseFieldRepository, TaskDependencyIndex dependencyIndex,
+                          TaskBoardIndex boardIndex, ClusterInvalidationPublisher invalidations) {
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.coalescer = coalescer;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.multiGetProperties = multiGetProperties;
+        this.sparseFieldRepository = sparseFieldRepository;
+        this.dependencyIndex = dependencyIndex;
+        this.boardIndex = boardIndex;
+        this.invalidations = invalidations;
     }
 
-    @Transactional(readOnly = true)
+    // Fora de transação: quem aguarda a leitura coalescida não segura conexão do pool
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ProjectResponseDTO findById(UUID id) {
-        Project project = projectRepository.findById(id)
-            .orElseThrow(() -> new ProjectNotFoundException(id));
-        return ProjectMapper.toDTO(project);
+        return coalescer.execute(FIND_BY_ID, id, () -> readOnlyTransaction.execute(status -> {
+            Project project = projectRepository.findById(id)
+                .orElseThrow(() -> new ProjectNotFoundException(id));
+            return ProjectMapper.toDTO(project);
+        }));
+    }
+
+    @Transactional(readOnly = true)
+    public MultiGetResponse<ProjectResponseDTO> findAllById(Collection<UUID> ids) {
+        List<UUID> requested = MultiGet.distinct(ids, multiGetProperties);
+        return MultiGet.inRequestOrder(requested, MultiGet.load(requested, multiGetProperties,
+            projectRepository::findAllById, Project::getId, ProjectMapper::toDTO));
     }
 
     public ProjectResponseDTO create(CreateProjectDTO dto) {
@@ -57,6 +103,8 @@ public class ProjectService {
         // Se houver conflito, OptimisticLockException é lançada e propagada
         // O GlobalExceptionHandler captura e retorna HTTP 409
         Project updatedProject = projectRepository.save(project);
+        coalescer.forgetAfterCommit(FIND_BY_ID, id::equals);
+        invalidations.projectChanged(updatedProject);
         return ProjectMapper.toDTO(updatedProject);
     }
 
@@ -64,7 +112,14 @@ public class ProjectService {
         if (!projectRepository.existsById(id)) {
             throw new ProjectNotFoundException(id);
         }
+        archivedTaskRepository.deleteByProjectId(id);
         projectRepository.deleteById(id);
+        coalescer.forgetAfterCommit(FIND_BY_ID, id::equals);
+        coalescer.forgetAfterCommit(TaskService.FIND_BY_ID, key -> true);
+        coalescer.forgetAfterCommit(TaskService.FIRST_PAGE, key -> true);
+        dependencyIndex.evictAfterCommit(id);
+        boardIndex.evictAfterCommit(id);
+        invalidations.projectRemoved(id);
     }
 
     @Transactional(readOnly = true)
@@ -78,4 +133,15 @@ public class ProjectService {
         return projectRepository.findAll(pageable)
             .map(ProjectMapper::toDTO);
     }
+
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findByUserId(UUID userId, Collection<String> fields, Pageable pageable) {
+        return sparseFieldRepository.findPage(ProjectMapper.FIELDS, ProjectMapper.FIELDS.resolve(fields),
+            (root, query, cb) -> cb.equal(root.get("user").get("id"), userId), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findAll(Collection<String> fields, Pageable pageable) {
+        return sparseFieldRepository.findPage(ProjectMapper.FIELDS, ProjectMapper.FIELDS.resolve(fields), null, pageable);
+    }
 }
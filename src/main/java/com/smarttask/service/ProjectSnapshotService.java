@@ -0,0 +1,295 @@
+package com.smarttask.service;
+
+import com.smarttask.analytics.TaskRollupRecorder;
+import com.smarttask.coalescing.RequestCoalescer;
+import com.smarttask.domain.entity.Project;
+import com.smarttask.domain.entity.User;
+import com.smarttask.dto.ProjectResponseDTO;
+import com.smarttask.exception.ProjectNotFoundException;
+import com.smarttask.exception.UserNotFoundException;
+import com.smarttask.mapper.ProjectMapper;
+import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.ProjectSnapshotOperations.ClosureRow;
+import com.smarttask.repository.ProjectSnapshotOperations.SnapshotDependency;
+import com.smarttask.repository.ProjectSnapshotOperations.SnapshotTask;
+import com.smarttask.repository.UserRepository;
+import com.smarttask.snapshot.ProjectSnapshotFormat;
+import com.smarttask.snapshot.SnapshotHeader;
+import com.smarttask.snapshot.SnapshotProperties;
+import com.smarttask.snapshot.SnapshotReader;
+import com.smarttask.snapshot.SnapshotWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Cópia de um projeto inteiro (tarefas, hierarquia e dependências) para um arquivo binário
+ * ({@link ProjectSnapshotFormat}) e de volta, para backup e para semear outros ambientes.
+ *
+ * <p>A exportação lê as tarefas em fluxo do banco direto para o canal da resposta, sem montar a
+ * lista em memória. A importação grava o corpo num arquivo temporário, mapeia o arquivo em memória,
+ * confere o checksum e insere tudo numa única transação, em INSERTs em lote: tarefas, linhas da
+ * tabela de fechamento (calculadas a partir dos pais) e dependências. Todas as tarefas e o projeto
+ * ganham IDs novos, de modo que o mesmo snapshot pode ser importado várias vezes. Tarefas de
+ * usuários que não existem no destino ficam com o dono do projeto importado; pais de outros
+ * projetos não vêm junto, e essas tarefas viram raízes.</p>
+ */
+@Service
+public class ProjectSnapshotService {
+
+    private static final long TRANSFER_CHUNK = 1 << 20;
+    private static final int USER_LOOKUP_CHUNK = 1000;
+
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final TaskRollupRecorder rollupRecorder;
+    private final RequestCoalescer coalescer;
+    private final SnapshotProperties properties;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final Timer exportTimer;
+    private final Timer importTimer;
+
+    public ProjectSnapshotService(ProjectRepository projectRepository, UserRepository userRepository,
+                                  TaskRollupRecorder rollupRecorder, RequestCoalescer coalescer,
+                                  SnapshotProperties properties, PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.rollupRecorder = rollupRecorder;
+        this.coalescer = coalescer;
+        this.properties = properties;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.exportTimer = Timer.builder("smarttask.snapshot.export")
+            .description("Exportação de snapshot de projeto")
+            .register(meterRegistry);
+        this.importTimer = Timer.builder("smarttask.snapshot.import")
+            .description("Importação de snapshot de projeto, do arquivo já recebido ao commit")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Grava o snapshot do projeto no canal devolvido por {@code open}, chamado só depois de o
+     * projeto ser encontrado (quem chama ainda pode responder 404). O canal não é fechado.
+     *
+     * @return tarefas exportadas
+     */
+    public int export(UUID projectId, Function<SnapshotHeader, WritableByteChannel> open) throws IOException {
+        try {
+            return exportTimer.recordCallable(() -> readOnlyTransaction.execute(status -> {
+                Project project = projectRepository.findById(projectId)
+                    .orElseThrow(() -> new ProjectNotFoundException(projectId));
+                SnapshotHeader header = new SnapshotHeader(LocalDateTime.now(), project.getId(), project.getName(),
+                    project.getDescription(), project.getCreatedAt());
+                SnapshotWriter writer = new SnapshotWriter(open.apply(header));
+                try {
+                    writer.header(header);
+                    projectRepository.forEachSnapshotTask(projectId, task -> unchecked(() -> writer.task(task)));
+                    projectRepository.forEachSnapshotDependency(projectId, dependency -> unchecked(() -> writer.dependency(dependency)));
+                    writer.finish();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return writer.tasks();
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Recebe o snapshot de {@code body} e o importa como um projeto novo de {@code userId}.
+     *
+     * @throws IllegalArgumentException se o arquivo é inválido, está corrompido ou passa do limite
+     */
+    public ProjectResponseDTO importSnapshot(ReadableByteChannel body, UUID userId) throws IOException {
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException(userId);
+        }
+        Path file = Files.createTempFile("project-", ProjectSnapshotFormat.FILE_EXTENSION);
+        try {
+            try (FileChannel target = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                long size = 0;
+                long transferred;
+                while ((transferred = target.transferFrom(body, size, TRANSFER_CHUNK)) > 0) {
+                    size += transferred;
+                    if (size > properties.maxFileSize().toBytes()) {
+                        throw new IllegalArgumentException("Snapshot maior que o limite de " + properties.maxFileSize());
+                    }
+                }
+            }
+            return importFile(file, userId);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    ProjectResponseDTO importFile(Path file, UUID userId) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > properties.maxFileSize().toBytes()) {
+                throw new IllegalArgumentException("Snapshot maior que o limite de " + properties.maxFileSize());
+            }
+            SnapshotReader reader = SnapshotReader.open(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
+            return importTimer.record(() -> writeTransaction.execute(status -> restore(reader, userId)));
+        }
+    }
+
+    private ProjectResponseDTO restore(SnapshotReader reader, UUID userId) {
+        User owner = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(userId));
+
+        // Primeira passada: IDs novos e usuários que existem aqui
+        Map<UUID, UUID> newIds = new HashMap<>(reader.tasks() * 4 / 3 + 1);
+        Set<UUID> users = new HashSet<>();
+        while (reader.hasNext()) {
+            if (SnapshotReader.isTask(reader.next())) {
+                SnapshotTask task = reader.task();
+                newIds.put(task.id(), UUID.randomUUID());
+                users.add(task.userId());
+            } else {
+                reader.dependency();
+            }
+        }
+        Set<UUID> knownUsers = existingUsers(users);
+
+        SnapshotHeader header = reader.header();
+        Project project = projectRepository.saveAndFlush(new Project(header.name(), header.description(), owner));
+        UUID projectId = project.getId();
+
+        Map<UUID, UUID> parentOf = new HashMap<>(newIds.size() * 4 / 3 + 1);
+        List<SnapshotTask> tasks = new ArrayList<>(properties.batchSize());
+        List<ClosureRow> closure = new ArrayList<>(properties.batchSize());
+        List<SnapshotDependency> dependencies = new ArrayList<>(properties.batchSize());
+        reader.rewind();
+        while (reader.hasNext()) {
+            if (!SnapshotReader.isTask(reader.next())) {
+                SnapshotDependency dependency = reader.dependency();
+                UUID taskId = newIds.get(dependency.taskId());
+                UUID dependsOnId = newIds.get(dependency.dependsOnId());
+                if (taskId == null || dependsOnId == null) {
+                    throw new IllegalArgumentException("Snapshot inválido: dependência entre tarefas ausentes do arquivo");
+                }
+                dependencies.add(new SnapshotDependency(taskId, dependsOnId));
+                continue;
+            }
+            SnapshotTask task = reader.task();
+            UUID id = newIds.get(task.id());
+            UUID parentId = task.parentId() != null ? newIds.get(task.parentId()) : null;
+            if (parentId != null && !parentOf.containsKey(parentId)) {
+                throw new IllegalArgumentException("Snapshot inválido: a tarefa " + task.id() + " vem antes do pai");
+            }
+            UUID assignee = knownUsers.contains(task.userId()) ? task.userId() : owner.getId();
+            tasks.add(new SnapshotTask(id, parentId, assignee, task.status(), task.priority(), task.createdAt(),
+                task.updatedAt(), task.dueDate(), task.title(), task.description()));
+            parentOf.put(id, parentId);
+            int depth = 1;
+            for (UUID ancestor = parentId; ancestor != null; ancestor = parentOf.get(ancestor), depth++) {
+                closure.add(new ClosureRow(ancestor, id, depth));
+            }
+            rollupRecorder.created(assignee, projectId, task.createdAt());
+            rollupRecorder.closed(assignee, projectId, task.status(), task.updatedAt(), 1);
+            if (tasks.size() == properties.batchSize()) {
+                projectRepository.insertSnapshotTasks(projectId, tasks);
+                tasks.clear();
+            }
+            if (closure.size() >= properties.batchSize()) {
+                // Os pais já foram inseridos: vêm antes no arquivo e os lotes de tarefas saem antes dos de fechamento
+                projectRepository.insertSnapshotTasks(projectId, tasks);
+                tasks.clear();
+                projectRepository.insertClosureRows(closure);
+                closure.clear();
+            }
+        }
+        projectRepository.insertSnapshotTasks(projectId, tasks);
+        projectRepository.insertClosureRows(closure);
+        requireAcyclic(dependencies);
+        for (int from = 0; from < dependencies.size(); from += properties.batchSize()) {
+            projectRepository.insertSnapshotDependencies(projectId,
+                dependencies.subList(from, Math.min(from + properties.batchSize(), dependencies.size())));
+        }
+        coalescer.forgetAfterCommit(TaskService.FIRST_PAGE, key -> true);
+        return ProjectMapper.toDTO(project);
+    }
+
+    /**
+     * O arquivo não passa pela verificação de {@code TaskDependencyIndex}: ordenação de Kahn sobre as
+     * dependências lidas; se alguma tarefa nunca fica sem pré-requisitos pendentes, há um ciclo.
+     */
+    private static void requireAcyclic(List<SnapshotDependency> dependencies) {
+        Map<UUID, Integer> pending = new HashMap<>();
+        Map<UUID, List<UUID>> dependents = new HashMap<>();
+        for (SnapshotDependency dependency : dependencies) {
+            pending.merge(dependency.taskId(), 1, Integer::sum);
+            pending.putIfAbsent(dependency.dependsOnId(), 0);
+            dependents.computeIfAbsent(dependency.dependsOnId(), id -> new ArrayList<>()).add(dependency.taskId());
+        }
+        ArrayDeque<UUID> ready = new ArrayDeque<>();
+        pending.forEach((id, count) -> {
+            if (count == 0) {
+                ready.add(id);
+            }
+        });
+        int resolved = 0;
+        while (!ready.isEmpty()) {
+            UUID id = ready.poll();
+            resolved++;
+            for (UUID dependent : dependents.getOrDefault(id, List.of())) {
+                if (pending.merge(dependent, -1, Integer::sum) == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+        if (resolved < pending.size()) {
+            throw new IllegalArgumentException("Snapshot inválido: as dependências entre tarefas formam um ciclo");
+        }
+    }
+
+    private Set<UUID> existingUsers(Set<UUID> ids) {
+        List<UUID> all = new ArrayList<>(ids);
+        Set<UUID> existing = new HashSet<>();
+        for (int from = 0; from < all.size(); from += USER_LOOKUP_CHUNK) {
+            existing.addAll(userRepository.findExistingIds(all.subList(from, Math.min(from + USER_LOOKUP_CHUNK, all.size()))));
+        }
+        return existing;
+    }
+
+    private static void unchecked(IoAction action) {
+        try {
+            action.run();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,166 @@
+package com.smarttask.service;
+
+import com.smarttask.analytics.TaskRollupRecorder;
+import com.smarttask.board.TaskBoardIndex;
+import com.smarttask.cluster.ClusterInvalidationPublisher;
+import com.smarttask.coalescing.RequestCoalescer;
+import com.smarttask.dependency.TaskDependencyIndex;
+import com.smarttask.domain.entity.Task;
+import com.smarttask.domain.entity.TaskRecurrence;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.repository.TaskRecurrenceRepository;
+import com.smarttask.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Cria com antecedência as ocorrências das tarefas recorrentes, até {@code smarttask.recurrence.horizon}
+ * dias à frente. Cada bloco de regras roda na própria transação: trava as regras com
+ * {@code SKIP LOCKED}, insere as ocorrências com INSERTs em lote e avança o ponto de retomada das
+ * regras. Um nó que cai no meio de um bloco desfaz só aquele bloco, retomado na próxima execução
+ * (deste ou de outro nó); nós rodando ao mesmo tempo dividem as regras entre si.
+ */
+@Service
+@ConditionalOnProperty(prefix = "smarttask.recurrence", name = "enabled", havingValue = "true")
+public class RecurrenceMaterializer {
+
+    private static final Logger log = LoggerFactory.getLogger(RecurrenceMaterializer.class);
+    private static final LocalTime DEFAULT_DUE_TIME = LocalTime.of(23, 59, 59);
+
+    private final TaskRecurrenceRepository recurrenceRepository;
+    private final TaskRepository taskRepository;
+    private final RecurrenceProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final RequestCoalescer coalescer;
+    private final TaskDependencyIndex dependencyIndex;
+    private final TaskBoardIndex boardIndex;
+    private final ClusterInvalidationPublisher invalidations;
+    private final TaskRollupRecorder rollupRecorder;
+
+    public RecurrenceMaterializer(TaskRecurrenceRepository recurrenceRepository, TaskRepository taskRepository,
+                                  RecurrenceProperties properties, PlatformTransactionManager transactionManager,
+                                  RequestCoalescer coalescer, TaskDependencyIndex dependencyIndex,
+                                  TaskBoardIndex boardIndex, TaskRollupRecorder rollupRecorder,
+                                  ClusterInvalidationPublisher invalidations) {
+        this.recurrenceRepository = recurrenceRepository;
+        this.taskRepository = taskRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.coalescer = coalescer;
+        this.dependencyIndex = dependencyIndex;
+        this.boardIndex = boardIndex;
+        this.invalidations = invalidations;
+        this.rollupRecorder = rollupRecorder;
+    }
+
+    @Scheduled(cron = "${smarttask.recurrence.cron:0 5 0 * * *}")
+    public void materializeUpcoming() {
+        materializeThrough(LocalDate.now().plusDays(properties.horizon().toDays()));
+    }
+
+    /** @return ocorrências criadas */
+    public int materializeThrough(LocalDate horizon) {
+        log.info("Materialização de recorrências até {}: {} regras pendentes", horizon, recurrenceRepository.countDue(horizon));
+        int rules = 0;
+        int created = 0;
+        for (int chunk = 0; chunk < properties.maxChunksPerRun(); chunk++) {
+            Chunk result = materializeChunk(horizon);
+            if (result.rules() == 0) {
+                break;
+            }
+            rules += result.rules();
+            created += result.created();
+            if (!pause()) {
+                break;
+            }
+        }
+        log.info("Materialização de recorrências concluída: {} regras, {} tarefas criadas (até {})", rules, created, horizon);
+        return created;
+    }
+
+    Chunk materializeChunk(LocalDate horizon) {
+        Chunk chunk = transactionTemplate.execute(status -> {
+            List<TaskRecurrence> recurrences = recurrenceRepository.claimDue(horizon, PageRequest.ofSize(properties.chunkSize()));
+            if (recurrences.isEmpty()) {
+                return new Chunk(0, 0);
+            }
+            Map<UUID, Task> templates = taskRepository.findAllById(recurrences.stream()
+                    .map(recurrence -> recurrence.getTemplate().getId())
+                    .toList())
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+            List<Task> instances = new ArrayList<>();
+            for (TaskRecurrence recurrence : recurrences) {
+                Task template = templates.get(recurrence.getTemplate().getId());
+                LocalTime dueTime = recurrence.getDueTime() != null ? recurrence.getDueTime() : DEFAULT_DUE_TIME;
+                for (LocalDate date : RecurrenceSchedule.occurrences(recurrence, recurrence.getMaterializedThrough(), horizon)) {
+                    instances.add(instanceOf(template, date.atTime(dueTime)));
+                }
+            }
+            int created = taskRepository.insertAll(instances, properties.insertBatchSize());
+            recurrenceRepository.advanceCheckpoint(recurrences.stream().map(TaskRecurrence::getId).toList(), horizon);
+
+            Map<UUID, List<Task>> byProject = new HashMap<>();
+            for (Task instance : instances) {
+                rollupRecorder.created(instance.getUser().getId(), instance.getProject().getId(), instance.getCreatedAt());
+                byProject.computeIfAbsent(instance.getProject().getId(), key -> new ArrayList<>()).add(instance);
+            }
+            byProject.forEach((projectId, projectInstances) -> {
+                dependencyIndex.updateAfterCommit(projectId, graph -> projectInstances.forEach(task -> graph.putTask(task.getId(), true)));
+                boardIndex.updateAfterCommit(projectId, columns -> projectInstances.forEach(columns::put));
+            });
+            invalidations.tasksChanged(instances);
+            if (created > 0) {
+                coalescer.forgetAfterCommit(TaskService.FIRST_PAGE, key -> true);
+            }
+            return new Chunk(recurrences.size(), created);
+        });
+        return chunk != null ? chunk : new Chunk(0, 0);
+    }
+
+    private static Task instanceOf(Task template, LocalDateTime dueDate) {
+        Task instance = new Task();
+        instance.setTitle(template.getTitle());
+        instance.setDescription(template.getDescription());
+        instance.setStatus(TaskStatus.PENDING);
+        instance.setPriority(template.getPriority());
+        instance.setDueDate(dueDate);
+        instance.setUser(template.getUser());
+        instance.setProject(template.getProject());
+        return instance;
+    }
+
+    private boolean pause() {
+        if (properties.pauseBetweenChunks().isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(properties.pauseBetweenChunks().toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            // Desligamento: o que faltou fica para a próxima execução
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    record Chunk(int rules, int created) {}
+}
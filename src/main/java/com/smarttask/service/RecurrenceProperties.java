@@ -0,0 +1,28 @@
+package com.smarttask.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Materialização de tarefas recorrentes.
+ *
+ * @param enabled            liga o job agendado
+ * @param horizon            até quantos dias à frente as ocorrências são criadas
+ * @param chunkSize          regras processadas por transação
+ * @param insertBatchSize    linhas por INSERT em lote
+ * @param pauseBetweenChunks intervalo entre transações, para espalhar a carga sobre {@code tasks} e seus índices
+ * @param maxChunksPerRun    limite de blocos por execução; o restante fica para a próxima
+ * @param cron               agenda do job
+ */
+@ConfigurationProperties(prefix = "smarttask.recurrence")
+public record RecurrenceProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("14d") Duration horizon,
+    @DefaultValue("200") int chunkSize,
+    @DefaultValue("500") int insertBatchSize,
+    @DefaultValue("50ms") Duration pauseBetweenChunks,
+    @DefaultValue("10000") int maxChunksPerRun,
+    @DefaultValue("0 5 0 * * *") String cron
+) {}
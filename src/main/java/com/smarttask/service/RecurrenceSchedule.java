@@ -0,0 +1,73 @@
+package com.smarttask.service;
+
+import com.smarttask.domain.entity.TaskRecurrence;
+import com.smarttask.domain.enums.RecurrenceFrequency;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/** Datas de ocorrência de uma {@link TaskRecurrence}. */
+final class RecurrenceSchedule {
+
+    private RecurrenceSchedule() {
+    }
+
+    static int mask(Collection<DayOfWeek> days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        return mask;
+    }
+
+    static Set<DayOfWeek> days(int mask) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if ((mask & (1 << (day.getValue() - 1))) != 0) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+
+    /** Ocorrências depois de {@code after} e até {@code through} (inclusive), limitadas ao início e ao fim da regra. */
+    static List<LocalDate> occurrences(TaskRecurrence recurrence, LocalDate after, LocalDate through) {
+        LocalDate from = after.plusDays(1);
+        if (from.isBefore(recurrence.getStartsOn())) {
+            from = recurrence.getStartsOn();
+        }
+        if (recurrence.getEndsOn() != null && recurrence.getEndsOn().isBefore(through)) {
+            through = recurrence.getEndsOn();
+        }
+        List<LocalDate> dates = new ArrayList<>();
+        if (from.isAfter(through)) {
+            return dates;
+        }
+        int interval = recurrence.getInterval();
+        if (recurrence.getFrequency() == RecurrenceFrequency.DAILY) {
+            long offset = ChronoUnit.DAYS.between(recurrence.getStartsOn(), from);
+            LocalDate date = recurrence.getStartsOn().plusDays((offset + interval - 1) / interval * interval);
+            for (; !date.isAfter(through); date = date.plusDays(interval)) {
+                dates.add(date);
+            }
+            return dates;
+        }
+        // Semanal: semanas contadas a partir da semana (segunda a domingo) do início da regra
+        LocalDate firstWeek = recurrence.getStartsOn().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        int mask = recurrence.getDaysOfWeek();
+        for (LocalDate date = from; !date.isAfter(through); date = date.plusDays(1)) {
+            long week = ChronoUnit.WEEKS.between(firstWeek, date);
+            if (week % interval == 0 && (mask & (1 << (date.getDayOfWeek().getValue() - 1))) != 0) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+}
@@ -0,0 +1,75 @@
+package com.smarttask.service;
+
+import com.smarttask.analytics.AnalyticsProperties;
+import com.smarttask.domain.enums.RollupGranularity;
+import com.smarttask.dto.ThroughputPointDTO;
+import com.smarttask.dto.ThroughputSeriesDTO;
+import com.smarttask.repository.TaskRollupOperations.SeriesPoint;
+import com.smarttask.repository.TaskRollupRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Séries de vazão lidas só dos rollups: uma consulta agregada por série, sem tocar em {@code tasks}.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TaskAnalyticsService {
+
+    private static final int DEFAULT_DAYS = 30;
+    private static final int DEFAULT_HOURS = 48;
+
+    private final TaskRollupRepository rollupRepository;
+    private final AnalyticsProperties properties;
+
+    public TaskAnalyticsService(TaskRollupRepository rollupRepository, AnalyticsProperties properties) {
+        this.rollupRepository = rollupRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * Série em {@code [from, to)}, com as bordas alinhadas aos baldes. Sem {@code to}, vai até o balde
+     * corrente, inclusive; sem {@code from}, cobre os últimos 30 dias ou 48 horas.
+     */
+    public ThroughputSeriesDTO throughput(RollupGranularity granularity, LocalDateTime from, LocalDateTime to,
+                                          UUID userId, UUID projectId) {
+        RollupGranularity unit = granularity != null ? granularity : RollupGranularity.DAY;
+        LocalDateTime end = to != null ? ceil(unit, to) : unit.next(unit.bucketOf(LocalDateTime.now()));
+        LocalDateTime start = from != null
+            ? unit.bucketOf(from)
+            : end.minus(unit == RollupGranularity.DAY ? DEFAULT_DAYS : DEFAULT_HOURS, unit.unit());
+        if (!start.isBefore(end)) {
+            throw new IllegalArgumentException("from deve ser anterior a to");
+        }
+        long buckets = unit.unit().between(start, end);
+        if (buckets > properties.maxSeriesPoints()) {
+            throw new IllegalArgumentException("A série teria " + buckets + " pontos; o máximo é "
+                + properties.maxSeriesPoints() + ". Reduza o período ou use uma granularidade maior");
+        }
+
+        Map<LocalDateTime, SeriesPoint> found = new HashMap<>();
+        for (SeriesPoint point : rollupRepository.findSeries(unit, start, end, userId, projectId)) {
+            found.put(point.bucketStart(), point);
+        }
+        List<ThroughputPointDTO> points = new ArrayList<>((int) buckets);
+        for (LocalDateTime bucket = start; bucket.isBefore(end); bucket = unit.next(bucket)) {
+            SeriesPoint point = found.get(bucket);
+            points.add(point != null
+                ? new ThroughputPointDTO(bucket, point.created(), point.completed(), point.cancelled())
+                : new ThroughputPointDTO(bucket, 0, 0, 0));
+        }
+        return new ThroughputSeriesDTO(unit, start, end, userId, projectId, points);
+    }
+
+    private static LocalDateTime ceil(RollupGranularity unit, LocalDateTime time) {
+        LocalDateTime bucket = unit.bucketOf(time);
+        return bucket.equals(time) ? bucket : unit.next(bucket);
+    }
+}
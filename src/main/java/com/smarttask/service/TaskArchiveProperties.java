@@ -0,0 +1,24 @@
+package com.smarttask.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Arquivamento de tarefas fechadas.
+ *
+ * @param enabled          liga o job agendado
+ * @param minAge           idade mínima (desde a última atualização) para arquivar uma tarefa COMPLETED/CANCELLED
+ * @param batchSize        tarefas movidas por transação
+ * @param maxBatchesPerRun limite de lotes por execução, para não estender a janela de manutenção
+ * @param cron             agenda do job
+ */
+@ConfigurationProperties(prefix = "smarttask.archive")
+public record TaskArchiveProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("90d") Duration minAge,
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("1000") int maxBatchesPerRun,
+    @DefaultValue("0 30 3 * * *") String cron
+) {}
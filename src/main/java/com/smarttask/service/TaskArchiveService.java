@@ -0,0 +1,100 @@
+package com.smarttask.service;
+
+import com.smarttask.board.TaskBoardIndex;
+import com.smarttask.cluster.ClusterInvalidationPublisher;
+import com.smarttask.coalescing.RequestCoalescer;
+import com.smarttask.dependency.TaskDependencyIndex;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.repository.ArchivedTaskRepository;
+import com.smarttask.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Move tarefas COMPLETED/CANCELLED mais antigas que {@code smarttask.archive.min-age}, sem
+ * subtarefas e que não sejam modelo de recorrência, da tabela {@code tasks} para
+ * {@code tasks_archive}. Cada lote roda na própria transação (trava, copia e
+ * apaga), mantendo locks curtos. O lote é travado com {@code SKIP LOCKED}: nós concorrentes pegam
+ * lotes diferentes e tarefas sendo editadas ficam para a próxima execução. Cópia e remoção repetem
+ * os critérios da seleção, então nada que deixou de atendê-los sai da tabela quente.
+ */
+@Service
+@ConditionalOnProperty(prefix = "smarttask.archive", name = "enabled", havingValue = "true")
+public class TaskArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiveService.class);
+    private static final Set<TaskStatus> CLOSED = EnumSet.of(TaskStatus.COMPLETED, TaskStatus.CANCELLED);
+    private static final List<String> CLOSED_NAMES = CLOSED.stream().map(Enum::name).toList();
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskArchiveProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final RequestCoalescer coalescer;
+    private final TaskDependencyIndex dependencyIndex;
+    private final TaskBoardIndex boardIndex;
+    private final ClusterInvalidationPublisher invalidations;
+
+    public TaskArchiveService(TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository,
+                              TaskArchiveProperties properties, PlatformTransactionManager transactionManager,
+                              RequestCoalescer coalescer, TaskDependencyIndex dependencyIndex,
+                              TaskBoardIndex boardIndex, ClusterInvalidationPublisher invalidations) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.coalescer = coalescer;
+        this.dependencyIndex = dependencyIndex;
+        this.boardIndex = boardIndex;
+        this.invalidations = invalidations;
+    }
+
+    @Scheduled(cron = "${smarttask.archive.cron:0 30 3 * * *}")
+    public void archiveClosedTasks() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.minAge());
+        int total = 0;
+        for (int batch = 0; batch < properties.maxBatchesPerRun(); batch++) {
+            int moved = archiveBatch(cutoff);
+            total += moved;
+            if (moved < properties.batchSize()) {
+                break;
+            }
+        }
+        log.info("Arquivamento concluído: {} tarefas movidas para tasks_archive (corte {})", total, cutoff);
+    }
+
+    int archiveBatch(LocalDateTime cutoff) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<UUID> ids = taskRepository.findIdsToArchive(CLOSED, cutoff, PageRequest.ofSize(properties.batchSize()));
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            int copied = archivedTaskRepository.copyFromTasks(ids, CLOSED_NAMES, cutoff, LocalDateTime.now());
+            coalescer.forgetAfterCommit(TaskService.FIRST_PAGE, key -> true);
+            // As dependências das tarefas movidas saem pela chave estrangeira
+            dependencyIndex.evictAllAfterCommit();
+            boardIndex.evictAllAfterCommit();
+            invalidations.invalidateAll();
+            int deleted = taskRepository.deleteArchived(ids, CLOSED, cutoff);
+            if (deleted != copied) {
+                // Os critérios são os mesmos e as linhas estão travadas: divergência é bug, não corrida
+                throw new IllegalStateException("Lote de arquivamento inconsistente: " + copied
+                    + " copiadas, " + deleted + " apagadas");
+            }
+            return deleted;
+        });
+        return moved != null ? moved : 0;
+    }
+}
@@ -0,0 +1,108 @@
+package com.smarttask.service;
+
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.dto.BoardColumnDTO;
+import com.smarttask.dto.TaskBoardDTO;
+import com.smarttask.dto.TaskCardDTO;
+import com.smarttask.exception.ProjectNotFoundException;
+import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.TaskBoardOperations.BoardCard;
+import com.smarttask.repository.TaskBoardOperations.BoardPosition;
+import com.smarttask.repository.TaskRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Quadro kanban de um projeto: as primeiras tarefas de cada status numa única consulta com
+ * funções de janela, e as seguintes de uma coluna por cursor. O cursor carrega a posição da
+ * última tarefa entregue, de modo que tarefas incluídas ou movidas entre páginas não fazem a
+ * coluna repetir nem pular as que já estavam depois dela.
+ */
+@Service
+@Transactional(readOnly = true)
+public class TaskBoardService {
+
+    static final int MAX_PER_COLUMN = 100;
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+
+    public TaskBoardService(TaskRepository taskRepository, ProjectRepository projectRepository) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+    }
+
+    public TaskBoardDTO board(UUID projectId, int perColumn) {
+        checkLimit(perColumn);
+        requireProject(projectId);
+        Map<TaskStatus, List<BoardCard>> byStatus = new EnumMap<>(TaskStatus.class);
+        for (BoardCard card : taskRepository.findBoard(projectId, perColumn)) {
+            byStatus.computeIfAbsent(card.status(), status -> new ArrayList<>()).add(card);
+        }
+        List<BoardColumnDTO> columns = new ArrayList<>();
+        for (TaskStatus status : TaskStatus.values()) {
+            List<BoardCard> cards = byStatus.getOrDefault(status, List.of());
+            long total = cards.isEmpty() ? 0 : cards.get(0).columnTotal();
+            columns.add(column(status, total, cards, total > cards.size()));
+        }
+        return new TaskBoardDTO(projectId, columns);
+    }
+
+    public BoardColumnDTO column(UUID projectId, TaskStatus status, String after, int limit) {
+        checkLimit(limit);
+        BoardPosition position = decode(after);
+        requireProject(projectId);
+        // Uma a mais só para saber se há próxima página
+        List<BoardCard> cards = taskRepository.findColumnAfter(projectId, status, position, limit + 1);
+        boolean more = cards.size() > limit;
+        return column(status, null, more ? cards.subList(0, limit) : cards, more);
+    }
+
+    private static BoardColumnDTO column(TaskStatus status, Long total, List<BoardCard> cards, boolean more) {
+        List<TaskCardDTO> tasks = cards.stream()
+            .map(card -> new TaskCardDTO(card.id(), card.title(), card.status(), card.priority(), card.dueDate(),
+                card.updatedAt(), card.userId(), card.version()))
+            .toList();
+        String next = more ? encode(cards.get(cards.size() - 1).position()) : null;
+        return new BoardColumnDTO(status, total, tasks, next);
+    }
+
+    static String encode(BoardPosition position) {
+        String raw = position.rank() + "|" + position.dueKey() + "|" + position.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static BoardPosition decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length == 3) {
+                return new BoardPosition(Integer.parseInt(parts[0]), LocalDateTime.parse(parts[1]), UUID.fromString(parts[2]));
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Base64, número e UUID malformados chegam como IllegalArgumentException
+        }
+        throw new IllegalArgumentException("Cursor inválido: " + cursor);
+    }
+
+    private static void checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_PER_COLUMN) {
+            throw new IllegalArgumentException("O limite por coluna deve estar entre 1 e " + MAX_PER_COLUMN);
+        }
+    }
+
+    private void requireProject(UUID projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new ProjectNotFoundException(projectId);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.smarttask.service;
+
+import com.smarttask.cluster.ClusterInvalidationPublisher;
+import com.smarttask.dependency.TaskDependencyGraph;
+import com.smarttask.dependency.TaskDependencyIndex;
+import com.smarttask.domain.entity.TaskDependency;
+import com.smarttask.exception.ProjectNotFoundException;
+import com.smarttask.exception.TaskArchivedException;
+import com.smarttask.exception.TaskNotFoundException;
+import com.smarttask.repository.ArchivedTaskRepository;
+import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.TaskDependencyRepository;
+import com.smarttask.repository.TaskRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Dependências "bloqueada por" entre tarefas do mesmo projeto. As consultas respondem a partir
+ * do {@link TaskDependencyIndex}; o banco só é lido para localizar o projeto da tarefa e, no
+ * primeiro uso, para carregar o grafo.
+ */
+@Service
+@Transactional
+public class TaskDependencyService {
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskDependencyRepository dependencyRepository;
+    private final TaskDependencyIndex dependencyIndex;
+    private final ClusterInvalidationPublisher invalidations;
+
+    public TaskDependencyService(TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository,
+                                 ProjectRepository projectRepository, TaskDependencyRepository dependencyRepository,
+                                 TaskDependencyIndex dependencyIndex, ClusterInvalidationPublisher invalidations) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.projectRepository = projectRepository;
+        this.dependencyRepository = dependencyRepository;
+        this.dependencyIndex = dependencyIndex;
+        this.invalidations = invalidations;
+    }
+
+    /**
+     * Registra que {@code taskId} só pode ser executada depois de {@code dependsOnId}.
+     * Repetir a chamada não tem efeito.
+     */
+    public void addDependency(UUID taskId, UUID dependsOnId) {
+        if (taskId.equals(dependsOnId)) {
+            throw new IllegalArgumentException("Uma tarefa não pode depender de si mesma");
+        }
+        UUID projectId = projectOf(taskId);
+        if (!projectId.equals(projectOf(dependsOnId))) {
+            throw new IllegalArgumentException("Dependências só podem ligar tarefas do mesmo projeto");
+        }
+        // O lock da instância não vale para as outras: a linha do projeto serializa as inclusões no banco
+        projectRepository.lockById(projectId).orElseThrow(() -> new ProjectNotFoundException(projectId));
+        boolean added = dependencyIndex.addDependency(projectId, taskId, dependsOnId, () -> dependencyRepository.save(
+            new TaskDependency(taskRepository.getReferenceById(taskId), taskRepository.getReferenceById(dependsOnId), projectId)));
+        if (added) {
+            invalidations.dependenciesChanged(projectId);
+        }
+    }
+
+    public void removeDependency(UUID taskId, UUID dependsOnId) {
+        UUID projectId = projectOf(taskId);
+        if (dependencyRepository.deleteByTaskIdAndDependsOnId(taskId, dependsOnId) > 0) {
+            dependencyIndex.updateAfterCommit(projectId, graph -> graph.removeDependency(taskId, dependsOnId));
+            invalidations.dependenciesChanged(projectId);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<UUID> findPrerequisites(UUID taskId) {
+        return readForTask(taskId, graph -> graph.prerequisitesOf(taskId));
+    }
+
+    /** Tarefas que deixam de estar bloqueadas quando {@code taskId} for concluída. */
+    @Transactional(readOnly = true)
+    public List<UUID> findUnblockedBy(UUID taskId) {
+        return readForTask(taskId, graph -> graph.unblockedBy(taskId));
+    }
+
+    /** Tarefas abertas do projeto sem pré-requisito aberto: podem ser iniciadas agora. */
+    @Transactional(readOnly = true)
+    public List<UUID> findActionable(UUID projectId) {
+        requireProject(projectId);
+        return dependencyIndex.read(projectId, TaskDependencyGraph::actionable);
+    }
+
+    /** Maior cadeia de tarefas abertas dependentes entre si, na ordem em que precisam ser feitas. */
+    @Transactional(readOnly = true)
+    public List<UUID> findCriticalPath(UUID projectId) {
+        requireProject(projectId);
+        return dependencyIndex.read(projectId, TaskDependencyGraph::criticalPath);
+    }
+
+    private List<UUID> readForTask(UUID taskId, Function<TaskDependencyGraph, List<UUID>> query) {
+        // Tarefas arquivadas estão fechadas e já saíram do grafo
+        return taskRepository.findProjectIdById(taskId)
+            .map(projectId -> dependencyIndex.read(projectId, query))
+            .orElseGet(() -> {
+                if (!archivedTaskRepository.existsById(taskId)) {
+                    throw new TaskNotFoundException(taskId);
+                }
+                return List.of();
+            });
+    }
+
+    private UUID projectOf(UUID taskId) {
+        return taskRepository.findProjectIdById(taskId)
+            .orElseThrow(() -> archivedTaskRepository.existsById(taskId)
+                ? new TaskArchivedException(taskId)
+                : new TaskNotFoundException(taskId));
+    }
+
+    private void requireProject(UUID projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new ProjectNotFoundException(projectId);
+        }
+    }
+}
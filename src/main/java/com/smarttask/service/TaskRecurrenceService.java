@@ -0,0 +1,109 @@
+package com.smarttask.service;
+
+import com.smarttask.domain.entity.Task;
+import com.smarttask.domain.entity.TaskRecurrence;
+import com.smarttask.domain.enums.RecurrenceFrequency;
+import com.smarttask.dto.TaskRecurrenceDTO;
+import com.smarttask.dto.TaskRecurrenceResponseDTO;
+import com.smarttask.exception.TaskArchivedException;
+import com.smarttask.exception.TaskNotFoundException;
+import com.smarttask.repository.ArchivedTaskRepository;
+import com.smarttask.repository.TaskRecurrenceRepository;
+import com.smarttask.repository.TaskRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Regras de recorrência das tarefas modelo. As ocorrências são criadas pelo
+ * {@link RecurrenceMaterializer}, não aqui.
+ */
+@Service
+@Transactional
+public class TaskRecurrenceService {
+
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskRecurrenceRepository recurrenceRepository;
+
+    public TaskRecurrenceService(TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository,
+                                 TaskRecurrenceRepository recurrenceRepository) {
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.recurrenceRepository = recurrenceRepository;
+    }
+
+    /**
+     * Cria ou substitui a regra da tarefa. Numa substituição, as ocorrências já criadas ficam e a regra
+     * nova só vale depois delas: datas até {@code materializedThrough} não são geradas de novo.
+     */
+    public TaskRecurrenceResponseDTO define(UUID taskId, TaskRecurrenceDTO dto) {
+        Task template = taskRepository.findById(taskId).orElseThrow(() -> archivedTaskRepository.existsById(taskId)
+            ? new TaskArchivedException(taskId) : new TaskNotFoundException(taskId));
+        if (dto.endsOn() != null && dto.endsOn().isBefore(dto.startsOn())) {
+            throw new IllegalArgumentException("endsOn não pode ser anterior a startsOn");
+        }
+        Set<DayOfWeek> days = dto.daysOfWeek() != null ? dto.daysOfWeek() : Set.of();
+        if (dto.frequency() == RecurrenceFrequency.DAILY && !days.isEmpty()) {
+            throw new IllegalArgumentException("daysOfWeek só se aplica a recorrências WEEKLY");
+        }
+        if (dto.frequency() == RecurrenceFrequency.WEEKLY && days.isEmpty()) {
+            days = Set.of(dto.startsOn().getDayOfWeek());
+        }
+
+        LocalDate beforeStart = dto.startsOn().minusDays(1);
+        TaskRecurrence recurrence = recurrenceRepository.findByTemplateId(taskId).orElse(null);
+        if (recurrence == null) {
+            recurrence = new TaskRecurrence(template);
+            recurrence.setMaterializedThrough(beforeStart);
+        } else if (recurrence.getMaterializedThrough().isBefore(beforeStart)) {
+            recurrence.setMaterializedThrough(beforeStart);
+        }
+        recurrence.setFrequency(dto.frequency());
+        recurrence.setInterval(dto.interval() != null ? dto.interval() : 1);
+        recurrence.setDaysOfWeek(RecurrenceSchedule.mask(days));
+        recurrence.setStartsOn(dto.startsOn());
+        recurrence.setEndsOn(dto.endsOn());
+        recurrence.setDueTime(dto.dueTime());
+        return toDTO(recurrenceRepository.save(recurrence));
+    }
+
+    @Transactional(readOnly = true)
+    public TaskRecurrenceResponseDTO find(UUID taskId) {
+        return recurrenceRepository.findByTemplateId(taskId)
+            .map(TaskRecurrenceService::toDTO)
+            .orElseThrow(() -> notRecurring(taskId));
+    }
+
+    /** Encerra a recorrência; as ocorrências já criadas continuam como tarefas comuns. */
+    public void remove(UUID taskId) {
+        if (recurrenceRepository.deleteByTemplateId(taskId) == 0) {
+            throw notRecurring(taskId);
+        }
+    }
+
+    private TaskNotFoundException notRecurring(UUID taskId) {
+        if (!taskRepository.existsById(taskId) && !archivedTaskRepository.existsById(taskId)) {
+            return new TaskNotFoundException(taskId);
+        }
+        return new TaskNotFoundException("Tarefa não tem recorrência: " + taskId);
+    }
+
+    private static TaskRecurrenceResponseDTO toDTO(TaskRecurrence recurrence) {
+        return new TaskRecurrenceResponseDTO(
+            recurrence.getId(),
+            recurrence.getTemplate().getId(),
+            recurrence.getFrequency(),
+            recurrence.getInterval(),
+            RecurrenceSchedule.days(recurrence.getDaysOfWeek()),
+            recurrence.getStartsOn(),
+            recurrence.getEndsOn(),
+            recurrence.getDueTime(),
+            recurrence.getMaterializedThrough()
+        );
+    }
+}
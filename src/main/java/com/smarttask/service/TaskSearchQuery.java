@@ -0,0 +1,97 @@
+package com.smarttask.service;
+
+import com.smarttask.domain.entity.Task;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.dto.TaskSearchRequest;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compila um {@link TaskSearchRequest} em uma única consulta que sempre começa por um índice.
+ *
+ * <p>A busca precisa de projectId ou userId: são as colunas iniciais dos índices
+ * {@code idx_tasks_project_*} e {@code idx_tasks_user_*}; sem elas a consulta varreria a tabela inteira.
+ * Filtros redundantes são reescritos (todos os status, prioridade mínima LOW) e {@code priority >= X}
+ * vira um {@code IN}, já que a prioridade é gravada como texto. A ordenação só aceita as colunas que
+ * fecham esses índices, com o id como desempate para paginação estável.</p>
+ */
+final class TaskSearchQuery {
+
+    static final Set<String> SORTABLE = Set.of("dueDate", "createdAt");
+
+    private TaskSearchQuery() {
+    }
+
+    static Specification<Task> compile(TaskSearchRequest request) {
+        if (request.projectId() == null && request.userId() == null) {
+            throw new IllegalArgumentException("Informe projectId ou userId: buscas sem eles exigiriam varrer todas as tarefas");
+        }
+        if (request.dueFrom() != null && request.dueTo() != null && request.dueFrom().isAfter(request.dueTo())) {
+            throw new IllegalArgumentException("dueFrom deve ser anterior ou igual a dueTo");
+        }
+        Set<TaskStatus> statuses = normalizedStatuses(request.statuses());
+        Set<TaskPriority> priorities = prioritiesFrom(request.minPriority());
+
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (request.projectId() != null) {
+                predicates.add(cb.equal(root.get("project").get("id"), request.projectId()));
+            }
+            if (request.userId() != null) {
+                predicates.add(cb.equal(root.get("user").get("id"), request.userId()));
+            }
+            if (statuses != null) {
+                predicates.add(root.get("status").in(statuses));
+            }
+            if (priorities != null) {
+                predicates.add(root.get("priority").in(priorities));
+            }
+            if (request.dueFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("dueDate"), request.dueFrom()));
+            }
+            if (request.dueTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("dueDate"), request.dueTo()));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Valida a ordenação pedida e acrescenta o id como desempate. Sem ordenação, usa {@code dueDate}.
+     */
+    static Pageable sorted(Pageable pageable) {
+        Sort sort = pageable.getSort();
+        for (Sort.Order order : sort) {
+            if (!SORTABLE.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Ordenação não suportada: " + order.getProperty()
+                    + ". Use uma destas, apoiadas por índice: " + String.join(", ", SORTABLE));
+            }
+        }
+        Sort effective = sort.isSorted() ? sort : Sort.by("dueDate");
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), effective.and(Sort.by("id")));
+    }
+
+    private static Set<TaskStatus> normalizedStatuses(Set<TaskStatus> statuses) {
+        if (statuses == null || statuses.isEmpty() || statuses.containsAll(Arrays.asList(TaskStatus.values()))) {
+            return null;
+        }
+        return EnumSet.copyOf(statuses);
+    }
+
+    private static Set<TaskPriority> prioritiesFrom(TaskPriority minPriority) {
+        if (minPriority == null || minPriority == TaskPriority.LOW) {
+            return null;
+        }
+        return EnumSet.range(minPriority, TaskPriority.URGENT);
+    }
+}
@@ -1,45 +1,133 @@
 package com.smarttask.service;
 
+import com.smarttask.analytics.TaskRollupRecorder;
+import com.smarttask.board.TaskBoardIndex;
+import com.smarttask.cluster.ClusterInvalidationPublisher;
+import com.smarttask.coalescing.RequestCoalescer;
+import com.smarttask.dependency.TaskDependencyIndex;
+import com.smarttask.domain.entity.ArchivedTask;
 import com.smarttask.domain.entity.Project;
 import com.smarttask.domain.entity.Task;
 import com.smarttask.domain.entity.User;
 import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.dto.BulkTaskUpdateRequest;
+import com.smarttask.dto.BulkTaskUpdateResponse;
 import com.smarttask.dto.CreateTaskDTO;
+import com.smarttask.dto.MultiGetResponse;
 import com.smarttask.dto.TaskResponseDTO;
+import com.smarttask.dto.TaskSearchRequest;
+import com.smarttask.dto.TaskSubtreeSummaryDTO;
 import com.smarttask.dto.UpdateTaskDTO;
 import com.smarttask.exception.ProjectNotFoundException;
+import com.smarttask.exception.TaskArchivedException;
 import com.smarttask.exception.TaskNotFoundException;
 import com.smarttask.exception.UserNotFoundException;
 import com.smarttask.mapper.TaskMapper;
+import com.smarttask.repository.ArchivedTaskRepository;
 import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.SparseFieldRepository;
+import com.smarttask.repository.TaskClosureRepository;
+import com.smarttask.repository.TaskDependencyRepository;
 import com.smarttask.repository.TaskRepository;
 import com.smarttask.repository.UserRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @Service
 @Transactional
 public class TaskService {
 
+    static final String FIND_BY_ID = "task.findById";
+    static final String FIRST_PAGE = "task.firstPage";
+
+    // Limite de parâmetros por DELETE ... IN ao remover subárvores grandes
+    private static final int SUBTREE_DELETE_CHUNK = 1000;
+
     private final TaskRepository taskRepository;
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final RequestCoalescer coalescer;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MultiGetProperties multiGetProperties;
+    private final SparseFieldRepository sparseFieldRepository;
+    private final TransactionTemplate writeTransaction;
+    private final BulkUpdateProperties bulkUpdateProperties;
+    private final TaskDependencyRepository dependencyRepository;
+    private final TaskDependencyIndex dependencyIndex;
+    private final TaskClosureRepository closureRepository;
+    private final TaskRollupRecorder rollupRecorder;
+    private final TaskBoardIndex boardIndex;
+    private final ClusterInvalidationPublisher invalidations;
 
-    public TaskService(TaskRepository taskRepository, UserRepository userRepository, ProjectRepository projectRepository) {
+    public TaskService(TaskRepository taskRepository, UserRepository userRepository, ProjectRepository projectRepository,
+                       ArchivedTaskRepository archivedTaskRepository, RequestCoalescer coalescer,
+                       PlatformTransactionManager transactionManager, MultiGetProperties multiGetProperties,
+                       SparseFieldRepository sparseFieldRepository, BulkUpdateProperties bulkUpdateProperties,
+                       TaskDependencyRepository dependencyRepository, TaskDependencyIndex dependencyIndex,
+                       TaskClosureRepository closureRepository, TaskRollupRecorder rollupRecorder,
+                       TaskBoardIndex boardIndex, ClusterInvalidationPublisher invalidations) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
         this.projectRepository = projectRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.coalescer = coalescer;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.multiGetProperties = multiGetProperties;
+        this.sparseFieldRepository = sparseFieldRepository;
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.bulkUpdateProperties = bulkUpdateProperties;
+        this.dependencyRepository = dependencyRepository;
+        this.dependencyIndex = dependencyIndex;
+        this.closureRepository = closureRepository;
+        this.rollupRecorder = rollupRecorder;
+        this.boardIndex = boardIndex;
+        this.invalidations = invalidations;
     }
 
-    @Transactional(readOnly = true)
+    // Fora de transação: quem aguarda a leitura coalescida não segura conexão do pool
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TaskResponseDTO findById(UUID id) {
-        Task task = taskRepository.findById(id)
-            .orElseThrow(() -> new TaskNotFoundException(id));
-        return TaskMapper.toDTO(task);
+        // Tarefas antigas já fechadas podem ter sido movidas para o arquivo
+        return coalescer.execute(FIND_BY_ID, id, () -> readOnlyTransaction.execute(status ->
+            taskRepository.findById(id)
+                .map(TaskMapper::toDTO)
+                .or(() -> archivedTaskRepository.findById(id).map(TaskMapper::toDTO))
+                .orElseThrow(() -> new TaskNotFoundException(id))));
+    }
+
+    @Transactional(readOnly = true)
+    public MultiGetResponse<TaskResponseDTO> findAllById(Collection<UUID> ids) {
+        List<UUID> requested = MultiGet.distinct(ids, multiGetProperties);
+        Map<UUID, TaskResponseDTO> found = MultiGet.load(requested, multiGetProperties,
+            taskRepository::findAllById, Task::getId, TaskMapper::toDTO);
+        // O arquivo só é consultado para os IDs que não estão na tabela quente
+        List<UUID> notInHotSet = requested.stream().filter(id -> !found.containsKey(id)).toList();
+        if (!notInHotSet.isEmpty()) {
+            found.putAll(MultiGet.load(notInHotSet, multiGetProperties,
+                archivedTaskRepository::findAllById, ArchivedTask::getId, TaskMapper::toDTO));
+        }
+        return MultiGet.inRequestOrder(requested, found);
     }
 
     public TaskResponseDTO create(CreateTaskDTO dto) {
@@ -49,17 +137,31 @@ public class TaskService {
         Project project = projectRepository.findById(dto.projectId())
             .orElseThrow(() -> new ProjectNotFoundException(dto.projectId()));
 
+        Task parent = dto.parentId() != null ? lockParent(dto.parentId()) : null;
+
         Task task = TaskMapper.toEntity(dto);
         task.setUser(user);
         task.setProject(project);
+        task.setParent(parent);
 
         Task savedTask = taskRepository.save(task);
+        if (parent != null) {
+            // As linhas da tabela de fechamento referenciam a tarefa: o INSERT dela vai antes
+            taskRepository.flush();
+            closureRepository.attachSubtree(savedTask.getId(), parent.getId());
+        }
+        forgetFirstPages(user.getId(), project.getId());
+        updateDependencyGraph(savedTask);
+        updateBoard(savedTask);
+        invalidations.taskChanged(savedTask);
+        rollupRecorder.created(user.getId(), project.getId(), savedTask.getCreatedAt());
+        rollupRecorder.closed(user.getId(), project.getId(), savedTask.getStatus(), 1);
         return TaskMapper.toDTO(savedTask);
     }
 
     public TaskResponseDTO update(UUID id, UpdateTaskDTO dto) {
-        Task task = taskRepository.findById(id)
-            .orElseThrow(() -> new TaskNotFoundException(id));
+        Task task = findHotTask(id);
+        TaskStatus previousStatus = task.getStatus();
 
         TaskMapper.updateEntityFromDTO(task, dto);
 
@@ -67,26 +169,224 @@ public class TaskService {
         // Se houver conflito, OptimisticLockException é lançada e propagada
         // O GlobalExceptionHandler captura e retorna HTTP 409
         Task updatedTask = taskRepository.save(task);
+        coalescer.forgetAfterCommit(FIND_BY_ID, id::equals);
+        forgetFirstPages(task.getUser().getId(), task.getProject().getId());
+        updateDependencyGraph(updatedTask);
+        updateBoard(updatedTask);
+        invalidations.taskChanged(updatedTask);
+        rollupRecorder.statusChanged(task.getUser().getId(), task.getProject().getId(), previousStatus, task.getStatus());
         return TaskMapper.toDTO(updatedTask);
     }
 
+    /**
+     * Remove a tarefa e todas as subtarefas dela. Dependências e linhas da tabela de fechamento
+     * saem junto, pelas chaves estrangeiras.
+     */
     public void delete(UUID id) {
-        if (!taskRepository.existsById(id)) {
+        Optional<UUID> projectId = taskRepository.findProjectIdById(id);
+        if (projectId.isPresent()) {
+            List<UUID> subtree = new ArrayList<>(closureRepository.findDescendantIds(id));
+            subtree.add(id);
+            for (int from = 0; from < subtree.size(); from += SUBTREE_DELETE_CHUNK) {
+                taskRepository.deleteAllByIdIn(subtree.subList(from, Math.min(from + SUBTREE_DELETE_CHUNK, subtree.size())));
+            }
+            if (subtree.size() == 1) {
+                dependencyIndex.updateAfterCommit(projectId.get(), graph -> graph.removeTask(id));
+                boardIndex.updateAfterCommit(projectId.get(), columns -> columns.remove(id));
+                invalidations.taskRemoved(id, projectId.get());
+            } else {
+                // Subtarefas podem estar em outros projetos
+                dependencyIndex.evictAllAfterCommit();
+                boardIndex.evictAllAfterCommit();
+                invalidations.invalidateAll();
+            }
+            Set<UUID> removed = Set.copyOf(subtree);
+            coalescer.forgetAfterCommit(FIND_BY_ID, removed::contains);
+        } else if (archivedTaskRepository.existsById(id)) {
+            archivedTaskRepository.deleteById(id);
+            coalescer.forgetAfterCommit(FIND_BY_ID, id::equals);
+        } else {
             throw new TaskNotFoundException(id);
         }
-        taskRepository.deleteById(id);
+        coalescer.forgetAfterCommit(FIRST_PAGE, key -> true);
+    }
+
+    /**
+     * Torna a tarefa subtarefa de {@code parentId} (ou raiz, se nulo), levando a subárvore junto.
+     * A tarefa e os ancestrais do novo pai ficam travados até o commit, para que dois movimentos
+     * cruzados não formem um ciclo.
+     */
+    public TaskResponseDTO move(UUID id, UUID parentId) {
+        if (id.equals(parentId)) {
+            throw new IllegalArgumentException("Uma tarefa não pode ser subtarefa de si mesma");
+        }
+        List<Task> locked = taskRepository.lockForMove(id, parentId);
+        Task task = locked.stream().filter(t -> t.getId().equals(id)).findFirst()
+            .orElseThrow(() -> archivedTaskRepository.existsById(id)
+                ? new TaskArchivedException(id)
+                : new TaskNotFoundException(id));
+        Task parent = null;
+        if (parentId != null) {
+            parent = locked.stream().filter(t -> t.getId().equals(parentId)).findFirst()
+                .orElseThrow(() -> archivedTaskRepository.existsById(parentId)
+                    ? new TaskArchivedException(parentId)
+                    : new TaskNotFoundException(parentId));
+            if (closureRepository.existsByAncestorIdAndDescendantId(id, parentId)) {
+                throw new IllegalArgumentException("A tarefa " + parentId + " é subtarefa de " + id
+                    + "; o movimento criaria um ciclo");
+            }
+        }
+        UUID currentParentId = task.getParent() != null ? task.getParent().getId() : null;
+        if (Objects.equals(currentParentId, parentId)) {
+            return TaskMapper.toDTO(task);
+        }
+        closureRepository.detachSubtree(id);
+        if (parent != null) {
+            closureRepository.attachSubtree(id, parentId);
+        }
+        task.setParent(parent);
+        Task movedTask = taskRepository.save(task);
+        coalescer.forgetAfterCommit(FIND_BY_ID, id::equals);
+        forgetFirstPages(task.getUser().getId(), task.getProject().getId());
+        updateBoard(movedTask);
+        invalidations.taskChanged(movedTask);
+        return TaskMapper.toDTO(movedTask);
     }
 
+    /** Descendentes da tarefa até {@code maxDepth} níveis abaixo dela (todos, se nulo). */
     @Transactional(readOnly = true)
-    public Page<TaskResponseDTO> findByUserId(UUID userId, Pageable pageable) {
-        return taskRepository.findByUserId(userId, pageable)
+    public Page<TaskResponseDTO> findSubtasks(UUID id, Integer maxDepth, Pageable pageable) {
+        if (maxDepth != null && maxDepth < 1) {
+            throw new IllegalArgumentException("maxDepth deve ser maior ou igual a 1");
+        }
+        requireTask(id);
+        return taskRepository.findDescendants(id, maxDepth != null ? maxDepth : Integer.MAX_VALUE, pageable)
             .map(TaskMapper::toDTO);
     }
 
+    /** Contagem por status de todos os descendentes, numa única consulta agregada à tabela de fechamento. */
     @Transactional(readOnly = true)
+    public TaskSubtreeSummaryDTO summarizeSubtree(UUID id) {
+        requireTask(id);
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        long descendants = 0;
+        for (TaskClosureRepository.StatusCount count : closureRepository.countDescendantsByStatus(id)) {
+            byStatus.put(count.getStatus(), count.getTotal());
+            descendants += count.getTotal();
+        }
+        return new TaskSubtreeSummaryDTO(id, descendants, byStatus);
+    }
+
+    /**
+     * Aplica status, prioridade, responsável e/ou projeto a todas as tarefas dos ids ou do filtro,
+     * com UPDATEs por conjunto em blocos de {@code chunk-size}, cada bloco na sua transação.
+     * Tarefas arquivadas não são alteradas.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BulkTaskUpdateResponse bulkUpdate(BulkTaskUpdateRequest request) {
+        if ((request.ids() == null || request.ids().isEmpty()) == (request.filter() == null)) {
+            throw new IllegalArgumentException("Informe ids ou filter (apenas um deles)");
+        }
+        if (request.status() == null && request.priority() == null
+                && request.userId() == null && request.projectId() == null) {
+            throw new IllegalArgumentException("Informe ao menos uma alteração: status, priority, userId ou projectId");
+        }
+        if (request.userId() != null && !userRepository.existsById(request.userId())) {
+            throw new UserNotFoundException(request.userId());
+        }
+        if (request.projectId() != null && !projectRepository.existsById(request.projectId())) {
+            throw new ProjectNotFoundException(request.projectId());
+        }
+        return request.ids() != null && !request.ids().isEmpty()
+            ? bulkUpdateByIds(request)
+            : bulkUpdateByFilter(request);
+    }
+
+    private BulkTaskUpdateResponse bulkUpdateByIds(BulkTaskUpdateRequest request) {
+        List<UUID> ids = new ArrayList<>(new LinkedHashSet<>(request.ids()));
+        checkBulkLimit(ids.size());
+        int chunkSize = bulkUpdateProperties.chunkSize();
+        long updated = 0;
+        int chunks = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            updated += writeTransaction.execute(status -> applyBulkChanges(chunk, request));
+            chunks++;
+        }
+        return new BulkTaskUpdateResponse(ids.size(), updated, chunks);
+    }
+
+    private BulkTaskUpdateResponse bulkUpdateByFilter(BulkTaskUpdateRequest request) {
+        Specification<Task> filter = TaskSearchQuery.compile(request.filter());
+        long matched = readOnlyTransaction.execute(status -> taskRepository.count(filter));
+        checkBulkLimit(matched);
+        long updated = 0;
+        int chunks = 0;
+        UUID after = null;
+        while (true) {
+            UUID lastSeen = after;
+            BulkChunk chunk = writeTransaction.execute(status -> {
+                List<UUID> ids = taskRepository.findIdsAfter(filter, lastSeen, bulkUpdateProperties.chunkSize());
+                return new BulkChunk(ids, ids.isEmpty() ? 0 : applyBulkChanges(ids, request));
+            });
+            if (chunk.ids().isEmpty()) {
+                break;
+            }
+            updated += chunk.updated();
+            chunks++;
+            after = chunk.ids().get(chunk.ids().size() - 1);
+        }
+        return new BulkTaskUpdateResponse(matched, updated, chunks);
+    }
+
+    private int applyBulkChanges(List<UUID> ids, BulkTaskUpdateRequest request) {
+        if (request.status() == TaskStatus.COMPLETED || request.status() == TaskStatus.CANCELLED) {
+            // Lido antes do UPDATE: só conta quem ainda não estava no status; o fechamento vai para o novo dono
+            for (TaskRepository.OwnerCount owners : taskRepository.countNotInStatus(ids, request.status())) {
+                rollupRecorder.closed(request.userId() != null ? request.userId() : owners.getUserId(),
+                    request.projectId() != null ? request.projectId() : owners.getProjectId(),
+                    request.status(), owners.getTotal());
+            }
+        }
+        int updated = taskRepository.applyChanges(ids, request.status(), request.priority(),
+            request.userId(), request.projectId(), LocalDateTime.now());
+        if (request.projectId() != null) {
+            // Dependências só ligam tarefas do mesmo projeto: a tarefa movida chega sem elas
+            dependencyRepository.deleteTouching(ids);
+        }
+        if (request.projectId() != null || request.status() != null) {
+            // Os projetos das tarefas não são lidos aqui; os grafos são recarregados na próxima consulta
+            dependencyIndex.evictAllAfterCommit();
+        }
+        boardIndex.evictAllAfterCommit();
+        invalidations.invalidateAll();
+        Set<UUID> changed = Set.copyOf(ids);
+        coalescer.forgetAfterCommit(FIND_BY_ID, changed::contains);
+        coalescer.forgetAfterCommit(FIRST_PAGE, key -> true);
+        return updated;
+    }
+
+    private void checkBulkLimit(long tasks) {
+        if (tasks > bulkUpdateProperties.maxTasks()) {
+            throw new IllegalArgumentException("A alteração em lote atinge " + tasks
+                + " tarefas; o máximo por requisição é " + bulkUpdateProperties.maxTasks());
+        }
+    }
+
+    // Só a primeira página é coalescida: é ela que todos os clientes pedem ao abrir um projeto
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<TaskResponseDTO> findByUserId(UUID userId, Pageable pageable) {
+        return firstPageOrDirect(new OwnerPage(userId, false, pageable), () ->
+            taskRepository.findByUserId(userId, pageable).map(TaskMapper::toDTO));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Page<TaskResponseDTO> findByProjectId(UUID projectId, Pageable pageable) {
-        return taskRepository.findByProjectId(projectId, pageable)
-            .map(TaskMapper::toDTO);
+        return firstPageOrDirect(new OwnerPage(projectId, true, pageable), () ->
+            taskRepository.findByProjectId(projectId, pageable).map(TaskMapper::toDTO));
     }
 
     @Transactional(readOnly = true)
@@ -100,4 +400,102 @@ public class TaskService {
         return taskRepository.findAll(pageable)
             .map(TaskMapper::toDTO);
     }
+
+    @Transactional(readOnly = true)
+    public Page<TaskResponseDTO> search(TaskSearchRequest request, Pageable pageable) {
+        return taskRepository.findAll(TaskSearchQuery.compile(request), TaskSearchQuery.sorted(pageable))
+            .map(TaskMapper::toDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findAll(Collection<String> fields, Pageable pageable) {
+        return sparseFieldRepository.findPage(TaskMapper.FIELDS, TaskMapper.FIELDS.resolve(fields), null, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findByUserId(UUID userId, Collection<String> fields, Pageable pageable) {
+        return sparseFieldRepository.findPage(TaskMapper.FIELDS, TaskMapper.FIELDS.resolve(fields),
+            (root, query, cb) -> cb.equal(root.get("user").get("id"), userId), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findByProjectId(UUID projectId, Collection<String> fields, Pageable pageable) {
+        return sparseFieldRepository.findPage(TaskMapper.FIELDS, TaskMapper.FIELDS.resolve(fields),
+            (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findByUserIdAndStatus(UUID userId, TaskStatus status, Collection<String> fields,
+                                                           Pageable pageable) {
+        return sparseFieldRepository.findPage(TaskMapper.FIELDS, TaskMapper.FIELDS.resolve(fields),
+            (root, query, cb) -> cb.and(
+                cb.equal(root.get("user").get("id"), userId),
+                cb.equal(root.get("status"), status)),
+            pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<TaskResponseDTO> findArchivedByUserId(UUID userId, Pageable pageable) {
+        return archivedTaskRepository.findByUserId(userId, pageable)
+            .map(TaskMapper::toDTO);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<TaskResponseDTO> findArchivedByProjectId(UUID projectId, Pageable pageable) {
+        return archivedTaskRepository.findByProjectId(projectId, pageable)
+            .map(TaskMapper::toDTO);
+    }
+
+    private Page<TaskResponseDTO> firstPageOrDirect(OwnerPage key, Supplier<Page<TaskResponseDTO>> query) {
+        if (key.pageable().getPageNumber() != 0) {
+            return readOnlyTransaction.execute(status -> query.get());
+        }
+        return coalescer.execute(FIRST_PAGE, key, () -> readOnlyTransaction.execute(status -> query.get()));
+    }
+
+    /**
+     * Trava o pai e os ancestrais dele até o commit, como em {@link #move}: sem isso, um movimento
+     * concorrente de um ancestral mudaria a cadeia copiada para a tabela de fechamento.
+     */
+    private Task lockParent(UUID parentId) {
+        return taskRepository.lockWithAncestors(parentId).stream()
+            .filter(t -> t.getId().equals(parentId)).findFirst()
+            .orElseThrow(() -> archivedTaskRepository.existsById(parentId)
+                ? new TaskArchivedException(parentId)
+                : new TaskNotFoundException(parentId));
+    }
+
+    private Task findHotTask(UUID id) {
+        return taskRepository.findById(id)
+            .orElseThrow(() -> archivedTaskRepository.existsById(id)
+                ? new TaskArchivedException(id)
+                : new TaskNotFoundException(id));
+    }
+
+    // Tarefas arquivadas são folhas: existem, mas não têm subtarefas
+    private void requireTask(UUID id) {
+        if (!taskRepository.existsById(id) && !archivedTaskRepository.existsById(id)) {
+            throw new TaskNotFoundException(id);
+        }
+    }
+
+    private void updateDependencyGraph(Task task) {
+        UUID id = task.getId();
+        boolean open = TaskDependencyIndex.isOpen(task.getStatus());
+        dependencyIndex.updateAfterCommit(task.getProject().getId(), graph -> graph.putTask(id, open));
+    }
+
+    // A entidade é lida depois do commit: a versão e a data de atualização já são as gravadas
+    private void updateBoard(Task task) {
+        boardIndex.updateAfterCommit(task.getProject().getId(), columns -> columns.put(task));
+    }
+
+    private void forgetFirstPages(UUID userId, UUID projectId) {
+        coalescer.forgetAfterCommit(FIRST_PAGE,
+            key -> key instanceof OwnerPage page && (page.ownerId().equals(userId) || page.ownerId().equals(projectId)));
+    }
+
+    private record BulkChunk(List<UUID> ids, int updated) {}
+
+    private record OwnerPage(UUID ownerId, boolean project, Pageable pageable) {}
 }
@@ -0,0 +1,277 @@
+package com.smarttask.service;
+
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.dto.TaskResponseDTO;
+import com.smarttask.dto.UpdateTaskDTO;
+import com.smarttask.exception.TaskArchivedException;
+import com.smarttask.exception.TaskNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Acumula alterações de status e prioridade por tarefa durante {@code smarttask.write-coalescing.window}
+ * e grava só o último estado, numa única transação. Rajadas de arrastar-e-soltar viram uma escrita
+ * (e um incremento de versão) por janela, em vez de uma por requisição disputando o lock otimista.
+ *
+ * <p>A janela conta a partir da primeira alteração pendente: uma rajada longa grava uma vez por
+ * janela. Gravação e retirada da fila acontecem sob o mesmo lock da tarefa, de modo que um estado
+ * mais novo nunca é gravado antes de um mais antigo. Conflitos com escritas de outros caminhos são
+ * refeitos sobre a versão atual: a alteração acumulada é a última palavra do cliente.</p>
+ *
+ * <p>Quem lê logo depois de escrever não pode ver o estado anterior: antes de atender qualquer outra
+ * requisição do mesmo cliente, as alterações pendentes dele são gravadas ({@link #flushClient}).
+ * Escritas que não passam pela fila (edição completa, exclusão, mudança de pai, atualização em
+ * lote) gravam antes as pendentes das tarefas que tocam ({@link #flush(Collection)}); do contrário,
+ * o estado acumulado de um cliente seria gravado depois e desfaria uma escrita mais nova de outro.
+ * No desligamento, tudo o que estiver pendente é gravado antes de a aplicação fechar o pool.</p>
+ */
+@Component
+public class TaskUpdateCoalescer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskUpdateCoalescer.class);
+
+    /** Atributo da requisição com o cliente identificado para o read-your-writes. */
+    public static final String CLIENT_ATTRIBUTE = "com.smarttask.service.TaskUpdateCoalescer.client";
+
+    private static final int LOCK_STRIPES = 64;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final TaskService taskService;
+    private final WriteCoalescingProperties properties;
+    private final Map<UUID, PendingUpdate> pending = new ConcurrentHashMap<>();
+    // Tarefas pendentes por cliente, para a checagem feita em toda requisição não varrer a fila
+    private final Map<String, Set<UUID>> pendingByClient = new ConcurrentHashMap<>();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+    private final Counter coalesced;
+    private final Counter flushed;
+    private final Counter dropped;
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public TaskUpdateCoalescer(TaskService taskService, WriteCoalescingProperties properties, MeterRegistry meterRegistry) {
+        this.taskService = taskService;
+        this.properties = properties;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        this.coalesced = Counter.builder("smarttask.write_coalescing.updates")
+            .description("Alterações aceitas na fila de coalescência")
+            .register(meterRegistry);
+        this.flushed = Counter.builder("smarttask.write_coalescing.flushes")
+            .description("Gravações do último estado acumulado; updates/flushes é a taxa de coalescência")
+            .register(meterRegistry);
+        this.dropped = Counter.builder("smarttask.write_coalescing.dropped")
+            .description("Alterações acumuladas descartadas (tarefa removida ou arquivada nesse meio tempo)")
+            .register(meterRegistry);
+        Gauge.builder("smarttask.write_coalescing.pending", pending, Map::size)
+            .description("Tarefas com alteração aguardando gravação")
+            .register(meterRegistry);
+    }
+
+    /** A alteração pode esperar na fila: só status e/ou prioridade, com a coalescência ligada. */
+    public boolean accepts(UpdateTaskDTO dto) {
+        return running && properties.enabled()
+            && dto.title() == null && dto.description() == null && dto.dueDate() == null
+            && (dto.status() != null || dto.priority() != null);
+    }
+
+    /**
+     * Enfileira a alteração e devolve a tarefa como ficará depois da gravação (a versão ainda é a
+     * atual). Com a fila cheia ou a coalescência parada, grava na hora.
+     *
+     * @throws TaskNotFoundException se a tarefa não existe
+     */
+    public TaskResponseDTO submit(UUID id, UpdateTaskDTO dto, String client) {
+        TaskResponseDTO current = taskService.findById(id);
+        if (!accepts(dto) || (pending.size() >= properties.maxPending() && !pending.containsKey(id))) {
+            flush(id);
+            return taskService.update(id, dto);
+        }
+        PendingUpdate update;
+        synchronized (lockFor(id)) {
+            update = pending.compute(id, (key, previous) -> previous == null
+                ? new PendingUpdate(dto.status(), dto.priority(), client)
+                : previous.merge(dto.status(), dto.priority(), client));
+            if (client != null) {
+                // Inclusão e remoção no compute da chave: um conjunto esvaziado por outra tarefa não some com esta
+                pendingByClient.compute(client, (key, ids) -> {
+                    Set<UUID> updated = ids != null ? ids : ConcurrentHashMap.<UUID>newKeySet();
+                    updated.add(id);
+                    return updated;
+                });
+            }
+        }
+        coalesced.increment();
+        if (update.scheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.schedule(() -> flushQuietly(id), properties.window().toNanos(), TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                // Parando: grava agora em vez de esperar pela janela
+                flush(id);
+            }
+        }
+        return new TaskResponseDTO(current.id(), current.title(), current.description(),
+            update.status != null ? update.status : current.status(),
+            update.priority != null ? update.priority : current.priority(),
+            current.createdAt(), current.updatedAt(), current.dueDate(), current.userId(), current.projectId(),
+            current.parentId(), current.version());
+    }
+
+    public boolean hasPending(String client) {
+        return client != null && pendingByClient.containsKey(client);
+    }
+
+    /** Grava na hora as alterações pendentes em que {@code client} tomou parte. */
+    public void flushClient(String client) {
+        Set<UUID> ids = client != null ? pendingByClient.get(client) : null;
+        if (ids != null) {
+            List.copyOf(ids).forEach(this::flushQuietly);
+        }
+    }
+
+    /** Grava na hora a alteração pendente da tarefa, se houver; antes de outra escrita nela, por exemplo. */
+    public void flush(UUID id) {
+        synchronized (lockFor(id)) {
+            PendingUpdate update = pending.remove(id);
+            if (update == null) {
+                return;
+            }
+            update.clients.forEach(client -> pendingByClient.computeIfPresent(client, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            }));
+            UpdateTaskDTO last = new UpdateTaskDTO(null, null, update.status, update.priority, null);
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    taskService.update(id, last);
+                    flushed.increment();
+                    return;
+                } catch (OptimisticLockingFailureException e) {
+                    if (attempt == MAX_ATTEMPTS) {
+                        throw e;
+                    }
+                }
+            }
+        }
+    }
+
+    /** Grava na hora as alterações pendentes das tarefas, antes de uma escrita que as envolve. */
+    public void flush(Collection<UUID> ids) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        ids.forEach(this::flushQuietly);
+    }
+
+    /** Grava na hora tudo o que estiver pendente; para escritas cujas tarefas só o banco conhece. */
+    public void flushAll() {
+        List.copyOf(pending.keySet()).forEach(this::flushQuietly);
+    }
+
+    @Override
+    public void start() {
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "task-write-coalescing");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Na parada, as janelas em contagem não são esperadas: o que estiver pendente é gravado de uma vez
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        scheduler = executor;
+        running = true;
+    }
+
+    // Depois de o servidor web parar de aceitar requisições e antes de o pool fechar
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int remaining = pending.size();
+        flushAll();
+        if (remaining > 0) {
+            log.info("Coalescência de escritas parada: {} tarefas pendentes gravadas", remaining);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void flushQuietly(UUID id) {
+        try {
+            flush(id);
+        } catch (TaskNotFoundException | TaskArchivedException e) {
+            dropped.increment();
+        } catch (RuntimeException e) {
+            dropped.increment();
+            log.warn("Alteração acumulada da tarefa {} descartada: {}", id, e.getMessage());
+        }
+    }
+
+    private Object lockFor(UUID id) {
+        return locks[(id.hashCode() & 0x7fffffff) % LOCK_STRIPES];
+    }
+
+    /** Último status e última prioridade pedidos; imutável exceto pelo agendamento. */
+    private static final class PendingUpdate {
+
+        private final TaskStatus status;
+        private final TaskPriority priority;
+        private final Set<String> clients;
+        private final AtomicBoolean scheduled;
+
+        private PendingUpdate(TaskStatus status, TaskPriority priority, String client) {
+            this(status, priority, client == null ? Set.of() : Set.of(client), new AtomicBoolean());
+        }
+
+        private PendingUpdate(TaskStatus status, TaskPriority priority, Set<String> clients,
+                              AtomicBoolean scheduled) {
+            this.status = status;
+            this.priority = priority;
+            this.clients = clients;
+            this.scheduled = scheduled;
+        }
+
+        private PendingUpdate merge(TaskStatus newStatus, TaskPriority newPriority, String client) {
+            Set<String> merged = clients;
+            if (client != null && !clients.contains(client)) {
+                merged = new HashSet<>(clients);
+                merged.add(client);
+            }
+            return new PendingUpdate(newStatus != null ? newStatus : status,
+                newPriority != null ? newPriority : priority, merged, scheduled);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.smarttask.service;
+
+import com.smarttask.board.BoardSnapshotProperties;
+import com.smarttask.board.TaskBoardIndex;
+import com.smarttask.board.TaskColumns;
+import com.smarttask.board.TaskViewSort;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.dto.TaskCardDTO;
+import com.smarttask.dto.TaskViewDTO;
+import com.smarttask.exception.ProjectNotFoundException;
+import com.smarttask.repository.ProjectRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Visão de quadro de um projeto: filtro por status, prioridade e data de entrega, ordenação e
+ * contagem por status, respondidos a partir do {@link TaskBoardIndex} sem hidratar entidades.
+ * Os vetores de trabalho são reaproveitados por thread; só os cartões devolvidos são alocados.
+ */
+@Service
+public class TaskViewService {
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final TaskBoardIndex boardIndex;
+    private final ProjectRepository projectRepository;
+    private final BoardSnapshotProperties properties;
+
+    public TaskViewService(TaskBoardIndex boardIndex, ProjectRepository projectRepository,
+                           BoardSnapshotProperties properties) {
+        this.boardIndex = boardIndex;
+        this.projectRepository = projectRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * @param statuses status aceitos; vazio ou nulo aceita todos
+     * @param priorities prioridades aceitas; vazio ou nulo aceita todas
+     * @param dueFrom início (inclusivo) da data de entrega; com qualquer limite de data, tarefas sem data ficam de fora
+     * @param dueTo fim (inclusivo) da data de entrega
+     */
+    // Fora de transação: com o projeto em memória, a consulta não toca o banco
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TaskViewDTO view(UUID projectId, Collection<TaskStatus> statuses, Collection<TaskPriority> priorities,
+                            LocalDateTime dueFrom, LocalDateTime dueTo, TaskViewSort sort, int limit) {
+        if (limit < 1 || limit > properties.maxResults()) {
+            throw new IllegalArgumentException("limit deve estar entre 1 e " + properties.maxResults());
+        }
+        if (dueFrom != null && dueTo != null && dueFrom.isAfter(dueTo)) {
+            throw new IllegalArgumentException("dueFrom deve ser anterior ou igual a dueTo");
+        }
+        // Projeto removido é descartado da memória no commit: estar lá basta como prova de existência
+        if (!boardIndex.isCached(projectId) && !projectRepository.existsById(projectId)) {
+            throw new ProjectNotFoundException(projectId);
+        }
+        int statusMask = mask(statuses);
+        int priorityMask = mask(priorities);
+        long from = dueFrom != null ? TaskColumns.toEpochMicros(dueFrom) : Long.MIN_VALUE;
+        long to = dueTo != null ? TaskColumns.toEpochMicros(dueTo)
+            : dueFrom != null ? TaskColumns.NO_DUE_DATE - 1 : TaskColumns.NO_DUE_DATE;
+        TaskViewSort order = sort != null ? sort : TaskViewSort.PRIORITY;
+
+        return boardIndex.read(projectId, columns -> {
+            Scratch scratch = SCRATCH.get();
+            int[] rows = scratch.rows(columns.size());
+            int matched = columns.filter(statusMask, priorityMask, from, to, rows, scratch.counts);
+            int returned = columns.top(rows, matched, order, limit);
+
+            List<TaskCardDTO> cards = new ArrayList<>(returned);
+            for (int i = 0; i < returned; i++) {
+                int row = rows[i];
+                cards.add(new TaskCardDTO(columns.id(row), columns.title(row), columns.status(row),
+                    columns.priority(row), columns.dueDate(row), columns.updatedAt(row), columns.userId(row),
+                    columns.version(row)));
+            }
+            Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+            for (TaskStatus status : TaskStatus.values()) {
+                byStatus.put(status, scratch.counts[status.ordinal()]);
+            }
+            return new TaskViewDTO(projectId, matched, byStatus, cards);
+        });
+    }
+
+    private static int mask(Collection<? extends Enum<?>> values) {
+        if (values == null || values.isEmpty()) {
+            return -1;
+        }
+        int mask = 0;
+        for (Enum<?> value : values) {
+            mask |= 1 << value.ordinal();
+        }
+        return mask;
+    }
+
+    private static final class Scratch {
+
+        private final long[] counts = new long[TaskStatus.values().length];
+        private int[] rows = new int[0];
+
+        int[] rows(int size) {
+            if (rows.length < size) {
+                rows = new int[Math.max(size, rows.length * 3 / 2)];
+            }
+            return rows;
+        }
+    }
+}
@@ -1,18 +1,28 @@
 package com.smarttask.service;
 
+import com.smarttask.board.TaskBoardIndex;
+import com.smarttask.cluster.ClusterInvalidationPublisher;
+import com.smarttask.coalescing.RequestCoalescer;
+import com.smarttask.dependency.TaskDependencyIndex;
 import com.smarttask.domain.entity.User;
 import com.smarttask.dto.CreateUserDTO;
+import com.smarttask.dto.MultiGetResponse;
 import com.smarttask.dto.UpdateUserDTO;
 import com.smarttask.dto.UserResponseDTO;
 import com.smarttask.exception.EmailAlreadyExistsException;
 import com.smarttask.exception.UserNotFoundException;
 import com.smarttask.mapper.UserMapper;
+import com.smarttask.repository.ArchivedTaskRepository;
+import com.smarttask.repository.SparseFieldRepository;
 import com.smarttask.repository.UserRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -20,9 +30,26 @@ import java.util.UUID;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final RequestCoalescer coalescer;
+    private final MultiGetProperties multiGetProperties;
+    private final SparseFieldRepository sparseFieldRepository;
+    private final TaskDependencyIndex dependencyIndex;
+    private final TaskBoardIndex boardIndex;
+    private final ClusterInvalidationPublisher invalidations;
 
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, ArchivedTaskRepository archivedTaskRepository,
+                       RequestCoalescer coalescer, MultiGetProperties multiGetProperties,
+                       SparseFieldRepository sparseFieldRepository, TaskDependencyIndex dependencyIndex,
+                       TaskBoardIndex boardIndex, ClusterInvalidationPublisher invalidations) {
         this.userRepository = userRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.coalescer = coalescer;
+        this.multiGetProperties = multiGetProperties;
+        this.sparseFieldRepository = sparseFieldRepository;
+        this.dependencyIndex = dependencyIndex;
+        this.boardIndex = boardIndex;
+        this.invalidations = invalidations;
     }
 
     @Transactional(readOnly = true)
@@ -32,6 +59,13 @@ public class UserService {
         return UserMapper.toDTO(user);
     }
 
+    @Transactional(readOnly = true)
+    public MultiGetResponse<UserResponseDTO> findAllById(Collection<UUID> ids) {
+        List<UUID> requested = MultiGet.distinct(ids, multiGetProperties);
+        return MultiGet.inRequestOrder(requested, MultiGet.load(requested, multiGetProperties,
+            userRepository::findAllById, User::getId, UserMapper::toDTO));
+    }
+
     public UserResponseDTO create(CreateUserDTO dto) {
         if (userRepository.existsByEmail(dto.email())) {
             throw new EmailAlreadyExistsException(dto.email());
@@ -54,6 +88,7 @@ public class UserService {
 
         UserMapper.updateEntityFromDTO(user, dto);
         User updatedUser = userRepository.save(user);
+        invalidations.userChanged(id);
         return UserMapper.toDTO(updatedUser);
     }
 
@@ -61,7 +96,16 @@ public class UserService {
         if (!userRepository.existsById(id)) {
             throw new UserNotFoundException(id);
         }
+        archivedTaskRepository.deleteByUserId(id);
         userRepository.deleteById(id);
+        // A remoção em cascata leva projetos e tarefas do usuário
+        coalescer.forgetAfterCommit(ProjectService.FIND_BY_ID, key -> true);
+        coalescer.forgetAfterCommit(TaskService.FIND_BY_ID, key -> true);
+        coalescer.forgetAfterCommit(TaskService.FIRST_PAGE, key -> true);
+        // Tarefas do usuário podem estar em projetos de outros usuários
+        dependencyIndex.evictAllAfterCommit();
+        boardIndex.evictAllAfterCommit();
+        invalidations.userRemoved(id);
     }
 
     @Transactional(readOnly = true)
@@ -69,4 +113,9 @@ public class UserService {
         return userRepository.findAll(pageable)
             .map(UserMapper::toDTO);
     }
+
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> findAll(Collection<String> fields, Pageable pageable) {
+        return sparseFieldRepository.findPage(UserMapper.FIELDS, UserMapper.FIELDS.resolve(fields), null, pageable);
+    }
 }
@@ -0,0 +1,25 @@
+package com.smarttask.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Coalescência de {@code PUT /api/v1/tasks/{id}} que só mudam status e/ou prioridade. O cliente do
+ * read-your-writes vem do {@link com.smarttask.identity.ClientIdentityResolver}.
+ *
+ * @param enabled     acumula essas alterações por tarefa e grava só o último estado
+ * @param window      quanto a primeira alteração pendente de uma tarefa espera por outras
+ * @param maxPending  tarefas com alteração pendente; acima disso, a alteração é gravada na hora
+ * @param stickySessions o balanceador manda cada cliente sempre à mesma instância. As alterações pendentes só
+ *                       existem na memória de quem as recebeu: com mais de uma instância (invalidação entre
+ *                       instâncias ligada), a coalescência só sobe com esta garantia declarada
+ */
+@ConfigurationProperties(prefix = "smarttask.write-coalescing")
+public record WriteCoalescingProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("300ms") Duration window,
+    @DefaultValue("10000") int maxPending,
+    @DefaultValue("false") boolean stickySessions
+) {}
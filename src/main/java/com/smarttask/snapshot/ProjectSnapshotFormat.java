@@ -0,0 +1,61 @@
+package com.smarttask.snapshot;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Formato binário do snapshot de projeto (big-endian):
+ *
+ * <pre>
+ * cabeçalho   "STSN" | versão do formato (u16) | reservado (u16) | exportado em (i64)
+ *             status: n (u8) + n nomes | prioridades: n (u8) + n nomes
+ *             projeto: id (16) | nome | descrição | criado em (i64)
+ * registros   'T' id (16) | pai (16) | usuário (16) | status (u8) | prioridade (u8)
+ *                 criada em (i64) | atualizada em (i64) | entrega (i64) | título | descrição
+ *             'D' tarefa (16) | depende de (16)
+ * rodapé      'E' tarefas (i32) | dependências (i32) | CRC32C de tudo o que vem antes (i32)
+ * </pre>
+ *
+ * <p>Datas são microssegundos desde a época em UTC ({@link #NO_TIMESTAMP} quando ausente), IDs
+ * são os dois {@code long} do UUID (pai zerado quando não há) e textos são o tamanho em bytes
+ * (u16, {@link #NULL_STRING} para nulo) seguido do UTF-8. Status e prioridade são índices nos
+ * dicionários do cabeçalho, e não ordinais do enum: um snapshot continua legível se os enums
+ * ganharem valores.</p>
+ *
+ * <p>As tarefas vêm com os pais antes dos filhos; o CRC no fim permite gravar o arquivo em fluxo,
+ * sem saber de antemão quantas linhas virão.</p>
+ */
+public final class ProjectSnapshotFormat {
+
+    public static final String MEDIA_TYPE = "application/vnd.smarttask.project-snapshot";
+    public static final String FILE_EXTENSION = ".stsnap";
+
+    static final int MAGIC = 0x5354534E;
+    static final short VERSION = 1;
+    static final byte TASK = 'T';
+    static final byte DEPENDENCY = 'D';
+    static final byte END = 'E';
+    static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    static final int NULL_STRING = 0xFFFF;
+    // 'E' + duas contagens + CRC
+    static final int TRAILER_BYTES = 1 + 4 + 4 + 4;
+
+    private ProjectSnapshotFormat() {
+    }
+
+    static long toMicros(LocalDateTime value) {
+        if (value == null) {
+            return NO_TIMESTAMP;
+        }
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), value);
+    }
+
+    static LocalDateTime fromMicros(long micros) {
+        if (micros == NO_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000), (int) Math.floorMod(micros, 1_000_000) * 1000,
+            ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,13 @@
+package com.smarttask.snapshot;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeto gravado no cabeçalho do snapshot.
+ *
+ * @param exportedAt momento da exportação
+ * @param projectId  ID do projeto na origem; a importação cria outro
+ */
+public record SnapshotHeader(LocalDateTime exportedAt, UUID projectId, String name, String description,
+                             LocalDateTime createdAt) {}
@@ -0,0 +1,25 @@
+package com.smarttask.snapshot;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Exportação e importação de snapshots binários de projeto.
+ *
+ * @param batchSize   linhas por INSERT em lote na importação
+ * @param maxFileSize maior arquivo aceito na importação; o arquivo é mapeado em memória de uma
+ *                    vez, então nunca acima de 2GB
+ */
+@ConfigurationProperties(prefix = "smarttask.snapshot")
+public record SnapshotProperties(
+    @DefaultValue("1000") int batchSize,
+    @DefaultValue("512MB") DataSize maxFileSize
+) {
+
+    public SnapshotProperties {
+        if (maxFileSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("smarttask.snapshot.max-file-size deve ser menor que 2GB");
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.smarttask.snapshot;
+
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.repository.ProjectSnapshotOperations.SnapshotDependency;
+import com.smarttask.repository.ProjectSnapshotOperations.SnapshotTask;
+
+import java.lang.reflect.Array;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Lê um snapshot ({@link ProjectSnapshotFormat}) de um buffer, em geral o arquivo mapeado em memória.
+ * A abertura confere o CRC do arquivo inteiro antes de devolver qualquer dado, e os registros
+ * podem ser percorridos quantas vezes for preciso ({@link #rewind}). Arquivo corrompido, truncado
+ * ou de versão desconhecida é {@link IllegalArgumentException}.
+ */
+public final class SnapshotReader {
+
+    private final ByteBuffer buffer;
+    private final SnapshotHeader header;
+    private final TaskStatus[] statuses;
+    private final TaskPriority[] priorities;
+    private final int recordsStart;
+    private final int tasks;
+    private final int dependencies;
+
+    private SnapshotReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+        int end = buffer.limit() - ProjectSnapshotFormat.TRAILER_BYTES;
+        if (end < 16 || buffer.getInt(0) != ProjectSnapshotFormat.MAGIC) {
+            throw invalid("não é um snapshot de projeto");
+        }
+        short version = buffer.getShort(4);
+        if (version != ProjectSnapshotFormat.VERSION) {
+            throw invalid("versão do formato " + version + " não suportada (esperada " + ProjectSnapshotFormat.VERSION + ")");
+        }
+        CRC32C checksum = new CRC32C();
+        checksum.update(buffer.duplicate().position(0).limit(buffer.limit() - 4));
+        if ((int) checksum.getValue() != buffer.getInt(buffer.limit() - 4)) {
+            throw invalid("checksum não confere; arquivo corrompido ou incompleto");
+        }
+        if (buffer.get(end) != ProjectSnapshotFormat.END) {
+            throw invalid("rodapé ausente");
+        }
+        this.tasks = buffer.getInt(end + 1);
+        this.dependencies = buffer.getInt(end + 5);
+        try {
+            buffer.position(8);
+            LocalDateTime exportedAt = ProjectSnapshotFormat.fromMicros(buffer.getLong());
+            this.statuses = dictionary(TaskStatus.class);
+            this.priorities = dictionary(TaskPriority.class);
+            this.header = new SnapshotHeader(exportedAt, uuid(), string(), string(),
+                ProjectSnapshotFormat.fromMicros(buffer.getLong()));
+        } catch (BufferUnderflowException e) {
+            throw invalid("cabeçalho truncado");
+        }
+        this.recordsStart = buffer.position();
+        buffer.limit(end);
+    }
+
+    public static SnapshotReader open(ByteBuffer buffer) {
+        return new SnapshotReader(buffer);
+    }
+
+    public SnapshotHeader header() {
+        return header;
+    }
+
+    public int tasks() {
+        return tasks;
+    }
+
+    public int dependencies() {
+        return dependencies;
+    }
+
+    /** Volta ao primeiro registro. */
+    public void rewind() {
+        buffer.position(recordsStart);
+    }
+
+    public boolean hasNext() {
+        return buffer.hasRemaining();
+    }
+
+    /** Tipo do próximo registro: {@link #isTask} ou dependência. */
+    public byte next() {
+        byte type = buffer.get();
+        if (type != ProjectSnapshotFormat.TASK && type != ProjectSnapshotFormat.DEPENDENCY) {
+            throw invalid("registro de tipo desconhecido " + type + " na posição " + (buffer.position() - 1));
+        }
+        return type;
+    }
+
+    public static boolean isTask(byte type) {
+        return type == ProjectSnapshotFormat.TASK;
+    }
+
+    public SnapshotTask task() {
+        try {
+            return new SnapshotTask(uuid(), uuid(), uuid(), statuses[buffer.get() & 0xFF], priorities[buffer.get() & 0xFF],
+                ProjectSnapshotFormat.fromMicros(buffer.getLong()), ProjectSnapshotFormat.fromMicros(buffer.getLong()),
+                ProjectSnapshotFormat.fromMicros(buffer.getLong()), string(), string());
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw invalid("tarefa malformada");
+        }
+    }
+
+    public SnapshotDependency dependency() {
+        try {
+            return new SnapshotDependency(uuid(), uuid());
+        } catch (BufferUnderflowException e) {
+            throw invalid("dependência malformada");
+        }
+    }
+
+    // Índice do arquivo -> valor do enum atual, pelo nome
+    private <E extends Enum<E>> E[] dictionary(Class<E> type) {
+        int size = buffer.get() & 0xFF;
+        @SuppressWarnings("unchecked")
+        E[] values = (E[]) Array.newInstance(type, size);
+        for (int i = 0; i < size; i++) {
+            String name = string();
+            try {
+                values[i] = Enum.valueOf(type, name);
+            } catch (IllegalArgumentException e) {
+                throw invalid(type.getSimpleName() + " desconhecido: " + name);
+            }
+        }
+        return values;
+    }
+
+    private UUID uuid() {
+        long high = buffer.getLong();
+        long low = buffer.getLong();
+        return high == 0 && low == 0 ? null : new UUID(high, low);
+    }
+
+    private String string() {
+        int length = buffer.getShort() & 0xFFFF;
+        if (length == ProjectSnapshotFormat.NULL_STRING) {
+            return null;
+        }
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value = StandardCharsets.UTF_8.decode(buffer.slice(buffer.position(), length)).toString();
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    private static IllegalArgumentException invalid(String reason) {
+        return new IllegalArgumentException("Snapshot inválido: " + reason);
+    }
+}
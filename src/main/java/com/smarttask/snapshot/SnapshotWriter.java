@@ -0,0 +1,138 @@
+package com.smarttask.snapshot;
+
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.repository.ProjectSnapshotOperations.SnapshotDependency;
+import com.smarttask.repository.ProjectSnapshotOperations.SnapshotTask;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * Grava um snapshot ({@link ProjectSnapshotFormat}) num canal, em fluxo: os registros passam por um
+ * buffer direto de tamanho fixo, que é somado ao CRC e escrito no canal sempre que enche.
+ * Não fecha o canal.
+ */
+public final class SnapshotWriter {
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+    // Maior registro possível: título (200) e descrição (1000) com até 3 bytes por caractere
+    private static final int MAX_RECORD_BYTES = 1 + 16 * 3 + 2 + 8 * 3 + 2 + 200 * 3 + 2 + 1000 * 3;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private final CRC32C checksum = new CRC32C();
+    private int tasks;
+    private int dependencies;
+
+    public SnapshotWriter(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    public void header(SnapshotHeader header) throws IOException {
+        buffer.putInt(ProjectSnapshotFormat.MAGIC);
+        buffer.putShort(ProjectSnapshotFormat.VERSION);
+        buffer.putShort((short) 0);
+        buffer.putLong(ProjectSnapshotFormat.toMicros(header.exportedAt()));
+        dictionary(TaskStatus.values());
+        dictionary(TaskPriority.values());
+        uuid(header.projectId());
+        string(header.name());
+        string(header.description());
+        buffer.putLong(ProjectSnapshotFormat.toMicros(header.createdAt()));
+    }
+
+    public void task(SnapshotTask task) throws IOException {
+        ensure(MAX_RECORD_BYTES);
+        buffer.put(ProjectSnapshotFormat.TASK);
+        uuid(task.id());
+        uuid(task.parentId());
+        uuid(task.userId());
+        buffer.put((byte) task.status().ordinal());
+        buffer.put((byte) task.priority().ordinal());
+        timestamp(task.createdAt());
+        timestamp(task.updatedAt());
+        timestamp(task.dueDate());
+        string(task.title());
+        string(task.description());
+        tasks++;
+    }
+
+    public void dependency(SnapshotDependency dependency) throws IOException {
+        ensure(1 + 32);
+        buffer.put(ProjectSnapshotFormat.DEPENDENCY);
+        uuid(dependency.taskId());
+        uuid(dependency.dependsOnId());
+        dependencies++;
+    }
+
+    /** Grava o rodapé com as contagens e o CRC e esvazia o buffer no canal. */
+    public void finish() throws IOException {
+        ensure(ProjectSnapshotFormat.TRAILER_BYTES);
+        buffer.put(ProjectSnapshotFormat.END);
+        buffer.putInt(tasks);
+        buffer.putInt(dependencies);
+        drain();
+        buffer.putInt((int) checksum.getValue());
+        buffer.flip();
+        write();
+    }
+
+    public int tasks() {
+        return tasks;
+    }
+
+    private void dictionary(Enum<?>[] values) throws IOException {
+        buffer.put((byte) values.length);
+        for (Enum<?> value : values) {
+            string(value.name());
+        }
+    }
+
+    private void uuid(UUID id) {
+        buffer.putLong(id != null ? id.getMostSignificantBits() : 0L);
+        buffer.putLong(id != null ? id.getLeastSignificantBits() : 0L);
+    }
+
+    private void timestamp(LocalDateTime value) {
+        buffer.putLong(ProjectSnapshotFormat.toMicros(value));
+    }
+
+    private void string(String value) throws IOException {
+        if (value == null) {
+            buffer.putShort((short) ProjectSnapshotFormat.NULL_STRING);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length >= ProjectSnapshotFormat.NULL_STRING) {
+            throw new IllegalArgumentException("Texto grande demais para o snapshot: " + bytes.length + " bytes");
+        }
+        ensure(2 + bytes.length);
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private void ensure(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            drain();
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        checksum.update(buffer.duplicate());
+        write();
+    }
+
+    private void write() throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
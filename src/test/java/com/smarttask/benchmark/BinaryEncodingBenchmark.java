@@ -0,0 +1,59 @@
+package com.smarttask.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.smarttask.dto.PageResponse;
+import com.smarttask.dto.TaskResponseDTO;
+import com.smarttask.dto.json.TaskResponseSerializer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tamanho e CPU de codificação/decodificação de uma página de 500 tarefas em JSON e em CBOR,
+ * com os mesmos serializers usados pela aplicação.
+ * Rodar com {@code mvn -Pbenchmark test -Dtest=BinaryEncodingBenchmark}.
+ */
+@Tag("benchmark")
+class BinaryEncodingBenchmark {
+
+    private static final TypeReference<PageResponse<TaskResponseDTO>> PAGE_OF_TASKS = new TypeReference<>() {};
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 2_000;
+
+    @Test
+    void fiveHundredTaskPage() throws Exception {
+        PageResponse<TaskResponseDTO> page =
+            new PageResponse<>(PageSerializationBenchmark.tasks(500), 0, 500, 12_345, 25);
+
+        ObjectMapper json = mapper().build();
+        ObjectMapper cbor = mapper().factory(new CBORFactory()).build();
+
+        byte[] jsonBytes = json.writeValueAsBytes(page);
+        byte[] cborBytes = cbor.writeValueAsBytes(page);
+        assertThat(cbor.readValue(cborBytes, PAGE_OF_TASKS)).isEqualTo(json.readValue(jsonBytes, PAGE_OF_TASKS));
+
+        MicroBenchmark.run("JSON  encode", WARMUP, ITERATIONS, () -> json.writeValueAsBytes(page));
+        MicroBenchmark.run("CBOR  encode", WARMUP, ITERATIONS, () -> cbor.writeValueAsBytes(page));
+        MicroBenchmark.run("JSON  decode", WARMUP, ITERATIONS, () -> {
+            json.readValue(jsonBytes, PAGE_OF_TASKS);
+            return jsonBytes;
+        });
+        MicroBenchmark.run("CBOR  decode", WARMUP, ITERATIONS, () -> {
+            cbor.readValue(cborBytes, PAGE_OF_TASKS);
+            return cborBytes;
+        });
+
+        assertThat(cborBytes.length).isLessThan(jsonBytes.length);
+    }
+
+    private static Jackson2ObjectMapperBuilder mapper() {
+        return Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .serializers(new TaskResponseSerializer());
+    }
+}
@@ -0,0 +1,45 @@
+package com.smarttask.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+
+/**
+ * Medição simples de custo por operação (tempo de parede e de CPU da thread) para os benchmarks
+ * do profile {@code benchmark}. Não substitui o JMH, mas basta para comparações antes/depois
+ * na mesma JVM.
+ */
+final class MicroBenchmark {
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private MicroBenchmark() {
+    }
+
+    record Result(String name, long bytes, double wallMicros, double cpuMicros) {
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-40s %10d bytes %10.1f µs/op (parede) %10.1f µs/op (CPU)",
+                name, bytes, wallMicros, cpuMicros);
+        }
+    }
+
+    static Result run(String name, int warmup, int iterations, Callable<byte[]> operation) throws Exception {
+        long bytes = 0;
+        for (int i = 0; i < warmup; i++) {
+            bytes = operation.call().length;
+        }
+        long cpuStart = THREADS.getCurrentThreadCpuTime();
+        long wallStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            bytes = operation.call().length;
+        }
+        long wall = System.nanoTime() - wallStart;
+        long cpu = THREADS.getCurrentThreadCpuTime() - cpuStart;
+        Result result = new Result(name, bytes, wall / 1000.0 / iterations, cpu / 1000.0 / iterations);
+        System.out.println(result);
+        return result;
+    }
+}
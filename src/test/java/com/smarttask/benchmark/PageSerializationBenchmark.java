@@ -0,0 +1,92 @@
+package com.smarttask.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.dto.PageResponse;
+import com.smarttask.dto.TaskResponseDTO;
+import com.smarttask.dto.json.TaskResponseSerializer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bytes e CPU para serializar uma página de 500 tarefas: {@code PageImpl} com Jackson reflexivo
+ * (antes) contra {@link PageResponse} com os serializers dedicados (depois).
+ * Rodar com {@code mvn -Pbenchmark test -Dtest=PageSerializationBenchmark}.
+ */
+@Tag("benchmark")
+class PageSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 500;
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 2_000;
+
+    @Test
+    void fiveHundredTaskPage() throws Exception {
+        List<TaskResponseDTO> tasks = tasks(PAGE_SIZE);
+        Page<TaskResponseDTO> page = new PageImpl<>(tasks, PageRequest.of(0, PAGE_SIZE, Sort.by("dueDate")), 12_345);
+
+        ObjectMapper reflective = baseMapper();
+        ObjectMapper tuned = baseMapper().registerModule(new SimpleModule().addSerializer(new TaskResponseSerializer()));
+
+        // Os serializers dedicados precisam produzir exatamente o mesmo JSON por item
+        for (TaskResponseDTO task : tasks.subList(0, 50)) {
+            assertThat(tuned.writeValueAsString(task)).isEqualTo(reflective.writeValueAsString(task));
+        }
+
+        MicroBenchmark.Result before = MicroBenchmark.run("PageImpl + Jackson reflexivo", WARMUP, ITERATIONS,
+            () -> reflective.writeValueAsBytes(page));
+        MicroBenchmark.Result after = MicroBenchmark.run("PageResponse + serializers dedicados", WARMUP, ITERATIONS,
+            () -> tuned.writeValueAsBytes(PageResponse.from(page)));
+
+        assertThat(after.bytes()).isLessThan(before.bytes());
+    }
+
+    private static ObjectMapper baseMapper() {
+        return JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    }
+
+    static List<TaskResponseDTO> tasks(int count) {
+        SplittableRandom random = new SplittableRandom(7);
+        LocalDateTime base = LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123_456_000);
+        List<TaskResponseDTO> tasks = new ArrayList<>(count);
+        UUID userId = UUID.randomUUID();
+        UUID projectId = UUID.randomUUID();
+        for (int i = 0; i < count; i++) {
+            tasks.add(new TaskResponseDTO(
+                UUID.randomUUID(),
+                "Tarefa " + i + " do quadro",
+                i % 5 == 0 ? null : "Descrição detalhada da tarefa número " + i + " com algum texto de contexto",
+                TaskStatus.values()[random.nextInt(4)],
+                TaskPriority.values()[random.nextInt(4)],
+                base.plusMinutes(i),
+                base.plusMinutes(i).plusSeconds(random.nextInt(3600)),
+                i % 3 == 0 ? null : base.plusDays(random.nextInt(60)).withNano(0),
+                userId,
+                projectId,
+                null,
+                (long) random.nextInt(10)
+            ));
+        }
+        return tasks;
+    }
+}
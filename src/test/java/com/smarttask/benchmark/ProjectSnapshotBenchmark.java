@@ -0,0 +1,138 @@
+package com.smarttask.benchmark;
+
+import com.smarttask.domain.entity.Project;
+import com.smarttask.domain.entity.User;
+import com.smarttask.dto.ProjectResponseDTO;
+import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.UserRepository;
+import com.smarttask.service.ProjectSnapshotService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Cópia de um projeto com {@code snapshot.size} tarefas (hierarquia de até três níveis) por
+ * snapshot binário — exportação e importação pelo {@link ProjectSnapshotService} — contra a
+ * recriação tarefa a tarefa pela API REST, que é o que um script de carga faria sem o snapshot.
+ * A recriação via REST usa só as primeiras {@code snapshot.replay} tarefas e é extrapolada.
+ * Rodar com {@code mvn -Pbenchmark test -Dtest=ProjectSnapshotBenchmark -Dsnapshot.size=100000}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = {"smarttask.sql-budget.fail-on-violation=false", "smarttask.rate-limit.enabled=false"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectSnapshotBenchmark {
+
+    private static final int SIZE = Integer.getInteger("snapshot.size", 50_000);
+    private static final int REPLAY = Integer.getInteger("snapshot.replay", 1_000);
+
+    @Autowired
+    private ProjectSnapshotService snapshotService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Test
+    void snapshotAgainstRestReplay() throws Exception {
+        User user = userRepository.save(new User("Benchmark", "snapshot-" + UUID.randomUUID() + "@example.com"));
+        Project project = projectRepository.save(new Project("Origem", "Benchmark de snapshot", user));
+        seed(user.getId(), project.getId());
+
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        long start = System.nanoTime();
+        snapshotService.export(project.getId(), header -> Channels.newChannel(file));
+        double exportMillis = (System.nanoTime() - start) / 1_000_000.0;
+
+        start = System.nanoTime();
+        ProjectResponseDTO copy = snapshotService.importSnapshot(
+            Channels.newChannel(new ByteArrayInputStream(file.toByteArray())), user.getId());
+        double importMillis = (System.nanoTime() - start) / 1_000_000.0;
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE project_id = ?", Long.class, copy.id()))
+            .isEqualTo(SIZE);
+
+        Project target = projectRepository.save(new Project("Destino", "Recriação via REST", user));
+        List<Map<String, Object>> tasks = jdbcTemplate.queryForList(
+            "SELECT title, status, priority FROM tasks WHERE project_id = ? LIMIT ?", project.getId(), REPLAY);
+        start = System.nanoTime();
+        for (Map<String, Object> task : tasks) {
+            mockMvc.perform(post("/api/v1/tasks").contentType(MediaType.APPLICATION_JSON).content("""
+                    {"title": "%s", "status": "%s", "priority": "%s", "userId": "%s", "projectId": "%s"}
+                    """.formatted(task.get("TITLE"), task.get("STATUS"), task.get("PRIORITY"), user.getId(), target.getId())))
+                .andExpect(status().isCreated());
+        }
+        double replayMillis = (System.nanoTime() - start) / 1_000_000.0 * SIZE / tasks.size();
+
+        System.out.printf(Locale.ROOT, "%d tarefas, arquivo de %.1f KiB (%.0f bytes por tarefa)%n",
+            SIZE, file.size() / 1024.0, (double) file.size() / SIZE);
+        System.out.printf(Locale.ROOT, "snapshot: exportação %.0f ms, importação %.0f ms%n", exportMillis, importMillis);
+        System.out.printf(Locale.ROOT, "REST tarefa a tarefa (sem hierarquia, extrapolado de %d): %.0f ms%n",
+            tasks.size(), replayMillis);
+    }
+
+    // Raízes, filhos e netos em proporções parecidas com um backlog real
+    private void seed(UUID userId, UUID projectId) {
+        Random random = new Random(48);
+        String[] statuses = {"COMPLETED", "COMPLETED", "PENDING", "IN_PROGRESS", "CANCELLED"};
+        String[] priorities = {"LOW", "MEDIUM", "MEDIUM", "HIGH", "URGENT"};
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> tasks = new ArrayList<>(SIZE);
+        List<Object[]> closure = new ArrayList<>();
+        List<UUID> roots = new ArrayList<>();
+        List<UUID[]> children = new ArrayList<>();
+        for (int i = 0; i < SIZE; i++) {
+            UUID id = UUID.randomUUID();
+            UUID parent = null;
+            int level = roots.isEmpty() ? 0 : random.nextInt(3);
+            if (level == 1 || (level == 2 && children.isEmpty())) {
+                parent = roots.get(random.nextInt(roots.size()));
+                closure.add(new Object[]{parent, id, 1});
+                children.add(new UUID[]{id, parent});
+            } else if (level == 2) {
+                UUID[] child = children.get(random.nextInt(children.size()));
+                parent = child[0];
+                closure.add(new Object[]{child[0], id, 1});
+                closure.add(new Object[]{child[1], id, 2});
+            } else {
+                roots.add(id);
+            }
+            tasks.add(new Object[]{id, "Tarefa " + i, statuses[random.nextInt(statuses.length)],
+                priorities[random.nextInt(priorities.length)], now, now, userId, projectId, parent});
+        }
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO tasks (id, title, status, priority, created_at, updated_at, user_id, project_id, parent_id, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+            """, tasks);
+        jdbcTemplate.batchUpdate("INSERT INTO task_closure (ancestor_id, descendant_id, depth) VALUES (?, ?, ?)", closure);
+    }
+}
@@ -0,0 +1,168 @@
+package com.smarttask.benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tempo até a primeira requisição bem-sucedida e RSS logo depois dela, para cada modo de subida
+ * do artefato gerado por {@code mvn -Pfast-startup package}:
+ * <ul>
+ *   <li>padrão: jar extraído, sem AOT nem CDS;</li>
+ *   <li>lazy: idem, com {@code smarttask.startup.lazy-non-critical=true};</li>
+ *   <li>aot+cds: classes AOT e arquivo AppCDS da execução de treino (lazy incluído no build AOT).</li>
+ * </ul>
+ * Cada execução é um processo novo com H2 em memória (o H2 do classpath de teste é anexado ao final
+ * do classpath, o que o CDS aceita). O RSS vem de {@code /proc} e só é medido no Linux.
+ * Rodar com {@code mvn -Pbenchmark test -Dtest=StartupBenchmark [-Dstartup.runs=5]}.
+ */
+@Tag("benchmark")
+class StartupBenchmark {
+
+    private static final Path APP_DIR = Path.of("target", "fast-startup");
+    private static final String MAIN_CLASS = "com.smarttask.SmartTaskManagerApplication";
+    private static final long TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(120);
+
+    @Test
+    void timeToFirstRequestPerMode() throws Exception {
+        Path jar = findAppJar();
+        assumeTrue(jar != null && Files.exists(APP_DIR.resolve("application.jsa")),
+            "Gere o artefato antes: mvn -Pfast-startup package -DskipTests");
+        int runs = Integer.getInteger("startup.runs", 3);
+
+        List<Mode> modes = List.of(
+            new Mode("padrão", List.of()),
+            new Mode("lazy", List.of("-Dsmarttask.startup.lazy-non-critical=true")),
+            new Mode("aot+cds", List.of("-XX:SharedArchiveFile=application.jsa", "-Xlog:cds=error",
+                "-Dspring.aot.enabled=true"))
+        );
+
+        System.out.printf("%n%-10s %18s %18s%n", "modo", "1ª requisição (ms)", "RSS (MB)");
+        for (Mode mode : modes) {
+            long[] millis = new long[runs];
+            long[] rss = new long[runs];
+            for (int i = 0; i < runs; i++) {
+                Sample sample = start(jar, mode);
+                millis[i] = sample.millis();
+                rss[i] = sample.rssKb();
+            }
+            System.out.printf("%-10s %18d %18s%n", mode.name(), median(millis),
+                median(rss) < 0 ? "n/d" : String.valueOf(median(rss) / 1024));
+        }
+    }
+
+    private Sample start(Path jar, Mode mode) throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(mode.jvmArguments());
+        command.addAll(List.of(
+            "-cp", jar.getFileName() + File.pathSeparator + h2Jar(),
+            MAIN_CLASS,
+            "--server.port=" + port,
+            "--spring.datasource.url=jdbc:h2:mem:startup;DB_CLOSE_DELAY=-1",
+            "--spring.datasource.driver-class-name=org.h2.Driver",
+            "--spring.datasource.username=sa",
+            "--spring.datasource.password=",
+            "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+            "--spring.jpa.hibernate.ddl-auto=create-drop",
+            "--logging.level.root=WARN"));
+
+        long started = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .directory(APP_DIR.toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        try {
+            URI uri = URI.create("http://localhost:" + port + "/api/v1/users?size=1");
+            while (!succeeds(uri)) {
+                assertThat(process.isAlive()).as("processo encerrou antes de responder").isTrue();
+                assertThat(System.nanoTime() - started).as("tempo limite de subida").isLessThan(TIMEOUT_NANOS);
+                Thread.sleep(5);
+            }
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            return new Sample(millis, rssKb(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static boolean succeeds(URI uri) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) uri.toURL().openConnection();
+            connection.setConnectTimeout(200);
+            connection.setReadTimeout(5_000);
+            try {
+                return connection.getResponseCode() == 200;
+            } finally {
+                connection.disconnect();
+            }
+        } catch (IOException notYet) {
+            return false;
+        }
+    }
+
+    private static long rssKb(long pid) {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (!Files.exists(status)) {
+            return -1;
+        }
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        } catch (IOException ignored) {
+            // processo já encerrou
+        }
+        return -1;
+    }
+
+    private static Path findAppJar() throws IOException {
+        if (!Files.isDirectory(APP_DIR)) {
+            return null;
+        }
+        try (var files = Files.list(APP_DIR)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".jar")).findFirst().orElse(null);
+        }
+    }
+
+    private static String h2Jar() {
+        return Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+            .filter(entry -> Path.of(entry).getFileName().toString().startsWith("h2-"))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("H2 não encontrado no classpath de teste"));
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private record Mode(String name, List<String> jvmArguments) {}
+
+    private record Sample(long millis, long rssKb) {}
+}
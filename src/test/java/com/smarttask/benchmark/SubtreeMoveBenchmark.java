@@ -0,0 +1,174 @@
+package com.smarttask.benchmark;
+
+import com.smarttask.domain.entity.Project;
+import com.smarttask.domain.entity.User;
+import com.smarttask.dto.TaskSubtreeSummaryDTO;
+import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.UserRepository;
+import com.smarttask.service.TaskService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Custo de mover uma subárvore grande entre dois épicos, com a tabela de fechamento mantida pelo
+ * {@link TaskService}. Monta dois ramos de {@code subtree.chain} ancestrais e uma subárvore de
+ * {@code subtree.size} tarefas (fator de ramificação {@code subtree.fanout}) pendurada no primeiro,
+ * e alterna a subárvore entre os dois ramos. Cada movimento apaga (ancestrais × subárvore) linhas e
+ * insere (ancestrais + 1) × subárvore.
+ * Rodar com {@code mvn -Pbenchmark test -Dtest=SubtreeMoveBenchmark -Dsubtree.size=20000}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "smarttask.sql-budget.fail-on-violation=false")
+@ActiveProfiles("test")
+class SubtreeMoveBenchmark {
+
+    private static final int SIZE = Integer.getInteger("subtree.size", 10_000);
+    private static final int FANOUT = Integer.getInteger("subtree.fanout", 10);
+    private static final int CHAIN = Integer.getInteger("subtree.chain", 5);
+    private static final int MOVES = Integer.getInteger("subtree.moves", 6);
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Test
+    void moveLargeSubtreeBetweenBranches() {
+        User user = userRepository.save(new User("Benchmark", "subtree-" + UUID.randomUUID() + "@example.com"));
+        Project project = projectRepository.save(new Project("Subárvore", "Benchmark de movimento", user));
+        Tree tree = new Tree(user.getId(), project.getId());
+
+        UUID left = tree.chain();
+        UUID right = tree.chain();
+        UUID root = tree.subtree(left, SIZE);
+        tree.flush();
+        System.out.printf(Locale.ROOT, "subárvore de %d tarefas, %d ancestrais por ramo, %d linhas em task_closure%n",
+            SIZE, CHAIN, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_closure", Long.class));
+
+        List<Double> millis = new ArrayList<>();
+        UUID target = right;
+        for (int i = 0; i < MOVES; i++) {
+            long start = System.nanoTime();
+            taskService.move(root, target);
+            millis.add((System.nanoTime() - start) / 1_000_000.0);
+            target = target.equals(right) ? left : right;
+        }
+        // Número par de movimentos: a subárvore volta para o ramo da esquerda
+        UUID topLeft = tree.chainRoots.get(0);
+        UUID topRight = tree.chainRoots.get(1);
+        TaskSubtreeSummaryDTO summary = taskService.summarizeSubtree(MOVES % 2 == 0 ? topLeft : topRight);
+        assertThat(summary.descendants()).isEqualTo(CHAIN - 1 + SIZE);
+        assertThat(taskService.summarizeSubtree(MOVES % 2 == 0 ? topRight : topLeft).descendants()).isEqualTo(CHAIN - 1);
+
+        millis.sort(Double::compare);
+        System.out.printf(Locale.ROOT, "mover subárvore: mediana %.1f ms, mín %.1f ms, máx %.1f ms (%d movimentos)%n",
+            millis.get(millis.size() / 2), millis.get(0), millis.get(millis.size() - 1), MOVES);
+    }
+
+    /** Insere tarefas e linhas de fechamento em lote via JDBC, calculando os ancestrais em memória. */
+    private final class Tree {
+
+        private final UUID userId;
+        private final UUID projectId;
+        private final List<Object[]> tasks = new ArrayList<>();
+        private final List<Object[]> closure = new ArrayList<>();
+        private final List<UUID> chainRoots = new ArrayList<>();
+        private final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        private Tree(UUID userId, UUID projectId) {
+            this.userId = userId;
+            this.projectId = projectId;
+        }
+
+        /** Cadeia de {@code CHAIN} tarefas; devolve a mais funda. */
+        UUID chain() {
+            List<UUID> ancestors = new ArrayList<>();
+            UUID parent = null;
+            for (int i = 0; i < CHAIN; i++) {
+                parent = add(parent, ancestors);
+                ancestors.add(0, parent);
+            }
+            chainRoots.add(ancestors.get(ancestors.size() - 1));
+            return parent;
+        }
+
+        /** Árvore com {@code size} tarefas abaixo de {@code parent}, preenchida em largura. */
+        UUID subtree(UUID parent, int size) {
+            List<UUID> parentAncestors = ancestorsOf(parent);
+            List<UUID> rootAncestors = new ArrayList<>();
+            rootAncestors.add(parent);
+            rootAncestors.addAll(parentAncestors);
+            UUID root = add(parent, rootAncestors);
+            List<List<UUID>> level = new ArrayList<>();
+            List<UUID> withRoot = new ArrayList<>();
+            withRoot.add(root);
+            withRoot.addAll(rootAncestors);
+            level.add(withRoot);
+            int created = 1;
+            while (created < size) {
+                List<List<UUID>> next = new ArrayList<>();
+                for (List<UUID> node : level) {
+                    for (int child = 0; child < FANOUT && created < size; child++, created++) {
+                        UUID id = add(node.get(0), node);
+                        List<UUID> path = new ArrayList<>();
+                        path.add(id);
+                        path.addAll(node);
+                        next.add(path);
+                    }
+                }
+                level = next;
+            }
+            return root;
+        }
+
+        private List<UUID> ancestorsOf(UUID id) {
+            List<UUID> ancestors = new ArrayList<>();
+            for (Object[] row : closure) {
+                if (row[1].equals(id)) {
+                    ancestors.add((UUID) row[0]);
+                }
+            }
+            return ancestors;
+        }
+
+        // ancestors: do pai até a raiz
+        private UUID add(UUID parent, List<UUID> ancestors) {
+            UUID id = UUID.randomUUID();
+            tasks.add(new Object[]{id, "Tarefa " + tasks.size(), "PENDING", "MEDIUM", now, now, userId, projectId, parent});
+            if (parent != null) {
+                for (int depth = 0; depth < ancestors.size(); depth++) {
+                    closure.add(new Object[]{ancestors.get(depth), id, depth + 1});
+                }
+            }
+            return id;
+        }
+
+        void flush() {
+            jdbcTemplate.batchUpdate("""
+                INSERT INTO tasks (id, title, status, priority, created_at, updated_at, user_id, project_id, parent_id, version)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+                """, tasks);
+            jdbcTemplate.batchUpdate("INSERT INTO task_closure (ancestor_id, descendant_id, depth) VALUES (?, ?, ?)", closure);
+        }
+    }
+}
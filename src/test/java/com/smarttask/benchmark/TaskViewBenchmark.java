@@ -0,0 +1,161 @@
+package com.smarttask.benchmark;
+
+import com.smarttask.board.TaskViewSort;
+import com.smarttask.domain.entity.Project;
+import com.smarttask.domain.entity.Task;
+import com.smarttask.domain.entity.User;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.dto.TaskCardDTO;
+import com.smarttask.dto.TaskViewDTO;
+import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.TaskRepository;
+import com.smarttask.repository.UserRepository;
+import com.smarttask.service.TaskViewService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Visão de quadro de um projeto com {@code view.size} tarefas: caminho JPA (hidrata todas as
+ * entidades do projeto, filtra, ordena e conta em memória) contra a cópia colunar do
+ * {@link TaskViewService}. Mede tempo e bytes alocados pela thread por consulta.
+ * Rodar com {@code mvn -Pbenchmark test -Dtest=TaskViewBenchmark -Dview.size=50000}.
+ */
+@Tag("benchmark")
+@SpringBootTest(properties = "smarttask.sql-budget.fail-on-violation=false")
+@ActiveProfiles("test")
+class TaskViewBenchmark {
+
+    private static final int SIZE = Integer.getInteger("view.size", 20_000);
+    private static final int ROUNDS = Integer.getInteger("view.rounds", 30);
+    private static final int LIMIT = 50;
+    private static final Set<TaskStatus> OPEN = Set.of(TaskStatus.PENDING, TaskStatus.IN_PROGRESS);
+    private static final Set<TaskPriority> HIGH_OR_ABOVE = Set.of(TaskPriority.HIGH, TaskPriority.URGENT);
+
+    @Autowired
+    private TaskViewService viewService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void snapshotAgainstJpa() {
+        User user = userRepository.save(new User("Benchmark", "view-" + UUID.randomUUID() + "@example.com"));
+        Project project = projectRepository.save(new Project("Quadro", "Benchmark da visão de quadro", user));
+        seed(user.getId(), project.getId());
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Supplier<TaskViewDTO> jpa = () -> readOnly.execute(status -> viewWithJpa(project.getId()));
+        Supplier<TaskViewDTO> snapshot = () -> viewService.view(project.getId(), OPEN, HIGH_OR_ABOVE, null, null,
+            TaskViewSort.PRIORITY, LIMIT);
+
+        TaskViewDTO expected = jpa.get();
+        TaskViewDTO actual = snapshot.get();
+        assertThat(actual.matched()).isEqualTo(expected.matched());
+        assertThat(actual.byStatus()).isEqualTo(expected.byStatus());
+        assertThat(actual.tasks()).extracting("id").isEqualTo(expected.tasks().stream().map(TaskCardDTO::id).toList());
+
+        measure("JPA", jpa);
+        measure("cópia colunar", snapshot);
+    }
+
+    private TaskViewDTO viewWithJpa(UUID projectId) {
+        List<Task> tasks = taskRepository.findByProjectId(projectId, Pageable.unpaged()).getContent();
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        List<Task> matched = new ArrayList<>();
+        for (Task task : tasks) {
+            if (HIGH_OR_ABOVE.contains(task.getPriority())) {
+                byStatus.merge(task.getStatus(), 1L, Long::sum);
+                if (OPEN.contains(task.getStatus())) {
+                    matched.add(task);
+                }
+            }
+        }
+        matched.sort(Comparator.comparing(Task::getPriority).reversed()
+            .thenComparing(Task::getDueDate, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Task::getId));
+        return new TaskViewDTO(projectId, matched.size(), byStatus, matched.stream().limit(LIMIT)
+            .map(task -> new TaskCardDTO(task.getId(), task.getTitle(), task.getStatus(),
+                task.getPriority(), task.getDueDate(), task.getUpdatedAt(), task.getUser().getId(), task.getVersion()))
+            .toList());
+    }
+
+    private void measure(String label, Supplier<TaskViewDTO> view) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < 5; i++) {
+            view.get();
+        }
+        List<Double> millis = new ArrayList<>();
+        long allocated = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            long bytesBefore = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            view.get();
+            millis.add((System.nanoTime() - start) / 1_000_000.0);
+            allocated += threads.getCurrentThreadAllocatedBytes() - bytesBefore;
+        }
+        millis.sort(Double::compare);
+        System.out.printf(Locale.ROOT, "%s: mediana %.2f ms, mín %.2f ms, %.1f KiB alocados por consulta (%d tarefas)%n",
+            label, millis.get(millis.size() / 2), millis.get(0), allocated / 1024.0 / ROUNDS, SIZE);
+    }
+
+    // Distribuição enviesada: poucas tarefas urgentes, a maioria fechada
+    private void seed(UUID userId, UUID projectId) {
+        Random random = new Random(44);
+        TaskStatus[] statuses = {TaskStatus.COMPLETED, TaskStatus.COMPLETED, TaskStatus.PENDING,
+            TaskStatus.IN_PROGRESS, TaskStatus.CANCELLED};
+        TaskPriority[] priorities = {TaskPriority.LOW, TaskPriority.MEDIUM, TaskPriority.MEDIUM,
+            TaskPriority.HIGH, TaskPriority.URGENT};
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        LocalDateTime base = LocalDateTime.now().withNano(0);
+        List<Object[]> rows = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            Timestamp due = random.nextInt(4) == 0 ? null : Timestamp.valueOf(base.plusHours(random.nextInt(24 * 90)));
+            rows.add(new Object[]{UUID.randomUUID(), "Tarefa " + i, statuses[random.nextInt(statuses.length)].name(),
+                priorities[random.nextInt(priorities.length)].name(), due, now, now, userId, projectId});
+        }
+        jdbcTemplate.batchUpdate("""
+            INSERT INTO tasks (id, title, status, priority, due_date, created_at, updated_at, user_id, project_id, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+            """, rows);
+    }
+}
@@ -0,0 +1,192 @@
+package com.smarttask.cluster;
+
+import com.smarttask.SmartTaskManagerApplication;
+import com.smarttask.board.TaskBoardIndex;
+import com.smarttask.board.TaskViewSort;
+import com.smarttask.domain.entity.Project;
+import com.smarttask.domain.entity.User;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.dto.CreateTaskDTO;
+import com.smarttask.dto.TaskCardDTO;
+import com.smarttask.dto.TaskResponseDTO;
+import com.smarttask.dto.TaskViewDTO;
+import com.smarttask.dto.UpdateTaskDTO;
+import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.UserRepository;
+import com.smarttask.service.TaskService;
+import com.smarttask.service.TaskViewService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * No H2 as mensagens são aplicadas diretamente ao listener, como se viessem de outra instância.
+ * O teste com duas instâncias de verdade precisa de um PostgreSQL descartável:
+ * {@code SMARTTASK_TEST_POSTGRES_URL=jdbc:postgresql://localhost:5432/smarttask_test mvn test -Dtest=ClusterInvalidationTest}
+ * (usuário e senha em {@code DB_USERNAME}/{@code DB_PASSWORD}).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ClusterInvalidationTest {
+
+    private static final Duration PROPAGATION_TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private ClusterInvalidationListener listener;
+
+    @Autowired
+    private ClusterInvalidationPublisher publisher;
+
+    @Autowired
+    private TaskBoardIndex boardIndex;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskViewService viewService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void appliesForeignInvalidationsAndIgnoresOwn() {
+        Seed seed = seed(userRepository, projectRepository);
+        TaskResponseDTO task = taskService.create(newTask(seed, "Original"));
+        assertThat(titles(viewService, seed.projectId())).containsExactly("Original");
+
+        // Outra instância grava a versão 1 direto no banco e anuncia
+        jdbcTemplate.update("UPDATE tasks SET title = ?, version = 1 WHERE id = ?", "Da outra instância", task.id());
+        Invalidation changed = new Invalidation(Invalidation.Kind.TASK, task.id(), 1, seed.projectId());
+        listener.onNotification(new InvalidationMessage(publisher.nodeId(), List.of(changed)).encode());
+        assertThat(boardIndex.isCached(seed.projectId())).isTrue();
+
+        listener.onNotification(new InvalidationMessage(UUID.randomUUID().toString(), List.of(changed)).encode());
+        assertThat(boardIndex.isCached(seed.projectId())).isFalse();
+        assertThat(titles(viewService, seed.projectId())).containsExactly("Da outra instância");
+
+        // Já na versão anunciada (carregada depois do commit): nada a descartar
+        listener.onNotification(new InvalidationMessage(UUID.randomUUID().toString(), List.of(changed)).encode());
+        assertThat(boardIndex.isCached(seed.projectId())).isTrue();
+
+        Invalidation removed = new Invalidation(Invalidation.Kind.TASK, task.id(), Invalidation.REMOVED, seed.projectId());
+        listener.onNotification(new InvalidationMessage(UUID.randomUUID().toString(), List.of(removed)).encode());
+        assertThat(titles(viewService, seed.projectId())).isEmpty();
+
+        listener.onNotification(new InvalidationMessage(UUID.randomUUID().toString(), List.of(Invalidation.all())).encode());
+        assertThat(boardIndex.isCached(seed.projectId())).isFalse();
+    }
+
+    @Test
+    void splitsLargeTransactionsAndFallsBackToFlushAll() {
+        Set<Invalidation> some = new LinkedHashSet<>();
+        for (int i = 0; i < 300; i++) {
+            some.add(new Invalidation(Invalidation.Kind.TASK, UUID.randomUUID(), i, UUID.randomUUID()));
+        }
+        List<String> payloads = publisher.payloads(some);
+        assertThat(payloads).hasSizeGreaterThan(1)
+            .allSatisfy(payload -> assertThat(payload.length()).isLessThanOrEqualTo(ClusterInvalidationPublisher.MAX_PAYLOAD_BYTES));
+        List<Invalidation> decoded = new ArrayList<>();
+        payloads.forEach(payload -> decoded.addAll(InvalidationMessage.decode(payload).invalidations()));
+        assertThat(decoded).containsExactlyElementsOf(some);
+
+        Set<Invalidation> tooMany = new LinkedHashSet<>();
+        for (int i = 0; i < 5000; i++) {
+            tooMany.add(new Invalidation(Invalidation.Kind.USER, UUID.randomUUID(), Invalidation.UNVERSIONED, null));
+        }
+        assertThat(publisher.payloads(tooMany)).singleElement()
+            .satisfies(payload -> assertThat(InvalidationMessage.decode(payload).invalidations())
+                .containsExactly(Invalidation.all()));
+    }
+
+    @Test
+    void propagatesBetweenTwoInstancesAndFlushesOnReconnect() throws Exception {
+        String url = System.getenv("SMARTTASK_TEST_POSTGRES_URL");
+        assumeTrue(url != null, "Defina SMARTTASK_TEST_POSTGRES_URL para rodar com duas instâncias");
+
+        try (ConfigurableApplicationContext first = startNode(url);
+             ConfigurableApplicationContext second = startNode(url)) {
+            ClusterInvalidationListener firstListener = first.getBean(ClusterInvalidationListener.class);
+            await(() -> firstListener.isListening() && second.getBean(ClusterInvalidationListener.class).isListening());
+
+            Seed seed = seed(second.getBean(UserRepository.class), second.getBean(ProjectRepository.class));
+            TaskService secondTasks = second.getBean(TaskService.class);
+            TaskResponseDTO task = secondTasks.create(newTask(seed, "Original"));
+            TaskViewService firstView = first.getBean(TaskViewService.class);
+            TaskBoardIndex firstBoard = first.getBean(TaskBoardIndex.class);
+            assertThat(titles(firstView, seed.projectId())).containsExactly("Original");
+
+            secondTasks.update(task.id(), new UpdateTaskDTO("Alterada na segunda", null, null, null, null));
+            await(() -> !firstBoard.isCached(seed.projectId()));
+            assertThat(titles(firstView, seed.projectId())).containsExactly("Alterada na segunda");
+
+            // Derruba as conexões de escuta: ao voltar, cada instância descarta tudo o que tem
+            MeterRegistry firstMeters = first.getBean(MeterRegistry.class);
+            double flushes = firstMeters.counter("smarttask.cluster.invalidation.flushes").count();
+            first.getBean(JdbcTemplate.class).queryForList(
+                "SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE application_name = ?",
+                ClusterInvalidationListener.APPLICATION_NAME);
+            await(() -> firstMeters.counter("smarttask.cluster.invalidation.flushes").count() > flushes
+                && firstListener.isListening());
+            assertThat(firstBoard.isCached(seed.projectId())).isFalse();
+        }
+    }
+
+    private static ConfigurableApplicationContext startNode(String url) {
+        return new SpringApplicationBuilder(SmartTaskManagerApplication.class).run(
+            "--spring.main.web-application-type=none",
+            "--spring.datasource.url=" + url,
+            "--spring.jpa.hibernate.ddl-auto=update",
+            "--smarttask.cluster.invalidation.enabled=true",
+            "--smarttask.cluster.invalidation.reconnect-delay=100ms");
+    }
+
+    private static Seed seed(UserRepository users, ProjectRepository projects) {
+        User user = users.save(new User("Cluster", "cluster-" + UUID.randomUUID() + "@example.com"));
+        Project project = projects.save(new Project("Cluster", "Projeto do teste de invalidação", user));
+        return new Seed(user.getId(), project.getId());
+    }
+
+    private static CreateTaskDTO newTask(Seed seed, String title) {
+        return new CreateTaskDTO(title, null, TaskStatus.PENDING, TaskPriority.MEDIUM, null, seed.userId(),
+            seed.projectId(), null);
+    }
+
+    private static List<String> titles(TaskViewService view, UUID projectId) {
+        TaskViewDTO board = view.view(projectId, List.of(), List.of(), null, null, TaskViewSort.PRIORITY, 50);
+        return board.tasks().stream().map(TaskCardDTO::title).toList();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + PROPAGATION_TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condição não atingida em %s", PROPAGATION_TIMEOUT).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    private record Seed(UUID userId, UUID projectId) {}
+}
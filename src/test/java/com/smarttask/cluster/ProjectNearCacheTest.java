@@ -0,0 +1,46 @@
+package com.smarttask.cluster;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ProjectNearCacheTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void loadsFromPrimaryEvenInsideReadOnlyTransactionAndKeepsEntryLimit() {
+        List<Boolean> loadedReadOnly = new ArrayList<>();
+        ProjectNearCache<UUID> cache = new ProjectNearCache<>(projectId -> {
+            loadedReadOnly.add(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            return projectId;
+        }, null, Long.MAX_VALUE, 2, transactionManager, new SimpleMeterRegistry().timer("load"), null);
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        UUID first = UUID.randomUUID();
+        // Transação read-only iria para uma réplica: a carga abre a própria, de escrita
+        UUID read = readOnly.execute(status -> cache.read(first, id -> id));
+        assertThat(read).isEqualTo(first);
+        cache.read(UUID.randomUUID(), id -> id);
+        cache.read(UUID.randomUUID(), id -> id);
+
+        assertThat(loadedReadOnly).containsOnly(false);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.contains(first)).isFalse();
+    }
+}
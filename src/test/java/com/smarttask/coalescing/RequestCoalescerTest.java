@@ -0,0 +1,78 @@
+package com.smarttask.coalescing;
+
+import com.smarttask.datasource.ReplicaLagGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCoalescer coalescer =
+        new RequestCoalescer(new StaticListableBeanFactory().getBeanProvider(ReplicaLagGuard.class), meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneLoadAndLaterCallersReload() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<Integer> leader = executor.submit(() -> coalescer.execute("op", "k", () -> {
+            started.countDown();
+            await(release);
+            return loads.incrementAndGet();
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Integer> follower = executor.submit(() -> coalescer.execute("op", "k", loads::incrementAndGet));
+        while (meterRegistry.find("smarttask.coalescing.requests").tag("role", "follower").counter() == null) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(coalescer.execute("op", "k", loads::incrementAndGet)).isEqualTo(2);
+    }
+
+    @Test
+    void forgottenFlightIsNotJoined() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> stale = executor.submit(() -> coalescer.execute("op", "k", () -> {
+            started.countDown();
+            await(release);
+            return "antes";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        coalescer.forgetAfterCommit("op", "k"::equals);
+
+        assertThat(coalescer.execute("op", "k", () -> "depois")).isEqualTo("depois");
+        release.countDown();
+        assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo("antes");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
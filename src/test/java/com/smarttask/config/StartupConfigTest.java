@@ -0,0 +1,25 @@
+package com.smarttask.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "smarttask.startup.lazy-non-critical=true")
+@ActiveProfiles("test")
+class StartupConfigTest {
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Test
+    void defersOpenApiBeansEvenThoughConfigurationClassIsEnhanced() {
+        assertThat(beanFactory.getBeanDefinition("openApiConfig").getBeanClassName()).contains("$$");
+        assertThat(beanFactory.getBeanDefinition("openApiConfig").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanDefinition("smartTaskManagerOpenAPI").isLazyInit()).isTrue();
+        assertThat(beanFactory.getBeanDefinition("rateLimiter").isLazyInit()).isFalse();
+    }
+}
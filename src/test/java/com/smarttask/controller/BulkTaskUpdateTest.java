@@ -0,0 +1,102 @@
+package com.smarttask.controller;
+
+import com.smarttask.domain.entity.Project;
+import com.smarttask.domain.entity.Task;
+import com.smarttask.domain.entity.User;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.TaskRepository;
+import com.smarttask.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "smarttask.bulk-update.chunk-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class BulkTaskUpdateTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void completesEveryMatchingTaskInChunksAndBumpsVersion() throws Exception {
+        User user = userRepository.save(new User("Bulk User", "bulk-" + UUID.randomUUID() + "@example.com"));
+        Project project = projectRepository.save(new Project("Sprint", "Projeto do teste de lote", user));
+        List<Task> open = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            open.add(save(user, project, TaskStatus.IN_PROGRESS));
+        }
+        Task cancelled = save(user, project, TaskStatus.CANCELLED);
+
+        String body = """
+            {"filter": {"projectId": "%s", "statuses": ["PENDING", "IN_PROGRESS"]}, "status": "COMPLETED"}
+            """.formatted(project.getId());
+        mockMvc.perform(patch("/api/v1/tasks/bulk").contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.matched").value(5))
+            .andExpect(jsonPath("$.updated").value(5))
+            .andExpect(jsonPath("$.chunks").value(3));
+
+        for (Task task : open) {
+            Task reloaded = taskRepository.findById(task.getId()).orElseThrow();
+            assertThat(reloaded.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+            assertThat(reloaded.getVersion()).isEqualTo(task.getVersion() + 1);
+            assertThat(reloaded.getUpdatedAt()).isAfterOrEqualTo(task.getUpdatedAt());
+        }
+        assertThat(taskRepository.findById(cancelled.getId()).orElseThrow().getStatus()).isEqualTo(TaskStatus.CANCELLED);
+    }
+
+    @Test
+    void reassignsTasksByIdsAndCountsOnlyExistingOnes() throws Exception {
+        User user = userRepository.save(new User("Bulk Owner", "owner-" + UUID.randomUUID() + "@example.com"));
+        User other = userRepository.save(new User("Bulk Other", "other-" + UUID.randomUUID() + "@example.com"));
+        Project project = projectRepository.save(new Project("Reatribuição", "Projeto do teste de lote", user));
+        Task task = save(user, project, TaskStatus.PENDING);
+
+        String body = """
+            {"ids": ["%s", "%s"], "userId": "%s", "priority": "URGENT"}
+            """.formatted(task.getId(), UUID.randomUUID(), other.getId());
+        mockMvc.perform(patch("/api/v1/tasks/bulk").contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.matched").value(2))
+            .andExpect(jsonPath("$.updated").value(1));
+
+        assertThat(taskRepository.findByUserId(other.getId(), Pageable.unpaged())
+            .map(Task::getPriority)).containsExactly(TaskPriority.URGENT);
+    }
+
+    private Task save(User user, Project project, TaskStatus status) {
+        Task task = new Task();
+        task.setTitle("Tarefa " + status);
+        task.setStatus(status);
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setUser(user);
+        task.setProject(project);
+        return taskRepository.save(task);
+    }
+}
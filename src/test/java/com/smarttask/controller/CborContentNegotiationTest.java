@@ -0,0 +1,61 @@
+package com.smarttask.controller;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.smarttask.dto.CreateUserDTO;
+import com.smarttask.dto.PageResponse;
+import com.smarttask.dto.UserResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CborContentNegotiationTest {
+
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+    private final ObjectMapper cborMapper = CBORMapper.builder().addModule(new JavaTimeModule()).build();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void acceptsAndProducesCborWhileJsonStaysDefault() throws Exception {
+        String email = "cbor-" + UUID.randomUUID() + "@example.com";
+        byte[] created = mockMvc.perform(post("/api/v1/users")
+                .contentType(CBOR)
+                .accept(CBOR)
+                .content(cborMapper.writeValueAsBytes(new CreateUserDTO("Cliente CBOR", email))))
+            .andExpect(status().isCreated())
+            .andExpect(content().contentType(CBOR))
+            .andReturn().getResponse().getContentAsByteArray();
+        UserResponseDTO user = cborMapper.readValue(created, UserResponseDTO.class);
+        assertThat(user.email()).isEqualTo(email);
+
+        byte[] page = mockMvc.perform(get("/api/v1/users").param("size", "100").accept(CBOR))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsByteArray();
+        assertThat(cborMapper.readValue(page, new TypeReference<PageResponse<UserResponseDTO>>() {}).content())
+            .contains(user);
+
+        mockMvc.perform(get("/api/v1/users/{id}", user.id()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+}
@@ -0,0 +1,84 @@
+package com.smarttask.controller;
+
+import com.smarttask.domain.entity.Project;
+import com.smarttask.domain.entity.Task;
+import com.smarttask.domain.entity.User;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.TaskRepository;
+import com.smarttask.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "smarttask.multi-get.chunk-size=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MultiGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void returnsTasksInRequestOrderAndReportsMissingIds() throws Exception {
+        User user = userRepository.save(new User("Multi User", "multi-" + UUID.randomUUID() + "@example.com"));
+        Project project = projectRepository.save(new Project("Multi", "Projeto do teste de busca em lote", user));
+        Task first = save(user, project, "Primeira");
+        Task second = save(user, project, "Segunda");
+        UUID missing = UUID.randomUUID();
+
+        mockMvc.perform(get("/api/v1/tasks")
+                .param("ids", second.getId() + "," + missing + "," + first.getId() + "," + second.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items.length()").value(2))
+            .andExpect(jsonPath("$.items[0].title").value("Segunda"))
+            .andExpect(jsonPath("$.items[1].title").value("Primeira"))
+            .andExpect(jsonPath("$.missing[0]").value(missing.toString()))
+            // 3 IDs distintos em blocos de 2 → duas consultas na tabela quente e uma no arquivo
+            .andExpect(header().string("X-Sql-Statements", "3"));
+    }
+
+    @Test
+    void rejectsBatchesAboveTheLimit() throws Exception {
+        StringBuilder body = new StringBuilder("{\"ids\":[");
+        for (int i = 0; i < 501; i++) {
+            body.append(i == 0 ? "" : ",").append('"').append(UUID.randomUUID()).append('"');
+        }
+        body.append("]}");
+
+        mockMvc.perform(post("/api/v1/users/batch").contentType(MediaType.APPLICATION_JSON).content(body.toString()))
+            .andExpect(status().isBadRequest());
+    }
+
+    private Task save(User user, Project project, String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(TaskStatus.PENDING);
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setUser(user);
+        task.setProject(project);
+        return taskRepository.save(task);
+    }
+}
@@ -0,0 +1,214 @@
+package com.smarttask.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.smarttask.domain.entity.Project;
+import com.smarttask.domain.entity.Task;
+import com.smarttask.domain.entity.User;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.ProjectSnapshotOperations.SnapshotDependency;
+import com.smarttask.repository.ProjectSnapshotOperations.SnapshotTask;
+import com.smarttask.repository.TaskRepository;
+import com.smarttask.repository.UserRepository;
+import com.smarttask.service.TaskDependencyService;
+import com.smarttask.service.TaskService;
+import com.smarttask.snapshot.ProjectSnapshotFormat;
+import com.smarttask.snapshot.SnapshotHeader;
+import com.smarttask.snapshot.SnapshotWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectSnapshotTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2031, 2, 3, 9, 30, 15, 123_456_000);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskDependencyService dependencyService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("Snapshot User", "snapshot-" + UUID.randomUUID() + "@example.com"));
+        project = projectRepository.save(new Project("Origem", "Projeto exportado", user));
+    }
+
+    @Test
+    void roundTripsHierarchyAndDependencies() throws Exception {
+        Task epic = save("Épico", "Descrição com acentuação: ção", TaskStatus.IN_PROGRESS, BASE);
+        Task story = save("História", null, TaskStatus.COMPLETED, null);
+        Task subtask = save("Subtarefa", null, TaskStatus.PENDING, BASE.plusDays(3));
+        save("Solta", null, TaskStatus.CANCELLED, null);
+        taskService.move(story.getId(), epic.getId());
+        taskService.move(subtask.getId(), story.getId());
+        dependencyService.addDependency(subtask.getId(), epic.getId());
+
+        byte[] file = mockMvc.perform(get("/api/v1/projects/{id}/snapshot", project.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(ProjectSnapshotFormat.MEDIA_TYPE))
+            .andExpect(header().string("Content-Disposition",
+                "attachment; filename=\"project-" + project.getId() + ".stsnap\""))
+            .andReturn().getResponse().getContentAsByteArray();
+
+        User importer = userRepository.save(new User("Importer", "importer-" + UUID.randomUUID() + "@example.com"));
+        String created = mockMvc.perform(post("/api/v1/projects/snapshot")
+                .param("userId", importer.getId().toString())
+                .contentType(ProjectSnapshotFormat.MEDIA_TYPE)
+                .content(file))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.name").value("Origem"))
+            .andExpect(jsonPath("$.description").value("Projeto exportado"))
+            .andReturn().getResponse().getContentAsString();
+        UUID copy = UUID.fromString(JsonPath.read(created, "$.id"));
+        assertThat(copy).isNotEqualTo(project.getId());
+
+        List<Map<String, Object>> tasks = jdbcTemplate.queryForList(
+            "SELECT id, title, description, status, due_date, created_at, user_id, parent_id FROM tasks "
+                + "WHERE project_id = ? ORDER BY title", copy);
+        assertThat(tasks).extracting(row -> row.get("TITLE"))
+            .containsExactly("História", "Solta", "Subtarefa", "Épico");
+        // Usuário existente continua dono das tarefas; IDs são novos
+        assertThat(tasks).allSatisfy(row -> {
+            assertThat(row.get("USER_ID")).isEqualTo(user.getId());
+            assertThat(row.get("ID")).isNotIn(epic.getId(), story.getId(), subtask.getId());
+        });
+        Map<String, Object> newEpic = tasks.get(3);
+        Map<String, Object> newStory = tasks.get(0);
+        Map<String, Object> newSubtask = tasks.get(2);
+        assertThat(newEpic.get("DESCRIPTION")).isEqualTo("Descrição com acentuação: ção");
+        assertThat(newEpic.get("PARENT_ID")).isNull();
+        assertThat(newStory.get("PARENT_ID")).isEqualTo(newEpic.get("ID"));
+        assertThat(newSubtask.get("PARENT_ID")).isEqualTo(newStory.get("ID"));
+        assertThat(newStory.get("DUE_DATE")).isNull();
+        assertThat(newStory.get("DESCRIPTION")).isNull();
+        assertThat(((java.sql.Timestamp) newEpic.get("DUE_DATE")).toLocalDateTime()).isEqualTo(BASE);
+
+        // A tabela de fechamento é reconstruída: o épico vê os dois níveis abaixo
+        mockMvc.perform(get("/api/v1/tasks/{id}/subtasks/summary", newEpic.get("ID")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.descendants").value(2))
+            .andExpect(jsonPath("$.byStatus.COMPLETED").value(1))
+            .andExpect(jsonPath("$.byStatus.PENDING").value(1));
+        assertThat(dependencyService.findPrerequisites((UUID) newSubtask.get("ID")))
+            .containsExactly((UUID) newEpic.get("ID"));
+
+        // Um byte trocado quebra o checksum
+        file[file.length / 2] ^= 0x40;
+        mockMvc.perform(post("/api/v1/projects/snapshot")
+                .param("userId", importer.getId().toString())
+                .contentType(ProjectSnapshotFormat.MEDIA_TYPE)
+                .content(file))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/projects/{id}/snapshot", UUID.randomUUID()))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void assignsTasksOfUnknownUsersToTheImporter() throws Exception {
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        SnapshotWriter writer = new SnapshotWriter(Channels.newChannel(file));
+        writer.header(new SnapshotHeader(LocalDateTime.now(), UUID.randomUUID(), "De outro ambiente", null, BASE));
+        writer.task(new SnapshotTask(UUID.randomUUID(), null, UUID.randomUUID(), TaskStatus.PENDING,
+            TaskPriority.HIGH, BASE, BASE, null, "Sem dono aqui", null));
+        writer.finish();
+
+        String created = mockMvc.perform(post("/api/v1/projects/snapshot")
+                .param("userId", user.getId().toString())
+                .contentType(ProjectSnapshotFormat.MEDIA_TYPE)
+                .content(file.toByteArray()))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        UUID copy = UUID.fromString(JsonPath.read(created, "$.id"));
+        assertThat(jdbcTemplate.queryForObject("SELECT user_id FROM tasks WHERE project_id = ?", UUID.class, copy))
+            .isEqualTo(user.getId());
+
+        mockMvc.perform(post("/api/v1/projects/snapshot")
+                .param("userId", UUID.randomUUID().toString())
+                .contentType(ProjectSnapshotFormat.MEDIA_TYPE)
+                .content(file.toByteArray()))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void rejectsDependencyCycles() throws Exception {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        ByteArrayOutputStream file = new ByteArrayOutputStream();
+        SnapshotWriter writer = new SnapshotWriter(Channels.newChannel(file));
+        writer.header(new SnapshotHeader(LocalDateTime.now(), UUID.randomUUID(), "Com ciclo", null, BASE));
+        for (UUID id : List.of(first, second, third)) {
+            writer.task(new SnapshotTask(id, null, user.getId(), TaskStatus.PENDING,
+                TaskPriority.LOW, BASE, BASE, null, "Etapa", null));
+        }
+        writer.dependency(new SnapshotDependency(second, first));
+        writer.dependency(new SnapshotDependency(third, second));
+        writer.dependency(new SnapshotDependency(first, third));
+        writer.finish();
+        long projects = projectRepository.count();
+
+        mockMvc.perform(post("/api/v1/projects/snapshot")
+                .param("userId", user.getId().toString())
+                .contentType(ProjectSnapshotFormat.MEDIA_TYPE)
+                .content(file.toByteArray()))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Snapshot inválido: as dependências entre tarefas formam um ciclo"));
+        assertThat(projectRepository.count()).isEqualTo(projects);
+    }
+
+    private Task save(String title, String description, TaskStatus status, LocalDateTime dueDate) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setStatus(status);
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setDueDate(dueDate);
+        task.setUser(user);
+        task.setProject(project);
+        return taskRepository.save(task);
+    }
+}
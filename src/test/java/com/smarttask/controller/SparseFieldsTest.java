@@ -0,0 +1,90 @@
+package com.smarttask.controller;
+
+import com.smarttask.domain.entity.Project;
+import com.smarttask.domain.entity.Task;
+import com.smarttask.domain.entity.User;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.observability.jdbc.JdbcExecutionListener;
+import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.TaskRepository;
+import com.smarttask.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SparseFieldsTest {
+
+    private static final List<String> EXECUTED_SQL = new CopyOnWriteArrayList<>();
+
+    @TestConfiguration
+    static class SqlCapture {
+
+        @Bean
+        JdbcExecutionListener sqlCaptureListener() {
+            return execution -> EXECUTED_SQL.add(execution.sql().toLowerCase());
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void narrowsSelectAndPayloadToRequestedFields() throws Exception {
+        User user = userRepository.save(new User("Sparse User", "sparse-" + UUID.randomUUID() + "@example.com"));
+        Project project = projectRepository.save(new Project("Sparse", "Projeto do teste de campos", user));
+        Task task = new Task();
+        task.setTitle("Só o essencial");
+        task.setDescription("x".repeat(1000));
+        task.setStatus(TaskStatus.PENDING);
+        task.setPriority(TaskPriority.HIGH);
+        task.setUser(user);
+        task.setProject(project);
+        taskRepository.save(task);
+
+        EXECUTED_SQL.clear();
+        mockMvc.perform(get("/api/v1/tasks/project/{projectId}", project.getId())
+                .param("fields", "id,title,status,dueDate"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].title").value("Só o essencial"))
+            .andExpect(jsonPath("$.content[0].status").value("PENDING"))
+            .andExpect(jsonPath("$.content[0].description").doesNotExist())
+            .andExpect(jsonPath("$.content[0].projectId").doesNotExist())
+            .andExpect(jsonPath("$.totalElements").value(1));
+
+        assertThat(EXECUTED_SQL).isNotEmpty();
+        assertThat(EXECUTED_SQL).noneMatch(sql -> sql.contains("description") || sql.contains("created_at"));
+    }
+
+    @Test
+    void rejectsUnknownFields() throws Exception {
+        mockMvc.perform(get("/api/v1/users").param("fields", "id,password"))
+            .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,184 @@
+package com.smarttask.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.smarttask.analytics.RollupBackfill;
+import com.smarttask.domain.entity.Project;
+import com.smarttask.domain.entity.User;
+import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskAnalyticsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private RollupBackfill backfill;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("Analytics User", "analytics-" + UUID.randomUUID() + "@example.com"));
+        project = projectRepository.save(new Project("Vazão", "Projeto do teste de rollups", user));
+    }
+
+    @Test
+    void countsCreationsAndClosingsAsTheyHappen() throws Exception {
+        String first = create("PENDING");
+        String second = create("IN_PROGRESS");
+        String third = create("PENDING");
+        setStatus(first, "COMPLETED");
+        setStatus(first, "COMPLETED");
+        setStatus(second, "CANCELLED");
+
+        mockMvc.perform(get("/api/v1/analytics/throughput").param("projectId", project.getId().toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.granularity").value("DAY"))
+            .andExpect(jsonPath("$.points.length()").value(30))
+            .andExpect(jsonPath("$.points[-1].created").value(3))
+            .andExpect(jsonPath("$.points[-1].completed").value(1))
+            .andExpect(jsonPath("$.points[-1].cancelled").value(1))
+            .andExpect(jsonPath("$.points[0].created").value(0));
+
+        // Em lote, só conta quem ainda não estava concluída
+        String body = """
+            {"ids": ["%s", "%s", "%s"], "status": "COMPLETED"}
+            """.formatted(first, second, third);
+        mockMvc.perform(patch("/api/v1/tasks/bulk").contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/analytics/throughput")
+                .param("granularity", "HOUR")
+                .param("userId", user.getId().toString()))
+            .andExpect(jsonPath("$.points.length()").value(48))
+            .andExpect(jsonPath("$.points[-1].created").value(3))
+            .andExpect(jsonPath("$.points[-1].completed").value(3))
+            .andExpect(jsonPath("$.points[-1].cancelled").value(1));
+
+        mockMvc.perform(get("/api/v1/analytics/throughput")
+                .param("granularity", "HOUR")
+                .param("from", "2024-01-01T00:00:00")
+                .param("to", "2024-03-01T00:00:00"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void backfillRebuildsHistoryFromTasksAndArchive() throws Exception {
+        LocalDateTime today = LocalDate.now().atStartOfDay();
+        insert("tasks", "COMPLETED", today.minusDays(40).plusHours(9), today.minusDays(3).plusHours(15));
+        insert("tasks", "PENDING", today.minusDays(3).plusHours(10), today.minusDays(3).plusHours(10));
+        insert("tasks_archive", "CANCELLED", today.minusDays(100), today.minusDays(95));
+        create("PENDING");
+        // Fora da janela de 365 dias: a reconstrução não apaga o que não vai refazer
+        jdbcTemplate.update("INSERT INTO task_rollups (granularity, bucket_start, user_id, project_id, created, completed, cancelled)"
+            + " VALUES ('DAY', ?, ?, ?, 4, 2, 0)", today.minusDays(400), user.getId(), project.getId());
+
+        backfill.run();
+        // Repetir não soma de novo: o histórico é reconstruído do zero
+        backfill.run();
+
+        String from = today.minusDays(100).toString();
+        String response = mockMvc.perform(get("/api/v1/analytics/throughput")
+                .param("projectId", project.getId().toString())
+                .param("from", from)
+                .param("to", today.plusDays(1).toString()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.points.length()").value(101))
+            .andReturn().getResponse().getContentAsString();
+        assertPoint(response, 0, 1, 0, 0);
+        assertPoint(response, 5, 0, 0, 1);
+        assertPoint(response, 60, 1, 0, 0);
+        assertPoint(response, 97, 1, 1, 0);
+        assertPoint(response, 100, 1, 0, 0);
+
+        // Horário só dentro da janela de 30 dias
+        mockMvc.perform(get("/api/v1/analytics/throughput")
+                .param("granularity", "HOUR")
+                .param("projectId", project.getId().toString())
+                .param("from", today.minusDays(3).toString())
+                .param("to", today.minusDays(2).toString()))
+            .andExpect(jsonPath("$.points[10].created").value(1))
+            .andExpect(jsonPath("$.points[15].completed").value(1));
+        mockMvc.perform(get("/api/v1/analytics/throughput")
+                .param("granularity", "HOUR")
+                .param("projectId", project.getId().toString())
+                .param("from", today.minusDays(40).toString())
+                .param("to", today.minusDays(39).toString()))
+            .andExpect(jsonPath("$.points[9].created").value(0));
+        mockMvc.perform(get("/api/v1/analytics/throughput")
+                .param("projectId", project.getId().toString())
+                .param("from", today.minusDays(400).toString())
+                .param("to", today.minusDays(399).toString()))
+            .andExpect(jsonPath("$.points[0].created").value(4))
+            .andExpect(jsonPath("$.points[0].completed").value(2));
+    }
+
+    private static void assertPoint(String response, int index, int created, int completed, int cancelled) {
+        String point = "$.points[" + index + "].";
+        assertThat(new int[]{
+            JsonPath.<Integer>read(response, point + "created"),
+            JsonPath.<Integer>read(response, point + "completed"),
+            JsonPath.<Integer>read(response, point + "cancelled")
+        }).as("ponto %d", index).containsExactly(created, completed, cancelled);
+    }
+
+    private void insert(String table, String status, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        String archivedAt = table.equals("tasks_archive") ? ", archived_at" : "";
+        jdbcTemplate.update("""
+            INSERT INTO %s (id, title, status, priority, created_at, updated_at, user_id, project_id, version%s)
+            VALUES (?, 'Histórico', ?, 'LOW', ?, ?, ?, ?, 0%s)
+            """.formatted(table, archivedAt, archivedAt.isEmpty() ? "" : ", CURRENT_TIMESTAMP"),
+            UUID.randomUUID(), status, createdAt, updatedAt, user.getId(), project.getId());
+    }
+
+    private String create(String status) throws Exception {
+        String body = """
+            {"title": "Tarefa", "status": "%s", "priority": "MEDIUM", "userId": "%s", "projectId": "%s"}
+            """.formatted(status, user.getId(), project.getId());
+        String response = mockMvc.perform(post("/api/v1/tasks").contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "$.id");
+    }
+
+    private void setStatus(String id, String status) throws Exception {
+        mockMvc.perform(put("/api/v1/tasks/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON).content("{\"status\": \"" + status + "\"}"))
+            .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,118 @@
+package com.smarttask.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.smarttask.domain.entity.Project;
+import com.smarttask.domain.entity.Task;
+import com.smarttask.domain.entity.User;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.TaskRepository;
+import com.smarttask.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskBoardTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 6, 1, 9, 30);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("Kanban User", "kanban-" + UUID.randomUUID() + "@example.com"));
+        project = projectRepository.save(new Project("Kanban", "Projeto do teste do quadro", user));
+    }
+
+    @Test
+    void returnsTopOfEachColumnWithTotalsAndPagesByCursor() throws Exception {
+        Task urgent = save(TaskStatus.PENDING, TaskPriority.URGENT, BASE.plusDays(3));
+        Task highSoon = save(TaskStatus.PENDING, TaskPriority.HIGH, BASE.plusDays(1));
+        Task highNoDate = save(TaskStatus.PENDING, TaskPriority.HIGH, null);
+        Task medium = save(TaskStatus.PENDING, TaskPriority.MEDIUM, BASE.plusDays(2));
+        Task low = save(TaskStatus.PENDING, TaskPriority.LOW, BASE.plusDays(1));
+        Task doing = save(TaskStatus.IN_PROGRESS, TaskPriority.LOW, null);
+        Task doingUrgent = save(TaskStatus.IN_PROGRESS, TaskPriority.URGENT, null);
+
+        String board = mockMvc.perform(get("/api/v1/projects/{id}/board", project.getId()).param("perColumn", "2"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Sql-Statements", "2"))
+            .andExpect(jsonPath("$.columns[*].status", contains("PENDING", "IN_PROGRESS", "COMPLETED", "CANCELLED")))
+            .andExpect(jsonPath("$.columns[0].total").value(5))
+            .andExpect(jsonPath("$.columns[0].tasks[*].id", contains(id(urgent), id(highSoon))))
+            .andExpect(jsonPath("$.columns[1].total").value(2))
+            .andExpect(jsonPath("$.columns[1].tasks[*].id", contains(id(doingUrgent), id(doing))))
+            .andExpect(jsonPath("$.columns[1].nextCursor").doesNotExist())
+            .andExpect(jsonPath("$.columns[2].total").value(0))
+            .andExpect(jsonPath("$.columns[2].tasks").isEmpty())
+            .andReturn().getResponse().getContentAsString();
+
+        String cursor = JsonPath.read(board, "$.columns[0].nextCursor");
+        String page = mockMvc.perform(get("/api/v1/projects/{id}/board/{status}", project.getId(), "PENDING")
+                .param("after", cursor).param("limit", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total").doesNotExist())
+            .andExpect(jsonPath("$.tasks[*].id", contains(id(highNoDate), id(medium))))
+            .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/v1/projects/{id}/board/{status}", project.getId(), "PENDING")
+                .param("after", JsonPath.<String>read(page, "$.nextCursor")).param("limit", "2"))
+            .andExpect(jsonPath("$.tasks[*].id", contains(id(low))))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void rejectsBadCursorsAndLimits() throws Exception {
+        mockMvc.perform(get("/api/v1/projects/{id}/board/{status}", project.getId(), "PENDING").param("after", "nada"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/projects/{id}/board", project.getId()).param("perColumn", "101"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/projects/{id}/board", UUID.randomUUID()))
+            .andExpect(status().isNotFound());
+    }
+
+    private Task save(TaskStatus status, TaskPriority priority, LocalDateTime dueDate) {
+        Task task = new Task();
+        task.setTitle(priority + " " + status);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setDueDate(dueDate);
+        task.setUser(user);
+        task.setProject(project);
+        return taskRepository.save(task);
+    }
+
+    private static String id(Task task) {
+        return task.getId().toString();
+    }
+}
@@ -0,0 +1,173 @@
+package com.smarttask.controller;
+
+import com.smarttask.domain.entity.Project;
+import com.smarttask.domain.entity.Task;
+import com.smarttask.domain.entity.TaskDependency;
+import com.smarttask.domain.entity.User;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.TaskDependencyRepository;
+import com.smarttask.repository.TaskRepository;
+import com.smarttask.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskDependencyTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskDependencyRepository dependencyRepository;
+
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("Graph User", "graph-" + UUID.randomUUID() + "@example.com"));
+        project = projectRepository.save(new Project("Grafo", "Projeto do teste de dependências", user));
+    }
+
+    @Test
+    void answersActionableCriticalPathAndUnblocksAndFollowsStatusChanges() throws Exception {
+        Task design = save("Design");
+        Task build = save("Build");
+        Task release = save("Release");
+        Task docs = save("Docs");
+        depend(build, design);
+        depend(release, build);
+        depend(release, build);
+
+        mockMvc.perform(get("/api/v1/projects/{id}/actionable-tasks", project.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*]", containsInAnyOrder(id(design), id(docs))));
+        mockMvc.perform(get("/api/v1/projects/{id}/critical-path", project.getId()))
+            .andExpect(jsonPath("$[*]", contains(id(design), id(build), id(release))));
+        mockMvc.perform(get("/api/v1/tasks/{id}/unblocks", design.getId()))
+            .andExpect(jsonPath("$[*]", contains(id(build))));
+        mockMvc.perform(get("/api/v1/tasks/{id}/dependencies", release.getId()))
+            .andExpect(jsonPath("$[*]", contains(id(build))));
+
+        // O grafo já está em memória: a conclusão chega a ele depois do commit, sem recarga
+        mockMvc.perform(put("/api/v1/tasks/{id}", design.getId())
+                .contentType(MediaType.APPLICATION_JSON).content("{\"status\": \"COMPLETED\"}"))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/v1/projects/{id}/actionable-tasks", project.getId()))
+            .andExpect(jsonPath("$[*]", containsInAnyOrder(id(build), id(docs))));
+        mockMvc.perform(get("/api/v1/projects/{id}/critical-path", project.getId()))
+            .andExpect(jsonPath("$[*]", contains(id(build), id(release))));
+    }
+
+    @Test
+    void rejectsCyclesSelfDependenciesAndOtherProjects() throws Exception {
+        Task first = save("Primeira");
+        Task second = save("Segunda");
+        Task third = save("Terceira");
+        depend(second, first);
+        depend(third, second);
+
+        mockMvc.perform(put("/api/v1/tasks/{id}/dependencies/{dependsOn}", first.getId(), third.getId()))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.message", containsString(id(third) + " -> " + id(second) + " -> " + id(first))));
+        mockMvc.perform(put("/api/v1/tasks/{id}/dependencies/{dependsOn}", first.getId(), first.getId()))
+            .andExpect(status().isBadRequest());
+
+        Project other = projectRepository.save(new Project("Outro", "Outro projeto", user));
+        Task elsewhere = save("Fora", other);
+        mockMvc.perform(put("/api/v1/tasks/{id}/dependencies/{dependsOn}", first.getId(), elsewhere.getId()))
+            .andExpect(status().isBadRequest());
+
+        // Removida a aresta do meio, o ciclo deixa de existir
+        mockMvc.perform(delete("/api/v1/tasks/{id}/dependencies/{dependsOn}", third.getId(), second.getId()))
+            .andExpect(status().isNoContent());
+        depend(first, third);
+        mockMvc.perform(get("/api/v1/projects/{id}/critical-path", project.getId()))
+            .andExpect(jsonPath("$[*]", contains(id(third), id(first), id(second))));
+    }
+
+    @Test
+    void detectsCycleClosedByEdgeTheCacheNeverSaw() throws Exception {
+        Task first = save("Primeira");
+        Task second = save("Segunda");
+        Task third = save("Terceira");
+        depend(second, first);
+
+        // Gravada por outra instância: o grafo desta já está carregado e não recebe a aresta
+        dependencyRepository.save(new TaskDependency(third, second, project.getId()));
+
+        mockMvc.perform(put("/api/v1/tasks/{id}/dependencies/{dependsOn}", first.getId(), third.getId()))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    void deletingTaskDropsItsDependencies() throws Exception {
+        Task blocker = save("Bloqueadora");
+        Task blocked = save("Bloqueada");
+        depend(blocked, blocker);
+        mockMvc.perform(get("/api/v1/projects/{id}/actionable-tasks", project.getId()))
+            .andExpect(jsonPath("$[*]", contains(id(blocker))));
+
+        mockMvc.perform(delete("/api/v1/tasks/{id}", blocker.getId()))
+            .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/projects/{id}/actionable-tasks", project.getId()))
+            .andExpect(jsonPath("$[*]", contains(id(blocked))));
+        mockMvc.perform(get("/api/v1/tasks/{id}/dependencies", blocked.getId()))
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
+    private void depend(Task task, Task dependsOn) throws Exception {
+        mockMvc.perform(put("/api/v1/tasks/{id}/dependencies/{dependsOn}", task.getId(), dependsOn.getId()))
+            .andExpect(status().isNoContent());
+    }
+
+    private Task save(String title) {
+        return save(title, project);
+    }
+
+    private Task save(String title, Project target) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(TaskStatus.PENDING);
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setUser(user);
+        task.setProject(target);
+        return taskRepository.save(task);
+    }
+
+    private static String id(Task task) {
+        return task.getId().toString();
+    }
+}
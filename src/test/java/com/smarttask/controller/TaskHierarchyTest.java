@@ -0,0 +1,139 @@
+package com.smarttask.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.smarttask.domain.entity.Project;
+import com.smarttask.domain.entity.TaskClosure;
+import com.smarttask.domain.entity.User;
+import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.TaskClosureRepository;
+import com.smarttask.repository.TaskRepository;
+import com.smarttask.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskHierarchyTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskClosureRepository closureRepository;
+
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("Tree User", "tree-" + UUID.randomUUID() + "@example.com"));
+        project = projectRepository.save(new Project("Árvore", "Projeto do teste de hierarquia", user));
+    }
+
+    @Test
+    void listsAndSummarizesDescendantsAtAnyDepth() throws Exception {
+        String epic = create("Épico", "PENDING", null);
+        String story = create("História", "IN_PROGRESS", epic);
+        String subtask = create("Subtarefa", "COMPLETED", story);
+        String other = create("Outra história", "PENDING", epic);
+
+        mockMvc.perform(get("/api/v1/tasks/{id}/subtasks", epic))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(3))
+            .andExpect(jsonPath("$.content[*].id", containsInAnyOrder(story, subtask, other)));
+        mockMvc.perform(get("/api/v1/tasks/{id}/subtasks", epic).param("maxDepth", "1"))
+            .andExpect(jsonPath("$.content[*].id", containsInAnyOrder(story, other)));
+        mockMvc.perform(get("/api/v1/tasks/{id}", subtask))
+            .andExpect(jsonPath("$.parentId").value(story));
+
+        mockMvc.perform(get("/api/v1/tasks/{id}/subtasks/summary", epic))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.descendants").value(3))
+            .andExpect(jsonPath("$.byStatus.PENDING").value(1))
+            .andExpect(jsonPath("$.byStatus.IN_PROGRESS").value(1))
+            .andExpect(jsonPath("$.byStatus.COMPLETED").value(1))
+            .andExpect(jsonPath("$.byStatus.CANCELLED").value(0));
+    }
+
+    @Test
+    void movesWholeSubtreeAndRejectsCycles() throws Exception {
+        String epic = create("Épico A", "PENDING", null);
+        String otherEpic = create("Épico B", "PENDING", null);
+        String story = create("História", "PENDING", epic);
+        String subtask = create("Subtarefa", "PENDING", story);
+
+        mockMvc.perform(put("/api/v1/tasks/{id}/parent/{parentId}", epic, subtask))
+            .andExpect(status().isBadRequest());
+
+        mockMvc.perform(put("/api/v1/tasks/{id}/parent/{parentId}", story, otherEpic))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.parentId").value(otherEpic));
+
+        mockMvc.perform(get("/api/v1/tasks/{id}/subtasks/summary", epic))
+            .andExpect(jsonPath("$.descendants").value(0));
+        mockMvc.perform(get("/api/v1/tasks/{id}/subtasks", otherEpic))
+            .andExpect(jsonPath("$.content[*].id", containsInAnyOrder(story, subtask)));
+        assertThat(closureRepository.findById(new TaskClosure.Key(
+            UUID.fromString(otherEpic), UUID.fromString(subtask)))).get()
+            .extracting(TaskClosure::getDepth).isEqualTo(2);
+
+        // Raiz de novo: a subtarefa continua abaixo da história
+        mockMvc.perform(delete("/api/v1/tasks/{id}/parent", story))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.parentId").doesNotExist());
+        mockMvc.perform(get("/api/v1/tasks/{id}/subtasks/summary", otherEpic))
+            .andExpect(jsonPath("$.descendants").value(0));
+        mockMvc.perform(get("/api/v1/tasks/{id}/subtasks/summary", story))
+            .andExpect(jsonPath("$.descendants").value(1));
+    }
+
+    @Test
+    void deletingTaskRemovesItsSubtree() throws Exception {
+        String epic = create("Épico", "PENDING", null);
+        String story = create("História", "PENDING", epic);
+        String subtask = create("Subtarefa", "PENDING", story);
+
+        mockMvc.perform(delete("/api/v1/tasks/{id}", story))
+            .andExpect(status().isNoContent());
+
+        assertThat(taskRepository.existsById(UUID.fromString(subtask))).isFalse();
+        assertThat(closureRepository.findDescendantIds(UUID.fromString(epic))).isEmpty();
+    }
+
+    private String create(String title, String status, String parentId) throws Exception {
+        String body = """
+            {"title": "%s", "status": "%s", "priority": "MEDIUM", "userId": "%s", "projectId": "%s", "parentId": %s}
+            """.formatted(title, status, user.getId(), project.getId(), parentId == null ? "null" : "\"" + parentId + "\"");
+        String response = mockMvc.perform(post("/api/v1/tasks").contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        return JsonPath.read(response, "$.id");
+    }
+}
@@ -0,0 +1,100 @@
+package com.smarttask.controller;
+
+import com.smarttask.domain.entity.Project;
+import com.smarttask.domain.entity.Task;
+import com.smarttask.domain.entity.User;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.TaskRepository;
+import com.smarttask.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskSearchTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User("Search User", "search-" + UUID.randomUUID() + "@example.com"));
+        project = projectRepository.save(new Project("Search", "Projeto do teste de busca", user));
+        save(user, "fora-status", TaskStatus.COMPLETED, TaskPriority.URGENT, 1);
+        save(user, "fora-prioridade", TaskStatus.PENDING, TaskPriority.MEDIUM, 2);
+        save(user, "fora-prazo", TaskStatus.PENDING, TaskPriority.HIGH, 30);
+        save(user, "segunda", TaskStatus.IN_PROGRESS, TaskPriority.URGENT, 5);
+        save(user, "primeira", TaskStatus.PENDING, TaskPriority.HIGH, 3);
+    }
+
+    @Test
+    void combinesFiltersInOneQueryOrderedByDueDate() throws Exception {
+        String body = """
+            {"projectId": "%s", "statuses": ["PENDING", "IN_PROGRESS"], "minPriority": "HIGH",
+             "dueFrom": "%s", "dueTo": "%s"}
+            """.formatted(project.getId(), BASE, BASE.plusDays(10));
+
+        mockMvc.perform(post("/api/v1/tasks/search").contentType(MediaType.APPLICATION_JSON).content(body))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.totalElements").value(2))
+            .andExpect(jsonPath("$.content[0].title").value("primeira"))
+            .andExpect(jsonPath("$.content[1].title").value("segunda"))
+            .andExpect(header().string("X-Sql-Statements", "1"));
+    }
+
+    @Test
+    void rejectsSearchWithoutIndexedAnchor() throws Exception {
+        mockMvc.perform(post("/api/v1/tasks/search").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"statuses\": [\"PENDING\"]}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void rejectsSortWithoutIndex() throws Exception {
+        mockMvc.perform(post("/api/v1/tasks/search").param("sort", "title")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"projectId\": \"" + project.getId() + "\"}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private void save(User user, String title, TaskStatus status, TaskPriority priority, int dueInDays) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setDueDate(BASE.plusDays(dueInDays));
+        task.setUser(user);
+        task.setProject(project);
+        taskRepository.save(task);
+    }
+}
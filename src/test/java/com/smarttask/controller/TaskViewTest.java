@@ -0,0 +1,148 @@
+package com.smarttask.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.smarttask.domain.entity.Project;
+import com.smarttask.domain.entity.Task;
+import com.smarttask.domain.entity.User;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.TaskRepository;
+import com.smarttask.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskViewTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 5, 10, 12, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("Board User", "board-" + UUID.randomUUID() + "@example.com"));
+        project = projectRepository.save(new Project("Quadro", "Projeto do teste da visão de quadro", user));
+    }
+
+    @Test
+    void filtersSortsAndCountsByStatus() throws Exception {
+        Task urgentLate = save("Urgente depois", TaskStatus.PENDING, TaskPriority.URGENT, BASE.plusDays(5));
+        Task urgentSoon = save("Urgente antes", TaskStatus.IN_PROGRESS, TaskPriority.URGENT, BASE.plusDays(1));
+        Task lowNoDate = save("Baixa sem data", TaskStatus.PENDING, TaskPriority.LOW, null);
+        Task high = save("Alta", TaskStatus.PENDING, TaskPriority.HIGH, BASE.plusDays(2));
+        save("Concluída", TaskStatus.COMPLETED, TaskPriority.URGENT, BASE);
+
+        mockMvc.perform(get("/api/v1/projects/{id}/task-view", project.getId())
+                .param("status", "PENDING", "IN_PROGRESS"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.matched").value(4))
+            .andExpect(jsonPath("$.byStatus.PENDING").value(3))
+            .andExpect(jsonPath("$.byStatus.IN_PROGRESS").value(1))
+            .andExpect(jsonPath("$.byStatus.COMPLETED").value(1))
+            .andExpect(jsonPath("$.byStatus.CANCELLED").value(0))
+            .andExpect(jsonPath("$.tasks[*].id", contains(id(urgentSoon), id(urgentLate), id(high), id(lowNoDate))))
+            .andExpect(jsonPath("$.tasks[0].title").value("Urgente antes"))
+            .andExpect(jsonPath("$.tasks[0].dueDate").value("2030-05-11T12:00:00"));
+
+        // Com limite de data, tarefas sem data saem; as contagens seguem os filtros de data e prioridade
+        mockMvc.perform(get("/api/v1/projects/{id}/task-view", project.getId())
+                .param("priority", "URGENT", "HIGH")
+                .param("dueFrom", BASE.plusDays(1).toString())
+                .param("sort", "DUE_DATE")
+                .param("limit", "2"))
+            .andExpect(jsonPath("$.matched").value(3))
+            .andExpect(jsonPath("$.byStatus.PENDING").value(2))
+            .andExpect(jsonPath("$.byStatus.COMPLETED").value(0))
+            .andExpect(jsonPath("$.tasks[*].id", contains(id(urgentSoon), id(high))));
+
+        mockMvc.perform(get("/api/v1/projects/{id}/task-view", project.getId()).param("limit", "0"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/projects/{id}/task-view", UUID.randomUUID()))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void followsWritesWithoutReloading() throws Exception {
+        Task first = save("Primeira", TaskStatus.PENDING, TaskPriority.LOW, BASE);
+        Task second = save("Segunda", TaskStatus.PENDING, TaskPriority.MEDIUM, BASE);
+        mockMvc.perform(get("/api/v1/projects/{id}/task-view", project.getId()))
+            .andExpect(jsonPath("$.tasks[*].id", contains(id(second), id(first))));
+        long loads = meterRegistry.timer("smarttask.board.load").count();
+
+        mockMvc.perform(put("/api/v1/tasks/{id}", first.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\": \"Primeira, agora com um título bem mais comprido\", \"priority\": \"URGENT\", \"status\": \"IN_PROGRESS\"}"))
+            .andExpect(status().isOk());
+        String created = mockMvc.perform(post("/api/v1/tasks").contentType(MediaType.APPLICATION_JSON).content("""
+                {"title": "Nova", "status": "PENDING", "priority": "HIGH", "userId": "%s", "projectId": "%s"}
+                """.formatted(user.getId(), project.getId())))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        String createdId = JsonPath.read(created, "$.id");
+        mockMvc.perform(delete("/api/v1/tasks/{id}", second.getId()))
+            .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/projects/{id}/task-view", project.getId()))
+            .andExpect(header().string("X-Sql-Statements", "0"))
+            .andExpect(jsonPath("$.matched").value(2))
+            .andExpect(jsonPath("$.byStatus.IN_PROGRESS").value(1))
+            .andExpect(jsonPath("$.tasks[*].id", contains(id(first), createdId)))
+            .andExpect(jsonPath("$.tasks[0].title").value("Primeira, agora com um título bem mais comprido"))
+            .andExpect(jsonPath("$.tasks[0].version").value(1));
+        assertThat(meterRegistry.timer("smarttask.board.load").count()).isEqualTo(loads);
+    }
+
+    private Task save(String title, TaskStatus status, TaskPriority priority, LocalDateTime dueDate) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(status);
+        task.setPriority(priority);
+        task.setDueDate(dueDate);
+        task.setUser(user);
+        task.setProject(project);
+        return taskRepository.save(task);
+    }
+
+    private static String id(Task task) {
+        return task.getId().toString();
+    }
+}
@@ -0,0 +1,148 @@
+package com.smarttask.controller;
+
+import com.smarttask.domain.entity.Project;
+import com.smarttask.domain.entity.Task;
+import com.smarttask.domain.entity.User;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.TaskRepository;
+import com.smarttask.repository.UserRepository;
+import com.smarttask.service.TaskUpdateCoalescer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Janela longa: nada é gravado pelo agendador durante o teste, só por leitura, outra escrita ou parada
+@SpringBootTest(properties = {
+    "smarttask.write-coalescing.enabled=true",
+    "smarttask.write-coalescing.window=1h",
+    "smarttask.client-identity.trusted-proxies=127.0.0.1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TaskWriteCoalescingTest {
+
+    private static final String[] COLUMNS = {"IN_PROGRESS", "PENDING", "IN_PROGRESS", "COMPLETED", "IN_PROGRESS"};
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskUpdateCoalescer coalescer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User("Coalescing User", "coalescing-" + UUID.randomUUID() + "@example.com"));
+        Project project = projectRepository.save(new Project("Kanban", "Projeto do teste de coalescência", user));
+        task = new Task();
+        task.setTitle("Cartão");
+        task.setStatus(TaskStatus.PENDING);
+        task.setPriority(TaskPriority.LOW);
+        task.setUser(user);
+        task.setProject(project);
+        task = taskRepository.save(task);
+    }
+
+    @Test
+    void burstBecomesOneWriteVisibleToTheSameClient() throws Exception {
+        String client = "drag-" + UUID.randomUUID();
+        for (String column : COLUMNS) {
+            mockMvc.perform(put("/api/v1/tasks/{id}", task.getId()).header("X-User-Id", client)
+                    .contentType(MediaType.APPLICATION_JSON).content("{\"status\": \"%s\"}".formatted(column)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.status").value(column))
+                .andExpect(jsonPath("$.version").value(0));
+        }
+        mockMvc.perform(put("/api/v1/tasks/{id}", task.getId()).header("X-User-Id", client)
+                .contentType(MediaType.APPLICATION_JSON).content("{\"priority\": \"URGENT\"}"))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
+            .andExpect(jsonPath("$.priority").value("URGENT"));
+        assertThat(reload().getVersion()).isZero();
+
+        // Outro cliente ainda vê o estado gravado; quem arrastou vê o próprio estado, gravado de uma vez
+        mockMvc.perform(get("/api/v1/tasks/{id}", task.getId()).header("X-User-Id", "someone-else"))
+            .andExpect(jsonPath("$.status").value("PENDING"));
+        mockMvc.perform(get("/api/v1/tasks/{id}", task.getId()).header("X-User-Id", client))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
+            .andExpect(jsonPath("$.priority").value("URGENT"))
+            .andExpect(jsonPath("$.version").value(1));
+    }
+
+    @Test
+    void otherWritesAndShutdownApplyPendingStateInOrder() throws Exception {
+        mockMvc.perform(put("/api/v1/tasks/{id}", task.getId()).header("X-User-Id", "board")
+                .contentType(MediaType.APPLICATION_JSON).content("{\"status\": \"IN_PROGRESS\"}"))
+            .andExpect(status().isAccepted());
+        // Alteração que não pode esperar: grava antes a pendente, e por cima dela
+        mockMvc.perform(put("/api/v1/tasks/{id}", task.getId()).header("X-User-Id", "editor")
+                .contentType(MediaType.APPLICATION_JSON).content("{\"title\": \"Cartão renomeado\", \"status\": \"PENDING\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("PENDING"));
+        assertThat(reload().getVersion()).isEqualTo(2);
+
+        mockMvc.perform(put("/api/v1/tasks/{id}", task.getId()).header("X-User-Id", "board")
+                .contentType(MediaType.APPLICATION_JSON).content("{\"status\": \"COMPLETED\"}"))
+            .andExpect(status().isAccepted());
+        coalescer.stop();
+        try {
+            Task reloaded = reload();
+            assertThat(reloaded.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+            assertThat(reloaded.getTitle()).isEqualTo("Cartão renomeado");
+            assertThat(reloaded.getVersion()).isEqualTo(3);
+        } finally {
+            coalescer.start();
+        }
+    }
+
+    @Test
+    void bulkUpdateFromAnotherClientIsNotUndoneByPendingState() throws Exception {
+        mockMvc.perform(put("/api/v1/tasks/{id}", task.getId()).header("X-User-Id", "board")
+                .contentType(MediaType.APPLICATION_JSON).content("{\"status\": \"IN_PROGRESS\"}"))
+            .andExpect(status().isAccepted());
+        mockMvc.perform(patch("/api/v1/tasks/bulk").header("X-User-Id", "triage")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": [\"%s\"], \"status\": \"COMPLETED\"}".formatted(task.getId())))
+            .andExpect(status().isOk());
+        assertThat(coalescer.hasPending("user:board")).isFalse();
+
+        // A próxima requisição de quem arrastou não tem mais nada a gravar por cima do lote
+        mockMvc.perform(get("/api/v1/tasks/{id}", task.getId()).header("X-User-Id", "board"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("COMPLETED"));
+        Task reloaded = reload();
+        assertThat(reloaded.getStatus()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(reloaded.getVersion()).isEqualTo(2);
+    }
+
+    private Task reload() {
+        return taskRepository.findById(task.getId()).orElseThrow();
+    }
+}
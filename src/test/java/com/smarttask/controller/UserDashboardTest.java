@@ -0,0 +1,113 @@
+package com.smarttask.controller;
+
+import com.smarttask.domain.entity.Project;
+import com.smarttask.domain.entity.Task;
+import com.smarttask.domain.entity.User;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.TaskRepository;
+import com.smarttask.repository.UserRepository;
+import com.smarttask.service.ProjectService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserDashboardTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @MockitoSpyBean
+    private ProjectService projectService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("Dashboard User", "dashboard-" + UUID.randomUUID() + "@example.com"));
+        Project project = projectRepository.save(new Project("Painel", "Projeto do teste do painel", user));
+        projectRepository.save(new Project("Outro", "Segundo projeto", user));
+        save(project, TaskStatus.PENDING);
+        save(project, TaskStatus.PENDING);
+        save(project, TaskStatus.IN_PROGRESS);
+        save(project, TaskStatus.COMPLETED);
+    }
+
+    @Test
+    void buildsWholeDashboardWithSectionTimings() throws Exception {
+        mockMvc.perform(get("/api/v1/users/{id}/dashboard", user.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.user.email").value(user.getEmail()))
+            .andExpect(jsonPath("$.projects.totalElements").value(2))
+            .andExpect(jsonPath("$.recentTasks.totalElements").value(4))
+            .andExpect(jsonPath("$.tasksByStatus.PENDING.totalElements").value(2))
+            .andExpect(jsonPath("$.tasksByStatus.IN_PROGRESS.totalElements").value(1))
+            .andExpect(jsonPath("$.tasksByStatus.COMPLETED").doesNotExist())
+            .andExpect(jsonPath("$.missingSections").isEmpty())
+            .andExpect(header().string("Server-Timing", allOf(
+                containsString("user;dur="), containsString("projects;dur="), containsString("tasks.PENDING;dur="))))
+            // As consultas das threads do painel entram na conta da requisição; páginas incompletas dispensam a contagem
+            .andExpect(header().string("X-Sql-Statements", "5"));
+
+        mockMvc.perform(get("/api/v1/users/{id}/dashboard", UUID.randomUUID()))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void leavesOutSectionsThatMissTheLatencyBudget() throws Exception {
+        doAnswer(invocation -> {
+            Thread.sleep(1_000);
+            return invocation.callRealMethod();
+        }).when(projectService).findByUserId(eq(user.getId()), any(Pageable.class));
+
+        mockMvc.perform(get("/api/v1/users/{id}/dashboard", user.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.user.email").value(user.getEmail()))
+            .andExpect(jsonPath("$.projects").doesNotExist())
+            .andExpect(jsonPath("$.recentTasks.totalElements").value(4))
+            .andExpect(jsonPath("$.missingSections[0]").value("projects"))
+            .andExpect(header().string("Server-Timing", containsString("projects;dur=")))
+            .andExpect(header().string("Server-Timing", containsString("desc=\"timeout\"")));
+    }
+
+    private void save(Project project, TaskStatus status) {
+        Task task = new Task();
+        task.setTitle("Tarefa " + status);
+        task.setStatus(status);
+        task.setPriority(TaskPriority.MEDIUM);
+        task.setUser(user);
+        task.setProject(project);
+        taskRepository.save(task);
+    }
+}
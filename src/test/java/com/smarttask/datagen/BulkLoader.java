@@ -0,0 +1,189 @@
+package com.smarttask.datagen;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Carrega uma {@link SyntheticTable} dividida em blocos de {@code chunkRows} linhas, cada bloco
+ * gerado e gravado na própria transação por uma de {@code threads} conexões.
+ *
+ * <p>No PostgreSQL cada bloco vai num único {@code COPY ... FROM STDIN} em formato texto, com
+ * {@code synchronous_commit} desligado na sessão; nas demais bases (H2), em INSERTs em lote de
+ * {@code batchSize} linhas. Índices e chaves estrangeiras continuam ativos: as tabelas são
+ * carregadas na ordem das chaves (usuários, projetos, tarefas).</p>
+ */
+final class BulkLoader implements AutoCloseable {
+
+    private static final int COPY_BUFFER_BYTES = 1 << 20;
+
+    private final DataSource dataSource;
+    private final DataGeneratorSettings settings;
+    private final ExecutorService executor;
+    private final boolean postgres;
+
+    BulkLoader(DataSource dataSource, DataGeneratorSettings settings) throws SQLException {
+        this.dataSource = dataSource;
+        this.settings = settings;
+        this.executor = Executors.newFixedThreadPool(settings.threads(), runnable -> {
+            Thread thread = new Thread(runnable, "datagen-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (Connection connection = dataSource.getConnection()) {
+            this.postgres = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgresql");
+        }
+    }
+
+    boolean postgres() {
+        return postgres;
+    }
+
+    /** @return linhas gravadas */
+    long load(SyntheticTable table) throws SQLException, InterruptedException {
+        List<Future<Long>> chunks = new ArrayList<>();
+        for (long from = 0; from < table.rows(); from += settings.chunkRows()) {
+            long start = from;
+            long end = Math.min(from + settings.chunkRows(), table.rows());
+            chunks.add(executor.submit(() -> write(table, start, end)));
+        }
+        long written = 0;
+        try {
+            for (Future<Long> chunk : chunks) {
+                written += chunk.get();
+            }
+        } catch (ExecutionException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            if (e.getCause() instanceof SQLException sql) {
+                throw sql;
+            }
+            throw new IllegalStateException("Falha ao carregar " + table.name(), e.getCause());
+        }
+        return written;
+    }
+
+    /** Atualiza as estatísticas do planejador depois da carga; sem isso as primeiras consultas usam planos de tabela vazia. */
+    void analyze(List<SyntheticTable> tables) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (SyntheticTable table : tables) {
+                statement.execute("ANALYZE " + table.name());
+            }
+        }
+    }
+
+    private long write(SyntheticTable table, long from, long to) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                if (postgres) {
+                    copy(connection, table, from, to);
+                } else {
+                    insert(connection, table, from, to);
+                }
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+        return to - from;
+    }
+
+    private void insert(Connection connection, SyntheticTable table, long from, long to) throws SQLException {
+        List<String> columns = table.columns();
+        String sql = "INSERT INTO " + table.name() + " (" + String.join(", ", columns) + ") VALUES ("
+            + String.join(", ", columns.stream().map(column -> "?").toList()) + ")";
+        Object[] row = new Object[columns.size()];
+        try (PreparedStatement insert = connection.prepareStatement(sql)) {
+            int pending = 0;
+            for (long index = from; index < to; index++) {
+                table.fill(index, row);
+                for (int i = 0; i < row.length; i++) {
+                    insert.setObject(i + 1, row[i] instanceof LocalDateTime time ? Timestamp.valueOf(time) : row[i]);
+                }
+                insert.addBatch();
+                if (++pending == settings.batchSize()) {
+                    insert.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                insert.executeBatch();
+            }
+        }
+    }
+
+    private void copy(Connection connection, SyntheticTable table, long from, long to) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET LOCAL synchronous_commit = off");
+        }
+        CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI()
+            .copyIn("COPY " + table.name() + " (" + String.join(", ", table.columns()) + ") FROM STDIN");
+        try {
+            Object[] row = new Object[table.columns().size()];
+            StringBuilder text = new StringBuilder(COPY_BUFFER_BYTES);
+            for (long index = from; index < to; index++) {
+                table.fill(index, row);
+                for (int i = 0; i < row.length; i++) {
+                    if (i > 0) {
+                        text.append('\t');
+                    }
+                    appendCopyValue(text, row[i]);
+                }
+                text.append('\n');
+                if (text.length() >= COPY_BUFFER_BYTES) {
+                    byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+                    copy.writeToCopy(bytes, 0, bytes.length);
+                    text.setLength(0);
+                }
+            }
+            byte[] bytes = text.toString().getBytes(StandardCharsets.UTF_8);
+            copy.writeToCopy(bytes, 0, bytes.length);
+            copy.endCopy();
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+    }
+
+    // Formato texto do COPY: \N é NULL; barra, tab e quebras de linha escapadas
+    private static void appendCopyValue(StringBuilder text, Object value) {
+        if (value == null) {
+            text.append("\\N");
+            return;
+        }
+        String string = value.toString();
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            switch (c) {
+                case '\\' -> text.append("\\\\");
+                case '\t' -> text.append("\\t");
+                case '\n' -> text.append("\\n");
+                case '\r' -> text.append("\\r");
+                default -> text.append(c);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,67 @@
+package com.smarttask.datagen;
+
+import java.time.LocalDateTime;
+
+/**
+ * Parâmetros do gerador de dados sintéticos, lidos de system properties ({@code -Ddatagen.*}).
+ *
+ * <p>{@code datagen.scale} multiplica a base de 1.000 usuários, 10.000 projetos e 500.000 tarefas;
+ * {@code -Ddatagen.scale=100} dá 100 mil usuários, 1 milhão de projetos e 50 milhões de tarefas.
+ * Cada contagem pode ser fixada à parte ({@code datagen.users}, {@code datagen.projects},
+ * {@code datagen.tasks}). O mesmo seed e as mesmas contagens geram sempre as mesmas linhas,
+ * com qualquer número de threads.</p>
+ *
+ * @param seed       semente de todos os valores gerados, inclusive IDs e e-mails
+ * @param users      usuários gerados
+ * @param projects   projetos gerados
+ * @param tasks      tarefas geradas
+ * @param skew       expoente da Zipf usada para escolher dono de projeto, projeto e responsável de
+ *                   cada tarefa; 0 é uniforme, perto de 1 poucos usuários e projetos concentram a maioria
+ * @param threads    conexões carregando em paralelo; o pool do datasource precisa ter pelo menos isso
+ * @param chunkRows  linhas por transação (e por COPY no PostgreSQL)
+ * @param batchSize  linhas por INSERT em lote, fora do PostgreSQL
+ * @param anchor     "agora" dos dados: datas de criação ficam antes, entregas em torno
+ * @param historyDays quantos dias antes de {@code anchor} vão as datas de criação
+ */
+record DataGeneratorSettings(
+    long seed,
+    int users,
+    int projects,
+    long tasks,
+    double skew,
+    int threads,
+    int chunkRows,
+    int batchSize,
+    LocalDateTime anchor,
+    int historyDays
+) {
+
+    static final int BASE_USERS = 1_000;
+    static final int BASE_PROJECTS = 10_000;
+    static final long BASE_TASKS = 500_000;
+
+    DataGeneratorSettings {
+        if (users < 1 || projects < 1 || tasks < 0) {
+            throw new IllegalArgumentException("São necessários ao menos um usuário e um projeto");
+        }
+        if (skew < 0) {
+            throw new IllegalArgumentException("datagen.skew não pode ser negativo");
+        }
+    }
+
+    static DataGeneratorSettings fromSystemProperties() {
+        double scale = Double.parseDouble(System.getProperty("datagen.scale", "1"));
+        return new DataGeneratorSettings(
+            Long.parseLong(System.getProperty("datagen.seed", "49")),
+            Integer.parseInt(System.getProperty("datagen.users", String.valueOf(Math.round(BASE_USERS * scale)))),
+            Integer.parseInt(System.getProperty("datagen.projects", String.valueOf(Math.round(BASE_PROJECTS * scale)))),
+            Long.parseLong(System.getProperty("datagen.tasks", String.valueOf(Math.round(BASE_TASKS * scale)))),
+            Double.parseDouble(System.getProperty("datagen.skew", "0.8")),
+            Integer.parseInt(System.getProperty("datagen.threads", "8")),
+            Integer.parseInt(System.getProperty("datagen.chunkRows", "10000")),
+            Integer.parseInt(System.getProperty("datagen.batchSize", "1000")),
+            LocalDateTime.parse(System.getProperty("datagen.anchor", "2026-01-01T00:00:00")),
+            Integer.parseInt(System.getProperty("datagen.historyDays", "730"))
+        );
+    }
+}
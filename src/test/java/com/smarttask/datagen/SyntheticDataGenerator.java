@@ -0,0 +1,209 @@
+package com.smarttask.datagen;
+
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Usuários, projetos e tarefas sintéticos com distribuições enviesadas como as de uma base real.
+ *
+ * <p>Cada linha tem o seu gerador pseudoaleatório, semeado com (seed, tabela, índice): a linha
+ * {@code i} sai igual em qualquer execução e em qualquer thread, e as chaves estrangeiras são
+ * recalculadas em vez de guardadas (o ID do usuário {@code j} é o primeiro sorteio da linha
+ * {@code j}). Só o dono de cada projeto fica em memória, 4 bytes por projeto, além das
+ * distribuições acumuladas das Zipf.</p>
+ *
+ * <ul>
+ *   <li>Projetos por usuário e tarefas por projeto seguem uma Zipf ({@link DataGeneratorSettings#skew()});
+ *       80% das tarefas ficam com o dono do projeto, as demais com um usuário sorteado pela mesma Zipf.</li>
+ *   <li>Criação concentrada no passado recente; quanto mais antiga a tarefa, mais provável que esteja
+ *       fechada (concluída ou cancelada).</li>
+ *   <li>Prioridade com cauda: MEDIUM e LOW dominam, URGENT é rara.</li>
+ *   <li>Um terço das tarefas sem data de entrega; as demais com prazo log-normal (mediana de uma semana)
+ *       a partir da criação, de modo que tarefas abertas antigas ficam atrasadas.</li>
+ * </ul>
+ */
+final class SyntheticDataGenerator {
+
+    private static final long USERS = 1;
+    private static final long PROJECTS = 2;
+    private static final long TASKS = 3;
+    private static final TaskPriority[] PRIORITIES = {TaskPriority.LOW, TaskPriority.MEDIUM, TaskPriority.HIGH, TaskPriority.URGENT};
+    private static final int[] PRIORITY_WEIGHTS = {30, 45, 18, 7};
+    private static final String[] DESCRIPTIONS = {
+        "Revisar com o time antes da entrega",
+        "Depende de aprovação do cliente",
+        "Ver anexos na tarefa anterior",
+        "Ajustar conforme o feedback da última reunião",
+        "Prioridade combinada no planejamento da sprint"
+    };
+
+    private final DataGeneratorSettings settings;
+    private final ZipfSampler userSampler;
+    private final ZipfSampler projectSampler;
+    private final int[] projectOwners;
+
+    SyntheticDataGenerator(DataGeneratorSettings settings) {
+        this.settings = settings;
+        this.userSampler = new ZipfSampler(settings.users(), settings.skew());
+        this.projectSampler = new ZipfSampler(settings.projects(), settings.skew());
+        this.projectOwners = new int[settings.projects()];
+        for (int i = 0; i < projectOwners.length; i++) {
+            SplittableRandom random = random(PROJECTS, i);
+            uuid(random);
+            projectOwners[i] = userSampler.sample(random);
+        }
+    }
+
+    List<SyntheticTable> tables() {
+        return List.of(users(), projects(), tasks());
+    }
+
+    UUID userId(long index) {
+        return uuid(random(USERS, index));
+    }
+
+    UUID projectId(long index) {
+        return uuid(random(PROJECTS, index));
+    }
+
+    String email(long index) {
+        return "synthetic-" + settings.seed() + "-" + index + "@example.com";
+    }
+
+    SyntheticTable users() {
+        return new Table("users", List.of("id", "name", "email"), settings.users()) {
+            @Override
+            public void fill(long index, Object[] row) {
+                row[0] = userId(index);
+                row[1] = "Usuário " + index;
+                row[2] = email(index);
+            }
+        };
+    }
+
+    SyntheticTable projects() {
+        return new Table("projects",
+            List.of("id", "name", "description", "created_at", "updated_at", "user_id", "version"), settings.projects()) {
+            @Override
+            public void fill(long index, Object[] row) {
+                SplittableRandom random = random(PROJECTS, index);
+                row[0] = uuid(random);
+                userSampler.sample(random);
+                LocalDateTime createdAt = createdAt(random);
+                row[1] = "Projeto " + index;
+                row[2] = random.nextInt(4) == 0 ? null : DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)];
+                row[3] = createdAt;
+                row[4] = updatedAt(random, createdAt);
+                row[5] = userId(projectOwners[(int) index]);
+                row[6] = 0L;
+            }
+        };
+    }
+
+    SyntheticTable tasks() {
+        return new Table("tasks", List.of("id", "title", "description", "status", "priority", "created_at",
+            "updated_at", "due_date", "user_id", "project_id", "version"), settings.tasks()) {
+            @Override
+            public void fill(long index, Object[] row) {
+                SplittableRandom random = random(TASKS, index);
+                row[0] = uuid(random);
+                int project = projectSampler.sample(random);
+                int user = random.nextInt(5) == 0 ? userSampler.sample(random) : projectOwners[project];
+                LocalDateTime createdAt = createdAt(random);
+                double age = (double) Duration.between(createdAt, settings.anchor()).toDays() / settings.historyDays();
+                boolean closed = random.nextDouble() < 0.15 + 0.75 * Math.sqrt(age);
+                TaskStatus status = closed
+                    ? (random.nextInt(100) < 85 ? TaskStatus.COMPLETED : TaskStatus.CANCELLED)
+                    : (random.nextInt(100) < 60 ? TaskStatus.PENDING : TaskStatus.IN_PROGRESS);
+                row[1] = "Tarefa " + index;
+                row[2] = random.nextBoolean() ? null : DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)];
+                row[3] = status.name();
+                row[4] = priority(random).name();
+                row[5] = createdAt;
+                row[6] = updatedAt(random, createdAt);
+                row[7] = random.nextInt(3) == 0 ? null : dueDate(random, createdAt);
+                row[8] = userId(user);
+                row[9] = projectId(project);
+                row[10] = 0L;
+            }
+        };
+    }
+
+    // Mais linhas perto de anchor: a idade é o quadrado de um uniforme
+    private LocalDateTime createdAt(SplittableRandom random) {
+        double fraction = random.nextDouble();
+        long seconds = (long) (fraction * fraction * settings.historyDays() * 86_400L);
+        return settings.anchor().minusSeconds(seconds + 1);
+    }
+
+    private LocalDateTime updatedAt(SplittableRandom random, LocalDateTime createdAt) {
+        long ageSeconds = Duration.between(createdAt, settings.anchor()).toSeconds();
+        return createdAt.plusSeconds((long) (random.nextDouble() * ageSeconds));
+    }
+
+    private static LocalDateTime dueDate(SplittableRandom random, LocalDateTime createdAt) {
+        double days = Math.exp(Math.log(7) + nextGaussian(random));
+        return createdAt.plusHours(Math.min((long) (days * 24), 365L * 24)).withMinute(0).withSecond(0);
+    }
+
+    private static TaskPriority priority(SplittableRandom random) {
+        int value = random.nextInt(100);
+        for (int i = 0; i < PRIORITIES.length; i++) {
+            value -= PRIORITY_WEIGHTS[i];
+            if (value < 0) {
+                return PRIORITIES[i];
+            }
+        }
+        return TaskPriority.MEDIUM;
+    }
+
+    // Box-Muller: SplittableRandom não tem nextGaussian no Java 17
+    private static double nextGaussian(SplittableRandom random) {
+        double u = 1.0 - random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    private SplittableRandom random(long table, long index) {
+        return new SplittableRandom(settings.seed() * 0x9E3779B97F4A7C15L + table * 0xBF58476D1CE4E5B9L + index);
+    }
+
+    private static UUID uuid(SplittableRandom random) {
+        long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long least = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(most, least);
+    }
+
+    private abstract static class Table implements SyntheticTable {
+
+        private final String name;
+        private final List<String> columns;
+        private final long rows;
+
+        Table(String name, List<String> columns, long rows) {
+            this.name = name;
+            this.columns = columns;
+            this.rows = rows;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public List<String> columns() {
+            return columns;
+        }
+
+        @Override
+        public long rows() {
+            return rows;
+        }
+    }
+}
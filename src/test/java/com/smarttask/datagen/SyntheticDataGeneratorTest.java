@@ -0,0 +1,95 @@
+package com.smarttask.datagen;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class SyntheticDataGeneratorTest {
+
+    private static final DataGeneratorSettings SETTINGS = new DataGeneratorSettings(4049, 50, 200, 5_000, 0.8,
+        4, 700, 100, LocalDateTime.of(2026, 1, 1, 0, 0), 730);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void loadsTheSameRowsWithAnyNumberOfThreads() throws Exception {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SETTINGS);
+        try (BulkLoader loader = new BulkLoader(dataSource, SETTINGS)) {
+            for (SyntheticTable table : generator.tables()) {
+                assertThat(loader.load(table)).isEqualTo(table.rows());
+            }
+        }
+
+        // Em paralelo e em blocos, a base fica igual à geração sequencial de um gerador novo
+        List<String> expected = new ArrayList<>();
+        SyntheticTable tasks = new SyntheticDataGenerator(SETTINGS).tasks();
+        Object[] row = new Object[tasks.columns().size()];
+        for (long i = 0; i < tasks.rows(); i++) {
+            tasks.fill(i, row);
+            expected.add(row[0] + "|" + row[3] + "|" + row[4] + "|" + row[8] + "|" + row[9]);
+        }
+        List<UUID> projectIds = new ArrayList<>();
+        for (int i = 0; i < SETTINGS.projects(); i++) {
+            projectIds.add(generator.projectId(i));
+        }
+        List<String> actual = jdbcTemplate.query(
+            "SELECT id, status, priority, user_id, project_id FROM tasks WHERE project_id IN ("
+                + String.join(", ", projectIds.stream().map(id -> "'" + id + "'").toList()) + ")",
+            (rs, n) -> rs.getObject(1) + "|" + rs.getString(2) + "|" + rs.getString(3) + "|"
+                + rs.getObject(4) + "|" + rs.getObject(5));
+        assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    void skewsTasksTowardsFewUsersAndClosesOldTasks() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SETTINGS);
+        SyntheticTable tasks = generator.tasks();
+        Map<UUID, Integer> userIndex = new HashMap<>();
+        for (int i = 0; i < SETTINGS.users(); i++) {
+            userIndex.put(generator.userId(i), i);
+        }
+        int[] tasksPerUser = new int[SETTINGS.users()];
+        int withoutDueDate = 0;
+        int oldClosed = 0;
+        int old = 0;
+        Object[] row = new Object[tasks.columns().size()];
+        for (long i = 0; i < tasks.rows(); i++) {
+            tasks.fill(i, row);
+            tasksPerUser[userIndex.get((UUID) row[8])]++;
+            if (row[7] == null) {
+                withoutDueDate++;
+            }
+            if (((LocalDateTime) row[5]).isBefore(SETTINGS.anchor().minusYears(1))) {
+                old++;
+                if (row[3].equals("COMPLETED") || row[3].equals("CANCELLED")) {
+                    oldClosed++;
+                }
+            }
+        }
+        Arrays.sort(tasksPerUser);
+        int topFive = Arrays.stream(tasksPerUser, tasksPerUser.length - 5, tasksPerUser.length).sum();
+        // 10% dos usuários com bem mais que 10% das tarefas
+        assertThat(topFive).isGreaterThan((int) (tasks.rows() * 0.4));
+        assertThat(withoutDueDate).isBetween((int) (tasks.rows() * 0.28), (int) (tasks.rows() * 0.39));
+        assertThat(oldClosed).isGreaterThan((int) (old * 0.75));
+    }
+}
@@ -0,0 +1,64 @@
+package com.smarttask.datagen;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Popula a base com o {@link SyntheticDataGenerator} na escala pedida.
+ * Rodar com {@code mvn -Pdatagen test -Ddatagen.scale=100 -Ddatagen.seed=7}.
+ *
+ * <p>Sem mais nada, a carga vai para um H2 em arquivo ({@code target/datagen}), que sobrevive ao
+ * teste. Para um PostgreSQL local:
+ * {@code -Dspring.datasource.url=jdbc:postgresql://localhost:5432/postgres -Dspring.datasource.driver-class-name=org.postgresql.Driver
+ * -Dspring.datasource.username=postgres -Dspring.datasource.password=... -Dspring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect}.
+ * O esquema é criado ou atualizado pelo Hibernate; os dados de outros seeds são preservados.</p>
+ */
+@Tag("datagen")
+@SpringBootTest
+@ActiveProfiles({"test", "datagen"})
+class SyntheticDataLoadTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void load() throws Exception {
+        DataGeneratorSettings settings = DataGeneratorSettings.fromSystemProperties();
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(settings);
+        Integer loaded = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE email = ?", Integer.class,
+            generator.email(0));
+        if (loaded != null && loaded > 0) {
+            throw new IllegalStateException("O seed " + settings.seed() + " já foi carregado nesta base");
+        }
+
+        try (BulkLoader loader = new BulkLoader(dataSource, settings)) {
+            System.out.printf(Locale.ROOT, "seed %d, %d threads, %s%n", settings.seed(), settings.threads(),
+                loader.postgres() ? "PostgreSQL (COPY)" : "INSERT em lote");
+            long start = System.nanoTime();
+            for (SyntheticTable table : generator.tables()) {
+                long tableStart = System.nanoTime();
+                long rows = loader.load(table);
+                double seconds = (System.nanoTime() - tableStart) / 1e9;
+                System.out.printf(Locale.ROOT, "%-8s %,12d linhas em %8.1f s (%,.0f linhas/s)%n",
+                    table.name(), rows, seconds, rows / seconds);
+                assertThat(rows).isEqualTo(table.rows());
+            }
+            if (loader.postgres()) {
+                loader.analyze(generator.tables());
+            }
+            System.out.printf(Locale.ROOT, "total: %.1f s%n", (System.nanoTime() - start) / 1e9);
+        }
+    }
+}
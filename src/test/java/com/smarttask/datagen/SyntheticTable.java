@@ -0,0 +1,19 @@
+package com.smarttask.datagen;
+
+import java.util.List;
+
+/**
+ * Uma tabela a carregar: colunas e o conteúdo de cada linha, calculado só a partir do índice,
+ * para que qualquer faixa de linhas possa ser gerada por qualquer thread.
+ */
+interface SyntheticTable {
+
+    String name();
+
+    List<String> columns();
+
+    long rows();
+
+    /** Preenche {@code row} (um valor por coluna, {@code null} para NULL) com a linha {@code index}. */
+    void fill(long index, Object[] row);
+}
@@ -0,0 +1,129 @@
+package com.smarttask.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Roteamento com duas instâncias H2 independentes: cada uma guarda o próprio nome na tabela
+ * {@code marker}, o que permite saber de onde veio cada leitura.
+ */
+class ReadReplicaRoutingTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReadWriteRoutingDataSource dataSource;
+    private ReplicaLagGuard lagGuard;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        lagGuard = new ReplicaLagGuard(Duration.ofMinutes(1));
+        dataSource = new ReadWriteRoutingDataSource(primary, List.of(replica),
+            new ReplicaDataSourceRouter(primary, List.of(replica), lagGuard, Duration.ofHours(1)));
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplicaAndWritesToPrimary() {
+        assertThat(readOnlyMarker()).isEqualTo("replica");
+        assertThat(readWriteMarker()).isEqualTo("primary");
+    }
+
+    @Test
+    void clientIsPinnedToPrimaryRightAfterWriting() {
+        lagGuard.recordWrite("user-1");
+        ConsistencyKey.bind("user-1");
+        try {
+            assertThat(readOnlyMarker()).isEqualTo("primary");
+        } finally {
+            ConsistencyKey.bind(null);
+        }
+        ConsistencyKey.bind("user-2");
+        try {
+            assertThat(readOnlyMarker()).isEqualTo("replica");
+        } finally {
+            ConsistencyKey.bind(null);
+        }
+    }
+
+    @Test
+    void unavailableReplicaFallsBackToPrimary() {
+        replica.close();
+
+        assertThat(readOnlyMarker()).isEqualTo("primary");
+        assertThat(dataSource.router().healthyReplicas()).isZero();
+    }
+
+    @Test
+    void credentialedConnectionsFollowTheSameRouting() throws Exception {
+        String url = "jdbc:h2:mem:credentials-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        new JdbcTemplate(new DriverManagerDataSource(url, "sa", "")).execute("CREATE TABLE marker (name VARCHAR(20))");
+        new JdbcTemplate(new DriverManagerDataSource(url, "sa", "")).update("INSERT INTO marker VALUES ('replica')");
+        ReplicaDataSourceRouter router = new ReplicaDataSourceRouter(primary, List.of(new DriverManagerDataSource(url)),
+            lagGuard, Duration.ofHours(1));
+        try (Connection connection = router.getConnection("sa", "");
+             ResultSet rows = connection.createStatement().executeQuery("SELECT name FROM marker")) {
+            assertThat(rows.next()).isTrue();
+            assertThat(rows.getString(1)).isEqualTo("replica");
+        } finally {
+            router.close();
+        }
+
+        // O Hikari não abre conexão com outras credenciais: a recusa não derruba a réplica
+        assertThatThrownBy(() -> dataSource.router().getConnection("sa", ""))
+            .isInstanceOf(SQLFeatureNotSupportedException.class);
+        assertThat(dataSource.router().healthyReplicas()).isEqualTo(1);
+    }
+
+    private String readOnlyMarker() {
+        return readOnly.execute(status -> marker());
+    }
+
+    private String readWriteMarker() {
+        return readWrite.execute(status -> marker());
+    }
+
+    private String marker() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static HikariDataSource database(String name) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        pool.setPoolName(name);
+        pool.setMaximumPoolSize(2);
+        new JdbcTemplate(pool).execute("CREATE TABLE marker (name VARCHAR(20))");
+        new JdbcTemplate(pool).update("INSERT INTO marker VALUES (?)", name);
+        return pool;
+    }
+}
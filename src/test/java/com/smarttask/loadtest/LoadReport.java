@@ -0,0 +1,82 @@
+package com.smarttask.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Formata o resultado dos degraus em texto e grava a distribuição completa de cada histograma
+ * (formato .hgrm do HdrHistogram) no diretório de relatório.
+ */
+class LoadReport {
+
+    private static final String ROW = "%-14s %8d %9.1f %8.2f %8.2f %8.2f %8.2f %9.2f %7d %7d%n";
+    private static final String HEADER = "%-14s %8s %9s %8s %8s %8s %8s %9s %7s %7s%n";
+
+    private final LoadTestSettings settings;
+
+    LoadReport(LoadTestSettings settings) {
+        this.settings = settings;
+    }
+
+    void print(List<StepResult> steps, PrintStream out) {
+        for (StepResult step : steps) {
+            out.printf(Locale.ROOT, "%n== Degrau %d req/s oferecidas, %ds ==%n", step.offeredRate(), step.duration().toSeconds());
+            out.printf(Locale.ROOT, HEADER, "operação", "total", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9ms", "max ms", "erros", "409");
+            double seconds = step.duration().toMillis() / 1000.0;
+            for (Operation operation : Operation.values()) {
+                OperationStats stats = step.stats(operation);
+                row(out, operation.name(), stats.latencies(), stats.count() / seconds, stats.errors(), stats.conflicts());
+            }
+            row(out, "TOTAL", step.totalLatencies(), step.throughput(), step.totalErrors(), step.totalConflicts());
+            long total = step.totalCount();
+            out.printf(Locale.ROOT, "taxa de erro: %.2f%%  taxa de 409: %.2f%%  descartadas (cliente saturado): %d  SLO p99 <= %.0f ms: %s%n",
+                percent(step.totalErrors(), total), percent(step.totalConflicts(), total), step.dropped(),
+                settings.p99SloMillis(), step.withinSlo(settings.p99SloMillis()) ? "OK" : "VIOLADO");
+        }
+        steps.stream()
+            .filter(step -> step.withinSlo(settings.p99SloMillis()))
+            .mapToDouble(StepResult::throughput)
+            .max()
+            .ifPresentOrElse(
+                best -> out.printf(Locale.ROOT, "%nMaior vazão sustentada dentro do SLO: %.1f req/s%n", best),
+                () -> out.printf("%nNenhum degrau ficou dentro do SLO%n"));
+    }
+
+    void writeHistograms(List<StepResult> steps) throws IOException {
+        Files.createDirectories(settings.reportDir());
+        for (StepResult step : steps) {
+            for (Operation operation : Operation.values()) {
+                writeHistogram(step, operation.name().toLowerCase(Locale.ROOT), step.stats(operation).latencies());
+            }
+            writeHistogram(step, "total", step.totalLatencies());
+        }
+    }
+
+    private void writeHistogram(StepResult step, String name, Histogram histogram) throws IOException {
+        Path file = settings.reportDir().resolve("step-" + step.offeredRate() + "-" + name + ".hgrm");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            // valores em microssegundos, relatados em milissegundos
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private static void row(PrintStream out, String name, Histogram latencies, double rate, long errors, long conflicts) {
+        out.printf(Locale.ROOT, ROW, name, latencies.getTotalCount(), rate,
+            millis(latencies, 50.0), millis(latencies, 90.0), millis(latencies, 99.0), millis(latencies, 99.9),
+            latencies.getMaxValue() / 1000.0, errors, conflicts);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static double percent(long part, long total) {
+        return total == 0 ? 0.0 : part * 100.0 / total;
+    }
+}
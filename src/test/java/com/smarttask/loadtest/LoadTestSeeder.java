@@ -0,0 +1,91 @@
+package com.smarttask.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Popula a base via JDBC em lotes, sem passar pela API, para que o seed não domine o tempo do teste.
+ */
+class LoadTestSeeder {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String[] STATUSES = {"PENDING", "IN_PROGRESS", "COMPLETED", "CANCELLED"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH", "URGENT"};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    LoadTestSeeder(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    SeedData seed(LoadTestSettings settings) {
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<UUID> userIds = new ArrayList<>(settings.users());
+        List<Object[]> userRows = new ArrayList<>();
+        for (int i = 0; i < settings.users(); i++) {
+            UUID id = UUID.randomUUID();
+            userIds.add(id);
+            userRows.add(new Object[]{id, "Load User " + i, "load-" + i + "-" + id + "@example.com"});
+        }
+        batchInsert("INSERT INTO users (id, name, email) VALUES (?, ?, ?)", userRows);
+
+        List<UUID> projectOfUser = new ArrayList<>(settings.users());
+        List<UUID> projectOwners = new ArrayList<>();
+        List<UUID> projectIds = new ArrayList<>();
+        List<Object[]> projectRows = new ArrayList<>();
+        for (UUID userId : userIds) {
+            for (int p = 0; p < settings.projectsPerUser(); p++) {
+                UUID id = UUID.randomUUID();
+                projectIds.add(id);
+                projectOwners.add(userId);
+                projectRows.add(new Object[]{id, "Projeto " + p, "Projeto gerado para teste de carga", now, now, userId, 0L});
+            }
+            projectOfUser.add(projectIds.get(projectIds.size() - 1));
+        }
+        batchInsert("INSERT INTO projects (id, name, description, created_at, updated_at, user_id, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?)", projectRows);
+
+        List<UUID> taskIds = new ArrayList<>();
+        List<Object[]> taskRows = new ArrayList<>();
+        for (int p = 0; p < projectIds.size(); p++) {
+            for (int t = 0; t < settings.tasksPerProject(); t++) {
+                UUID id = UUID.randomUUID();
+                taskIds.add(id);
+                Timestamp dueDate = Timestamp.valueOf(LocalDateTime.now().plusDays(random.nextInt(1, 90)));
+                taskRows.add(new Object[]{id, "Tarefa " + t, "Tarefa gerada para teste de carga",
+                    STATUSES[random.nextInt(STATUSES.length)], PRIORITIES[random.nextInt(PRIORITIES.length)],
+                    now, now, dueDate, projectOwners.get(p), projectIds.get(p), 0L});
+                if (taskRows.size() == BATCH_SIZE) {
+                    insertTasks(taskRows);
+                    taskRows.clear();
+                }
+            }
+        }
+        insertTasks(taskRows);
+
+        List<UUID> hotTaskIds = new ArrayList<>();
+        for (int i = 0; i < Math.min(settings.hotTasks(), taskIds.size()); i++) {
+            hotTaskIds.add(taskIds.get(random.nextInt(taskIds.size())));
+        }
+        return new SeedData(List.copyOf(userIds), List.copyOf(projectOfUser), List.copyOf(taskIds), List.copyOf(hotTaskIds));
+    }
+
+    private void insertTasks(List<Object[]> rows) {
+        batchInsert("INSERT INTO tasks (id, title, description, status, priority, created_at, updated_at, "
+            + "due_date, user_id, project_id, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private void batchInsert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.smarttask.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Parâmetros do teste de carga, lidos de system properties ({@code -Dloadtest.*}).
+ * A base usada é o datasource do profile de teste (H2 em memória); para mirar um PostgreSQL
+ * local basta sobrescrever {@code spring.datasource.*} e {@code spring.jpa.properties.hibernate.dialect}.
+ */
+record LoadTestSettings(
+    int users,
+    int projectsPerUser,
+    int tasksPerProject,
+    int hotTasks,
+    List<Integer> rates,
+    Duration warmup,
+    Duration stepDuration,
+    int maxInFlight,
+    double p99SloMillis,
+    boolean poissonArrivals,
+    long seed,
+    Path reportDir
+) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+            intProperty("loadtest.users", 500),
+            intProperty("loadtest.projectsPerUser", 3),
+            intProperty("loadtest.tasksPerProject", 20),
+            intProperty("loadtest.hotTasks", 50),
+            Arrays.stream(System.getProperty("loadtest.rates", "50,100,200").split(","))
+                .map(String::trim)
+                .map(Integer::parseInt)
+                .toList(),
+            Duration.ofSeconds(intProperty("loadtest.warmupSeconds", 5)),
+            Duration.ofSeconds(intProperty("loadtest.stepSeconds", 15)),
+            intProperty("loadtest.maxInFlight", 512),
+            Double.parseDouble(System.getProperty("loadtest.p99SloMillis", "250")),
+            Boolean.parseBoolean(System.getProperty("loadtest.poisson", "true")),
+            Long.parseLong(System.getProperty("loadtest.seed", "42")),
+            Path.of(System.getProperty("loadtest.reportDir", "target/loadtest"))
+        );
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(name, String.valueOf(defaultValue)));
+    }
+}
@@ -0,0 +1,117 @@
+package com.smarttask.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador de carga em modelo aberto: as chegadas seguem a taxa configurada independentemente
+ * do tempo de resposta do servidor. Quando o limite de requisições em voo é atingido a chegada
+ * é descartada e contabilizada, em vez de bloquear o agendador (o que fecharia o modelo).
+ */
+class OpenModelLoadDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String[] STATUSES = {"PENDING", "IN_PROGRESS", "COMPLETED"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH", "URGENT"};
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final SeedData data;
+    private final LoadTestSettings settings;
+    private final SplittableRandom random;
+    private final Semaphore inFlight;
+
+    OpenModelLoadDriver(HttpClient client, URI baseUri, SeedData data, LoadTestSettings settings) {
+        this.client = client;
+        this.baseUri = baseUri;
+        this.data = data;
+        this.settings = settings;
+        this.random = new SplittableRandom(settings.seed());
+        this.inFlight = new Semaphore(settings.maxInFlight());
+    }
+
+    StepResult run(int ratePerSecond, Duration duration) throws InterruptedException {
+        StepResult result = new StepResult(ratePerSecond, duration);
+        double meanIntervalNanos = TimeUnit.SECONDS.toNanos(1) / (double) ratePerSecond;
+
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long intended = start;
+        while (intended < end) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            dispatch(intended, result);
+            intended += settings.poissonArrivals()
+                ? (long) (-Math.log(1.0 - random.nextDouble()) * meanIntervalNanos)
+                : (long) meanIntervalNanos;
+        }
+
+        // Aguarda as respostas pendentes antes de fechar o degrau
+        if (inFlight.tryAcquire(settings.maxInFlight(), REQUEST_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            inFlight.release(settings.maxInFlight());
+        }
+        return result;
+    }
+
+    private void dispatch(long intendedStart, StepResult result) {
+        if (!inFlight.tryAcquire()) {
+            result.recordDropped();
+            return;
+        }
+        Operation operation = Operation.pick(random.nextInt(100));
+        HttpRequest request = buildRequest(operation);
+        OperationStats stats = result.stats(operation);
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+            .whenComplete((response, error) -> {
+                stats.record(System.nanoTime() - intendedStart, error == null ? response.statusCode() : -1);
+                inFlight.release();
+            });
+    }
+
+    private HttpRequest buildRequest(Operation operation) {
+        return switch (operation) {
+            case LIST_BY_USER -> get("/api/v1/tasks/user/" + pick(data.userIds()));
+            case FIND_BY_ID -> get("/api/v1/tasks/" + pick(data.taskIds()));
+            case UPDATE -> send("PUT", "/api/v1/tasks/" + pick(data.hotTaskIds()),
+                "{\"status\":\"%s\",\"priority\":\"%s\"}".formatted(
+                    STATUSES[random.nextInt(STATUSES.length)], PRIORITIES[random.nextInt(PRIORITIES.length)]));
+            case CREATE -> {
+                int user = random.nextInt(data.userIds().size());
+                yield send("POST", "/api/v1/tasks", """
+                    {"title":"Tarefa de carga","description":"Criada pelo teste de carga","status":"PENDING",\
+                    "priority":"MEDIUM","userId":"%s","projectId":"%s"}""".formatted(
+                    data.userIds().get(user), data.projectOfUser().get(user)));
+            }
+        };
+    }
+
+    private UUID pick(List<UUID> ids) {
+        return ids.get(random.nextInt(ids.size()));
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+            .timeout(REQUEST_TIMEOUT)
+            .GET()
+            .build();
+    }
+
+    private HttpRequest send(String method, String path, String json) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+            .timeout(REQUEST_TIMEOUT)
+            .header("Content-Type", "application/json")
+            .method(method, HttpRequest.BodyPublishers.ofString(json))
+            .build();
+    }
+}
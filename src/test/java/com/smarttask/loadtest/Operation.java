@@ -0,0 +1,28 @@
+package com.smarttask.loadtest;
+
+/**
+ * Operações do mix de carga com o peso (em %) observado em produção.
+ */
+enum Operation {
+    LIST_BY_USER(70),
+    FIND_BY_ID(15),
+    UPDATE(10),
+    CREATE(5);
+
+    private final int weight;
+
+    Operation(int weight) {
+        this.weight = weight;
+    }
+
+    static Operation pick(int percentile) {
+        int cumulative = 0;
+        for (Operation operation : values()) {
+            cumulative += operation.weight;
+            if (percentile < cumulative) {
+                return operation;
+            }
+        }
+        return CREATE;
+    }
+}
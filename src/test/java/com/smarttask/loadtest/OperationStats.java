@@ -0,0 +1,46 @@
+package com.smarttask.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latências (em microssegundos) e contadores de resultado de uma operação em um degrau de carga.
+ * A latência é medida a partir do instante planejado de chegada, não do envio efetivo,
+ * para não esconder a fila do lado do cliente (coordinated omission).
+ */
+class OperationStats {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Histogram latencies = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    void record(long latencyNanos, int httpStatus) {
+        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_TRACKABLE_MICROS));
+        if (httpStatus == 409) {
+            conflicts.increment();
+        } else if (httpStatus < 200 || httpStatus >= 400) {
+            errors.increment();
+        }
+    }
+
+    Histogram latencies() {
+        return latencies;
+    }
+
+    long count() {
+        return latencies.getTotalCount();
+    }
+
+    long conflicts() {
+        return conflicts.sum();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+}
@@ -0,0 +1,15 @@
+package com.smarttask.loadtest;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Ids gerados pelo seed, usados para montar as requisições do mix.
+ * {@code projectOfUser[i]} é um projeto pertencente a {@code userIds[i]}.
+ */
+record SeedData(
+    List<UUID> userIds,
+    List<UUID> projectOfUser,
+    List<UUID> taskIds,
+    List<UUID> hotTaskIds
+) {}
@@ -0,0 +1,77 @@
+package com.smarttask.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resultado de um degrau de carga (uma taxa de chegada fixa durante um intervalo).
+ */
+class StepResult {
+
+    private final int offeredRate;
+    private final Duration duration;
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final LongAdder dropped = new LongAdder();
+
+    StepResult(int offeredRate, Duration duration) {
+        this.offeredRate = offeredRate;
+        this.duration = duration;
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats());
+        }
+    }
+
+    OperationStats stats(Operation operation) {
+        return stats.get(operation);
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    int offeredRate() {
+        return offeredRate;
+    }
+
+    Duration duration() {
+        return duration;
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+
+    Histogram totalLatencies() {
+        Histogram total = new Histogram(3);
+        stats.values().forEach(s -> total.add(s.latencies()));
+        return total;
+    }
+
+    long totalCount() {
+        return stats.values().stream().mapToLong(OperationStats::count).sum();
+    }
+
+    long totalErrors() {
+        return stats.values().stream().mapToLong(OperationStats::errors).sum();
+    }
+
+    long totalConflicts() {
+        return stats.values().stream().mapToLong(OperationStats::conflicts).sum();
+    }
+
+    double throughput() {
+        return totalCount() / (duration.toMillis() / 1000.0);
+    }
+
+    boolean withinSlo(double p99SloMillis) {
+        long count = totalCount();
+        return count > 0
+            && dropped() == 0
+            && totalLatencies().getValueAtPercentile(99.0) / 1000.0 <= p99SloMillis
+            && totalErrors() <= count / 100;
+    }
+}
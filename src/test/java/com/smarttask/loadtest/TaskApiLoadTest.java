@@ -0,0 +1,69 @@
+package com.smarttask.loadtest;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Teste de carga end-to-end: sobe a aplicação em porta aleatória, popula a base e aplica o mix
+ * real (70% listagem por usuário, 15% busca por id, 10% updates concorrentes em um conjunto
+ * quente de tarefas, 5% criações) em degraus de taxa crescente.
+ *
+ * <p>Não roda no build padrão. Exemplo:
+ * {@code mvn -Pload-test test -Dloadtest.rates=100,200,400,800 -Dloadtest.stepSeconds=30}
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "loadtest"})
+class TaskApiLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void realisticWorkloadMix() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        SeedData data = new LoadTestSeeder(jdbcTemplate).seed(settings);
+
+        ExecutorService responses = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(responses)
+                .build();
+            OpenModelLoadDriver driver = new OpenModelLoadDriver(client, URI.create("http://localhost:" + port), data, settings);
+
+            // Aquecimento do JIT e do pool na menor taxa, descartado do relatório
+            driver.run(settings.rates().get(0), settings.warmup());
+
+            List<StepResult> steps = new ArrayList<>();
+            for (int rate : settings.rates()) {
+                steps.add(driver.run(rate, settings.stepDuration()));
+            }
+
+            LoadReport report = new LoadReport(settings);
+            report.print(steps, System.out);
+            report.writeHistograms(steps);
+
+            assertThat(steps.get(0).totalCount()).isPositive();
+        } finally {
+            responses.shutdownNow();
+        }
+    }
+}
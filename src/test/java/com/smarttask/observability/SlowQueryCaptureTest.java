@@ -0,0 +1,122 @@
+package com.smarttask.observability;
+
+import com.smarttask.domain.entity.Project;
+import com.smarttask.domain.entity.Task;
+import com.smarttask.domain.entity.User;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.TaskRepository;
+import com.smarttask.repository.UserRepository;
+import com.smarttask.observability.jdbc.StatementExecution;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Limite zero: todo statement conta como lento
+@SpringBootTest(properties = {
+    "smarttask.slow-query.threshold=0ms",
+    "smarttask.slow-query.capacity=50",
+    "smarttask.slow-query.include-parameters=true",
+    "management.endpoints.web.exposure.include=slowqueries"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SlowQueryCaptureTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void capturesSqlBindValuesCallerAndEndpoint() throws Exception {
+        User user = userRepository.save(new User("Slow User", "slow-" + UUID.randomUUID() + "@example.com"));
+        Project project = projectRepository.save(new Project("Lento", "Projeto do teste de consultas lentas", user));
+        Task task = new Task();
+        task.setTitle("Pendente");
+        task.setStatus(TaskStatus.PENDING);
+        task.setPriority(TaskPriority.HIGH);
+        task.setUser(user);
+        task.setProject(project);
+        taskRepository.save(task);
+
+        mockMvc.perform(delete("/actuator/slowqueries")).andExpect(status().isNoContent());
+        mockMvc.perform(get("/api/v1/tasks/user/{userId}/status/{status}", user.getId(), "PENDING"))
+            .andExpect(status().isOk());
+
+        String repositoryCall = "$[?(@.caller == 'TaskRepository.findByUserIdAndStatus')]";
+        mockMvc.perform(get("/actuator/slowqueries"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath(repositoryCall + ".endpoint", everyItem(
+                is("GET /api/v1/tasks/user/{userId}/status/{status}"))))
+            .andExpect(jsonPath(repositoryCall + ".parameters[*]", hasItem(user.getId().toString())))
+            .andExpect(jsonPath(repositoryCall + ".parameters[*]", hasItem("PENDING")))
+            .andExpect(jsonPath(repositoryCall + ".sql", hasItem(containsString("tasks"))))
+            .andExpect(jsonPath("$[*].caller", everyItem(not(nullValue()))))
+            // Só no PostgreSQL há plano
+            .andExpect(jsonPath("$[*].plan", everyItem(nullValue())));
+    }
+
+    @Test
+    void redactsBindValuesByDefaultAndNeverAnalyzesLockingReads() {
+        SlowQueryProperties defaults = new SlowQueryProperties(true, Duration.ZERO, 10, 0, Duration.ofSeconds(1),
+            4000, false, 200);
+        SlowQueryLog slowQueryLog = new SlowQueryLog(10);
+        SlowQueryListener listener = new SlowQueryListener(defaults, slowQueryLog, null, new SimpleMeterRegistry());
+        listener.afterExecute(new StatementExecution("SELECT * FROM tasks WHERE user_id = ? AND title = ?", 1, true,
+            false, Arrays.asList(UUID.randomUUID(), "segredo")));
+
+        assertThat(slowQueryLog.recent().get(0).parameters()).containsExactly("<UUID>", "<String>");
+
+        assertThat(SlowQueryListener.isLockingRead("select t1_0.id from tasks t1_0 for update of t1_0 skip locked")).isTrue();
+        assertThat(SlowQueryListener.isLockingRead("SELECT id FROM tasks FOR NO KEY UPDATE")).isTrue();
+        assertThat(SlowQueryListener.isLockingRead("SELECT id FROM tasks FOR SHARE")).isTrue();
+        // Na dúvida, não executa: o texto de um literal também conta
+        assertThat(SlowQueryListener.isLockingRead("SELECT id FROM tasks WHERE title = 'for update'")).isTrue();
+        assertThat(SlowQueryListener.isLockingRead("SELECT id, format FROM tasks ORDER BY updated_at")).isFalse();
+    }
+
+    @Test
+    void keepsOnlyTheMostRecentQueries() {
+        SlowQueryLog slowQueryLog = new SlowQueryLog(3);
+        for (long id = 1; id <= 5; id++) {
+            slowQueryLog.add(new SlowQuery(id, LocalDateTime.now(), 600, "SELECT " + id, List.of(), true,
+                "TaskRepository.findById", null, "main", null));
+        }
+        slowQueryLog.attachPlan(4, "Seq Scan on tasks");
+        slowQueryLog.attachPlan(1, "descartado");
+
+        assertThat(slowQueryLog.recent()).extracting(SlowQuery::id).containsExactly(5L, 4L, 3L);
+        assertThat(slowQueryLog.recent()).extracting(SlowQuery::plan).containsExactly(null, "Seq Scan on tasks", null);
+    }
+}
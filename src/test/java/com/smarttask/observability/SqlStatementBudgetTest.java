@@ -0,0 +1,76 @@
+package com.smarttask.observability;
+
+import com.smarttask.domain.entity.Project;
+import com.smarttask.domain.entity.Task;
+import com.smarttask.domain.entity.User;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.TaskRepository;
+import com.smarttask.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SqlStatementBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Project project;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(new User("Budget User", "budget-" + UUID.randomUUID() + "@example.com"));
+        project = projectRepository.save(new Project("Budget", "Projeto do teste de orçamento", user));
+        for (int i = 0; i < 30; i++) {
+            Task task = new Task();
+            task.setTitle("Tarefa " + i);
+            task.setStatus(TaskStatus.PENDING);
+            task.setPriority(TaskPriority.MEDIUM);
+            task.setUser(user);
+            task.setProject(project);
+            taskRepository.save(task);
+        }
+    }
+
+    @Test
+    void listingTasksByProjectIssuesAtMostTwoStatements() throws Exception {
+        assertThat(statements(get("/api/v1/tasks/project/{projectId}", project.getId()))).isBetween(1L, 2L);
+    }
+
+    @Test
+    void listingTasksByUserIssuesAtMostTwoStatements() throws Exception {
+        assertThat(statements(get("/api/v1/tasks/user/{userId}", user.getId()))).isBetween(1L, 2L);
+    }
+
+    private long statements(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andExpect(status().isOk()).andReturn();
+        return Long.parseLong(result.getResponse().getHeader("X-Sql-Statements"));
+    }
+}
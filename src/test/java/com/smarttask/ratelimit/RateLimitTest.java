@@ -0,0 +1,110 @@
+package com.smarttask.ratelimit;
+
+import com.smarttask.domain.entity.User;
+import com.smarttask.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+    "smarttask.rate-limit.endpoints.[GET\\ /api/v1/tasks/user/{userId}].capacity=3",
+    "smarttask.rate-limit.endpoints.[GET\\ /api/v1/tasks/user/{userId}].refill-per-second=0.01",
+    "smarttask.client-identity.trusted-proxies=127.0.0.1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RateLimitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private static RequestPostProcessor remoteAddr(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+
+    @Test
+    void rejectsBurstAboveBudgetPerClientWithRetryAfter() throws Exception {
+        User user = userRepository.save(new User("Rate User", "rate-" + UUID.randomUUID() + "@example.com"));
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/v1/tasks/user/{userId}", user.getId()).header("X-User-Id", "noisy"))
+                .andExpect(status().isOk());
+        }
+        String retryAfter = mockMvc.perform(get("/api/v1/tasks/user/{userId}", user.getId()).header("X-User-Id", "noisy"))
+            .andExpect(status().isTooManyRequests())
+            .andExpect(header().exists("Retry-After"))
+            .andReturn().getResponse().getHeader("Retry-After");
+        assertThat(Long.parseLong(retryAfter)).isPositive();
+
+        // Outro cliente tem o próprio bucket
+        mockMvc.perform(get("/api/v1/tasks/user/{userId}", user.getId()).header("X-User-Id", "quiet"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void ignoresUserHeaderFromUntrustedAddress() throws Exception {
+        User user = userRepository.save(new User("Spoof User", "spoof-" + UUID.randomUUID() + "@example.com"));
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/v1/tasks/user/{userId}", user.getId()).header("X-User-Id", "spoof-" + i)
+                    .with(remoteAddr("203.0.113.7")))
+                .andExpect(status().isOk());
+        }
+        // Trocar o header a cada requisição não cria um bucket novo
+        mockMvc.perform(get("/api/v1/tasks/user/{userId}", user.getId()).header("X-User-Id", "spoof-3")
+                .with(remoteAddr("203.0.113.7")))
+            .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void keepsBucketMapBoundedAndSweepsFullBuckets() {
+        RateLimitProperties properties = new RateLimitProperties(true, null, null, null, null, null, null,
+            10, Duration.ofHours(1), new RateLimitProperties.Shedding(false, 10, Duration.ofSeconds(1)));
+        try (RateLimiter limiter = new RateLimiter(properties)) {
+            for (int i = 0; i < 1000; i++) {
+                limiter.tryAcquire("client-" + i, "GET /x", RequestCategory.READ);
+            }
+            // 10 individuais + 1 compartilhado pelos excedentes
+            assertThat(limiter.trackedBuckets()).isEqualTo(11);
+
+            RateLimitProperties bulk = new RateLimitProperties(true, null, null,
+                new RateLimitProperties.Budget(1, 0.001), null, null, null, 10, Duration.ofHours(1),
+                new RateLimitProperties.Shedding(false, 10, Duration.ofSeconds(1)));
+            try (RateLimiter strict = new RateLimiter(bulk)) {
+                for (int i = 0; i < 10; i++) {
+                    strict.tryAcquire("client-" + i, "POST /x", RequestCategory.BULK);
+                }
+                assertThat(strict.tryAcquire("new-1", "POST /x", RequestCategory.BULK)).isZero();
+                assertThat(strict.tryAcquire("new-2", "POST /x", RequestCategory.BULK)).isPositive();
+            }
+        }
+    }
+
+    @Test
+    void tokenBucketRefillsAfterEmissionInterval() {
+        TokenBucket bucket = new TokenBucket(2, 10, 0L);
+        assertThat(bucket.tryAcquire(0L)).isZero();
+        assertThat(bucket.tryAcquire(0L)).isZero();
+        assertThat(bucket.tryAcquire(0L)).isEqualTo(100_000_000L);
+        assertThat(bucket.tryAcquire(100_000_000L)).isZero();
+        assertThat(bucket.isFull(300_000_000L)).isTrue();
+    }
+}
@@ -0,0 +1,123 @@
+package com.smarttask.service;
+
+import com.smarttask.domain.entity.Project;
+import com.smarttask.domain.entity.Task;
+import com.smarttask.domain.entity.User;
+import com.smarttask.domain.enums.RecurrenceFrequency;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.dto.TaskRecurrenceDTO;
+import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.TaskRepository;
+import com.smarttask.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+    "smarttask.recurrence.enabled=true",
+    "smarttask.recurrence.chunk-size=2",
+    "smarttask.recurrence.insert-batch-size=3",
+    "smarttask.recurrence.pause-between-chunks=0ms",
+    "smarttask.recurrence.cron=-"
+})
+@ActiveProfiles("test")
+class RecurrenceMaterializerTest {
+
+    // Terça-feira
+    private static final LocalDate START = LocalDate.of(2030, 1, 1);
+
+    @Autowired
+    private RecurrenceMaterializer materializer;
+
+    @Autowired
+    private TaskRecurrenceService recurrenceService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void materializesInChunksAndResumesFromCheckpoint() {
+        User user = userRepository.save(new User("Recurrence User", "recurrence-" + UUID.randomUUID() + "@example.com"));
+        Project project = projectRepository.save(new Project("Rotina", "Projeto do teste de recorrência", user));
+        Task everyOtherDay = template(user, project);
+        Task twiceBiweekly = template(user, project);
+        Task untilFourth = template(user, project);
+        recurrenceService.define(everyOtherDay.getId(),
+            new TaskRecurrenceDTO(RecurrenceFrequency.DAILY, 2, null, START, null, LocalTime.of(9, 0)));
+        recurrenceService.define(twiceBiweekly.getId(), new TaskRecurrenceDTO(RecurrenceFrequency.WEEKLY, 2,
+            Set.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY), START, null, null));
+        recurrenceService.define(untilFourth.getId(),
+            new TaskRecurrenceDTO(RecurrenceFrequency.DAILY, null, null, START, START.plusDays(3), null));
+
+        assertThat(materializer.materializeThrough(START.plusDays(9))).isEqualTo(5 + 1 + 4);
+        assertThat(dueDates(everyOtherDay)).containsExactly(
+            at(1, 9, 0), at(3, 9, 0), at(5, 9, 0), at(7, 9, 0), at(9, 9, 0));
+        assertThat(dueDates(twiceBiweekly)).containsExactly(at(3, 23, 59, 59));
+        assertThat(recurrenceService.find(untilFourth.getId()).materializedThrough()).isEqualTo(START.plusDays(3));
+
+        // Mesmo horizonte: nada de novo; horizonte maior: só as datas depois do ponto de retomada
+        assertThat(materializer.materializeThrough(START.plusDays(9))).isZero();
+        assertThat(materializer.materializeThrough(START.plusDays(16))).isEqualTo(4 + 2);
+        assertThat(dueDates(everyOtherDay)).hasSize(9).endsWith(at(17, 9, 0));
+        assertThat(dueDates(twiceBiweekly)).containsExactly(at(3, 23, 59, 59), at(14, 23, 59, 59), at(17, 23, 59, 59));
+        assertThat(dueDates(untilFourth)).hasSize(4);
+        assertThat(taskRepository.findById(everyOtherDay.getId())).get()
+            .extracting(Task::getVersion).isEqualTo(0L);
+
+        // Encerrada a regra, as ocorrências ficam
+        recurrenceService.remove(everyOtherDay.getId());
+        assertThat(materializer.materializeThrough(START.plusDays(30))).isEqualTo(2);
+        assertThat(dueDates(twiceBiweekly)).endsWith(at(28, 23, 59, 59), at(31, 23, 59, 59));
+        assertThat(dueDates(everyOtherDay)).hasSize(9);
+
+        assertThatThrownBy(() -> recurrenceService.define(everyOtherDay.getId(),
+            new TaskRecurrenceDTO(RecurrenceFrequency.DAILY, 1, Set.of(DayOfWeek.MONDAY), START, null, null)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Task template(User user, Project project) {
+        Task task = new Task();
+        task.setTitle("Rotina " + UUID.randomUUID());
+        task.setStatus(TaskStatus.PENDING);
+        task.setPriority(TaskPriority.LOW);
+        task.setUser(user);
+        task.setProject(project);
+        return taskRepository.save(task);
+    }
+
+    private List<LocalDateTime> dueDates(Task template) {
+        return jdbcTemplate.queryForList("SELECT due_date FROM tasks WHERE title = ? AND id <> ? ORDER BY due_date",
+            LocalDateTime.class, template.getTitle(), template.getId());
+    }
+
+    private static LocalDateTime at(int day, int hour, int minute) {
+        return at(day, hour, minute, 0);
+    }
+
+    private static LocalDateTime at(int day, int hour, int minute, int second) {
+        return LocalDate.of(2030, 1, day).atTime(hour, minute, second);
+    }
+}
@@ -0,0 +1,120 @@
+package com.smarttask.service;
+
+import com.smarttask.domain.entity.Project;
+import com.smarttask.domain.entity.Task;
+import com.smarttask.domain.entity.User;
+import com.smarttask.domain.enums.RecurrenceFrequency;
+import com.smarttask.domain.enums.TaskPriority;
+import com.smarttask.domain.enums.TaskStatus;
+import com.smarttask.dto.TaskRecurrenceDTO;
+import com.smarttask.dto.UpdateTaskDTO;
+import com.smarttask.exception.TaskArchivedException;
+import com.smarttask.repository.ArchivedTaskRepository;
+import com.smarttask.repository.ProjectRepository;
+import com.smarttask.repository.TaskRepository;
+import com.smarttask.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+    "smarttask.archive.enabled=true",
+    "smarttask.archive.min-age=30d",
+    "smarttask.archive.batch-size=2",
+    "smarttask.archive.cron=-"
+})
+@ActiveProfiles("test")
+class TaskArchiveServiceTest {
+
+    @Autowired
+    private TaskArchiveService taskArchiveService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private TaskRecurrenceService recurrenceService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void movesOldClosedTasksInBatchesAndKeepsThemReachable() {
+        User user = userRepository.save(new User("Archive User", "archive-" + UUID.randomUUID() + "@example.com"));
+        Project project = projectRepository.save(new Project("Arquivo", "Projeto do teste de arquivamento", user));
+        Task oldCompleted = save(user, project, TaskStatus.COMPLETED, 120);
+        Task oldCancelled = save(user, project, TaskStatus.CANCELLED, 60);
+        Task oldCompleted2 = save(user, project, TaskStatus.COMPLETED, 45);
+        Task recentCompleted = save(user, project, TaskStatus.COMPLETED, 1);
+        Task oldPending = save(user, project, TaskStatus.PENDING, 120);
+
+        taskArchiveService.archiveClosedTasks();
+
+        assertThat(taskRepository.findByProjectId(project.getId(), PageRequest.ofSize(10)).map(Task::getId))
+            .containsExactlyInAnyOrder(recentCompleted.getId(), oldPending.getId());
+        assertThat(archivedTaskRepository.findByProjectId(project.getId(), PageRequest.ofSize(10)).getTotalElements())
+            .isEqualTo(3);
+
+        assertThat(taskService.findById(oldCompleted.getId()).status()).isEqualTo(TaskStatus.COMPLETED);
+        assertThat(taskService.findArchivedByUserId(user.getId(), PageRequest.ofSize(10)).getContent())
+            .extracting("id")
+            .containsExactlyInAnyOrder(oldCompleted.getId(), oldCancelled.getId(), oldCompleted2.getId());
+
+        UpdateTaskDTO update = new UpdateTaskDTO(null, null, TaskStatus.IN_PROGRESS, null, null);
+        assertThatThrownBy(() -> taskService.update(oldCancelled.getId(), update))
+            .isInstanceOf(TaskArchivedException.class);
+
+        taskService.delete(oldCompleted2.getId());
+        assertThat(archivedTaskRepository.existsById(oldCompleted2.getId())).isFalse();
+    }
+
+    @Test
+    void keepsRecurrenceTemplatesAndTheirRules() {
+        User user = userRepository.save(new User("Template User", "template-" + UUID.randomUUID() + "@example.com"));
+        Project project = projectRepository.save(new Project("Modelos", "Projeto do teste de modelos", user));
+        Task template = save(user, project, TaskStatus.COMPLETED, 120);
+        recurrenceService.define(template.getId(),
+            new TaskRecurrenceDTO(RecurrenceFrequency.DAILY, null, null, LocalDate.now(), null, null));
+
+        taskArchiveService.archiveClosedTasks();
+
+        assertThat(taskRepository.existsById(template.getId())).isTrue();
+        assertThat(archivedTaskRepository.existsById(template.getId())).isFalse();
+        assertThat(recurrenceService.find(template.getId())).isNotNull();
+    }
+
+    private Task save(User user, Project project, TaskStatus status, int ageInDays) {
+        Task task = new Task();
+        task.setTitle("Tarefa " + status + " " + ageInDays);
+        task.setStatus(status);
+        task.setPriority(TaskPriority.LOW);
+        task.setUser(user);
+        task.setProject(project);
+        Task saved = taskRepository.save(task);
+        jdbcTemplate.update("UPDATE tasks SET updated_at = ? WHERE id = ?",
+            LocalDateTime.now().minusDays(ageInDays), saved.getId());
+        return saved;
+    }
+}